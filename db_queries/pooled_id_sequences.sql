@@ -0,0 +1,35 @@
+-- 풀링 ID 생성용 시퀀스 (MariaDB 10.3 이상)
+-- 엔티티의 @SequenceGenerator(allocationSize = 50)와 JDBC 직접 저장(SequenceIdAllocator)이 함께 쓴다.
+-- 시퀀스 값 하나가 50개 ID 구간의 시작이므로 INCREMENT BY는 반드시 50이어야 한다.
+-- 기존 데이터와 겹치지 않도록 현재 최대 ID 다음 값부터 시작한다. 이 버전을 배포하기 전에 한 번 실행한다.
+-- (AUTO_INCREMENT는 그대로 두므로 ID를 직접 넣지 않는 기존 SQL도 계속 동작한다)
+
+SET @start = (SELECT COALESCE(MAX(recipe_id), 0) + 1 FROM recipe);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS recipe_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(recipe_manual_id), 0) + 1 FROM recipe_manual);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS recipe_manual_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(recipe_board_manual_id), 0) + 1 FROM recipe_board_manual);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS recipe_board_manual_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(notification_id), 0) + 1 FROM notification);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS notification_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(recipe_board_like_id), 0) + 1 FROM recipe_board_like);
+SET @ddl = CONCAT('CREATE SEQUENCE IF NOT EXISTS recipe_board_like_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -1,4 +1,5 @@
 -- Drop tables if they exist
+DROP TABLE IF EXISTS recipe_import_job;
 DROP TABLE IF EXISTS recipe_board_manual;
 DROP TABLE IF EXISTS recipe_manual;
 DROP TABLE IF EXISTS public_data_recipe;
@@ -17,6 +18,11 @@ DROP TABLE IF EXISTS choice;
 DROP TABLE IF EXISTS main_question;
 DROP TABLE IF EXISTS user;
 DROP TABLE IF EXISTS tier;
+DROP SEQUENCE IF EXISTS recipe_seq;
+DROP SEQUENCE IF EXISTS recipe_manual_seq;
+DROP SEQUENCE IF EXISTS recipe_board_manual_seq;
+DROP SEQUENCE IF EXISTS notification_seq;
+DROP SEQUENCE IF EXISTS recipe_board_like_seq;
 
 
 -- Table creation
@@ -105,17 +111,22 @@ CREATE TABLE recipe (
     menu_name VARCHAR(255) NOT NULL,
     menu_ingredient TEXT NOT NULL,
     menu_image TEXT,
+    menu_image_variants_key VARCHAR(255),
     menu_type VARCHAR(255) NOT NULL DEFAULT 'PUBLIC' CHECK(menu_type IN ('PUBLIC', 'AI')),
     user_id BIGINT NOT NULL,
     FOREIGN KEY (user_id) REFERENCES user(user_id)
 ) ENGINE=INNODB AUTO_INCREMENT=1 COMMENT='요리레시피' DEFAULT CHARSET=UTF8;
 
+-- 일괄 등록 시 이미 있는 요리 이름 확인용 인덱스
+CREATE INDEX idx_recipe_menu_name ON recipe (menu_name);
+
 
 CREATE TABLE recipe_board (
     recipe_board_id BIGINT PRIMARY KEY AUTO_INCREMENT,
     recipe_board_menu_name VARCHAR(255) NOT NULL,
     recipe_board_ingredient TEXT NOT NULL,
     recipe_board_image TEXT,
+    recipe_board_image_variants_key VARCHAR(255),
     recipe_board_likes BIGINT NOT NULL DEFAULT 0,
     recipe_board_comments BIGINT NOT NULL DEFAULT 0,
     recipe_board_created_at TIMESTAMP NOT NULL,
@@ -124,6 +135,9 @@ CREATE TABLE recipe_board (
     FOREIGN KEY (user_id) REFERENCES user(user_id)
 ) ENGINE=INNODB AUTO_INCREMENT=1 COMMENT='나만의레시피' DEFAULT CHARSET=UTF8;
 
+-- 커서 기반 목록 조회용 인덱스 (작성 시각, 게시글 ID 순)
+CREATE INDEX idx_recipe_board_created_at_id ON recipe_board (recipe_board_created_at, recipe_board_id);
+
 CREATE TABLE recipe_board_comment (
     recipe_board_comment_id BIGINT PRIMARY KEY AUTO_INCREMENT,
     recipe_board_comment_content TEXT NOT NULL,
@@ -168,6 +182,7 @@ CREATE TABLE recipe_board_like (
 
 CREATE TABLE recipe_board_favorite (
     recipe_board_favorite_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    favorite_created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     recipe_board_id BIGINT NOT NULL,
     user_id BIGINT NOT NULL,
     FOREIGN KEY (recipe_board_id) REFERENCES recipe_board(recipe_board_id),
@@ -205,10 +220,29 @@ CREATE TABLE recipe_board_manual (
     recipe_board_manual_id BIGINT PRIMARY KEY AUTO_INCREMENT,
     recipe_board_manual_step INT NOT NULL,
     recipe_board_manual_image TEXT,
+    recipe_board_manual_image_variants_key VARCHAR(255),
     recipe_board_manual_content TEXT NOT NULL,
     recipe_board_id BIGINT NOT NULL,
     FOREIGN KEY (recipe_board_id) REFERENCES recipe_board(recipe_board_id)
 ) ENGINE=INNODB AUTO_INCREMENT=1 COMMENT='나만의레시피메뉴얼' DEFAULT CHARSET=UTF8;
 
+CREATE TABLE recipe_import_job (
+    import_job_id VARCHAR(64) PRIMARY KEY,
+    source_path TEXT NOT NULL,
+    source_format VARCHAR(255) NOT NULL CHECK(source_format IN ('JSON', 'CSV')),
+    user_id BIGINT NOT NULL,
+    processed_records BIGINT NOT NULL DEFAULT 0,
+    imported_recipes BIGINT NOT NULL DEFAULT 0,
+    skipped_records BIGINT NOT NULL DEFAULT 0,
+    elapsed_millis BIGINT NOT NULL DEFAULT 0,
+    import_status VARCHAR(255) NOT NULL CHECK(import_status IN ('RUNNING', 'COMPLETED', 'FAILED')),
+    error_message TEXT,
+    started_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+) ENGINE=INNODB COMMENT='레시피일괄등록작업' DEFAULT CHARSET=UTF8;
+
+-- 풀링 ID 생성용 시퀀스는 초기 데이터(integrated_data_insert.sql)를 넣은 뒤 pooled_id_sequences.sql로 만든다.
+-- (최대 ID 다음 값부터 시작해야 하므로)
+
 -- 테이블 생성 후 확인
 SHOW TABLES;
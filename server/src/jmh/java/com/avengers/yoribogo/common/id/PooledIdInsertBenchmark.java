@@ -0,0 +1,199 @@
+package com.avengers.yoribogo.common.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+// IDENTITY와 풀링 시퀀스(pooled-lo + JDBC 배치)의 INSERT 처리량 비교 (MariaDB)
+// 실행: gradle jmh -PjmhArgs=PooledIdInsertBenchmark
+//       -Dbench.jdbc.url=jdbc:mariadb://localhost:3306/yoribogo -Dbench.jdbc.user=... -Dbench.jdbc.password=...
+// Hibernate가 두 방식에서 실제로 보내는 SQL을 그대로 재현한다.
+// - identity: 생성된 키를 받아야 하므로 행마다 INSERT 한 번씩 (배치 불가)
+// - pooled: 50개마다 NEXTVAL 한 번, ID를 넣은 INSERT를 batch_size(50)씩 묶어 전송
+// addManualsToRecipeBoard: 게시글 하나에 매뉴얼 manuals개 저장 / saveRecipeNotification: 회원 users명에게 알림 저장
+// 운영 테이블을 건드리지 않도록 별도 테이블(*_bench)과 시퀀스를 만들어 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PooledIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"identity", "pooled"})
+    private String strategy;
+
+    @Param({"10"})
+    private int manuals;
+
+    @Param({"1000"})
+    private int users;
+
+    private Connection connection;
+    private PreparedStatement identityManualInsert;
+    private PreparedStatement pooledManualInsert;
+    private PreparedStatement identityNotificationInsert;
+    private PreparedStatement pooledNotificationInsert;
+    private PreparedStatement manualSequence;
+    private PreparedStatement notificationSequence;
+
+    // pooled-lo: 현재 구간 [next, end)
+    private long manualNext;
+    private long manualEnd;
+    private long notificationNext;
+    private long notificationEnd;
+    private long boardId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("-Dbench.jdbc.url 시스템 프로퍼티가 필요합니다.");
+        }
+        connection = DriverManager.getConnection(url,
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            dropAll(statement);
+            statement.execute("CREATE TABLE recipe_board_manual_bench (" +
+                    "recipe_board_manual_id BIGINT PRIMARY KEY AUTO_INCREMENT, recipe_board_manual_step INT NOT NULL, " +
+                    "recipe_board_manual_image TEXT, recipe_board_manual_content TEXT NOT NULL, " +
+                    "recipe_board_id BIGINT NOT NULL)");
+            statement.execute("CREATE TABLE notification_bench (" +
+                    "notification_id BIGINT PRIMARY KEY AUTO_INCREMENT, notification_content TEXT NOT NULL, " +
+                    "notification_status VARCHAR(255) NOT NULL, notification_created_at DATETIME NOT NULL, " +
+                    "notification_read_at DATETIME, user_id BIGINT NOT NULL)");
+            statement.execute("CREATE SEQUENCE recipe_board_manual_bench_seq START WITH 1 INCREMENT BY " + BATCH_SIZE);
+            statement.execute("CREATE SEQUENCE notification_bench_seq START WITH 1 INCREMENT BY " + BATCH_SIZE);
+        }
+
+        identityManualInsert = connection.prepareStatement(
+                "INSERT INTO recipe_board_manual_bench (recipe_board_id, recipe_board_manual_content, " +
+                        "recipe_board_manual_image, recipe_board_manual_step) VALUES (?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS);
+        pooledManualInsert = connection.prepareStatement(
+                "INSERT INTO recipe_board_manual_bench (recipe_board_id, recipe_board_manual_content, " +
+                        "recipe_board_manual_image, recipe_board_manual_step, recipe_board_manual_id) " +
+                        "VALUES (?, ?, ?, ?, ?)");
+        identityNotificationInsert = connection.prepareStatement(
+                "INSERT INTO notification_bench (notification_content, notification_created_at, " +
+                        "notification_read_at, notification_status, user_id) VALUES (?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS);
+        pooledNotificationInsert = connection.prepareStatement(
+                "INSERT INTO notification_bench (notification_content, notification_created_at, " +
+                        "notification_read_at, notification_status, user_id, notification_id) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)");
+        manualSequence = connection.prepareStatement("SELECT NEXT VALUE FOR recipe_board_manual_bench_seq");
+        notificationSequence = connection.prepareStatement("SELECT NEXT VALUE FOR notification_bench_seq");
+
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            dropAll(statement);
+        }
+        connection.close();
+    }
+
+    // 한 트랜잭션 = addManualsToRecipeBoard 한 번
+    @Benchmark
+    public long addManualsToRecipeBoard() throws SQLException {
+        long board = ++boardId;
+        long last = 0;
+        if ("identity".equals(strategy)) {
+            for (int step = 1; step <= manuals; step++) {
+                bindManual(identityManualInsert, board, step);
+                identityManualInsert.executeUpdate();
+                last = generatedKey(identityManualInsert);
+            }
+        } else {
+            for (int step = 1; step <= manuals; step++) {
+                if (manualNext >= manualEnd) {
+                    manualNext = nextValue(manualSequence);
+                    manualEnd = manualNext + BATCH_SIZE;
+                }
+                last = manualNext++;
+                bindManual(pooledManualInsert, board, step);
+                pooledManualInsert.setLong(5, last);
+                pooledManualInsert.addBatch();
+                if (step % BATCH_SIZE == 0) pooledManualInsert.executeBatch();
+            }
+            pooledManualInsert.executeBatch();
+        }
+        connection.commit();
+        return last;
+    }
+
+    // 한 트랜잭션 = saveRecipeNotification 한 번 (회원 users명)
+    @Benchmark
+    public long saveRecipeNotification() throws SQLException {
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        long last = 0;
+        if ("identity".equals(strategy)) {
+            for (int userId = 1; userId <= users; userId++) {
+                bindNotification(identityNotificationInsert, createdAt, userId);
+                identityNotificationInsert.executeUpdate();
+                last = generatedKey(identityNotificationInsert);
+            }
+        } else {
+            for (int userId = 1; userId <= users; userId++) {
+                if (notificationNext >= notificationEnd) {
+                    notificationNext = nextValue(notificationSequence);
+                    notificationEnd = notificationNext + BATCH_SIZE;
+                }
+                last = notificationNext++;
+                bindNotification(pooledNotificationInsert, createdAt, userId);
+                pooledNotificationInsert.setLong(6, last);
+                pooledNotificationInsert.addBatch();
+                if (userId % BATCH_SIZE == 0) pooledNotificationInsert.executeBatch();
+            }
+            pooledNotificationInsert.executeBatch();
+        }
+        connection.commit();
+        return last;
+    }
+
+    private static void bindManual(PreparedStatement statement, long board, int step) throws SQLException {
+        statement.setLong(1, board);
+        statement.setString(2, step + ". 재료를 손질하고 중불에서 3분간 볶는다.");
+        statement.setNull(3, Types.VARCHAR);
+        statement.setInt(4, step);
+    }
+
+    private static void bindNotification(PreparedStatement statement, Timestamp createdAt, long userId)
+            throws SQLException {
+        statement.setString(1, " [점심 추천 레시피] 오늘의 추천 레시피: 김치찌개");
+        statement.setTimestamp(2, createdAt);
+        statement.setNull(3, Types.TIMESTAMP);
+        statement.setString(4, "UNREAD");
+        statement.setLong(5, userId);
+    }
+
+    private static long generatedKey(PreparedStatement statement) throws SQLException {
+        try (ResultSet rs = statement.getGeneratedKeys()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static long nextValue(PreparedStatement sequence) throws SQLException {
+        try (ResultSet rs = sequence.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void dropAll(Statement statement) throws SQLException {
+        statement.execute("DROP TABLE IF EXISTS recipe_board_manual_bench");
+        statement.execute("DROP TABLE IF EXISTS notification_bench");
+        statement.execute("DROP SEQUENCE IF EXISTS recipe_board_manual_bench_seq");
+        statement.execute("DROP SEQUENCE IF EXISTS notification_bench_seq");
+    }
+}
@@ -0,0 +1,92 @@
+package com.avengers.yoribogo.recipe.bulk;
+
+import com.avengers.yoribogo.recipe.domain.RecipeImportFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// 레시피 덤프 읽기 성능 (10만 건, 레시피당 매뉴얼 6단계)
+// DB 쓰기를 제외한 파싱 비용만 측정해 리더가 병목이 아닌지 확인한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RecipeDumpReaderBenchmark {
+
+    private static final int MANUAL_STEPS = 6;
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"JSON", "CSV"})
+    private RecipeImportFormat format;
+
+    private Path dump;
+
+    @Setup
+    public void setUp() throws IOException {
+        dump = Files.createTempFile("recipe-dump", "." + format.name().toLowerCase());
+        try (BufferedWriter writer = Files.newBufferedWriter(dump, StandardCharsets.UTF_8)) {
+            if (format == RecipeImportFormat.JSON) writeJson(writer);
+            else writeCsv(writer);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dump);
+    }
+
+    @Benchmark
+    public long readAll() throws IOException {
+        long manuals = 0;
+        try (RecipeDumpReader reader = RecipeDumpReader.open(dump, format)) {
+            RecipeImportRecord record;
+            while ((record = reader.next()) != null) manuals += record.manuals().size();
+        }
+        return manuals;
+    }
+
+    private void writeJson(BufferedWriter writer) throws IOException {
+        writer.write("{\"COOKRCP01\": {\"total_count\": \"" + size + "\", \"row\": [");
+        for (int id = 1; id <= size; id++) {
+            if (id > 1) writer.write(",");
+            writer.write("{\"RCP_NM\": \"김치찌개 " + id + "\", \"RCP_PAT2\": \"국&찌개\", "
+                    + "\"RCP_PARTS_DTLS\": \"김치 200g, 돼지고기 100g, 두부 1/2모, 대파 1대, 고춧가루 1큰술\", "
+                    + "\"ATT_FILE_NO_MAIN\": \"http://www.foodsafetykorea.go.kr/uploadimg/" + id + ".png\"");
+            for (int step = 1; step <= 20; step++) {
+                String suffix = step < 10 ? "0" + step : String.valueOf(step);
+                String content = step <= MANUAL_STEPS ? step + ". 김치와 돼지고기를 볶다가 물을 붓고 끓인다." : "";
+                writer.write(", \"MANUAL" + suffix + "\": \"" + content + "\", \"MANUAL_IMG" + suffix + "\": \"\"");
+            }
+            writer.write("}");
+        }
+        writer.write("], \"RESULT\": {\"MSG\": \"정상처리되었습니다.\", \"CODE\": \"INFO-000\"}}}");
+    }
+
+    private void writeCsv(BufferedWriter writer) throws IOException {
+        StringBuilder header = new StringBuilder("RCP_NM,RCP_PAT2,RCP_PARTS_DTLS,ATT_FILE_NO_MAIN");
+        for (int step = 1; step <= 20; step++) {
+            String suffix = step < 10 ? "0" + step : String.valueOf(step);
+            header.append(",MANUAL").append(suffix).append(",MANUAL_IMG").append(suffix);
+        }
+        writer.write(header + "\n");
+
+        for (int id = 1; id <= size; id++) {
+            writer.write("김치찌개 " + id + ",국&찌개,\"김치 200g, 돼지고기 100g, 두부 1/2모, 대파 1대, 고춧가루 1큰술\","
+                    + "http://www.foodsafetykorea.go.kr/uploadimg/" + id + ".png");
+            for (int step = 1; step <= 20; step++) {
+                String content = step <= MANUAL_STEPS ? "\"" + step + ". 김치와 돼지고기를 볶다가, 물을 붓고 끓인다.\"" : "";
+                writer.write("," + content + ",");
+            }
+            writer.write("\n");
+        }
+    }
+}
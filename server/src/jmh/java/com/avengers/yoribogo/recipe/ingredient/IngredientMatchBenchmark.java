@@ -0,0 +1,70 @@
+package com.avengers.yoribogo.recipe.ingredient;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 보유 재료 조회 성능 (10만 건, 레시피당 재료 6~14개)
+// 재료 사용 빈도는 실제 데이터처럼 양파·마늘 같은 재료에 치우치게 생성한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngredientMatchBenchmark {
+
+    private static final int PAGE_SIZE = 12;
+
+    private static final String[] INGREDIENTS = {
+            "양파", "마늘", "대파", "간장", "참기름", "고춧가루", "계란", "감자", "당근", "돼지고기",
+            "소고기", "닭고기", "두부", "김치", "애호박", "고추", "버섯", "된장", "고추장", "올리고당",
+            "새우", "오징어", "어묵", "떡", "콩나물", "시금치", "양배추", "베이컨", "치즈", "우유",
+            "버터", "밀가루", "부침가루", "쌀밥", "미역", "멸치", "참치", "연어", "토마토", "브로콜리",
+            "깻잎", "부추", "생강", "맛술", "식초", "굴소스", "케첩", "마요네즈", "파스타", "당면"
+    };
+    private static final String[] STAPLES = {"소금", "후추", "설탕", "식용유", "물"};
+    private static final String[] UNITS = {"1큰술", "2스푼", "100g", "1/2개", "약간", "1컵"};
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"계란,대파", "양파,마늘,대파,간장,돼지고기,감자,당근,계란,두부,김치"})
+    private String pantry;
+
+    private IngredientIndex index;
+    private List<String> pantryItems;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        List<IngredientIndex.Document> documents = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            StringBuilder sb = new StringBuilder();
+            int count = 4 + random.nextInt(8);
+            for (int i = 0; i < count; i++) {
+                // 앞쪽 재료일수록 자주 쓰이도록 제곱 분포로 선택
+                double r = random.nextDouble();
+                String ingredient = INGREDIENTS[(int) (r * r * INGREDIENTS.length)];
+                sb.append(ingredient).append(' ').append(UNITS[random.nextInt(UNITS.length)]).append(", ");
+            }
+            for (int i = 0; i < 2; i++) {
+                sb.append(STAPLES[random.nextInt(STAPLES.length)]).append(" 약간, ");
+            }
+            documents.add(new IngredientIndex.Document(IngredientSourceType.RECIPE, id, "레시피" + id, null, sb.toString()));
+        }
+
+        index = new IngredientIndex();
+        index.replaceAll(documents);
+        pantryItems = Arrays.asList(pantry.split(","));
+    }
+
+    @Benchmark
+    public List<IngredientIndex.Match> match() {
+        return index.match(pantryItems, true, true, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,104 @@
+package com.avengers.yoribogo.recipe.mapper;
+
+import com.avengers.yoribogo.recipe.domain.MenuType;
+import com.avengers.yoribogo.recipe.domain.Recipe;
+import com.avengers.yoribogo.recipe.dto.RecipeDTO;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoard;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoardStatus;
+import com.avengers.yoribogo.recipeboard.dto.ResponseBoardDTO;
+import com.avengers.yoribogo.recipeboard.mapper.RecipeBoardMapper;
+import com.avengers.yoribogo.recipeboard.mapper.RecipeBoardMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 한 페이지 분량의 엔티티 -> DTO 변환 비용 (리플렉션 기반 ModelMapper vs 컴파일 시점 생성 매퍼)
+// ModelMapper는 운영에서 쓰던 설정(STRICT + 필드 매칭)과 동일하게 맞춘다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeMapperBenchmark {
+
+    @Param({"12", "50"})
+    private int pageSize;
+
+    private ModelMapper modelMapper;
+    private RecipeMapper recipeMapper;
+    private RecipeBoardMapper recipeBoardMapper;
+
+    private List<Recipe> recipes;
+    private List<RecipeBoard> recipeBoards;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setFieldMatchingEnabled(true);
+        recipeMapper = new RecipeMapperImpl();
+        recipeBoardMapper = new RecipeBoardMapperImpl();
+
+        recipes = new ArrayList<>(pageSize);
+        recipeBoards = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            recipes.add(new Recipe(id, "김치찌개" + id, "김치 200g, 돼지고기 100g, 두부 반모, 대파 1대",
+                    "https://example.com/recipe/" + id + ".png", null, MenuType.PUBLIC, 1L, null));
+
+            RecipeBoard recipeBoard = new RecipeBoard();
+            recipeBoard.setRecipeBoardId(id);
+            recipeBoard.setRecipeBoardMenuName("된장찌개" + id);
+            recipeBoard.setRecipeBoardIngredient("된장 2큰술, 애호박 1/2개, 두부 반모, 양파 1/2개");
+            recipeBoard.setRecipeBoardImage("https://example.com/board/" + id + ".png");
+            recipeBoard.setRecipeBoardLikes((int) id);
+            recipeBoard.setRecipeBoardComments((int) id);
+            recipeBoard.setRecipeBoardCreatedAt(LocalDateTime.now());
+            recipeBoard.setRecipeBoardStatus(RecipeBoardStatus.ACTIVE);
+            recipeBoard.setUserId(1L);
+            recipeBoards.add(recipeBoard);
+        }
+    }
+
+    @Benchmark
+    public List<RecipeDTO> recipeModelMapper() {
+        List<RecipeDTO> result = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            result.add(modelMapper.map(recipe, RecipeDTO.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<RecipeDTO> recipeMapStruct() {
+        List<RecipeDTO> result = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            result.add(recipeMapper.toRecipeDTO(recipe));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ResponseBoardDTO> recipeBoardModelMapper() {
+        List<ResponseBoardDTO> result = new ArrayList<>(recipeBoards.size());
+        for (RecipeBoard recipeBoard : recipeBoards) {
+            result.add(modelMapper.map(recipeBoard, ResponseBoardDTO.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ResponseBoardDTO> recipeBoardMapStruct() {
+        List<ResponseBoardDTO> result = new ArrayList<>(recipeBoards.size());
+        for (RecipeBoard recipeBoard : recipeBoards) {
+            result.add(recipeBoardMapper.toResponseBoardDTO(recipeBoard));
+        }
+        return result;
+    }
+}
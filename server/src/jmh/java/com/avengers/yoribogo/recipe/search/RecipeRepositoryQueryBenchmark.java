@@ -0,0 +1,106 @@
+package com.avengers.yoribogo.recipe.search;
+
+import com.avengers.yoribogo.recipe.dto.RecipeDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 기존 RecipeRepository.findByMenuNameContaining(menuName, pageable)이 실행하는 SQL을 MariaDB에서 측정
+// 실행: gradle jmh -PjmhArgs=RecipeRepositoryQueryBenchmark
+//       -Dbench.jdbc.url=jdbc:mariadb://localhost:3306/yoribogo -Dbench.jdbc.user=... -Dbench.jdbc.password=...
+// 운영 테이블을 건드리지 않도록 별도 테이블(recipe_search_bench)에 10만 건을 적재해 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeRepositoryQueryBenchmark {
+
+    private static final int PAGE_SIZE = 12;
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"김치", "된장찌개", "닭", "매콤한 돼지고기 볶음"})
+    private String query;
+
+    private Connection connection;
+    private PreparedStatement selectStatement;
+    private PreparedStatement countStatement;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("-Dbench.jdbc.url 시스템 프로퍼티가 필요합니다.");
+        }
+        connection = DriverManager.getConnection(url,
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS recipe_search_bench");
+            statement.execute("CREATE TABLE recipe_search_bench (" +
+                    "recipe_id BIGINT PRIMARY KEY, menu_name VARCHAR(255) NOT NULL, " +
+                    "menu_ingredient TEXT, menu_image VARCHAR(255), menu_type VARCHAR(255), user_id BIGINT)");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO recipe_search_bench VALUES (?, ?, ?, NULL, ?, ?)")) {
+            int count = 0;
+            for (RecipeDTO recipe : RecipeSearchDataset.generate(size, 42L)) {
+                insert.setLong(1, recipe.getRecipeId());
+                insert.setString(2, recipe.getMenuName());
+                insert.setString(3, recipe.getMenuIngredient());
+                insert.setString(4, recipe.getMenuType().name());
+                insert.setLong(5, recipe.getUserId());
+                insert.addBatch();
+                if (++count % 1000 == 0) insert.executeBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        // Hibernate가 생성하는 쿼리와 동일한 형태
+        selectStatement = connection.prepareStatement(
+                "SELECT recipe_id, menu_name, menu_ingredient, menu_image, menu_type, user_id " +
+                        "FROM recipe_search_bench WHERE menu_name LIKE ? ESCAPE '\\\\' ORDER BY recipe_id DESC LIMIT ?, ?");
+        countStatement = connection.prepareStatement(
+                "SELECT count(recipe_id) FROM recipe_search_bench WHERE menu_name LIKE ? ESCAPE '\\\\'");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS recipe_search_bench");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<String> repositoryQuery() throws SQLException {
+        String pattern = "%" + query + "%";
+        List<String> names = new ArrayList<>(PAGE_SIZE);
+
+        selectStatement.setString(1, pattern);
+        selectStatement.setInt(2, 0);
+        selectStatement.setInt(3, PAGE_SIZE);
+        try (ResultSet rs = selectStatement.executeQuery()) {
+            while (rs.next()) names.add(rs.getString(2));
+        }
+
+        // Page 반환을 위한 count 쿼리
+        countStatement.setString(1, pattern);
+        try (ResultSet rs = countStatement.executeQuery()) {
+            rs.next();
+            names.add(String.valueOf(rs.getLong(1)));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,56 @@
+package com.avengers.yoribogo.recipe.search;
+
+import com.avengers.yoribogo.recipe.dto.RecipeDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 메모리 n-gram 색인 vs LIKE '%검색어%' 전체 스캔 비교 (10만 건)
+// likeScan은 DB가 인덱스 없이 수행하는 스캔 + 정렬 + count를 메모리에서 흉내낸 것으로,
+// 실제 repository 쿼리는 여기에 네트워크 왕복과 count(*) 쿼리가 더해진다 (RecipeRepositoryQueryBenchmark 참고).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeSearchBenchmark {
+
+    private static final int PAGE_SIZE = 12;
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"김치", "된장찌개", "ㄱㅊㅂㅇㅂ", "닭", "매콤한 돼지고기 볶음"})
+    private String query;
+
+    private RecipeSearchIndex index;
+    private List<RecipeDTO> recipes;
+
+    @Setup
+    public void setUp() {
+        recipes = RecipeSearchDataset.generate(size, 42L);
+        index = new RecipeSearchIndex();
+        index.replaceAll(recipes);
+    }
+
+    @Benchmark
+    public RecipeSearchIndex.SearchResult indexSearch() {
+        return index.search(query, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<RecipeDTO> likeScan() {
+        // WHERE menu_name LIKE '%query%' ORDER BY recipe_id DESC LIMIT 12 + count(*)
+        List<RecipeDTO> matched = new ArrayList<>();
+        for (RecipeDTO recipe : recipes) {
+            if (recipe.getMenuName().contains(query)) matched.add(recipe);
+        }
+        matched.sort(Comparator.comparing(RecipeDTO::getRecipeId).reversed());
+        int total = matched.size();
+        return total > PAGE_SIZE ? matched.subList(0, PAGE_SIZE) : matched;
+    }
+}
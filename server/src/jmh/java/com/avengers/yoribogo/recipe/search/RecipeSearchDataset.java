@@ -0,0 +1,45 @@
+package com.avengers.yoribogo.recipe.search;
+
+import com.avengers.yoribogo.recipe.domain.MenuType;
+import com.avengers.yoribogo.recipe.dto.RecipeDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 가상 요리 이름 데이터셋 (수식어 + 재료 + 조리법 조합)
+final class RecipeSearchDataset {
+
+    private static final String[] PREFIXES = {"", "", "매콤한", "달콤한", "얼큰한", "담백한", "바삭한", "집밥", "초간단", "엄마표"};
+    private static final String[] INGREDIENTS = {
+            "김치", "된장", "고추장", "돼지고기", "소고기", "닭", "오징어", "새우", "두부", "감자",
+            "애호박", "버섯", "연어", "참치", "계란", "어묵", "떡", "콩나물", "시금치", "양배추",
+            "베이컨", "치즈", "고등어", "미역", "낙지", "순두부", "부대", "우삼겹", "차돌", "명란"
+    };
+    private static final String[] DISHES = {
+            "찌개", "볶음", "볶음밥", "국", "전", "조림", "구이", "덮밥", "무침", "스테이크",
+            "파스타", "샐러드", "말이", "튀김", "찜", "탕", "비빔밥", "김밥", "리조또", "샌드위치"
+    };
+
+    private RecipeSearchDataset() {
+    }
+
+    static List<RecipeDTO> generate(int size, long seed) {
+        Random random = new Random(seed);
+        List<RecipeDTO> recipes = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            String name = PREFIXES[random.nextInt(PREFIXES.length)] + " "
+                    + INGREDIENTS[random.nextInt(INGREDIENTS.length)]
+                    + (random.nextInt(4) == 0 ? INGREDIENTS[random.nextInt(INGREDIENTS.length)] : "")
+                    + DISHES[random.nextInt(DISHES.length)];
+            recipes.add(RecipeDTO.builder()
+                    .recipeId(id)
+                    .menuName(name.trim())
+                    .menuIngredient("")
+                    .menuType(MenuType.PUBLIC)
+                    .userId(1L)
+                    .build());
+        }
+        return recipes;
+    }
+}
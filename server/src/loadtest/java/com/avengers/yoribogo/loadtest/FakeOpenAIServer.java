@@ -0,0 +1,242 @@
+package com.avengers.yoribogo.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 로컬 OpenAI 대역 서버 (채팅, SSE 스트리밍 채팅, 이미지 생성, 생성된 이미지 다운로드)
+// 응답 지연은 로그정규분포(중앙값, sigma)로 뽑고, 설정한 비율만큼 429/500 오류를 돌려준다.
+// 애플리케이션은 openai.api.url / openai.api.images-url만 이 서버로 바꿔 실행한다.
+//
+// 실행: gradle fakeOpenAI -Dfake.port=18080 -Dfake.chat.median-ms=800 -Dfake.error-rate=0.02
+// 설정 (-Dfake.*):
+//   port(18080), chat.median-ms(800), chat.sigma(0.5), stream.first-token-ms(400),
+//   stream.token-ms(30), stream.tokens(60), image.median-ms(3000), image.sigma(0.4),
+//   image.size(512), error-rate(0), menu-variety(50)
+public class FakeOpenAIServer {
+
+    private static final String[] MENUS = {
+            "김치찌개(Kimchi stew with pork and tofu)", "된장찌개(Soybean paste stew with zucchini)",
+            "비빔밥(Bibimbap rice bowl with vegetables and egg)", "불고기(Bulgogi marinated beef)",
+            "파스타(Garlic olive oil pasta)", "카레라이스(Japanese curry rice)",
+            "오므라이스(Omurice with ketchup sauce)", "잡채(Japchae stir-fried glass noodles)"
+    };
+    private static final String INGREDIENTS = "양파 1개, 마늘 3쪽, 대파 1대, 간장 2스푼, 설탕 1스푼, 돼지고기 200g";
+    private static final String MANUAL = """
+            1. 재료를 손질하고 양파와 대파를 썹니다.
+            2. 팬에 기름을 두르고 마늘을 볶아 향을 냅니다.
+            3. 고기를 넣고 겉면이 익을 때까지 볶습니다.
+            4. 양념을 넣고 골고루 섞어 줍니다.
+            5. 약불로 줄여 5분간 졸입니다.
+            6. 그릇에 담고 대파를 올려 마무리합니다.
+            """;
+
+    private final Settings settings;
+    private final byte[] image;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public FakeOpenAIServer(Settings settings) throws IOException {
+        this.settings = settings;
+        this.image = noiseImage(settings.imageSize());
+    }
+
+    public static void main(String[] args) throws Exception {
+        FakeOpenAIServer fake = new FakeOpenAIServer(Settings.fromSystemProperties());
+        fake.start();
+        System.out.println("가짜 OpenAI 서버 시작: " + fake.baseUrl());
+        System.out.println("  openai.api.url=" + fake.baseUrl() + "/v1/chat/completions");
+        System.out.println("  openai.api.images-url=" + fake.baseUrl() + "/v1/images/generations");
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            fake.stop();
+            System.out.println("요청 " + fake.requests.get() + "건, 오류 응답 " + fake.errors.get() + "건");
+        }));
+        Thread.currentThread().join();
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(settings.port()), 1024);
+        // 느린 응답을 흉내 내는 동안 스레드를 잡고 있으므로 요청마다 스레드 하나
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/v1/chat/completions", this::handleChat);
+        server.createContext("/v1/images/generations", this::handleImages);
+        server.createContext("/images/", this::handleImageDownload);
+        server.start();
+    }
+
+    public void stop() {
+        if (server != null) server.stop(0);
+        if (executor != null) executor.shutdownNow();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void handleChat(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (failed(exchange)) return;
+
+        if (body.contains("\"stream\":true")) {
+            stream(exchange);
+            return;
+        }
+
+        sleep(logNormal(settings.chatMedianMillis(), settings.chatSigma()));
+        String content;
+        if (body.contains("재료를")) {
+            content = INGREDIENTS;
+        } else {
+            // 요리 이름을 menu-variety개로 나눠 캐시·합치기 효과가 실제와 비슷하게 나타나도록
+            long variant = ThreadLocalRandom.current().nextLong(settings.menuVariety());
+            String menu = MENUS[(int) (variant % MENUS.length)];
+            content = variant < MENUS.length ? menu : menu.replaceFirst("\\(", variant + "(");
+        }
+        respond(exchange, 200, "application/json", """
+                {"id":"chatcmpl-%d","object":"chat.completion","choices":[{"index":0,"message":{"role":"assistant","content":"%s"}}],\
+                "usage":{"prompt_tokens":120,"completion_tokens":40,"total_tokens":160}}"""
+                .formatted(sequence.incrementAndGet(), escape(content)));
+    }
+
+    // 매뉴얼을 tokens개 조각으로 나눠 조각마다 token-ms씩 쉬며 전송
+    private void stream(HttpExchange exchange) throws IOException {
+        long id = sequence.incrementAndGet();
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            sleep(logNormal(settings.streamFirstTokenMillis(), 0.3));
+            int tokens = Math.max(1, settings.streamTokens());
+            int chunkSize = Math.max(1, (MANUAL.length() + tokens - 1) / tokens);
+            for (int offset = 0; offset < MANUAL.length(); offset += chunkSize) {
+                String chunk = MANUAL.substring(offset, Math.min(MANUAL.length(), offset + chunkSize));
+                writeEvent(out, """
+                        {"id":"chatcmpl-%d","choices":[{"index":0,"delta":{"content":"%s"}}]}"""
+                        .formatted(id, escape(chunk)));
+                sleep(settings.streamTokenMillis());
+            }
+            writeEvent(out, """
+                    {"id":"chatcmpl-%d","choices":[],"usage":{"prompt_tokens":80,"completion_tokens":%d,"total_tokens":%d}}"""
+                    .formatted(id, tokens, tokens + 80));
+            writeEvent(out, "[DONE]");
+        }
+    }
+
+    private void handleImages(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        if (failed(exchange)) return;
+
+        sleep(logNormal(settings.imageMedianMillis(), settings.imageSigma()));
+        respond(exchange, 200, "application/json", """
+                {"created":%d,"data":[{"url":"%s/images/%d.png"}]}"""
+                .formatted(System.currentTimeMillis() / 1000, baseUrl(), sequence.incrementAndGet()));
+    }
+
+    private void handleImageDownload(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        exchange.getResponseHeaders().add("Content-Type", "image/png");
+        exchange.sendResponseHeaders(200, image.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(image);
+        }
+    }
+
+    // error-rate 비율로 429 또는 500 응답
+    private boolean failed(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() >= settings.errorRate()) return false;
+
+        errors.incrementAndGet();
+        int status = random.nextBoolean() ? 429 : 500;
+        respond(exchange, status, "application/json",
+                "{\"error\":{\"message\":\"fake error\",\"type\":\"" + (status == 429 ? "rate_limit" : "server_error") + "\"}}");
+        return true;
+    }
+
+    private static void writeEvent(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // 중앙값 median, 로그 표준편차 sigma인 로그정규분포 (긴 꼬리 지연을 흉내)
+    static long logNormal(long medianMillis, double sigma) {
+        if (medianMillis <= 0) return 0;
+        return Math.round(medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    // 압축이 잘 안 되는 사진 같은 이미지 (실제 AI 이미지 크기와 비슷하게)
+    private static byte[] noiseImage(int size) throws IOException {
+        Random random = new Random(7L);
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int base = (x * 255 / size) ^ (y * 255 / size);
+                image.setRGB(x, y, (base + random.nextInt(64)) << 16 | (random.nextInt(256)) << 8 | (255 - base));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    public record Settings(int port,
+                           long chatMedianMillis, double chatSigma,
+                           long streamFirstTokenMillis, long streamTokenMillis, int streamTokens,
+                           long imageMedianMillis, double imageSigma, int imageSize,
+                           double errorRate, int menuVariety) {
+
+        public static Settings fromSystemProperties() {
+            return new Settings(
+                    Integer.getInteger("fake.port", 18080),
+                    Long.getLong("fake.chat.median-ms", 800L),
+                    Double.parseDouble(System.getProperty("fake.chat.sigma", "0.5")),
+                    Long.getLong("fake.stream.first-token-ms", 400L),
+                    Long.getLong("fake.stream.token-ms", 30L),
+                    Integer.getInteger("fake.stream.tokens", 60),
+                    Long.getLong("fake.image.median-ms", 3000L),
+                    Double.parseDouble(System.getProperty("fake.image.sigma", "0.4")),
+                    Integer.getInteger("fake.image.size", 512),
+                    Double.parseDouble(System.getProperty("fake.error-rate", "0")),
+                    Integer.getInteger("fake.menu-variety", 50));
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.avengers.yoribogo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+// AI 흐름 부하 테스트 (고정 동시 사용자 수로 일정 시간 동안 반복 호출)
+// - recommend: POST /api/recipes/recommend
+// - manual:    POST /api/manuals/ai (SSE, 첫 조각까지 시간과 전체 시간 측정)
+// 지연 p50/p95/p99, 처리량, 오류 수와 서버 스레드·힙 사용량(액추에이터 metrics 노출 시)을 출력한다.
+// 애플리케이션은 FakeOpenAIServer를 바라보도록 띄운 뒤 실행한다.
+//
+// 실행: gradle loadTest -Dload.scenario=recommend -Dload.concurrency=16 -Dload.duration-seconds=60
+// 설정 (-Dload.*):
+//   base-url(http://localhost:8080), scenario(recommend), concurrency(16), duration-seconds(60),
+//   warmup-seconds(10), recipe-ids(manual 대상, 비우면 추천 요청으로 recipes개 생성), recipes(20),
+//   report(결과 JSON 경로), max-p95-ms(넘으면 종료 코드 1)
+public class LoadTestRunner {
+
+    private static final String[][] ANSWERS = {
+            {"한식", "가볍게", "1인분", "아니오", "없음"},
+            {"양식", "든든하게", "2인분", "아니오", "매운 음식 싫어요"},
+            {"중식", "빠르게", "4인분", "예", "땅콩 알레르기"},
+            {"일식", "간단하게", "1인분", "아니오", "해산물 좋아요"}
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration requestTimeout = Duration.ofSeconds(120);
+
+    public LoadTestRunner(String baseUrl, int concurrency) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, concurrency)))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("load.base-url", "http://localhost:8080");
+        String scenario = System.getProperty("load.scenario", "recommend");
+        int concurrency = Integer.getInteger("load.concurrency", 16);
+        int durationSeconds = Integer.getInteger("load.duration-seconds", 60);
+        int warmupSeconds = Integer.getInteger("load.warmup-seconds", 10);
+
+        LoadTestRunner runner = new LoadTestRunner(baseUrl, concurrency);
+        Scenario target = switch (scenario) {
+            case "recommend" -> runner::recommend;
+            case "manual" -> runner.manualScenario();
+            default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+        };
+
+        System.out.printf("시나리오=%s, 동시 사용자=%d, 측정=%ds (워밍업 %ds), 대상=%s%n",
+                scenario, concurrency, durationSeconds, warmupSeconds, baseUrl);
+        Report report = runner.run(scenario, target, concurrency, warmupSeconds, durationSeconds);
+        report.print();
+
+        String reportPath = System.getProperty("load.report");
+        if (reportPath != null) {
+            Path path = Path.of(reportPath);
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            runner.objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report.toMap());
+            System.out.println("결과 저장: " + path.toAbsolutePath());
+        }
+
+        Long maxP95 = Long.getLong("load.max-p95-ms");
+        if (maxP95 != null && report.latency().percentile(95) > maxP95) {
+            System.out.printf("p95 %dms가 기준 %dms를 넘었습니다.%n", report.latency().percentile(95), maxP95);
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    // 요청 한 건 (첫 응답까지 걸린 시간(ms)을 반환, 없으면 -1)
+    @FunctionalInterface
+    interface Scenario {
+        long call() throws Exception;
+    }
+
+    Report run(String name, Scenario scenario, int concurrency, int warmupSeconds, int durationSeconds)
+            throws InterruptedException {
+        ServerSampler sampler = new ServerSampler();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long warmupEndsAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long endsAt = warmupEndsAt + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        Recorder latency = new Recorder();
+        Recorder firstByte = new Recorder();
+        AtomicLong errors = new AtomicLong();
+        Map<String, AtomicLong> errorTypes = new ConcurrentHashMap<>();
+
+        ScheduledExecutorService sampling = Executors.newSingleThreadScheduledExecutor();
+        sampling.scheduleAtFixedRate(sampler::sample, 0, 1, TimeUnit.SECONDS);
+
+        for (int i = 0; i < concurrency; i++) {
+            workers.submit(() -> {
+                while (System.nanoTime() < endsAt) {
+                    long startedAt = System.nanoTime();
+                    boolean measured = startedAt >= warmupEndsAt;
+                    try {
+                        long firstByteMillis = scenario.call();
+                        if (!measured) continue;
+                        latency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                        if (firstByteMillis >= 0) firstByte.record(firstByteMillis);
+                    } catch (Exception e) {
+                        if (!measured) continue;
+                        errors.incrementAndGet();
+                        String type = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+                        errorTypes.computeIfAbsent(type, key -> new AtomicLong()).incrementAndGet();
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(durationSeconds + warmupSeconds + 300L, TimeUnit.SECONDS);
+        sampling.shutdownNow();
+        sampler.sample();
+
+        return new Report(name, concurrency, durationSeconds, latency, firstByte, errors.get(), errorTypes, sampler);
+    }
+
+    private long recommend() throws Exception {
+        String[] answers = ANSWERS[ThreadLocalRandom.current().nextInt(ANSWERS.length)];
+        Map<String, String> body = Map.of("first", answers[0], "second", answers[1], "third", answers[2],
+                "fourth", answers[3], "fifth", answers[4]);
+        JsonNode response = postJson("/api/recipes/recommend", body);
+        if (!response.path("success").asBoolean()) {
+            throw new IllegalStateException("추천 실패: " + response.path("error").path("message").asText());
+        }
+        return -1;
+    }
+
+    // 대상 요리 목록을 준비한 뒤 무작위로 골라 매뉴얼 스트림 요청
+    // (이미 매뉴얼이 저장된 요리는 OpenAI 호출 없이 저장된 단계를 돌려받는다)
+    private Scenario manualScenario() throws Exception {
+        List<JsonNode> recipes = new ArrayList<>();
+        String recipeIds = System.getProperty("load.recipe-ids", "");
+        if (recipeIds.isBlank()) {
+            int count = Integer.getInteger("load.recipes", 20);
+            for (int i = 0; i < count; i++) {
+                String[] answers = ANSWERS[i % ANSWERS.length];
+                JsonNode response = postJson("/api/recipes/recommend", Map.of("first", answers[0],
+                        "second", answers[1], "third", answers[2], "fourth", answers[3], "fifth", answers[4]));
+                recipes.add(response.path("data"));
+            }
+        } else {
+            for (String id : recipeIds.split(",")) {
+                recipes.add(objectMapper.createObjectNode()
+                        .put("recipe_id", Long.parseLong(id.trim()))
+                        .put("menu_name", "요리" + id.trim())
+                        .put("menu_ingredient", "양파 1개, 마늘 3쪽"));
+            }
+        }
+        System.out.println("매뉴얼 대상 요리 " + recipes.size() + "개");
+
+        return () -> {
+            JsonNode recipe = recipes.get(ThreadLocalRandom.current().nextInt(recipes.size()));
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "menu_name", recipe.path("menu_name").asText(),
+                    "menu_ingredient", recipe.path("menu_ingredient").asText()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/manuals/ai?recipe=" + recipe.path("recipe_id").asLong()))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "text/event-stream")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            long startedAt = System.nanoTime();
+            HttpResponse<java.io.InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() != 200) {
+                response.body().close();
+                throw new IllegalStateException("HTTP " + response.statusCode());
+            }
+            long firstByteMillis = -1;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (firstByteMillis < 0 && line.startsWith("data:")) {
+                        firstByteMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    }
+                }
+            }
+            return firstByteMillis;
+        };
+    }
+
+    private JsonNode postJson(String path, Object body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) throw new IllegalStateException("HTTP " + response.statusCode());
+        return objectMapper.readTree(response.body());
+    }
+
+    // 지연 기록 (스레드 안전, 측정 종료 후 정렬해 백분위 계산)
+    static final class Recorder {
+
+        private final List<Long> values = Collections.synchronizedList(new ArrayList<>());
+
+        void record(long millis) {
+            values.add(millis);
+        }
+
+        int count() {
+            return values.size();
+        }
+
+        long percentile(double percentile) {
+            long[] sorted = sorted();
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        long max() {
+            long[] sorted = sorted();
+            return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+        }
+
+        private long[] sorted() {
+            long[] sorted;
+            synchronized (values) {
+                sorted = values.stream().mapToLong(Long::longValue).toArray();
+            }
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    // 서버 스레드·힙 사용량 수집 (/actuator/metrics, 노출되지 않았으면 건너뜀)
+    final class ServerSampler {
+
+        private volatile boolean available = true;
+        private double maxThreads;
+        private double maxHeapBytes;
+        private double lastHeapBytes;
+
+        synchronized void sample() {
+            if (!available) return;
+            try {
+                double threads = metric("jvm.threads.live", null);
+                double heap = metric("jvm.memory.used", "area:heap");
+                maxThreads = Math.max(maxThreads, threads);
+                maxHeapBytes = Math.max(maxHeapBytes, heap);
+                lastHeapBytes = heap;
+            } catch (Exception e) {
+                available = false;
+            }
+        }
+
+        private double metric(String name, String tag) throws Exception {
+            String uri = baseUrl + "/actuator/metrics/" + name + (tag == null ? "" : "?tag=" + tag);
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(uri))
+                    .timeout(Duration.ofSeconds(2)).GET().build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) throw new IllegalStateException("HTTP " + response.statusCode());
+            return objectMapper.readTree(response.body()).path("measurements").path(0).path("value").asDouble();
+        }
+    }
+
+    record Report(String scenario, int concurrency, int durationSeconds, Recorder latency, Recorder firstByte,
+                  long errors, Map<String, AtomicLong> errorTypes, ServerSampler sampler) {
+
+        void print() {
+            int count = latency.count();
+            System.out.println("----------------------------------------");
+            System.out.printf("요청 %d건, 오류 %d건, 처리량 %.2f req/s%n", count, errors, (double) count / durationSeconds);
+            System.out.printf("지연(ms)        p50=%d p95=%d p99=%d max=%d%n",
+                    latency.percentile(50), latency.percentile(95), latency.percentile(99), latency.max());
+            if (firstByte.count() > 0) {
+                System.out.printf("첫 조각(ms)     p50=%d p95=%d p99=%d max=%d%n",
+                        firstByte.percentile(50), firstByte.percentile(95), firstByte.percentile(99), firstByte.max());
+            }
+            errorTypes.forEach((type, n) -> System.out.printf("  오류 %s: %d%n", type, n.get()));
+            if (sampler.available) {
+                System.out.printf("서버 스레드 최대 %.0f개, 힙 최대 %.1fMB (종료 시 %.1fMB)%n",
+                        sampler.maxThreads, sampler.maxHeapBytes / 1048576, sampler.lastHeapBytes / 1048576);
+            } else {
+                System.out.println("서버 스레드·힙: 수집 불가 (management.endpoints.web.exposure.include=metrics 필요)");
+            }
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("scenario", scenario);
+            map.put("concurrency", concurrency);
+            map.put("duration_seconds", durationSeconds);
+            map.put("requests", latency.count());
+            map.put("errors", errors);
+            map.put("throughput", (double) latency.count() / durationSeconds);
+            map.put("latency_ms", Map.of("p50", latency.percentile(50), "p95", latency.percentile(95),
+                    "p99", latency.percentile(99), "max", latency.max()));
+            if (firstByte.count() > 0) {
+                map.put("first_token_ms", Map.of("p50", firstByte.percentile(50), "p95", firstByte.percentile(95),
+                        "p99", firstByte.percentile(99), "max", firstByte.max()));
+            }
+            if (sampler.available) {
+                map.put("server_max_threads", sampler.maxThreads);
+                map.put("server_max_heap_bytes", sampler.maxHeapBytes);
+            }
+            return map;
+        }
+    }
+}
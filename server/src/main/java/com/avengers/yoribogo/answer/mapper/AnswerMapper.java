@@ -0,0 +1,15 @@
+package com.avengers.yoribogo.answer.mapper;
+
+import com.avengers.yoribogo.answer.domain.Answer;
+import com.avengers.yoribogo.answer.dto.AnswerDTO;
+import com.avengers.yoribogo.config.MapStructConfig;
+import com.avengers.yoribogo.user.mapper.UserMapper;
+import org.mapstruct.Mapper;
+
+// 답변 DTO -> 엔티티 변환 (컴파일 시점 생성)
+@Mapper(config = MapStructConfig.class, uses = UserMapper.class)
+public interface AnswerMapper {
+
+    Answer toAnswer(AnswerDTO answerDTO);
+
+}
@@ -2,15 +2,14 @@ package com.avengers.yoribogo.answer.service;
 
 import com.avengers.yoribogo.answer.domain.Answer;
 import com.avengers.yoribogo.answer.dto.AnswerDTO;
+import com.avengers.yoribogo.answer.mapper.AnswerMapper;
 import com.avengers.yoribogo.answer.repository.AnswerRepository;
 import com.avengers.yoribogo.common.exception.ErrorCode;
 import com.avengers.yoribogo.common.exception.ExceptionDTO;
 import com.avengers.yoribogo.inquiry.service.InquiryService;
-import com.avengers.yoribogo.user.domain.UserEntity;
+import com.avengers.yoribogo.user.mapper.UserMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,7 +22,8 @@ public class AnswerServiceImpl implements AnswerService {
 
     private final AnswerRepository answerRepository;
     private final InquiryService inquiryService;
-    private final ModelMapper modelMapper;
+    private final AnswerMapper answerMapper;
+    private final UserMapper userMapper;
 
     @PersistenceContext
     private final EntityManager entityManager;
@@ -31,14 +31,14 @@ public class AnswerServiceImpl implements AnswerService {
     @Autowired
     public AnswerServiceImpl(AnswerRepository answerRepository,
                              InquiryService inquiryService,
-                             ModelMapper modelMapper, EntityManager entityManager) {
+                             AnswerMapper answerMapper,
+                             UserMapper userMapper,
+                             EntityManager entityManager) {
         this.answerRepository = answerRepository;
         this.inquiryService = inquiryService;
-        this.modelMapper = modelMapper;
+        this.answerMapper = answerMapper;
+        this.userMapper = userMapper;
         this.entityManager = entityManager;
-        this.modelMapper.getConfiguration()
-                .setMatchingStrategy(MatchingStrategies.STRICT)
-                .setFieldMatchingEnabled(true);
     }
 
     @Override
@@ -58,8 +58,8 @@ public class AnswerServiceImpl implements AnswerService {
     public Answer insertAnswer(AnswerDTO newAnswer) {
         try {
             newAnswer.setAnswerCreatedAt(LocalDateTime.now().withNano(0));
-            Answer tmp = modelMapper.map(newAnswer, Answer.class);
-            tmp.setUser(modelMapper.map(newAnswer.getUser(), UserEntity.class));
+            Answer tmp = answerMapper.toAnswer(newAnswer);
+            tmp.setUser(userMapper.toUserEntity(newAnswer.getUser()));
 
             Answer result = answerRepository.save(tmp);
             answerRepository.flush();
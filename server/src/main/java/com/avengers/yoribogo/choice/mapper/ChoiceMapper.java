@@ -0,0 +1,14 @@
+package com.avengers.yoribogo.choice.mapper;
+
+import com.avengers.yoribogo.choice.domain.Choice;
+import com.avengers.yoribogo.choice.dto.ChoiceDTO;
+import com.avengers.yoribogo.config.MapStructConfig;
+import org.mapstruct.Mapper;
+
+// 선지 DTO -> 엔티티 변환 (컴파일 시점 생성)
+@Mapper(config = MapStructConfig.class)
+public interface ChoiceMapper {
+
+    Choice toChoice(ChoiceDTO choiceDTO);
+
+}
@@ -1,12 +1,11 @@
 package com.avengers.yoribogo.choice.service;
 
+import com.avengers.yoribogo.choice.mapper.ChoiceMapper;
 import com.avengers.yoribogo.choice.repository.ChoiceRepository;
 import com.avengers.yoribogo.common.exception.ErrorCode;
 import com.avengers.yoribogo.common.exception.ExceptionDTO;
 import com.avengers.yoribogo.choice.domain.Choice;
 import com.avengers.yoribogo.choice.dto.ChoiceDTO;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -16,16 +15,13 @@ import java.util.List;
 public class ChoiceServiceImpl implements ChoiceService {
 
     private final ChoiceRepository choiceRepository;
-    private final ModelMapper modelMapper;
+    private final ChoiceMapper choiceMapper;
 
     @Autowired
     public ChoiceServiceImpl(ChoiceRepository choiceRepository,
-                             ModelMapper modelMapper) {
+                             ChoiceMapper choiceMapper) {
         this.choiceRepository = choiceRepository;
-        this.modelMapper = modelMapper;
-        this.modelMapper.getConfiguration()
-                .setMatchingStrategy(MatchingStrategies.STRICT)
-                .setFieldMatchingEnabled(true);
+        this.choiceMapper = choiceMapper;
     }
 
     @Override
@@ -45,7 +41,7 @@ public class ChoiceServiceImpl implements ChoiceService {
     public Choice insertChoice(ChoiceDTO newChoice) {
         try {
             return choiceRepository.save(
-                    modelMapper.map(newChoice, Choice.class));
+                    choiceMapper.toChoice(newChoice));
         } catch (Exception e) {
             ExceptionDTO.of(ErrorCode.NOT_FOUND_CHOICE);    // insert fail
             return null;
@@ -56,7 +52,7 @@ public class ChoiceServiceImpl implements ChoiceService {
     public Choice updateChoice(ChoiceDTO modifyChoice) {
         try {
             return choiceRepository.saveAndFlush(
-                    modelMapper.map(modifyChoice, Choice.class));
+                    choiceMapper.toChoice(modifyChoice));
         } catch (Exception e) {
             ExceptionDTO.of(ErrorCode.NOT_FOUND_CHOICE);    // update fail
             return null;
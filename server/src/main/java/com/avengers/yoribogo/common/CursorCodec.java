@@ -0,0 +1,67 @@
+package com.avengers.yoribogo.common;
+
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 커서 문자열 인코딩/디코딩 (클라이언트에는 의미를 알 수 없는 Base64 문자열로 전달)
+public final class CursorCodec {
+
+    public static final int DEFAULT_SIZE = 12;
+    public static final int MAX_SIZE = 50;
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    // 한 번에 조회할 개수 검증 (미입력 시 기본값)
+    public static int resolveSize(Integer size) {
+        if (size == null) return DEFAULT_SIZE;
+        if (size < 1 || size > MAX_SIZE) throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        return size;
+    }
+
+    // ID 단일 키 커서
+    public static String encodeId(long id) {
+        return encode(String.valueOf(id));
+    }
+
+    public static Long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            return Long.parseLong(decode(cursor));
+        } catch (RuntimeException e) {
+            throw new CommonException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    // (작성 시각, ID) 복합 키 커서
+    public static String encodeTimeAndId(LocalDateTime time, long id) {
+        return encode(time + SEPARATOR + id);
+    }
+
+    public static TimeAndId decodeTimeAndId(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String[] parts = decode(cursor).split("\\|");
+            return new TimeAndId(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new CommonException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    public record TimeAndId(LocalDateTime time, long id) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.avengers.yoribogo.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 커서 기반 목록 응답 (무한 스크롤용, 전체 개수를 세지 않는다)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    @JsonProperty("content")
+    private List<T> content;
+
+    // 다음 요청에 그대로 전달할 커서 (마지막 페이지면 null)
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    @JsonProperty("has_next")
+    private boolean hasNext;
+
+    @JsonProperty("size")
+    private int size;
+
+    // size + 1건을 조회한 결과로 다음 페이지 존재 여부와 커서를 계산
+    public static <E, T> CursorPageDTO<T> of(List<E> rows, int size,
+                                            Function<E, T> mapper,
+                                            Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<T> content = pageRows.stream().map(mapper).toList();
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+
+        return new CursorPageDTO<>(content, nextCursor, hasNext, content.size());
+    }
+}
@@ -0,0 +1,64 @@
+package com.avengers.yoribogo.common;
+
+import java.util.Arrays;
+
+// 정렬 키(long) 상위 k개를 유지하는 최소 힙 (값이 클수록 상위)
+// 후보가 많은 메모리 색인 조회에서 전체 정렬 없이 한 페이지 분량만 골라내기 위해 사용한다.
+public final class LongTopK {
+
+    private final long[] heap;
+    private int size = 0;
+
+    public LongTopK(int capacity) {
+        this.heap = new long[Math.max(capacity, 0)];
+    }
+
+    public void offer(long key) {
+        if (heap.length == 0) return;
+        if (size < heap.length) {
+            heap[size] = key;
+            siftUp(size++);
+        } else if (key > heap[0]) {
+            heap[0] = key;
+            siftDown(0);
+        }
+    }
+
+    // 내림차순 정렬된 키 목록
+    public long[] sortedDescending() {
+        long[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted);
+        for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+            long tmp = sorted[i];
+            sorted[i] = sorted[j];
+            sorted[j] = tmp;
+        }
+        return sorted;
+    }
+
+    private void siftUp(int idx) {
+        while (idx > 0) {
+            int parent = (idx - 1) >>> 1;
+            if (heap[parent] <= heap[idx]) break;
+            swap(parent, idx);
+            idx = parent;
+        }
+    }
+
+    private void siftDown(int idx) {
+        while (true) {
+            int left = idx * 2 + 1;
+            if (left >= size) break;
+            int smallest = (left + 1 < size && heap[left + 1] < heap[left]) ? left + 1 : left;
+            if (heap[idx] <= heap[smallest]) break;
+            swap(idx, smallest);
+            idx = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+}
@@ -21,6 +21,7 @@ public enum ErrorCode {
     INVALID_REQUEST_BODY(40011, HttpStatus.BAD_REQUEST, "잘못된 요청 본문입니다."),
     MISSING_REQUIRED_FIELD(40012, HttpStatus.BAD_REQUEST, "필수 필드가 누락되었습니다."),
     INVALID_VERIFICATION_CODE(40013, HttpStatus.BAD_REQUEST, "잘못된 인증번호입니다. 인증번호를 다시 확인해주세요"),
+    INVALID_CURSOR(40015, HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
     INVALID_INPUT_NICKNAME(40418, HttpStatus.BAD_REQUEST, "닉네임을 입력하지 않았습니다."),
 
 
@@ -29,6 +30,7 @@ public enum ErrorCode {
     FILE_UPLOAD_ERROR(40021, HttpStatus.BAD_REQUEST, "파일 업로드에 실패했습니다."),
     FILE_CONVERSION_ERROR(40022, HttpStatus.BAD_REQUEST, "파일 변환에 실패했습니다."),
     FILE_SIZE_EXCEEDED(40023, HttpStatus.BAD_REQUEST, "파일 크기가 허용된 최대 크기를 초과했습니다."),
+    INVALID_UPLOAD_KEY(40024, HttpStatus.BAD_REQUEST, "유효하지 않은 업로드 키입니다."),
 
     //401
     INVALID_HEADER_VALUE(40100, HttpStatus.UNAUTHORIZED, "올바르지 않은 헤더값입니다."),
@@ -76,12 +78,23 @@ public enum ErrorCode {
     EMAIL_VERIFICATION_REQUIRED(40419, HttpStatus.BAD_REQUEST
             , "이메일 인증이 안된 이메일입니다. 이메일 인증을 완료해주세요."),
     NOT_FOUND_USER_ID(40420, HttpStatus.NOT_FOUND, "아이디를 잘못 입력하셨습니다."),
+    NOT_FOUND_RECIPE_IMPORT_JOB(40421, HttpStatus.NOT_FOUND, "레시피 일괄 등록 작업이 존재하지 않습니다."),
+    NOT_FOUND_IMAGE_JOB(40422, HttpStatus.NOT_FOUND, "요리 이미지 생성 작업이 존재하지 않습니다."),
+    NOT_FOUND_UPLOADED_IMAGE(40423, HttpStatus.NOT_FOUND, "업로드된 이미지가 존재하지 않습니다."),
+
+    //409
+    RECIPE_IMPORT_ALREADY_RUNNING(40900, HttpStatus.CONFLICT, "이미 진행 중인 레시피 일괄 등록 작업이 있습니다."),
 
     //429 (Too Many Requests)
     TOO_MANY_REQUESTS(42900, HttpStatus.TOO_MANY_REQUESTS, "요청 횟수가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    OPENAI_RATE_LIMITED(42901, HttpStatus.TOO_MANY_REQUESTS, "AI 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
 
     //500
-    INTERNAL_SERVER_ERROR(50000, HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류입니다");
+    INTERNAL_SERVER_ERROR(50000, HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류입니다"),
+
+    //503
+    INDEX_NOT_READY(50300, HttpStatus.SERVICE_UNAVAILABLE, "검색 색인을 준비 중입니다. 잠시 후 다시 시도해 주세요."),
+    OPENAI_UNAVAILABLE(50301, HttpStatus.SERVICE_UNAVAILABLE, "AI 서비스가 원활하지 않습니다. 잠시 후 다시 시도해 주세요.");
 
     private final Integer code;
     private final HttpStatus httpStatus;
@@ -0,0 +1,18 @@
+package com.avengers.yoribogo.common.id;
+
+// 풀링(pooled-lo) ID 생성 설정
+// 시퀀스 값 v 하나가 [v, v + ALLOCATION_SIZE) 구간을 뜻하므로, 시퀀스는 반드시 INCREMENT BY ALLOCATION_SIZE로 만든다.
+// (db_queries/pooled_id_sequences.sql)
+public final class PooledIds {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String RECIPE_SEQ = "recipe_seq";
+    public static final String RECIPE_MANUAL_SEQ = "recipe_manual_seq";
+    public static final String RECIPE_BOARD_MANUAL_SEQ = "recipe_board_manual_seq";
+    public static final String NOTIFICATION_SEQ = "notification_seq";
+    public static final String RECIPE_BOARD_LIKE_SEQ = "recipe_board_like_seq";
+
+    private PooledIds() {
+    }
+}
@@ -0,0 +1,46 @@
+package com.avengers.yoribogo.common.id;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// JDBC로 직접 저장하는 경로(일괄 등록, AI 매뉴얼 스트림)용 ID 할당
+// Hibernate의 pooled-lo 최적화와 같은 방식으로 시퀀스를 읽으므로, 엔티티 저장과 같은 시퀀스를 나눠 써도 ID가 겹치지 않는다.
+// NEXTVAL 한 번으로 ALLOCATION_SIZE개를 확보하고, 남은 ID는 서버 메모리에서 이어서 쓴다.
+@Component
+public class SequenceIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentMap<String, Block> blocks = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SequenceIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // sequenceName은 PooledIds의 상수만 사용 (SQL에 그대로 들어감)
+    public long[] allocate(String sequenceName, int count) {
+        long[] ids = new long[count];
+        Block block = blocks.computeIfAbsent(sequenceName, name -> new Block());
+        synchronized (block) {
+            for (int i = 0; i < count; i++) {
+                if (block.next >= block.end) {
+                    Long low = jdbcTemplate.queryForObject("SELECT NEXTVAL(" + sequenceName + ")", Long.class);
+                    if (low == null) throw new IllegalStateException("시퀀스 값을 읽지 못했습니다: " + sequenceName);
+                    block.next = low;
+                    block.end = low + PooledIds.ALLOCATION_SIZE;
+                }
+                ids[i] = block.next++;
+            }
+        }
+        return ids;
+    }
+
+    private static final class Block {
+        private long next;
+        private long end;
+    }
+}
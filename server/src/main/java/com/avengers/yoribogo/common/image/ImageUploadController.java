@@ -0,0 +1,30 @@
+package com.avengers.yoribogo.common.image;
+
+import com.avengers.yoribogo.common.ResponseDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/images")
+public class ImageUploadController {
+
+    private final PresignedImageUploader presignedImageUploader;
+
+    @Autowired
+    public ImageUploadController(PresignedImageUploader presignedImageUploader) {
+        this.presignedImageUploader = presignedImageUploader;
+    }
+
+    // 직접 업로드 슬롯 발급 (클라이언트가 S3에 바로 PUT한 뒤 게시글·매뉴얼·프로필 수정 요청에 upload_key를 담아 확정)
+    @PostMapping("/upload-slots")
+    public ResponseDTO<List<ImageUploadSlotDTO>> issueUploadSlots(@RequestBody RequestImageUploadSlotDTO requestDTO) {
+        List<ImageUploadSlotDTO> slots = presignedImageUploader.issue(
+                requestDTO.getPurpose(), requestDTO.getOwnerId(), requestDTO.getFiles());
+        return ResponseDTO.ok(slots);
+    }
+}
@@ -0,0 +1,20 @@
+package com.avengers.yoribogo.common.image;
+
+// 직접 업로드(presigned URL) 용도
+// 객체 키는 "{prefix}_{소유 ID}_"로 시작하며, 확정 시 같은 용도·소유 ID로 발급된 키인지 확인한다.
+// 게시글 이미지는 등록 전에 올릴 수 있도록 작성자 ID, 매뉴얼 이미지는 게시글 ID, 프로필 이미지는 사용자 ID가 소유 ID다.
+public enum ImageUploadPurpose {
+    BOARD("board"),
+    MANUAL("manual"),
+    PROFILE("user");
+
+    private final String prefix;
+
+    ImageUploadPurpose(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public String keyPrefix(Long ownerId) {
+        return prefix + "_" + ownerId + "_";
+    }
+}
@@ -0,0 +1,29 @@
+package com.avengers.yoribogo.common.image;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 직접 업로드 슬롯 (upload_url로 PUT한 뒤 upload_key로 확정)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ImageUploadSlotDTO {
+
+    @JsonProperty("upload_key")
+    private String uploadKey;
+
+    @JsonProperty("upload_url")
+    private String uploadUrl;
+
+    // PUT 요청에 그대로 실어야 하는 헤더 (서명에 포함됨)
+    @JsonProperty("headers")
+    private Map<String, String> headers;
+
+    @JsonProperty("expires_at")
+    private LocalDateTime expiresAt;
+}
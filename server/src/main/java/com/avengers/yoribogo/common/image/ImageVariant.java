@@ -0,0 +1,55 @@
+package com.avengers.yoribogo.common.image;
+
+// 업로드 이미지의 크기별 파생본
+// 원본 키가 board_12.png이면 파생본 키는 variants/board_12/thumbnail.jpg처럼 원본 키만으로 정해진다.
+public enum ImageVariant {
+
+    THUMBNAIL("thumbnail", 160, 0.75f),
+    CARD("card", 480, 0.8f),
+    FULL("full", 1280, 0.85f);
+
+    private static final String KEY_PREFIX = "variants/";
+    private static final String URL_KEY_SEPARATOR = ".com/";
+
+    private final String label;
+    private final int maxWidth;
+    private final float quality;
+
+    ImageVariant(String label, int maxWidth, float quality) {
+        this.label = label;
+        this.maxWidth = maxWidth;
+        this.quality = quality;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public float getQuality() {
+        return quality;
+    }
+
+    // 원본 S3 키 -> 파생본 S3 키
+    public String key(String originalKey) {
+        int extension = originalKey.lastIndexOf('.');
+        String baseName = extension > 0 ? originalKey.substring(0, extension) : originalKey;
+        return KEY_PREFIX + baseName + "/" + label + ".jpg";
+    }
+
+    // 원본 S3 URL -> 파생본 S3 URL (S3 URL이 아니면 null)
+    public String url(String originalUrl) {
+        String originalKey = keyOf(originalUrl);
+        if (originalKey == null) return null;
+
+        return originalUrl.substring(0, originalUrl.length() - originalKey.length()) + key(originalKey);
+    }
+
+    // S3 URL에서 객체 키 추출 (기존 삭제 메소드와 같은 규칙)
+    public static String keyOf(String url) {
+        if (url == null) return null;
+
+        int separator = url.lastIndexOf(URL_KEY_SEPARATOR);
+        if (separator < 0 || separator + URL_KEY_SEPARATOR.length() == url.length()) return null;
+        return url.substring(separator + URL_KEY_SEPARATOR.length());
+    }
+}
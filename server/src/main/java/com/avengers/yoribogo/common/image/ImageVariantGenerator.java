@@ -0,0 +1,251 @@
+package com.avengers.yoribogo.common.image;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 업로드된 원본 이미지로 크기별 파생본(JPEG)을 만들어 S3에 저장
+// 목록 화면은 카드·썸네일 크기만 내려받도록 해 원본 대비 전송량을 줄인다.
+// 원본 URL을 저장한 트랜잭션이 커밋된 뒤 전용 스레드 풀에서 실행하고, 다 만들면 이미지 행에 원본 키를 기록한다.
+// 응답은 기록된 키가 원본 키와 같을 때만 파생본 URL을 내려주므로, 실패하거나 대기열이 가득 차 건너뛰어도 원본 URL로 대체된다.
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final String CACHE_CONTROL = "public, max-age=3600";
+
+    private final AmazonS3Client s3Client;
+    private final JdbcTemplate jdbcTemplate;
+    private final AsyncTaskExecutor executor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 압축 폭탄 방지용 최대 픽셀 수
+    @Value("${image.variant.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Autowired
+    public ImageVariantGenerator(AmazonS3Client s3Client,
+                                 JdbcTemplate jdbcTemplate,
+                                 @Qualifier("imageVariantExecutor") AsyncTaskExecutor executor,
+                                 ApplicationEventPublisher eventPublisher,
+                                 MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 파생본 URL을 내려주지 않는 이미지(프로필)의 파생본 생성 (기록 없음)
+    public void generateAsync(String originalKey) {
+        eventPublisher.publishEvent(new ImageVariantRequestedEvent(originalKey, null, null));
+    }
+
+    // 원본 S3 키의 파생본 생성 (커밋 이후 비동기, 다 만들면 target 행에 원본 키 기록)
+    public void generateAsync(String originalKey, ImageVariantTarget target, Long ownerId) {
+        eventPublisher.publishEvent(new ImageVariantRequestedEvent(originalKey, target, ownerId));
+    }
+
+    // 같은 키로 다시 올린 경우 새 파생본이 준비될 때까지 원본 URL을 쓰도록 기록을 먼저 지운다.
+    // 커밋 이후에 쓰기를 하므로 새 트랜잭션에서 실행한다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleImageVariantRequested(ImageVariantRequestedEvent event) {
+        try {
+            mark(event, null);
+        } catch (DataAccessException e) {
+            log.warn("이미지 파생본 기록 삭제 실패: {}", event.getOriginalKey(), e);
+        }
+
+        try {
+            executor.execute(() -> generate(event));
+        } catch (TaskRejectedException e) {
+            // 업로드 요청은 실패시키지 않고 원본 URL로 대체
+            meterRegistry.counter("image.variant.rejected").increment();
+            log.warn("이미지 파생본 생성 대기열이 가득 차 건너뜀: {}", event.getOriginalKey());
+        }
+    }
+
+    // 원본을 다시 받아 파생본 생성 후 원본 키 기록
+    void generate(ImageVariantRequestedEvent event) {
+        String originalKey = event.getOriginalKey();
+        long startedAt = System.nanoTime();
+        try {
+            BufferedImage original;
+            try (S3Object object = s3Client.getObject(bucket, originalKey);
+                 InputStream inputStream = object.getObjectContent()) {
+                original = read(inputStream, maxPixels);
+            }
+            if (original == null) {
+                log.warn("파생본을 만들 수 없는 이미지 형식: {}", originalKey);
+                return;
+            }
+
+            for (ImageVariant variant : ImageVariant.values()) {
+                byte[] encoded = encode(resize(original, variant.getMaxWidth()), variant.getQuality());
+
+                ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setContentLength(encoded.length);
+                metadata.setContentType(CONTENT_TYPE);
+                metadata.setContentDisposition("inline");
+                metadata.setCacheControl(CACHE_CONTROL);
+                s3Client.putObject(new PutObjectRequest(bucket, variant.key(originalKey),
+                        new ByteArrayInputStream(encoded), metadata));
+
+                DistributionSummary.builder("image.variant.size")
+                        .tag("variant", variant.name().toLowerCase(Locale.ROOT))
+                        .baseUnit("bytes")
+                        .register(meterRegistry)
+                        .record(encoded.length);
+            }
+            mark(event, originalKey);
+            timer("success").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (IOException | RuntimeException e) {
+            timer("failure").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.error("이미지 파생본 생성 실패: {}", originalKey, e);
+        }
+    }
+
+    // 이미지 행이 아직 같은 원본을 가리키면 파생본 키 기록 (null이면 기록 삭제)
+    private void mark(ImageVariantRequestedEvent event, String variantsKey) {
+        if (event.getTarget() == null) return;
+
+        String originalUrl = s3Client.getUrl(bucket, event.getOriginalKey()).toString();
+        int updated = jdbcTemplate.update(event.getTarget().getMarkSql(), variantsKey, event.getOwnerId(), originalUrl);
+        if (updated > 0) {
+            eventPublisher.publishEvent(new ImageVariantsChangedEvent(event.getTarget(), event.getOwnerId()));
+        }
+    }
+
+    // 원본 삭제 시 파생본도 함께 삭제
+    public void deleteVariants(String originalKey) {
+        if (originalKey == null) return;
+
+        try {
+            String[] keys = Arrays.stream(ImageVariant.values())
+                    .map(variant -> variant.key(originalKey))
+                    .toArray(String[]::new);
+            s3Client.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys).withQuiet(true));
+        } catch (AmazonClientException e) {
+            log.warn("이미지 파생본 삭제 실패: {}", originalKey, e);
+        }
+    }
+
+    // 크기를 먼저 확인한 뒤 디코딩 (지원하지 않는 형식이면 null)
+    static BufferedImage read(InputStream inputStream, long maxPixels) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) return null;
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) throw new IOException("이미지가 너무 큽니다: " + pixels + " pixels");
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가로 maxWidth 이하로 축소 (더 작으면 그대로), JPEG용 RGB로 변환
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄인다.
+    static BufferedImage resize(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(source.getWidth(), maxWidth);
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth);
+        return current;
+    }
+
+    static byte[] encode(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    // 투명 배경은 흰색으로 채움
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private Timer timer(String result) {
+        return Timer.builder("image.variant.generate")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
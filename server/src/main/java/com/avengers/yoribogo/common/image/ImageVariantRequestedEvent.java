@@ -0,0 +1,14 @@
+package com.avengers.yoribogo.common.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 파생본 생성 요청 이벤트 (원본 URL을 저장한 트랜잭션이 커밋된 뒤 생성)
+// target이 null이면 생성만 하고 기록하지 않는다.
+@Data
+@AllArgsConstructor
+public class ImageVariantRequestedEvent {
+    private String originalKey;
+    private ImageVariantTarget target;
+    private Long ownerId;
+}
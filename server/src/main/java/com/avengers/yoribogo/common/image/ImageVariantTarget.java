@@ -0,0 +1,24 @@
+package com.avengers.yoribogo.common.image;
+
+// 파생본을 만든 원본 키를 기록할 이미지 컬럼
+// 이미지 컬럼 옆의 <이미지 컬럼>_variants_key에 기록하며, 응답은 원본 키와 같을 때만 파생본 URL을 내려준다.
+// 생성하는 동안 이미지가 바뀌었으면 기록하지 않도록 소유 행과 원본 URL을 함께 조건으로 건다.
+public enum ImageVariantTarget {
+
+    RECIPE("recipe", "recipe_id", "menu_image"),
+    RECIPE_BOARD("recipe_board", "recipe_board_id", "recipe_board_image"),
+    // 매뉴얼은 게시글 ID와 이미지 URL로 찾음
+    RECIPE_BOARD_MANUAL("recipe_board_manual", "recipe_board_id", "recipe_board_manual_image");
+
+    private final String markSql;
+
+    ImageVariantTarget(String table, String ownerColumn, String imageColumn) {
+        this.markSql = "UPDATE " + table + " SET " + imageColumn + "_variants_key = ? " +
+                "WHERE " + ownerColumn + " = ? AND " + imageColumn + " = ?";
+    }
+
+    // 파생본 키 기록 SQL (키, 소유 ID, 원본 URL 순서)
+    public String getMarkSql() {
+        return markSql;
+    }
+}
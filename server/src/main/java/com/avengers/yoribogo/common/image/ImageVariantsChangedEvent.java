@@ -0,0 +1,12 @@
+package com.avengers.yoribogo.common.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 파생본 키 기록 변경 이벤트 (파생본 URL을 담은 캐시 무효화)
+@Data
+@AllArgsConstructor
+public class ImageVariantsChangedEvent {
+    private ImageVariantTarget target;
+    private Long ownerId;
+}
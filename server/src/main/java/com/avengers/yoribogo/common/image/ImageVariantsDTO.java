@@ -0,0 +1,42 @@
+package com.avengers.yoribogo.common.image;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 크기별 이미지 URL (파생본이 아직 없으면 원본 URL을 대신 사용)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ImageVariantsDTO {
+
+    @JsonProperty("thumbnail")
+    private String thumbnail;
+
+    @JsonProperty("card")
+    private String card;
+
+    @JsonProperty("full")
+    private String full;
+
+    // 원본 S3 URL로부터 생성 (S3 URL이 아니면 null)
+    // 파생본이 만들어진 원본 키(variantsKey)가 지금 원본 키와 다르면 모든 크기에 원본 URL을 사용
+    public static ImageVariantsDTO of(String originalUrl, String variantsKey) {
+        String originalKey = ImageVariant.keyOf(originalUrl);
+        if (originalKey == null) return null;
+
+        if (!originalKey.equals(variantsKey)) {
+            return new ImageVariantsDTO(originalUrl, originalUrl, originalUrl);
+        }
+
+        return ImageVariantsDTO
+                .builder()
+                .thumbnail(ImageVariant.THUMBNAIL.url(originalUrl))
+                .card(ImageVariant.CARD.url(originalUrl))
+                .full(ImageVariant.FULL.url(originalUrl))
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.avengers.yoribogo.common.image;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// 이미지 직접 업로드 (presigned URL)
+// 클라이언트가 발급받은 URL로 S3에 바로 PUT하므로 이미지 바이트가 서버를 거치지 않는다.
+// 확정 시 키가 같은 용도·소유 ID로 발급된 형식인지 보고, HEAD로 객체가 실제로 올라왔는지와 크기·형식을 확인한 뒤 URL을 돌려준다.
+// 허용 크기나 형식을 벗어난 객체는 지운다. 발급만 받고 확정하지 않은 객체는 버킷 수명 주기 규칙으로 정리한다.
+@Slf4j
+@Component
+public class PresignedImageUploader {
+
+    // 허용 형식과 객체 키 확장자
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp");
+
+    // 발급한 키의 소유 ID 뒤 부분: {UUID 32자리 16진수}.{확장자} (서버가 올린 이미지 키와 겹치지 않음)
+    private static final Pattern ISSUED_KEY_SUFFIX = Pattern.compile("[0-9a-f]{32}(" + EXTENSIONS.values().stream()
+            .map(Pattern::quote)
+            .collect(Collectors.joining("|")) + ")");
+
+    private final AmazonS3Client s3Client;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 업로드 URL 유효 시간
+    @Value("${image.presigned-upload.expire-seconds:600}")
+    private long expireSeconds;
+
+    @Value("${image.presigned-upload.max-bytes:10485760}")
+    private long maxBytes;
+
+    // 요청 하나에서 발급할 수 있는 슬롯 수 (매뉴얼 단계 수 상한)
+    @Value("${image.presigned-upload.max-slots:30}")
+    private int maxSlots;
+
+    @Autowired
+    public PresignedImageUploader(AmazonS3Client s3Client, MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 업로드 슬롯 발급 (files와 같은 순서)
+    public List<ImageUploadSlotDTO> issue(ImageUploadPurpose purpose, Long ownerId, List<RequestImageFileDTO> files) {
+        if (purpose == null || ownerId == null || files == null || files.isEmpty()) {
+            throw new CommonException(ErrorCode.MISSING_REQUIRED_FIELD);
+        }
+        if (files.size() > maxSlots) {
+            throw new CommonException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Date expiration = new Date(System.currentTimeMillis() + expireSeconds * 1000);
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()).withNano(0);
+
+        List<ImageUploadSlotDTO> slots = new ArrayList<>(files.size());
+        for (RequestImageFileDTO file : files) {
+            String contentType = normalize(file.getContentType());
+            String extension = EXTENSIONS.get(contentType);
+            if (extension == null) {
+                throw new CommonException(ErrorCode.UNSUPPORTED_FILE_FORMAT);
+            }
+            if (file.getContentLength() != null && file.getContentLength() > maxBytes) {
+                throw new CommonException(ErrorCode.FILE_SIZE_EXCEEDED);
+            }
+
+            // {prefix}_{소유 ID}_{임의 값}.{확장자}
+            String key = purpose.keyPrefix(ownerId) + UUID.randomUUID().toString().replace("-", "") + extension;
+            GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                    .withExpiration(expiration)
+                    .withContentType(contentType);
+            try {
+                String uploadUrl = s3Client.generatePresignedUrl(request).toString();
+                slots.add(new ImageUploadSlotDTO(key, uploadUrl, Map.of("Content-Type", contentType), expiresAt));
+            } catch (AmazonClientException e) {
+                log.error("업로드 URL 발급 실패: {}", key, e);
+                throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+            }
+        }
+        counter("issued", purpose).increment(slots.size());
+        return slots;
+    }
+
+    /** 설명.
+     *  클라이언트가 올린 객체를 확인하고 URL을 반환하는 메서드.
+     * 설명.
+     * @param purpose 업로드 용도
+     * @param ownerId 슬롯을 발급받을 때의 소유 ID
+     * @param key 발급받은 객체 키
+     * @return 확인된 객체의 S3 URL
+     * @throws CommonException 키가 다른 용도·소유 ID의 것이거나, 객체가 없거나, 크기·형식이 허용 범위를 벗어난 경우 발생
+     */
+    public String confirm(ImageUploadPurpose purpose, Long ownerId, String key) {
+        if (!isIssuedKey(purpose, ownerId, key)) {
+            counter("rejected", purpose).increment();
+            throw new CommonException(ErrorCode.INVALID_UPLOAD_KEY);
+        }
+
+        ObjectMetadata metadata;
+        try {
+            metadata = s3Client.getObjectMetadata(bucket, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                counter("missing", purpose).increment();
+                throw new CommonException(ErrorCode.NOT_FOUND_UPLOADED_IMAGE);
+            }
+            log.error("업로드된 이미지 확인 실패: {}", key, e);
+            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+        } catch (AmazonClientException e) {
+            log.error("업로드된 이미지 확인 실패: {}", key, e);
+            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+
+        // 서명에 없는 크기는 PUT에서 막을 수 없으므로 여기서 확인하고, 어긋나면 지운다
+        if (metadata.getContentLength() > maxBytes) {
+            reject(purpose, key);
+            throw new CommonException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+        if (!EXTENSIONS.containsKey(normalize(metadata.getContentType()))) {
+            reject(purpose, key);
+            throw new CommonException(ErrorCode.UNSUPPORTED_FILE_FORMAT);
+        }
+
+        counter("confirmed", purpose).increment();
+        return s3Client.getUrl(bucket, key).toString();
+    }
+
+    // 같은 용도·소유 ID로 issue가 만든 형식의 키인지 확인
+    private static boolean isIssuedKey(ImageUploadPurpose purpose, Long ownerId, String key) {
+        String prefix = purpose.keyPrefix(ownerId);
+        return key != null && key.startsWith(prefix)
+                && ISSUED_KEY_SUFFIX.matcher(key.substring(prefix.length())).matches();
+    }
+
+    private void reject(ImageUploadPurpose purpose, String key) {
+        counter("rejected", purpose).increment();
+        try {
+            s3Client.deleteObject(bucket, key);
+        } catch (AmazonClientException e) {
+            log.warn("허용되지 않는 업로드 이미지 삭제 실패: {}", key, e);
+        }
+    }
+
+    private static String normalize(String contentType) {
+        return contentType == null ? "" : contentType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Counter counter(String result, ImageUploadPurpose purpose) {
+        return Counter.builder("image.presigned.upload")
+                .tag("result", result)
+                .tag("purpose", purpose.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+}
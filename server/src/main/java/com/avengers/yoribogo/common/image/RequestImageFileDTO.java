@@ -0,0 +1,18 @@
+package com.avengers.yoribogo.common.image;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RequestImageFileDTO {
+
+    @JsonProperty("content_type")
+    private String contentType;
+
+    @JsonProperty("content_length")
+    private Long contentLength;
+}
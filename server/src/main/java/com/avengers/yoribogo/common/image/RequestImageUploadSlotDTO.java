@@ -0,0 +1,24 @@
+package com.avengers.yoribogo.common.image;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RequestImageUploadSlotDTO {
+
+    @JsonProperty("purpose")
+    private ImageUploadPurpose purpose;
+
+    // 게시글 이미지: 작성자 ID, 매뉴얼 이미지: 게시글 ID, 프로필 이미지: 사용자 ID
+    @JsonProperty("owner_id")
+    private Long ownerId;
+
+    @JsonProperty("files")
+    private List<RequestImageFileDTO> files;
+}
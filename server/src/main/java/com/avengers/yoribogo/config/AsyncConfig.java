@@ -6,6 +6,8 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig {
@@ -20,4 +22,55 @@ public class AsyncConfig {
         executor.initialize();
         return executor;  // 이 부분에서 AsyncTaskExecutor 타입으로 반환
     }
+
+    // AI 요리 추천의 DB 조회·재료 질문 동시 실행용 (포화 시 요청 스레드에서 직접 실행)
+    @Bean(name = "recommendExecutor")
+    public AsyncTaskExecutor recommendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(64);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("RecommendExecutor-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 게시글 매뉴얼 이미지 S3 업로드용 (요청별 동시 업로드 수는 ManualImageUploader에서 제한, 포화 시 요청 스레드에서 직접 실행)
+    @Bean(name = "manualUploadExecutor")
+    public AsyncTaskExecutor manualUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("ManualUploadExecutor-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 게시글 상세의 독립 조회(게시글·매뉴얼·댓글·대댓글·회원별 상태) 동시 실행용 (포화 시 요청 스레드에서 직접 실행)
+    @Bean(name = "boardDetailExecutor")
+    public AsyncTaskExecutor boardDetailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(64);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("BoardDetailExecutor-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 이미지 파생본 생성용 (CPU를 많이 쓰므로 스레드 수를 적게 두고, 포화 시 ImageVariantGenerator가 생성을 건너뛰어 원본 URL로 대체)
+    @Bean(name = "imageVariantExecutor")
+    public AsyncTaskExecutor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("ImageVariantExecutor-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,29 @@
+package com.avengers.yoribogo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Hibernate JDBC 배치 설정
+// IDENTITY 키는 INSERT 때마다 생성된 키를 받아야 해서 배치가 꺼지므로, 엔티티 ID는 풀링 시퀀스(PooledIds)를 쓴다.
+// application.yml에 같은 키가 있으면 그 값을 우선한다.
+@Configuration
+public class JpaConfig {
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            // 같은 테이블끼리 모아 보내야 엔티티가 섞여도 배치가 끊기지 않는다
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", true);
+            // 시퀀스 값을 구간의 시작으로 해석 (SequenceIdAllocator와 같은 방식)
+            properties.putIfAbsent("hibernate.id.optimizer.pooled.preferred", "pooled-lo");
+        };
+    }
+}
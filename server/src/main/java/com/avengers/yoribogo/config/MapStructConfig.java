@@ -0,0 +1,17 @@
+package com.avengers.yoribogo.config;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+// MapStruct 매퍼 공통 설정
+// 스프링 빈으로 생성하고, 빌더 대신 기본 생성자 + setter를 사용해 변환당 객체 생성을 줄인다.
+// 대상에만 있는 필드는 기존 ModelMapper와 같이 무시한다.
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface MapStructConfig {
+}
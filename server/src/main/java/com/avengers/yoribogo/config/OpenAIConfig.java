@@ -1,24 +0,0 @@
-package com.avengers.yoribogo.config;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
-
-@Configuration
-public class OpenAIConfig {
-
-    @Value("${openai.secret-key}")
-    private String secretKey;
-
-    @Bean(name = "openAIRestTemplate")  // OpenAI 용 RestTemplate 이름 설정
-    public RestTemplate template(){
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.getInterceptors().add((request, body, execution) -> {
-            request.getHeaders().add("Authorization", "Bearer " + secretKey);
-            return execution.execute(request, body);
-        });
-        return restTemplate;
-    }
-
-}
@@ -0,0 +1,26 @@
+package com.avengers.yoribogo.inquiry.mapper;
+
+import com.avengers.yoribogo.config.MapStructConfig;
+import com.avengers.yoribogo.inquiry.domain.Inquiry;
+import com.avengers.yoribogo.inquiry.dto.InquiryDTO;
+import com.avengers.yoribogo.inquiry.dto.InquiryOnlyDTO;
+import com.avengers.yoribogo.user.mapper.UserMapper;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+// 문의 엔티티 <-> DTO 변환 (컴파일 시점 생성)
+@Mapper(config = MapStructConfig.class, uses = UserMapper.class)
+public interface InquiryMapper {
+
+    @Mapping(target = "answer", ignore = true)
+    Inquiry toInquiry(InquiryDTO inquiryDTO);
+
+    @Mapping(target = "userRole", ignore = true)
+    @Mapping(target = "userId", ignore = true)
+    InquiryOnlyDTO toInquiryOnlyDTO(Inquiry inquiry);
+
+    List<InquiryOnlyDTO> toInquiryOnlyDTOList(List<Inquiry> inquiryList);
+
+}
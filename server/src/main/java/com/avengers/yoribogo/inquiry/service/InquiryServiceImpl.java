@@ -9,13 +9,11 @@ import com.avengers.yoribogo.common.exception.ExceptionDTO;
 import com.avengers.yoribogo.inquiry.domain.Inquiry;
 import com.avengers.yoribogo.inquiry.dto.InquiryDTO;
 import com.avengers.yoribogo.inquiry.dto.InquiryOnlyDTO;
+import com.avengers.yoribogo.inquiry.mapper.InquiryMapper;
 import com.avengers.yoribogo.inquiry.repository.InquiryRepository;
-import com.avengers.yoribogo.user.domain.UserEntity;
+import com.avengers.yoribogo.user.mapper.UserMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,7 +27,8 @@ import static java.util.Comparator.comparing;
 public class InquiryServiceImpl implements InquiryService {
 
     private final InquiryRepository inquiryRepository;
-    private final ModelMapper modelMapper;
+    private final InquiryMapper inquiryMapper;
+    private final UserMapper userMapper;
 
     @PersistenceContext
     private final EntityManager entityManager;
@@ -37,24 +36,24 @@ public class InquiryServiceImpl implements InquiryService {
 
     @Autowired
     public InquiryServiceImpl(InquiryRepository inquiryRepository,
-                              ModelMapper modelMapper, EntityManager entityManager) {
+                              InquiryMapper inquiryMapper,
+                              UserMapper userMapper,
+                              EntityManager entityManager) {
         this.inquiryRepository = inquiryRepository;
-        this.modelMapper = modelMapper;
+        this.inquiryMapper = inquiryMapper;
+        this.userMapper = userMapper;
         this.entityManager = entityManager;
-        this.modelMapper.getConfiguration()
-                .setMatchingStrategy(MatchingStrategies.STRICT)
-                .setFieldMatchingEnabled(true);
     }
 
     @Override
     public List<InquiryOnlyDTO> findInquiryOnly(Integer userId, String status) {
         try {
-            List<InquiryOnlyDTO> result = modelMapper.map(inquiryRepository.findAll()
+            List<InquiryOnlyDTO> result = inquiryMapper.toInquiryOnlyDTOList(inquiryRepository.findAll()
                     .stream()
                     .filter(row -> (row.getInquiryStatus()==Status.ACTIVE) &&
                             (status == null || status.toUpperCase().equals(row.getAnswerStatus().name())) &&
                             (userId == null || row.getUser().getUserId().toString().equals(userId.toString())))
-                    .toList(), new TypeToken<List<InquiryOnlyDTO>>() {}.getType());
+                    .toList());
             return result;
         } catch (Exception e) {
             ExceptionDTO.of(ErrorCode.NOT_FOUND_INQUIRY);
@@ -92,14 +91,14 @@ public class InquiryServiceImpl implements InquiryService {
     @Override
     public Inquiry insertInquiry(InquiryDTO newInquiry) {
         try {
-            Inquiry created = modelMapper.map(newInquiry, Inquiry.class);
+            Inquiry created = inquiryMapper.toInquiry(newInquiry);
             if (created.getInquiryVisibility() == null) created.setInquiryVisibility(Visibility.PUBLIC);
             created.setInquiryCreatedAt(LocalDateTime.now());
             created.setInquiryStatus(Status.ACTIVE);
             created.setInquiryCreatedAt(LocalDateTime.now().withNano(0));
             created.setAnswers(0);
             created.setAnswerStatus(Status.PENDING);
-            created.setUser(modelMapper.map(newInquiry.getUser(), UserEntity.class));
+            created.setUser(userMapper.toUserEntity(newInquiry.getUser()));
             return inquiryRepository.save(created);
         } catch (Exception e) {
             ExceptionDTO.of(ErrorCode.NOT_FOUND_INQUIRY);
@@ -110,9 +109,9 @@ public class InquiryServiceImpl implements InquiryService {
     @Override
     public Inquiry updateInquiry(InquiryDTO modifyInquiry) {
         try {
-            Inquiry tmp = modelMapper.map(modifyInquiry, Inquiry.class);
+            Inquiry tmp = inquiryMapper.toInquiry(modifyInquiry);
             tmp.setInquiryCreatedAt(LocalDateTime.now());
-            tmp.setUser(modelMapper.map(modifyInquiry.getUser(), UserEntity.class));
+            tmp.setUser(userMapper.toUserEntity(modifyInquiry.getUser()));
             return inquiryRepository.saveAndFlush(tmp);
         } catch (Exception e) {
             ExceptionDTO.of(ErrorCode.NOT_FOUND_INQUIRY);
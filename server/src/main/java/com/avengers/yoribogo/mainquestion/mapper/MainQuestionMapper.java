@@ -0,0 +1,14 @@
+package com.avengers.yoribogo.mainquestion.mapper;
+
+import com.avengers.yoribogo.config.MapStructConfig;
+import com.avengers.yoribogo.mainquestion.domain.MainQuestion;
+import com.avengers.yoribogo.mainquestion.dto.MainQuestionDTO;
+import org.mapstruct.Mapper;
+
+// 메인 질문 DTO -> 엔티티 변환 (컴파일 시점 생성)
+@Mapper(config = MapStructConfig.class)
+public interface MainQuestionMapper {
+
+    MainQuestion toMainQuestion(MainQuestionDTO mainQuestionDTO);
+
+}
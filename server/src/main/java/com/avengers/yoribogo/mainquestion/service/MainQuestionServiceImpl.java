@@ -4,9 +4,8 @@ import com.avengers.yoribogo.common.exception.ErrorCode;
 import com.avengers.yoribogo.common.exception.ExceptionDTO;
 import com.avengers.yoribogo.mainquestion.domain.MainQuestion;
 import com.avengers.yoribogo.mainquestion.dto.MainQuestionDTO;
+import com.avengers.yoribogo.mainquestion.mapper.MainQuestionMapper;
 import com.avengers.yoribogo.mainquestion.repository.MainQuestionRepository;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -16,16 +15,13 @@ import java.util.List;
 public class MainQuestionServiceImpl implements MainQuestionService {
 
     private final MainQuestionRepository mainQuestionRepository;
-    private final ModelMapper modelMapper;
+    private final MainQuestionMapper mainQuestionMapper;
 
     @Autowired
     public MainQuestionServiceImpl(MainQuestionRepository choiceRepository,
-                                   ModelMapper modelMapper) {
+                                   MainQuestionMapper mainQuestionMapper) {
         this.mainQuestionRepository = choiceRepository;
-        this.modelMapper = modelMapper;
-        this.modelMapper.getConfiguration()
-                .setMatchingStrategy(MatchingStrategies.STRICT)
-                .setFieldMatchingEnabled(true);
+        this.mainQuestionMapper = mainQuestionMapper;
     }
     
     @Override
@@ -45,7 +41,7 @@ public class MainQuestionServiceImpl implements MainQuestionService {
     public MainQuestion insertQuestion(MainQuestionDTO newQuestion) {
         try {
             return mainQuestionRepository.save(
-                    modelMapper.map(newQuestion, MainQuestion.class));
+                    mainQuestionMapper.toMainQuestion(newQuestion));
         } catch (Exception e) {
             ExceptionDTO.of(ErrorCode.NOT_FOUND_MAIN_QUESTION);    // insert fail
             return null;
@@ -56,7 +52,7 @@ public class MainQuestionServiceImpl implements MainQuestionService {
     public MainQuestion updateQuestion(MainQuestionDTO modifyQuestion) {
         try {
             return mainQuestionRepository.saveAndFlush(
-                    modelMapper.map(modifyQuestion, MainQuestion.class));
+                    mainQuestionMapper.toMainQuestion(modifyQuestion));
         } catch (Exception e) {
             ExceptionDTO.of(ErrorCode.NOT_FOUND_MAIN_QUESTION);    // update fail
             return null;
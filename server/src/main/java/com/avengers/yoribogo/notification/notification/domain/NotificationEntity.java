@@ -1,5 +1,6 @@
 package com.avengers.yoribogo.notification.notification.domain;
 
+import com.avengers.yoribogo.common.id.PooledIds;
 import jakarta.persistence.*;
 import lombok.Data;
 
@@ -11,7 +12,8 @@ import java.time.LocalDateTime;
 public class NotificationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = PooledIds.NOTIFICATION_SEQ, allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "notification_id")
     private Long notificationId;
 
@@ -16,6 +16,7 @@ import com.avengers.yoribogo.user.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -146,6 +147,7 @@ public class NotificationService {
     }
 
     // 레시피 알림 저장 로직
+    @Transactional
     public void saveRecipeNotification(String mealType) {
         // 상위 3개의 레시피 가져오기
         List<WeeklyPopularRecipeEntity> top3Recipes = weeklyPopularRecipeService.getTop3LikedRecipes();
@@ -171,26 +173,28 @@ public class NotificationService {
             return;
         }
 
-        // 각 회원별로 알림 생성 및 저장
-        for (UserEntity user : users) {
-            // 알림 메시지 설정 (점심/저녁에 따른 메시지 변경)
-            String notificationContent;
-            if ("lunch".equals(mealType)) {
-                notificationContent = " [점심 추천 레시피] 오늘의 추천 레시피: " + recipe.getRecipeBoardMenuName();
-            } else {
-                notificationContent = " [저녁 추천 레시피] 오늘의 추천 레시피: " + recipe.getRecipeBoardMenuName();
-            }
+        // 알림 메시지 설정 (점심/저녁에 따른 메시지 변경)
+        String notificationContent;
+        if ("lunch".equals(mealType)) {
+            notificationContent = " [점심 추천 레시피] 오늘의 추천 레시피: " + recipe.getRecipeBoardMenuName();
+        } else {
+            notificationContent = " [저녁 추천 레시피] 오늘의 추천 레시피: " + recipe.getRecipeBoardMenuName();
+        }
 
-            // 알림 저장 (DB에 저장)
+        // 각 회원별로 알림 생성 후 한 트랜잭션에서 배치로 저장 (hibernate.jdbc.batch_size 단위)
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<NotificationEntity> notifications = new ArrayList<>(users.size());
+        for (UserEntity user : users) {
             NotificationEntity notification = new NotificationEntity();
             notification.setUserId(user.getUserId()); // 회원 ID 설정
             notification.setNotificationContent(notificationContent);
-            notification.setNotificationCreatedAt(LocalDateTime.now());
+            notification.setNotificationCreatedAt(createdAt);
             notification.setNotificationStatus(NotificationStatus.UNREAD); // 기본값 Unread 설정
-            notificationRepository.save(notification);
-
-            log.info("회원 {}에게 {} 알림이 저장되었습니다: {}", user.getUserName(), mealType, notificationContent);
+            notifications.add(notification);
         }
+        notificationRepository.saveAll(notifications);
+
+        log.info("회원 {}명에게 {} 알림이 저장되었습니다: {}", notifications.size(), mealType, notificationContent);
     }
 
     }
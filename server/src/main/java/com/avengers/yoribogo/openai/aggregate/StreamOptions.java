@@ -0,0 +1,14 @@
+package com.avengers.yoribogo.openai.aggregate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamOptions implements Serializable {
+    private Boolean includeUsage;
+}
@@ -0,0 +1,22 @@
+package com.avengers.yoribogo.openai.aggregate;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Usage {
+
+    @JsonProperty("prompt_tokens")
+    private int promptTokens;
+
+    @JsonProperty("completion_tokens")
+    private int completionTokens;
+
+    @JsonProperty("total_tokens")
+    private int totalTokens;
+
+}
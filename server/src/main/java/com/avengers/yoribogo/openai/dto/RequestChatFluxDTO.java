@@ -1,6 +1,7 @@
 package com.avengers.yoribogo.openai.dto;
 
 import com.avengers.yoribogo.openai.aggregate.Message;
+import com.avengers.yoribogo.openai.aggregate.StreamOptions;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,11 +17,14 @@ public class RequestChatFluxDTO implements Serializable {
     private String model;
     private List<Message> messages;
     private Boolean stream;
+    private StreamOptions streamOptions;
 
     public RequestChatFluxDTO(String model, String prompt, Boolean stream) {
         this.model = model;
         this.messages =  new ArrayList<>();
         this.messages.add(new Message("user", prompt));
         this.stream = stream;
+        // 스트림 마지막에 토큰 사용량 받기
+        if (Boolean.TRUE.equals(stream)) this.streamOptions = new StreamOptions(true);
     }
 }
@@ -1,6 +1,7 @@
 package com.avengers.yoribogo.openai.dto;
 
 import com.avengers.yoribogo.openai.aggregate.Choice;
+import com.avengers.yoribogo.openai.aggregate.Usage;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,4 +13,5 @@ import java.util.List;
 @AllArgsConstructor
 public class ResponseChatDTO {
     private List<Choice> choices;
+    private Usage usage;
 }
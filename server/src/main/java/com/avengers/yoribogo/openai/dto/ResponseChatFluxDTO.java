@@ -1,5 +1,6 @@
 package com.avengers.yoribogo.openai.dto;
 
+import com.avengers.yoribogo.openai.aggregate.Usage;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,6 +17,9 @@ public class ResponseChatFluxDTO implements Serializable {
     private String id;
     private List<Choices> choices;
 
+    // stream_options.include_usage 요청 시 마지막 조각에만 포함
+    private Usage usage;
+
     @NoArgsConstructor
     @AllArgsConstructor
     @Getter
@@ -0,0 +1,19 @@
+package com.avengers.yoribogo.openai.provider;
+
+// OpenAI 호출 위치 (지표 태그로 사용)
+public enum OpenAICallSite {
+    RECOMMEND_MENU("recommend_menu"),
+    RECOMMEND_INGREDIENTS("recommend_ingredients"),
+    RECIPE_MANUAL("recipe_manual"),
+    MENU_IMAGE("menu_image");
+
+    private final String tag;
+
+    OpenAICallSite(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,108 @@
+package com.avengers.yoribogo.openai.provider;
+
+import java.util.function.LongSupplier;
+
+// OpenAI 호출 서킷 브레이커
+// 최근 windowSize번 호출 중 실패 비율이 임계치를 넘으면 openMillis 동안 호출을 바로 거절하고(OPEN),
+// 그 뒤 probeCalls번까지만 시험 호출을 허용해(HALF_OPEN) 성공하면 닫고 실패하면 다시 연다.
+// OpenAI가 느리거나 죽었을 때 요청 스레드가 타임아웃까지 줄줄이 묶이지 않도록 한다.
+public class OpenAICircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final int probeCalls;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과 (원형 버퍼, true = 실패)
+    private final boolean[] outcomes;
+    private int next;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+
+    public OpenAICircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                                long openMillis, int probeCalls) {
+        this(windowSize, minimumCalls, failureRateThreshold, openMillis, probeCalls, System::nanoTime);
+    }
+
+    OpenAICircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                         long openMillis, int probeCalls, LongSupplier nanoClock) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openMillis * 1_000_000L;
+        this.probeCalls = probeCalls;
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    // 호출 허용 여부 (허용된 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나로 끝내야 한다)
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) return false;
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= probeCalls) return false;
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (calls >= minimumCalls && failures * 100 >= failureRateThreshold * calls) open();
+        }
+    }
+
+    // 취소 등 결과를 판단할 수 없는 호출
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) probesInFlight--;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (calls == windowSize) {
+            if (outcomes[next]) failures--;
+        } else {
+            calls++;
+        }
+        outcomes[next] = failed;
+        if (failed) failures++;
+        next = (next + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        calls = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,336 @@
+package com.avengers.yoribogo.openai.provider;
+
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.openai.aggregate.Usage;
+import com.avengers.yoribogo.openai.dto.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// OpenAI API 호출 창구 (채팅, 스트리밍 채팅, 이미지)
+// - 연결 풀(keep-alive)을 공유하고, 풀이 꽉 차면 대기 수와 대기 시간을 제한해 바로 실패시킨다.
+// - 작업별 제한 시간을 두고, 429/5xx·연결 오류·타임아웃은 지터를 준 지수 백오프로 재시도한다.
+// - 작업별 서킷 브레이커가 열려 있으면 OpenAI를 호출하지 않고 바로 OPENAI_UNAVAILABLE로 실패한다.
+// 호출 위치별로 소요 시간과 토큰 사용량을 기록한다.
+@Slf4j
+@Component
+public class OpenAIGateway {
+
+    private static final String DONE = "[DONE]";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    enum Operation { CHAT, CHAT_STREAM, IMAGES }
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+    @Value("${openai.secret-key}")
+    private String secretKey;
+
+    @Value("${openai.api.url}")
+    private String chatUrl;
+
+    @Value("${openai.api.images-url}")
+    private String imagesUrl;
+
+    @Value("${openai.pool.max-connections:100}")
+    private int maxConnections;
+
+    // 연결을 기다릴 수 있는 요청 수와 시간 (넘으면 바로 실패)
+    @Value("${openai.pool.pending-acquire-max-count:200}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${openai.pool.pending-acquire-timeout-millis:3000}")
+    private long pendingAcquireTimeoutMillis;
+
+    @Value("${openai.pool.max-idle-seconds:30}")
+    private long maxIdleSeconds;
+
+    @Value("${openai.timeout.connect-millis:3000}")
+    private int connectTimeoutMillis;
+
+    @Value("${openai.timeout.chat-seconds:30}")
+    private long chatTimeoutSeconds;
+
+    // 스트림의 첫 조각 및 조각 사이 최대 간격
+    @Value("${openai.timeout.stream-idle-seconds:20}")
+    private long streamIdleTimeoutSeconds;
+
+    @Value("${openai.timeout.images-seconds:60}")
+    private long imagesTimeoutSeconds;
+
+    @Value("${openai.retry.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${openai.retry.backoff-millis:500}")
+    private long backoffMillis;
+
+    @Value("${openai.retry.max-backoff-millis:5000}")
+    private long maxBackoffMillis;
+
+    @Value("${openai.circuit-breaker.window-size:20}")
+    private int circuitWindowSize;
+
+    @Value("${openai.circuit-breaker.minimum-calls:10}")
+    private int circuitMinimumCalls;
+
+    @Value("${openai.circuit-breaker.failure-rate-threshold:50}")
+    private int circuitFailureRateThreshold;
+
+    @Value("${openai.circuit-breaker.open-seconds:30}")
+    private long circuitOpenSeconds;
+
+    private final Map<Operation, OpenAICircuitBreaker> circuitBreakers = new EnumMap<>(Operation.class);
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+
+    @Autowired
+    public OpenAIGateway(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        connectionProvider = ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+                .evictInBackground(Duration.ofSeconds(maxIdleSeconds))
+                .metrics(true)
+                .build();
+        HttpClient client = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .keepAlive(true);
+
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(client))
+                .exchangeStrategies(strategies)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + secretKey)
+                .build();
+
+        for (Operation operation : Operation.values()) {
+            OpenAICircuitBreaker circuitBreaker = new OpenAICircuitBreaker(circuitWindowSize, circuitMinimumCalls,
+                    circuitFailureRateThreshold, circuitOpenSeconds * 1000, 1);
+            circuitBreakers.put(operation, circuitBreaker);
+            Gauge.builder("openai.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                    .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                    .tag("operation", tag(operation))
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (connectionProvider != null) connectionProvider.dispose();
+    }
+
+    // 채팅 완성
+    public Mono<ResponseChatDTO> chat(OpenAICallSite callSite, RequestChatDTO request) {
+        Mono<ResponseChatDTO> call = webClient.post()
+                .uri(chatUrl)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ResponseChatDTO.class)
+                .doOnNext(response -> recordUsage(callSite, response.getUsage()));
+        return execute(Operation.CHAT, callSite, call, Duration.ofSeconds(chatTimeoutSeconds));
+    }
+
+    // 이미지 생성
+    public Mono<ResponseImagesDTO> images(OpenAICallSite callSite, RequestImagesDTO request) {
+        Mono<ResponseImagesDTO> call = webClient.post()
+                .uri(imagesUrl)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ResponseImagesDTO.class);
+        return execute(Operation.IMAGES, callSite, call, Duration.ofSeconds(imagesTimeoutSeconds));
+    }
+
+    // 스트리밍 채팅 완성 (내용 조각만 반환)
+    // 이미 조각을 내보낸 뒤에는 중복을 막기 위해 재시도하지 않는다.
+    public Flux<String> streamChat(OpenAICallSite callSite, RequestChatFluxDTO request) {
+        return Flux.defer(() -> {
+            AtomicBoolean emitted = new AtomicBoolean();
+            Flux<String> attempt = Flux.defer(() -> {
+                OpenAICircuitBreaker circuitBreaker = circuitBreakers.get(Operation.CHAT_STREAM);
+                if (!circuitBreaker.tryAcquire()) return Flux.error(rejected(Operation.CHAT_STREAM, callSite));
+
+                long startedAt = System.nanoTime();
+                return webClient.post()
+                        .uri(chatUrl)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToFlux(SSE_TYPE)
+                        .timeout(Duration.ofSeconds(streamIdleTimeoutSeconds))
+                        .mapNotNull(ServerSentEvent::data)
+                        .takeWhile(data -> !DONE.equals(data.trim()))
+                        .map(this::readChunk)
+                        .doOnNext(chunk -> recordUsage(callSite, chunk.getUsage()))
+                        .mapNotNull(OpenAIGateway::content)
+                        .filter(content -> !content.equals("\n\n"))
+                        .doOnNext(content -> emitted.set(true))
+                        .doOnComplete(() -> succeeded(Operation.CHAT_STREAM, callSite, circuitBreaker, startedAt))
+                        .doOnError(e -> failed(Operation.CHAT_STREAM, callSite, circuitBreaker, startedAt, e))
+                        .doOnCancel(circuitBreaker::onIgnored);
+            });
+            return attempt
+                    .retryWhen(retrySpec(Operation.CHAT_STREAM, callSite).filter(e -> !emitted.get() && isRetryable(e)))
+                    .onErrorMap(OpenAIGateway::isRetryable, e -> unavailable(Operation.CHAT_STREAM, callSite, e));
+        });
+    }
+
+    private <T> Mono<T> execute(Operation operation, OpenAICallSite callSite, Mono<T> call, Duration timeout) {
+        Mono<T> attempt = Mono.defer(() -> {
+            OpenAICircuitBreaker circuitBreaker = circuitBreakers.get(operation);
+            if (!circuitBreaker.tryAcquire()) return Mono.error(rejected(operation, callSite));
+
+            long startedAt = System.nanoTime();
+            return call.timeout(timeout)
+                    .doOnSuccess(result -> succeeded(operation, callSite, circuitBreaker, startedAt))
+                    .doOnError(e -> failed(operation, callSite, circuitBreaker, startedAt, e))
+                    .doOnCancel(circuitBreaker::onIgnored);
+        });
+        return attempt
+                .retryWhen(retrySpec(operation, callSite).filter(OpenAIGateway::isRetryable))
+                .onErrorMap(OpenAIGateway::isRetryable, e -> unavailable(operation, callSite, e));
+    }
+
+    private RetryBackoffSpec retrySpec(Operation operation, OpenAICallSite callSite) {
+        return Retry.backoff(maxRetries, Duration.ofMillis(backoffMillis))
+                .maxBackoff(Duration.ofMillis(maxBackoffMillis))
+                .jitter(0.5)
+                .doBeforeRetry(signal -> {
+                    counter("openai.retries", operation, callSite).increment();
+                    log.warn("OpenAI {} 재시도 {}회째 ({}): {}", tag(operation), signal.totalRetries() + 1,
+                            callSite.getTag(), signal.failure().toString());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    // 재시도 대상: 429, 5xx, 연결 오류, 타임아웃 (서킷 브레이커 실패로도 집계)
+    static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 429 || responseException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private void succeeded(Operation operation, OpenAICallSite callSite, OpenAICircuitBreaker circuitBreaker, long startedAt) {
+        circuitBreaker.onSuccess();
+        timer(operation, callSite, "success").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void failed(Operation operation, OpenAICallSite callSite, OpenAICircuitBreaker circuitBreaker,
+                        long startedAt, Throwable e) {
+        // 요청 내용 오류(4xx)는 OpenAI 장애가 아니므로 서킷 브레이커에서는 성공으로 본다
+        if (isRetryable(e)) circuitBreaker.onFailure(); else circuitBreaker.onSuccess();
+        timer(operation, callSite, "failure").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private CommonException rejected(Operation operation, OpenAICallSite callSite) {
+        counter("openai.rejected", operation, callSite).increment();
+        return new CommonException(ErrorCode.OPENAI_UNAVAILABLE);
+    }
+
+    private CommonException unavailable(Operation operation, OpenAICallSite callSite, Throwable e) {
+        log.error("OpenAI {} 호출 실패 ({}): {}", tag(operation), callSite.getTag(), e.toString());
+        return new CommonException(ErrorCode.OPENAI_UNAVAILABLE);
+    }
+
+    private ResponseChatFluxDTO readChunk(String data) {
+        try {
+            return objectMapper.readValue(data, ResponseChatFluxDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("OpenAI 스트림 응답을 해석할 수 없습니다.", e);
+        }
+    }
+
+    // 마지막 사용량 조각은 choices가 비어 있다
+    private static String content(ResponseChatFluxDTO chunk) {
+        List<ResponseChatFluxDTO.Choices> choices = chunk.getChoices();
+        if (choices == null || choices.isEmpty() || choices.get(0).getDelta() == null) return null;
+        return choices.get(0).getDelta().getContent();
+    }
+
+    private void recordUsage(OpenAICallSite callSite, Usage usage) {
+        if (usage == null) return;
+        tokenCounter(callSite, "prompt").increment(usage.getPromptTokens());
+        tokenCounter(callSite, "completion").increment(usage.getCompletionTokens());
+    }
+
+    private Timer timer(Operation operation, OpenAICallSite callSite, String result) {
+        return Timer.builder("openai.request")
+                .tag("operation", tag(operation))
+                .tag("call_site", callSite.getTag())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String name, Operation operation, OpenAICallSite callSite) {
+        return Counter.builder(name)
+                .tag("operation", tag(operation))
+                .tag("call_site", callSite.getTag())
+                .register(meterRegistry);
+    }
+
+    private Counter tokenCounter(OpenAICallSite callSite, String type) {
+        return Counter.builder("openai.tokens")
+                .tag("call_site", callSite.getTag())
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private static String tag(Operation operation) {
+        return operation.name().toLowerCase();
+    }
+}
@@ -0,0 +1,164 @@
+package com.avengers.yoribogo.openai.provider;
+
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// OpenAI 호출 우선순위별 요청 제한 (Redis 토큰 버킷, 모든 서버가 공유)
+// 우선순위가 낮을수록 버킷에 남겨둬야 하는 토큰(예약분)이 커서, 토큰이 부족해지면 낮은 우선순위부터 막힌다.
+// - INTERACTIVE(추천): 예약분 없음, 토큰이 찰 때까지 잠시 기다린다.
+// - STREAMING(AI 매뉴얼): 용량의 streamingReservePercent%는 남겨두고, 조금 더 오래 기다린다.
+// - BACKGROUND(이미지 생성): 용량의 backgroundReservePercent%는 남겨두고, 기다리지 않고 바로 거절한다.
+//   (거절된 이미지 작업은 작업 큐의 백오프 재시도로 다시 대기한다)
+// Redis 오류 시에는 제한 없이 통과시킨다.
+@Slf4j
+@Component
+public class OpenAIRateLimiter {
+
+    private static final String BUCKET_KEY = "openai:rate-limit:bucket";
+
+    public enum Priority { INTERACTIVE, STREAMING, BACKGROUND }
+
+    // 경과 시간만큼 토큰을 채운 뒤, 예약분을 남기고 꺼낼 수 있으면 0, 아니면 기다려야 할 시간(ms) 반환
+    // 서버 간 시계 차이를 피하려고 Redis 서버 시간을 사용한다.
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local reserve = tonumber(ARGV[3])
+            local cost = tonumber(ARGV[4])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'updated_at')
+            local tokens = tonumber(state[1]) or capacity
+            local updatedAt = tonumber(state[2]) or now
+            if now > updatedAt then
+                tokens = math.min(capacity, tokens + (now - updatedAt) * rate)
+            end
+            local wait = 0
+            if tokens - cost >= reserve then
+                tokens = tokens - cost
+            else
+                wait = math.ceil((reserve + cost - tokens) / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'updated_at', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) * 2)
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 버킷 크기와 초당 충전량 (기본: 분당 60회, 순간 최대 60회)
+    @Value("${openai.rate-limit.capacity:60}")
+    private int capacity;
+
+    @Value("${openai.rate-limit.refill-per-second:1}")
+    private double refillPerSecond;
+
+    @Value("${openai.rate-limit.streaming-reserve-percent:20}")
+    private int streamingReservePercent;
+
+    @Value("${openai.rate-limit.background-reserve-percent:50}")
+    private int backgroundReservePercent;
+
+    @Value("${openai.rate-limit.interactive-max-wait-millis:3000}")
+    private long interactiveMaxWaitMillis;
+
+    @Value("${openai.rate-limit.streaming-max-wait-millis:5000}")
+    private long streamingMaxWaitMillis;
+
+    @Autowired
+    public OpenAIRateLimiter(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 토큰을 얻을 때까지 대기 (최대 대기 시간을 넘기면 OPENAI_RATE_LIMITED)
+    public void acquire(Priority priority) {
+        acquireAsync(priority).block();
+    }
+
+    // 대기는 스레드를 잡지 않고 타이머로 한다
+    public Mono<Void> acquireAsync(Priority priority) {
+        return Mono.defer(() -> attempt(priority, System.nanoTime()));
+    }
+
+    private Mono<Void> attempt(Priority priority, long startedAt) {
+        return Mono.fromCallable(() -> tryAcquire(priority))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(waitMillis -> {
+                    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    if (waitMillis == 0) {
+                        waitTimer(priority).record(elapsedMillis, TimeUnit.MILLISECONDS);
+                        return Mono.empty();
+                    }
+                    if (elapsedMillis + waitMillis > maxWaitMillis(priority)) {
+                        shedCounter(priority).increment();
+                        return Mono.error(new CommonException(ErrorCode.OPENAI_RATE_LIMITED));
+                    }
+                    return Mono.delay(Duration.ofMillis(waitMillis)).then(Mono.defer(() -> attempt(priority, startedAt)));
+                });
+    }
+
+    // 토큰을 꺼내면 0, 아니면 기다려야 할 시간(ms)
+    long tryAcquire(Priority priority) {
+        try {
+            Long waitMillis = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(BUCKET_KEY),
+                    String.valueOf(capacity),
+                    String.valueOf(refillPerSecond / 1000),
+                    String.valueOf(reserve(priority)),
+                    "1");
+            return waitMillis == null ? 0 : Math.max(waitMillis, 0);
+        } catch (Exception e) {
+            log.warn("OpenAI 요청 제한 확인 실패, 제한 없이 진행", e);
+            return 0;
+        }
+    }
+
+    private double reserve(Priority priority) {
+        return switch (priority) {
+            case INTERACTIVE -> 0;
+            case STREAMING -> capacity * streamingReservePercent / 100.0;
+            case BACKGROUND -> capacity * backgroundReservePercent / 100.0;
+        };
+    }
+
+    private long maxWaitMillis(Priority priority) {
+        return switch (priority) {
+            case INTERACTIVE -> interactiveMaxWaitMillis;
+            case STREAMING -> streamingMaxWaitMillis;
+            case BACKGROUND -> 0;
+        };
+    }
+
+    private Timer waitTimer(Priority priority) {
+        return Timer.builder("openai.rate-limit.wait")
+                .tag("priority", tag(priority))
+                .register(meterRegistry);
+    }
+
+    private Counter shedCounter(Priority priority) {
+        return Counter.builder("openai.rate-limit.shed")
+                .tag("priority", tag(priority))
+                .register(meterRegistry);
+    }
+
+    private static String tag(Priority priority) {
+        return priority.name().toLowerCase(Locale.ROOT);
+    }
+}
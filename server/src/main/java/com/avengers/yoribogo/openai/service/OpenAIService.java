@@ -2,15 +2,15 @@ package com.avengers.yoribogo.openai.service;
 
 import com.avengers.yoribogo.openai.dto.ResponseChatDTO;
 import com.avengers.yoribogo.openai.dto.ResponseImagesDTO;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.avengers.yoribogo.openai.provider.OpenAICallSite;
 import reactor.core.publisher.Flux;
 
 public interface OpenAIService {
 
-    ResponseChatDTO getRecommend(String prompt);
+    ResponseChatDTO getRecommend(OpenAICallSite callSite, String prompt);
 
     ResponseImagesDTO getImages(String prompt);
 
-    Flux<String> getRecommendManuals(String prompt) throws JsonProcessingException;
+    Flux<String> getRecommendManuals(String prompt);
 
 }
@@ -1,17 +1,13 @@
 package com.avengers.yoribogo.openai.service;
 
 import com.avengers.yoribogo.openai.dto.*;
-import com.avengers.yoribogo.openai.provider.OpenAIProvider;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.avengers.yoribogo.openai.provider.OpenAICallSite;
+import com.avengers.yoribogo.openai.provider.OpenAIGateway;
+import com.avengers.yoribogo.openai.provider.OpenAIRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import reactor.core.publisher.Flux;
 
 @Slf4j
@@ -21,28 +17,23 @@ public class OpenAIServiceImpl implements OpenAIService {
     @Value("${openai.model}")
     private String model;
 
-    @Value("${openai.api.url}")
-    private String url;
+    private final OpenAIGateway openAIGateway;
+    private final OpenAIRateLimiter openAIRateLimiter;
 
-    @Value("${openai.api.images-url}")
-    private String imagesUrl;
-
-    private final RestTemplate restTemplate;
-    private final OpenAIProvider openAIProvider;
-
-    // 설명. OpenAI와 통신을 위한 RestTemplate의 빈 이름으로 설정
-    //  (시큐리티 RestTemplate은 AppConfiguration에 설정되어있음)
     @Autowired
-    public OpenAIServiceImpl(@Qualifier("openAIRestTemplate") RestTemplate restTemplate,
-                             OpenAIProvider openAIProvider) {
-        this.restTemplate = restTemplate;
-        this.openAIProvider = openAIProvider;
+    public OpenAIServiceImpl(OpenAIGateway openAIGateway, OpenAIRateLimiter openAIRateLimiter) {
+        this.openAIGateway = openAIGateway;
+        this.openAIRateLimiter = openAIRateLimiter;
     }
 
+    // 우선순위별 요청 제한: 추천 > AI 매뉴얼 > 이미지 생성
+    // 호출 스레드는 응답까지 기다린다 (제한 시간·재시도·서킷 브레이커는 게이트웨이에서 처리,
+    // 기다리던 스레드가 인터럽트되면 요청도 취소된다)
     @Override
-    public ResponseChatDTO getRecommend(String prompt) {
+    public ResponseChatDTO getRecommend(OpenAICallSite callSite, String prompt) {
         RequestChatDTO req = new RequestChatDTO(model, prompt);
-        return restTemplate.postForObject(url, req, ResponseChatDTO.class);
+        openAIRateLimiter.acquire(OpenAIRateLimiter.Priority.INTERACTIVE);
+        return openAIGateway.chat(callSite, req).block();
     }
 
     @Override
@@ -51,27 +42,15 @@ public class OpenAIServiceImpl implements OpenAIService {
         String size = "512x512";
         RequestImagesDTO req = new RequestImagesDTO(prompt, size, numberOfImages);
 
-        // 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Content-Type", "application/json");    // Content-Type 지정
-
-        // 요청 본문과 헤더를 포함한 HttpEntity 생성
-        HttpEntity<RequestImagesDTO> entity = new HttpEntity<>(req, headers);
-
-        // API 호출
-        ResponseEntity<ResponseImagesDTO> response = restTemplate.postForEntity(imagesUrl, entity, ResponseImagesDTO.class);
-
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response.getBody();  // 응답 본문 반환
-        } else {
-            throw new RuntimeException("Failed to generate image: " + response.getStatusCode());
-        }
+        openAIRateLimiter.acquire(OpenAIRateLimiter.Priority.BACKGROUND);
+        return openAIGateway.images(OpenAICallSite.MENU_IMAGE, req).block();
     }
 
     @Override
-    public Flux<String> getRecommendManuals(String prompt) throws JsonProcessingException {
+    public Flux<String> getRecommendManuals(String prompt) {
         RequestChatFluxDTO req = new RequestChatFluxDTO(model, prompt, true);
-        return openAIProvider.ask(req);
+        return openAIRateLimiter.acquireAsync(OpenAIRateLimiter.Priority.STREAMING)
+                .thenMany(openAIGateway.streamChat(OpenAICallSite.RECIPE_MANUAL, req));
     }
 
 }
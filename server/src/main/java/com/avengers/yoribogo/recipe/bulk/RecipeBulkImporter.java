@@ -0,0 +1,295 @@
+package com.avengers.yoribogo.recipe.bulk;
+
+import com.avengers.yoribogo.common.id.PooledIds;
+import com.avengers.yoribogo.common.id.SequenceIdAllocator;
+import com.avengers.yoribogo.recipe.domain.MenuType;
+import com.avengers.yoribogo.recipe.domain.RecipeImportJob;
+import com.avengers.yoribogo.recipe.domain.RecipeImportStatus;
+import com.avengers.yoribogo.recipe.dto.RecipeBulkImportedEvent;
+import com.avengers.yoribogo.recipe.repository.RecipeImportJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 레시피 덤프 일괄 등록
+// 원본 레코드를 청크 단위로 읽어 RECIPE·PUBLIC_DATA_RECIPE·RECIPE_MANUAL을 JDBC 배치로 저장한다.
+// ID는 시퀀스에서 미리 할당해 넣으므로 생성된 키를 돌려받지 않고 그대로 배치로 보낸다.
+// 청크 저장과 체크포인트(처리한 원본 레코드 수) 갱신이 같은 트랜잭션이라, 중단되어도 마지막 커밋 지점부터 이어서 처리한다.
+@Slf4j
+@Component
+public class RecipeBulkImporter {
+
+    private static final String INSERT_RECIPE_SQL =
+            "INSERT INTO recipe (recipe_id, menu_name, menu_ingredient, menu_image, menu_type, user_id) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PUBLIC_DATA_RECIPE_SQL =
+            "INSERT INTO public_data_recipe (public_data_menu_name, public_data_menu_ingredient, " +
+                    "public_data_menu_image, recipe_id) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_RECIPE_MANUAL_SQL =
+            "INSERT INTO recipe_manual (recipe_manual_id, recipe_manual_step, manual_menu_image, " +
+                    "manual_content, recipe_id) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_EXISTING_MENU_NAME_SQL =
+            "SELECT menu_name FROM recipe WHERE menu_name IN (:menuNames)";
+
+    // 진행 상황 로그 간격
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = 5_000_000_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+    private final RecipeImportJobRepository recipeImportJobRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final Counter importedCounter;
+    private final Counter skippedCounter;
+    private final Timer chunkTimer;
+
+    // 한 번에 하나의 작업만 실행
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${recipe.import.chunk-size:500}")
+    private int chunkSize;
+
+    // 원본 분류(RCP_PAT2) 중 등록하지 않을 항목
+    @Value("${recipe.import.excluded-categories:후식}")
+    private Set<String> excludedCategories;
+
+    @Autowired
+    public RecipeBulkImporter(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              SequenceIdAllocator sequenceIdAllocator,
+                              RecipeImportJobRepository recipeImportJobRepository,
+                              ApplicationEventPublisher applicationEventPublisher,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.sequenceIdAllocator = sequenceIdAllocator;
+        this.recipeImportJobRepository = recipeImportJobRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.importedCounter = Counter.builder("recipe.import.records")
+                .tag("result", "imported")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("recipe.import.records")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("recipe.import.chunk")
+                .register(meterRegistry);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    // 작업 실행 권한 획득 (이미 다른 작업이 실행 중이면 false)
+    public boolean tryAcquire() {
+        return running.compareAndSet(false, true);
+    }
+
+    public void release() {
+        running.set(false);
+    }
+
+    // tryAcquire()로 실행 권한을 얻은 뒤 호출
+    @Async
+    public void runAsync(RecipeImportJob job) {
+        try {
+            run(job);
+        } finally {
+            release();
+        }
+    }
+
+    private void run(RecipeImportJob job) {
+        String importJobId = job.getImportJobId();
+        long runStartedNanos = System.nanoTime();
+        long elapsedBefore = job.getElapsedMillis();
+        long processedBefore = job.getProcessedRecords();
+        long importedBefore = job.getImportedRecipes();
+
+        log.info("레시피 일괄 등록 시작 - 작업: {}, 파일: {}, 재개 위치: {}건",
+                importJobId, job.getSourcePath(), processedBefore);
+
+        try (RecipeDumpReader reader = RecipeDumpReader.open(Path.of(job.getSourcePath()), job.getSourceFormat())) {
+            long skipped = reader.skip(processedBefore);
+            if (skipped < processedBefore) {
+                throw new IllegalStateException("체크포인트(" + processedBefore + "건)보다 원본 레코드가 적습니다: " + skipped);
+            }
+
+            List<RecipeImportRecord> chunk = new ArrayList<>(chunkSize);
+            long lastLoggedNanos = runStartedNanos;
+            RecipeImportRecord record;
+            do {
+                record = reader.next();
+                if (record != null) chunk.add(record);
+                if (chunk.size() < chunkSize && !(record == null && !chunk.isEmpty())) continue;
+
+                long elapsedMillis = elapsedBefore + (System.nanoTime() - runStartedNanos) / 1_000_000;
+                chunkTimer.record(() -> writeChunk(job, chunk, elapsedMillis));
+                chunk.clear();
+
+                long now = System.nanoTime();
+                if (now - lastLoggedNanos >= PROGRESS_LOG_INTERVAL_NANOS) {
+                    lastLoggedNanos = now;
+                    logProgress(job, processedBefore, runStartedNanos);
+                }
+            } while (record != null);
+
+            job.setImportStatus(RecipeImportStatus.COMPLETED);
+            job.setElapsedMillis(elapsedBefore + (System.nanoTime() - runStartedNanos) / 1_000_000);
+            job.setUpdatedAt(LocalDateTime.now().withNano(0));
+            recipeImportJobRepository.save(job);
+            logProgress(job, processedBefore, runStartedNanos);
+            log.info("레시피 일괄 등록 완료 - 작업: {}, 등록: {}건, 제외: {}건",
+                    importJobId, job.getImportedRecipes(), job.getSkippedRecords());
+        } catch (Exception e) {
+            log.error("레시피 일괄 등록 실패 - 작업: {}, 마지막 체크포인트부터 재개할 수 있습니다.", importJobId, e);
+            markFailed(importJobId, e);
+        }
+
+        long importedThisRun = job.getImportedRecipes() - importedBefore;
+        if (importedThisRun > 0) {
+            applicationEventPublisher.publishEvent(new RecipeBulkImportedEvent(importJobId, importedThisRun));
+        }
+    }
+
+    // 청크 하나를 한 트랜잭션으로 저장하고 체크포인트 갱신
+    private void writeChunk(RecipeImportJob job, List<RecipeImportRecord> chunk, long elapsedMillis) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<RecipeImportRecord> fresh = filterNewRecipes(chunk);
+
+            long[] recipeIds = insertRecipes(fresh, job.getUserId());
+            insertPublicDataRecipes(fresh, recipeIds);
+            insertRecipeManuals(fresh, recipeIds);
+
+            long skipped = chunk.size() - fresh.size();
+            job.setProcessedRecords(job.getProcessedRecords() + chunk.size());
+            job.setImportedRecipes(job.getImportedRecipes() + fresh.size());
+            job.setSkippedRecords(job.getSkippedRecords() + skipped);
+            job.setElapsedMillis(elapsedMillis);
+            job.setUpdatedAt(LocalDateTime.now().withNano(0));
+            recipeImportJobRepository.save(job);
+
+            importedCounter.increment(fresh.size());
+            skippedCounter.increment(skipped);
+        });
+    }
+
+    // 제외 분류·이름 없는 레코드, 청크 안 중복, 이미 등록된 요리 이름 제외
+    private List<RecipeImportRecord> filterNewRecipes(List<RecipeImportRecord> chunk) {
+        Map<String, RecipeImportRecord> candidates = new LinkedHashMap<>();
+        for (RecipeImportRecord record : chunk) {
+            if (record.menuName() == null || record.menuIngredient() == null) continue;
+            if (record.category() != null && excludedCategories.contains(record.category())) continue;
+            candidates.putIfAbsent(record.menuName(), record);
+        }
+        if (candidates.isEmpty()) return List.of();
+
+        List<String> existing = namedParameterJdbcTemplate.queryForList(SELECT_EXISTING_MENU_NAME_SQL,
+                new MapSqlParameterSource("menuNames", candidates.keySet()), String.class);
+        existing.forEach(candidates::remove);
+
+        return new ArrayList<>(candidates.values());
+    }
+
+    private long[] insertRecipes(List<RecipeImportRecord> records, Long userId) {
+        if (records.isEmpty()) return new long[0];
+
+        long[] recipeIds = sequenceIdAllocator.allocate(PooledIds.RECIPE_SEQ, records.size());
+        jdbcTemplate.batchUpdate(INSERT_RECIPE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                RecipeImportRecord record = records.get(i);
+                ps.setLong(1, recipeIds[i]);
+                ps.setString(2, record.menuName());
+                ps.setString(3, record.menuIngredient());
+                ps.setString(4, record.menuImage());
+                ps.setString(5, MenuType.PUBLIC.name());
+                ps.setLong(6, userId);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return records.size();
+            }
+        });
+        return recipeIds;
+    }
+
+    private void insertPublicDataRecipes(List<RecipeImportRecord> records, long[] recipeIds) {
+        if (records.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_PUBLIC_DATA_RECIPE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                RecipeImportRecord record = records.get(i);
+                ps.setString(1, record.menuName());
+                ps.setString(2, record.menuIngredient());
+                ps.setString(3, record.menuImage());
+                ps.setLong(4, recipeIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return records.size();
+            }
+        });
+    }
+
+    private void insertRecipeManuals(List<RecipeImportRecord> records, long[] recipeIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            for (RecipeImportRecord.Manual manual : records.get(i).manuals()) {
+                rows.add(new Object[]{null, manual.step(), manual.image(), manual.content(), recipeIds[i]});
+            }
+        }
+        if (rows.isEmpty()) return;
+
+        long[] manualIds = sequenceIdAllocator.allocate(PooledIds.RECIPE_MANUAL_SEQ, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i)[0] = manualIds[i];
+        }
+        jdbcTemplate.batchUpdate(INSERT_RECIPE_MANUAL_SQL, rows);
+    }
+
+    // 실패 시 마지막으로 커밋된 체크포인트를 다시 읽어 상태만 갱신
+    private void markFailed(String importJobId, Exception e) {
+        try {
+            recipeImportJobRepository.findById(importJobId).ifPresent(committed -> {
+                committed.setImportStatus(RecipeImportStatus.FAILED);
+                committed.setErrorMessage(e.getClass().getSimpleName() + ": " + e.getMessage());
+                committed.setUpdatedAt(LocalDateTime.now().withNano(0));
+                recipeImportJobRepository.save(committed);
+            });
+        } catch (Exception saveFailure) {
+            log.error("레시피 일괄 등록 작업 상태 저장 실패 - 작업: {}", importJobId, saveFailure);
+        }
+    }
+
+    private void logProgress(RecipeImportJob job, long processedBefore, long runStartedNanos) {
+        double seconds = Math.max((System.nanoTime() - runStartedNanos) / 1e9, 0.001);
+        long processedThisRun = job.getProcessedRecords() - processedBefore;
+        log.info("레시피 일괄 등록 진행 - 작업: {}, 처리: {}건 (등록 {}건, 제외 {}건), {}건/초",
+                job.getImportJobId(), job.getProcessedRecords(), job.getImportedRecipes(),
+                job.getSkippedRecords(), Math.round(processedThisRun / seconds));
+    }
+}
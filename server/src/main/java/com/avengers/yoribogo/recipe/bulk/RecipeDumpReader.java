@@ -0,0 +1,226 @@
+package com.avengers.yoribogo.recipe.bulk;
+
+import com.avengers.yoribogo.recipe.domain.RecipeImportFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 레시피 덤프를 한 건씩 읽는 스트리밍 리더 (파일 전체를 메모리에 올리지 않음)
+// JSON: COOKRCP01 응답 형식({"COOKRCP01": {"row": [...]}}) 또는 최상위 배열
+// CSV: 첫 줄이 COOKRCP01 컬럼 이름인 헤더, 따옴표 안의 쉼표·줄바꿈 허용
+public abstract class RecipeDumpReader implements Closeable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static RecipeDumpReader open(Path path, RecipeImportFormat format) throws IOException {
+        return switch (format) {
+            case JSON -> new JsonDumpReader(OBJECT_MAPPER.createParser(Files.newInputStream(path)));
+            case CSV -> new CsvDumpReader(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+        };
+    }
+
+    // 다음 레코드 (더 없으면 null)
+    public abstract RecipeImportRecord next() throws IOException;
+
+    // 레코드를 변환하지 않고 한 건 건너뛰기 (더 없으면 false)
+    protected abstract boolean skipOne() throws IOException;
+
+    // 앞에서부터 count건 건너뛰기 (체크포인트 재개용), 실제로 건너뛴 건수 반환
+    public long skip(long count) throws IOException {
+        long skipped = 0;
+        while (skipped < count && skipOne()) skipped++;
+        return skipped;
+    }
+
+    private static final class JsonDumpReader extends RecipeDumpReader {
+
+        private final JsonParser parser;
+        private boolean started;
+        private boolean finished;
+
+        private JsonDumpReader(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public RecipeImportRecord next() throws IOException {
+            JsonToken token = nextRecordToken();
+            if (token == null) return null;
+
+            JsonNode node = parser.readValueAsTree();
+            return RecipeImportRecord.from(key -> text(node, key));
+        }
+
+        @Override
+        protected boolean skipOne() throws IOException {
+            if (nextRecordToken() == null) return false;
+
+            parser.skipChildren();
+            return true;
+        }
+
+        // 레코드 배열 안의 다음 객체 시작 토큰으로 이동
+        private JsonToken nextRecordToken() throws IOException {
+            if (finished) return null;
+            if (!started) {
+                started = true;
+                if (!locateRows()) {
+                    finished = true;
+                    return null;
+                }
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                if (token == JsonToken.START_OBJECT) return token;
+                parser.skipChildren();
+            }
+            finished = true;
+            return null;
+        }
+
+        // 최상위 배열이거나 "row" 필드의 배열 시작 위치 찾기
+        private boolean locateRows() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) return true;
+            if (token != JsonToken.START_OBJECT) return false;
+
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && "row".equals(parser.currentName())
+                        && parser.nextToken() == JsonToken.START_ARRAY) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String text(JsonNode node, String key) {
+            JsonNode value = node.get(key);
+            if (value == null || value.isNull()) return null;
+            return value.asText();
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class CsvDumpReader extends RecipeDumpReader {
+
+        private final Reader reader;
+        private final char[] buffer = new char[1 << 16];
+        private int position;
+        private int limit;
+
+        private Map<String, Integer> header;
+
+        private CsvDumpReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public RecipeImportRecord next() throws IOException {
+            List<String> row = nextRow();
+            if (row == null) return null;
+
+            return RecipeImportRecord.from(key -> {
+                Integer index = header.get(key);
+                return index == null || index >= row.size() ? null : row.get(index);
+            });
+        }
+
+        @Override
+        protected boolean skipOne() throws IOException {
+            return nextRow() != null;
+        }
+
+        // 빈 줄을 건너뛴 다음 데이터 행
+        private List<String> nextRow() throws IOException {
+            if (header == null) readHeader();
+
+            List<String> row;
+            while ((row = readRow()) != null) {
+                if (row.size() > 1 || !row.get(0).isEmpty()) return row;
+            }
+            return null;
+        }
+
+        private void readHeader() throws IOException {
+            header = new HashMap<>();
+            List<String> columns = readRow();
+            if (columns == null) return;
+
+            for (int i = 0; i < columns.size(); i++) {
+                String column = columns.get(i).strip();
+                // UTF-8 BOM 제거
+                if (i == 0 && !column.isEmpty() && column.charAt(0) == '\uFEFF') column = column.substring(1);
+                header.put(column, i);
+            }
+        }
+
+        // RFC 4180 한 행 읽기 (파일 끝이면 null)
+        private List<String> readRow() throws IOException {
+            if (!fill()) return null;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            while (fill()) {
+                char c = buffer[position++];
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (fill() && buffer[position] == '"') {
+                        // 따옴표 두 개는 따옴표 문자 하나
+                        field.append('"');
+                        position++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        private boolean fill() throws IOException {
+            if (position < limit) return true;
+
+            int read = reader.read(buffer, 0, buffer.length);
+            if (read <= 0) return false;
+
+            position = 0;
+            limit = read;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
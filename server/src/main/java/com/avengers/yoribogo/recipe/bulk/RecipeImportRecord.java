@@ -0,0 +1,45 @@
+package com.avengers.yoribogo.recipe.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// 원본 덤프의 레시피 한 건 (식품안전나라 COOKRCP01 항목 기준)
+public record RecipeImportRecord(String menuName,
+                                 String menuIngredient,
+                                 String menuImage,
+                                 String category,
+                                 List<Manual> manuals) {
+
+    // COOKRCP01 매뉴얼은 MANUAL01 ~ MANUAL20 고정 컬럼
+    static final int MAX_MANUAL_STEPS = 20;
+
+    public record Manual(int step, String content, String image) {
+    }
+
+    // 컬럼 이름으로 값을 꺼내는 함수로부터 생성 (JSON·CSV 공용)
+    static RecipeImportRecord from(Function<String, String> field) {
+        List<Manual> manuals = new ArrayList<>();
+        for (int step = 1; step <= MAX_MANUAL_STEPS; step++) {
+            String suffix = step < 10 ? "0" + step : String.valueOf(step);
+            String content = trimToNull(field.apply("MANUAL" + suffix));
+            if (content == null) continue;
+
+            manuals.add(new Manual(step, content, trimToNull(field.apply("MANUAL_IMG" + suffix))));
+        }
+
+        return new RecipeImportRecord(
+                trimToNull(field.apply("RCP_NM")),
+                trimToNull(field.apply("RCP_PARTS_DTLS")),
+                trimToNull(field.apply("ATT_FILE_NO_MAIN")),
+                trimToNull(field.apply("RCP_PAT2")),
+                manuals);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) return null;
+
+        String trimmed = value.strip();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,246 @@
+package com.avengers.yoribogo.recipe.cache;
+
+import com.avengers.yoribogo.recipe.domain.Recipe;
+import com.avengers.yoribogo.recipe.dto.RecipeManualChangedEvent;
+import com.avengers.yoribogo.recipe.dto.RecipeRemovedEvent;
+import com.avengers.yoribogo.recipe.dto.RecipeSavedEvent;
+import com.avengers.yoribogo.recipe.dto.RecipeWithManualsDTO;
+import com.avengers.yoribogo.recipe.mapper.RecipeMapper;
+import com.avengers.yoribogo.recipe.repository.RecipeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 요리 레시피 상세(매뉴얼 포함) 2단계 캐시
+// 1단계: 서버별 로컬 캐시(Caffeine, 크기·TTL 제한), 2단계: 서버 간 공유 Redis 캐시.
+// 두 단계 모두 직렬화된 RecipeWithManualsDTO(JSON)를 저장하고, 변경 시 커밋 이후 무효화한 뒤
+// Redis Pub/Sub로 다른 서버의 로컬 캐시도 무효화한다.
+@Slf4j
+@Component
+public class RecipeDetailCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "recipe:detail:";
+    private static final String INVALIDATE_CHANNEL = "recipe:detail:invalidated";
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeMapper recipeMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 다른 서버에서 보낸 메시지만 처리하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 무효화 횟수 (DB 조회 도중 무효화가 일어나면 조회 결과를 캐시에 넣지 않는다)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Value("${recipe.detail-cache.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${recipe.detail-cache.local-ttl-seconds:600}")
+    private long localTtlSeconds;
+
+    @Value("${recipe.detail-cache.redis-ttl-seconds:3600}")
+    private long redisTtlSeconds;
+
+    private Cache<Long, String> localCache;
+
+    private Counter localHit;
+    private Counter localMiss;
+    private Counter redisHit;
+    private Counter redisMiss;
+
+    @Autowired
+    public RecipeDetailCache(RecipeRepository recipeRepository,
+                             RecipeMapper recipeMapper,
+                             StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer,
+                             MeterRegistry meterRegistry) {
+        this.recipeRepository = recipeRepository;
+        this.recipeMapper = recipeMapper;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+
+        // 단계별 적중·실패 횟수와 전체 적중률 (DB까지 가지 않은 비율)
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "recipe.detail.local");
+        localHit = requestCounter("local", "hit");
+        localMiss = requestCounter("local", "miss");
+        redisHit = requestCounter("redis", "hit");
+        redisMiss = requestCounter("redis", "miss");
+        Gauge.builder("recipe.detail.cache.hit.ratio", this, RecipeDetailCache::hitRatio)
+                .description("요리 레시피 상세 조회 중 DB를 거치지 않은 비율")
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    // 요리 레시피 상세 조회 (로컬 -> Redis -> DB 순, 존재하지 않으면 null)
+    public RecipeWithManualsDTO find(Long recipeId) {
+        String json = localCache.getIfPresent(recipeId);
+        RecipeWithManualsDTO cached = json == null ? null : deserialize(json);
+        if (cached != null) {
+            localHit.increment();
+            return cached;
+        }
+        localMiss.increment();
+
+        json = getFromRedis(recipeId);
+        cached = json == null ? null : deserialize(json);
+        if (cached != null) {
+            redisHit.increment();
+            localCache.put(recipeId, json);
+            return cached;
+        }
+        redisMiss.increment();
+
+        long version = invalidations.get();
+        Recipe recipe = recipeRepository.findRecipeWithManuals(recipeId);
+        if (recipe == null) return null;
+
+        RecipeWithManualsDTO recipeWithManualsDTO = recipeMapper.toRecipeWithManualsDTO(recipe);
+
+        // 조회 도중 무효화되었다면 오래된 값일 수 있으므로 캐시에 넣지 않는다
+        if (invalidations.get() == version) {
+            json = serialize(recipeWithManualsDTO);
+            if (json != null) {
+                localCache.put(recipeId, json);
+                putToRedis(recipeId, json);
+            }
+        }
+        return recipeWithManualsDTO;
+    }
+
+    // 요리 레시피 등록·수정 및 AI 이미지 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeSaved(RecipeSavedEvent event) {
+        invalidate(event.getRecipe().getRecipeId());
+    }
+
+    // 요리 레시피 삭제
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeRemoved(RecipeRemovedEvent event) {
+        invalidate(event.getRecipeId());
+    }
+
+    // 요리 레시피 매뉴얼 등록·수정
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeManualChanged(RecipeManualChangedEvent event) {
+        invalidate(event.getRecipeId());
+    }
+
+    // 로컬·Redis 캐시에서 제거하고 다른 서버에 전파
+    public void invalidate(Long recipeId) {
+        evictLocal(recipeId);
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + recipeId);
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, instanceId + ":" + recipeId);
+        } catch (Exception e) {
+            log.warn("요리 레시피 상세 캐시 무효화 전파 실패: {}", recipeId, e);
+        }
+    }
+
+    // 다른 서버에서 변경된 레시피를 로컬 캐시에서 제거
+    // 무효화 직전에 오래된 값을 Redis에 넣었을 수 있으므로 Redis 키도 한 번 더 지운다
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) return;
+
+        try {
+            Long recipeId = Long.valueOf(body.substring(separator + 1));
+            evictLocal(recipeId);
+            stringRedisTemplate.delete(KEY_PREFIX + recipeId);
+        } catch (Exception e) {
+            log.warn("요리 레시피 상세 캐시 무효화 메시지 처리 실패: {}", body, e);
+        }
+    }
+
+    private void evictLocal(Long recipeId) {
+        invalidations.incrementAndGet();
+        localCache.invalidate(recipeId);
+    }
+
+    // Redis 장애 시 캐시 없이 DB 조회로 대체
+    private String getFromRedis(Long recipeId) {
+        try {
+            return stringRedisTemplate.opsForValue().get(KEY_PREFIX + recipeId);
+        } catch (Exception e) {
+            log.warn("요리 레시피 상세 캐시 Redis 조회 실패: {}", recipeId, e);
+            return null;
+        }
+    }
+
+    private void putToRedis(Long recipeId, String json) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + recipeId, json, Duration.ofSeconds(redisTtlSeconds));
+        } catch (Exception e) {
+            log.warn("요리 레시피 상세 캐시 Redis 저장 실패: {}", recipeId, e);
+        }
+    }
+
+    private String serialize(RecipeWithManualsDTO recipeWithManualsDTO) {
+        try {
+            return objectMapper.writeValueAsString(recipeWithManualsDTO);
+        } catch (JsonProcessingException e) {
+            log.warn("요리 레시피 상세 직렬화 실패: {}", recipeWithManualsDTO.getRecipeId(), e);
+            return null;
+        }
+    }
+
+    // DTO 구조 변경 등으로 읽을 수 없는 값은 캐시 실패로 처리
+    private RecipeWithManualsDTO deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, RecipeWithManualsDTO.class);
+        } catch (JsonProcessingException e) {
+            log.warn("요리 레시피 상세 캐시 역직렬화 실패", e);
+            return null;
+        }
+    }
+
+    private Counter requestCounter(String tier, String result) {
+        return Counter.builder("recipe.detail.cache.requests")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private double hitRatio() {
+        double total = localHit.count() + localMiss.count();
+        return total == 0 ? 0 : (localHit.count() + redisHit.count()) / total;
+    }
+}
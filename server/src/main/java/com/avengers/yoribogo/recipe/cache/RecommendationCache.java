@@ -0,0 +1,144 @@
+package com.avengers.yoribogo.recipe.cache;
+
+import com.avengers.yoribogo.recipe.dto.RequestRecommendDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+// AI 요리 추천 결과 캐시
+// 설문 응답(first~fifth)을 정규화한 키마다 최근 AI 추천 답변을 Redis 리스트(풀)에 최대 poolSize개 보관한다.
+// 풀이 찬 비율만큼 풀에서 무작위로 골라 돌려주고, 나머지는 AI를 새로 호출해 풀을 채운다.
+// 같은 응답 조합에도 여러 요리가 번갈아 추천되면서, 풀이 다 차면 만료될 때까지 OpenAI를 호출하지 않는다.
+@Slf4j
+@Component
+public class RecommendationCache {
+
+    private static final String KEY_PREFIX = "recipe:recommend:pool:";
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${recipe.recommend-cache.pool-size:8}")
+    private int poolSize;
+
+    // 풀 생성 시점부터의 유효 시간 (만료되면 새 추천으로 다시 채운다)
+    @Value("${recipe.recommend-cache.ttl-seconds:21600}")
+    private long ttlSeconds;
+
+    private Counter hit;
+    private Counter miss;
+    private Counter savedCalls;
+    private Counter savedTokens;
+
+    @Autowired
+    public RecommendationCache(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        hit = requestCounter("hit");
+        miss = requestCounter("miss");
+        savedCalls = Counter.builder("recipe.recommend.cache.saved.calls")
+                .description("캐시로 대신한 OpenAI 호출 수")
+                .register(meterRegistry);
+        savedTokens = Counter.builder("recipe.recommend.cache.saved.tokens")
+                .description("캐시로 대신한 OpenAI 호출의 토큰 수 (최초 호출 시 사용량 기준)")
+                .register(meterRegistry);
+    }
+
+    // 풀에서 추천 답변 선택 (AI를 새로 호출해야 하면 null)
+    public String sample(RequestRecommendDTO request) {
+        List<String> pool;
+        try {
+            pool = stringRedisTemplate.opsForList().range(key(request), 0, -1);
+        } catch (Exception e) {
+            log.warn("AI 추천 캐시 조회 실패", e);
+            miss.increment();
+            return null;
+        }
+
+        // 풀이 덜 찼으면 찬 비율만큼만 풀에서 고르고, 나머지는 새로 추천받아 풀을 채운다
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int size = pool == null ? 0 : Math.min(pool.size(), poolSize);
+        if (size == 0 || random.nextInt(poolSize) >= size) {
+            miss.increment();
+            return null;
+        }
+
+        String entry = pool.get(random.nextInt(size));
+        int separator = entry.indexOf('\t');
+        if (separator < 0) {
+            miss.increment();
+            return null;
+        }
+
+        hit.increment();
+        savedCalls.increment();
+        savedTokens.increment(parseTokens(entry.substring(0, separator)));
+        return entry.substring(separator + 1);
+    }
+
+    // 새 추천 답변을 풀에 추가 (풀이 가득 차면 가장 오래된 답변부터 밀려남)
+    public void add(RequestRecommendDTO request, String answer, int tokens) {
+        String key = key(request);
+        try {
+            Long size = stringRedisTemplate.opsForList().leftPush(key, tokens + "\t" + answer);
+            if (size != null && size == 1) {
+                stringRedisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+            } else if (size != null && size > poolSize) {
+                stringRedisTemplate.opsForList().trim(key, 0, poolSize - 1);
+            }
+        } catch (Exception e) {
+            log.warn("AI 추천 캐시 저장 실패", e);
+        }
+    }
+
+    // 정규화한 설문 응답으로 만든 키 (띄어쓰기·대소문자 차이는 같은 응답으로 본다)
+    static String key(RequestRecommendDTO request) {
+        String answers = String.join("\u001F",
+                normalize(request.getFirst()),
+                normalize(request.getSecond()),
+                normalize(request.getThird()),
+                normalize(request.getFourth()),
+                normalize(request.getFifth()));
+        return KEY_PREFIX + DigestUtils.md5DigestAsHex(answers.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String normalize(String answer) {
+        if (answer == null) return "";
+
+        String composed = Normalizer.normalize(answer, Normalizer.Form.NFC).strip();
+        return WHITESPACES.matcher(composed).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static long parseTokens(String tokens) {
+        try {
+            return Long.parseLong(tokens);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private Counter requestCounter(String result) {
+        return Counter.builder("recipe.recommend.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
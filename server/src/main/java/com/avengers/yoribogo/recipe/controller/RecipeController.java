@@ -1,24 +1,38 @@
 package com.avengers.yoribogo.recipe.controller;
 
+import com.avengers.yoribogo.common.CursorPageDTO;
 import com.avengers.yoribogo.common.ResponseDTO;
 import com.avengers.yoribogo.recipe.dto.BaseRecipeDTO;
+import com.avengers.yoribogo.recipe.dto.ImageJobStatusDTO;
+import com.avengers.yoribogo.recipe.dto.PantryMatchDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeCardDTO;
 import com.avengers.yoribogo.recipe.dto.RecipeDTO;
 import com.avengers.yoribogo.recipe.dto.RecipeWithManualsDTO;
 import com.avengers.yoribogo.recipe.dto.RequestRecommendDTO;
+import com.avengers.yoribogo.recipe.service.ImageService;
+import com.avengers.yoribogo.recipe.service.IngredientMatchService;
 import com.avengers.yoribogo.recipe.service.RecipeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/recipes")
 public class RecipeController {
 
     private final RecipeService recipeService;
+    private final IngredientMatchService ingredientMatchService;
+    private final ImageService imageService;
 
     @Autowired
-    public RecipeController(RecipeService recipeService) {
+    public RecipeController(RecipeService recipeService,
+                            IngredientMatchService ingredientMatchService,
+                            ImageService imageService) {
         this.recipeService = recipeService;
+        this.ingredientMatchService = ingredientMatchService;
+        this.imageService = imageService;
     }
 
     // 페이지 번호로 요리 레시피 목록 조회
@@ -28,6 +42,22 @@ public class RecipeController {
         return ResponseDTO.ok(recipeDTOPage);
     }
 
+    // 커서로 요리 레시피 목록 조회 (무한 스크롤)
+    @GetMapping("/cursor")
+    public ResponseDTO<?> getRecipeByCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                            @RequestParam(value = "size", required = false) Integer size) {
+        CursorPageDTO<RecipeDTO> recipeDTOPage = recipeService.findRecipeByCursor(cursor, size);
+        return ResponseDTO.ok(recipeDTOPage);
+    }
+
+    // 커서로 요리 레시피 목록 카드 조회 (목록 화면용 경량 응답)
+    @GetMapping("/cards")
+    public ResponseDTO<?> getRecipeCardsByCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                                 @RequestParam(value = "size", required = false) Integer size) {
+        CursorPageDTO<RecipeCardDTO> recipeCardPage = recipeService.findRecipeCardsByCursor(cursor, size);
+        return ResponseDTO.ok(recipeCardPage);
+    }
+
     // 요리 레시피 단건 조회
     @GetMapping("/{recipeId}")
     public ResponseDTO<?> getRecipeByRecipeId(@PathVariable("recipeId") Long recipeId) {
@@ -35,6 +65,13 @@ public class RecipeController {
         return ResponseDTO.ok(recipeDTO);
     }
 
+    // 요리 레시피 이미지 생성 상태 조회
+    @GetMapping("/{recipeId}/image")
+    public ResponseDTO<?> getImageJobStatus(@PathVariable("recipeId") Long recipeId) {
+        ImageJobStatusDTO imageJobStatusDTO = imageService.findImageJobStatus(recipeId);
+        return ResponseDTO.ok(imageJobStatusDTO);
+    }
+
     // 요리 레시피 요리 이름으로 조회
     @GetMapping("/search")
     public ResponseDTO<?> getRecipeByMenuName(@RequestParam("name") String menuName,
@@ -43,6 +80,17 @@ public class RecipeController {
         return ResponseDTO.ok(recipeDTOPage);
     }
 
+    // 보유 재료로 만들 수 있는 요리 레시피 조회 (재료 충족률 순)
+    @GetMapping("/pantry")
+    public ResponseDTO<?> getRecipeByPantry(@RequestParam("ingredients") List<String> ingredients,
+                                            @RequestParam(value = "size", required = false) Integer size,
+                                            @RequestParam(value = "include_boards", required = false) Boolean includeBoards,
+                                            @RequestParam(value = "include_staples", required = false) Boolean includeStaples) {
+        List<PantryMatchDTO> pantryMatchDTOList =
+                ingredientMatchService.findRecipeByPantry(ingredients, size, includeBoards, includeStaples);
+        return ResponseDTO.ok(pantryMatchDTOList);
+    }
+
     // 요리 레시피 등록
     @PostMapping
     public ResponseDTO<?> createRecipe(@RequestBody RecipeDTO registRecipeDTO) {
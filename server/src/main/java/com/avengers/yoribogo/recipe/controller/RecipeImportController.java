@@ -0,0 +1,36 @@
+package com.avengers.yoribogo.recipe.controller;
+
+import com.avengers.yoribogo.common.ResponseDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeImportJobDTO;
+import com.avengers.yoribogo.recipe.service.RecipeImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/recipes/import")
+public class RecipeImportController {
+
+    private final RecipeImportService recipeImportService;
+
+    @Autowired
+    public RecipeImportController(RecipeImportService recipeImportService) {
+        this.recipeImportService = recipeImportService;
+    }
+
+    // 레시피 덤프(JSON·CSV) 파일 업로드 후 일괄 등록 시작
+    @PostMapping
+    public ResponseDTO<?> createRecipeImport(@RequestParam(value = "file", required = false) MultipartFile file,
+                                             @RequestParam(value = "user", required = false) Long userId) {
+        RecipeImportJobDTO recipeImportJobDTO = recipeImportService.registRecipeImport(file, userId);
+        return ResponseDTO.ok(recipeImportJobDTO);
+    }
+
+    // 일괄 등록 작업 진행 상황 조회
+    @GetMapping("/{importJobId}")
+    public ResponseDTO<?> getRecipeImport(@PathVariable("importJobId") String importJobId) {
+        RecipeImportJobDTO recipeImportJobDTO = recipeImportService.findRecipeImportJob(importJobId);
+        return ResponseDTO.ok(recipeImportJobDTO);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.avengers.yoribogo.recipe.controller;
 
+import com.avengers.yoribogo.common.CursorPageDTO;
 import com.avengers.yoribogo.common.ResponseDTO;
 import com.avengers.yoribogo.recipe.dto.GoodMenuDTO;
 import com.avengers.yoribogo.recipe.dto.RecommendedMenuDTO;
@@ -27,6 +28,16 @@ public class RecommendedMenuController {
         return ResponseDTO.ok(recommendedMenuList);
     }
 
+    // 추천 요리 회원별 커서 조회 (무한 스크롤)
+    @GetMapping("/cursor")
+    public ResponseDTO<?> getRecommendedMenuByUserIdAndCursor(@RequestParam("user") Long userId,
+                                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                                              @RequestParam(value = "size", required = false) Integer size) {
+        CursorPageDTO<GoodMenuDTO> recommendedMenuList =
+                recommendedMenuService.findRecommendedMenuByUserIdAndCursor(userId, cursor, size);
+        return ResponseDTO.ok(recommendedMenuList);
+    }
+
     // 추천 요리 등록
     @PostMapping
     public ResponseDTO<?> createRecommendedMenu(@RequestBody RecommendedMenuDTO registRecommendedMenuDTO) {
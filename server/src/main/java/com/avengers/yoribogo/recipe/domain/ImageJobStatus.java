@@ -0,0 +1,5 @@
+package com.avengers.yoribogo.recipe.domain;
+
+public enum ImageJobStatus {
+    QUEUED, RUNNING, RETRYING, COMPLETED, FAILED
+}
@@ -1,5 +1,6 @@
 package com.avengers.yoribogo.recipe.domain;
 
+import com.avengers.yoribogo.common.id.PooledIds;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,7 +17,8 @@ public class Recipe {
 
     @Id
     @Column(name = "RECIPE_ID")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_seq")
+    @SequenceGenerator(name = "recipe_seq", sequenceName = PooledIds.RECIPE_SEQ, allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long recipeId;
 
     @Column(name = "MENU_NAME")
@@ -28,6 +30,10 @@ public class Recipe {
     @Column(name = "MENU_IMAGE")
     private String menuImage;
 
+    // 파생본이 만들어진 원본 S3 키 (ImageVariantGenerator만 기록)
+    @Column(name = "MENU_IMAGE_VARIANTS_KEY", insertable = false, updatable = false)
+    private String menuImageVariantsKey;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "MENU_TYPE")
     private MenuType menuType;
@@ -0,0 +1,17 @@
+package com.avengers.yoribogo.recipe.domain;
+
+import java.util.Locale;
+
+public enum RecipeImportFormat {
+    JSON, CSV;
+
+    // 파일 확장자로 형식 판별 (판별할 수 없으면 null)
+    public static RecipeImportFormat fromFileName(String fileName) {
+        if (fileName == null) return null;
+
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".json")) return JSON;
+        if (lower.endsWith(".csv")) return CSV;
+        return null;
+    }
+}
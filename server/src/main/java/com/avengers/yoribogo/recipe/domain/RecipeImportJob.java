@@ -0,0 +1,58 @@
+package com.avengers.yoribogo.recipe.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 레시피 일괄 등록 작업 및 체크포인트 (처리한 원본 레코드 수)
+@Entity
+@Table(name = "RECIPE_IMPORT_JOB")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RecipeImportJob {
+
+    // 덤프 내용의 SHA-256 (16진수)
+    @Id
+    @Column(name = "IMPORT_JOB_ID")
+    private String importJobId;
+
+    @Column(name = "SOURCE_PATH")
+    private String sourcePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "SOURCE_FORMAT")
+    private RecipeImportFormat sourceFormat;
+
+    @Column(name = "USER_ID")
+    private Long userId;
+
+    @Column(name = "PROCESSED_RECORDS")
+    private Long processedRecords;
+
+    @Column(name = "IMPORTED_RECIPES")
+    private Long importedRecipes;
+
+    @Column(name = "SKIPPED_RECORDS")
+    private Long skippedRecords;
+
+    @Column(name = "ELAPSED_MILLIS")
+    private Long elapsedMillis;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "IMPORT_STATUS")
+    private RecipeImportStatus importStatus;
+
+    @Column(name = "ERROR_MESSAGE")
+    private String errorMessage;
+
+    @Column(name = "STARTED_AT")
+    private LocalDateTime startedAt;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,5 @@
+package com.avengers.yoribogo.recipe.domain;
+
+public enum RecipeImportStatus {
+    RUNNING, COMPLETED, FAILED
+}
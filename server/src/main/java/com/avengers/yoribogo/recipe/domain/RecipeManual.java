@@ -1,5 +1,6 @@
 package com.avengers.yoribogo.recipe.domain;
 
+import com.avengers.yoribogo.common.id.PooledIds;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -14,7 +15,8 @@ public class RecipeManual {
 
     @Id
     @Column(name = "RECIPE_MANUAL_ID")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_manual_seq")
+    @SequenceGenerator(name = "recipe_manual_seq", sequenceName = PooledIds.RECIPE_MANUAL_SEQ, allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long recipeManualId;
 
     @Column(name = "RECIPE_MANUAL_STEP")
@@ -0,0 +1,37 @@
+package com.avengers.yoribogo.recipe.dto;
+
+import com.avengers.yoribogo.recipe.domain.ImageJobStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ImageJobStatusDTO {
+
+    @JsonProperty("recipe_id")
+    private Long recipeId;
+
+    @JsonProperty("image_status")
+    private ImageJobStatus imageStatus;
+
+    // 지금까지 시도한 횟수
+    @JsonProperty("attempts")
+    private Integer attempts;
+
+    @JsonProperty("menu_image")
+    private String menuImage;
+
+    @JsonProperty("error_message")
+    private String errorMessage;
+
+    @JsonProperty("updated_at")
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,41 @@
+package com.avengers.yoribogo.recipe.dto;
+
+import com.avengers.yoribogo.recipe.ingredient.IngredientSourceType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class PantryMatchDTO {
+
+    // RECIPE: 요리 레시피, BOARD: 나만의 레시피 게시글
+    @JsonProperty("source_type")
+    private IngredientSourceType sourceType;
+
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("menu_name")
+    private String menuName;
+
+    @JsonProperty("menu_image")
+    private String menuImage;
+
+    // 재료 충족률 (0.0 ~ 1.0)
+    @JsonProperty("coverage")
+    private Double coverage;
+
+    @JsonProperty("matched_ingredients")
+    private List<String> matchedIngredients;
+
+    @JsonProperty("missing_ingredients")
+    private List<String> missingIngredients;
+
+}
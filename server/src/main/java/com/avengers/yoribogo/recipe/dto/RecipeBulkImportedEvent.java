@@ -0,0 +1,12 @@
+package com.avengers.yoribogo.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 레시피 일괄 등록 완료 이벤트 (검색·재료 색인 재구성용)
+@Data
+@AllArgsConstructor
+public class RecipeBulkImportedEvent {
+    private String importJobId;
+    private long importedRecipes;
+}
@@ -0,0 +1,41 @@
+package com.avengers.yoribogo.recipe.dto;
+
+import com.avengers.yoribogo.common.image.ImageVariantsDTO;
+import com.avengers.yoribogo.recipe.domain.MenuType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 레시피 목록 카드 (읽기 전용 프로젝션)
+// 재료(TEXT)와 매뉴얼은 읽지 않고 카드에 필요한 컬럼만 받는다. (RecipeRepository.findCardsBeforeCursor)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RecipeCardDTO {
+
+    @JsonProperty("recipe_id")
+    private Long recipeId;
+
+    @JsonProperty("menu_name")
+    private String menuName;
+
+    @JsonProperty("menu_image")
+    private String menuImage;
+
+    // 파생본이 만들어진 원본 키 (원본 키와 다르면 크기별 URL 대신 원본 URL 사용)
+    @JsonProperty("menu_image_variants_key")
+    private String menuImageVariantsKey;
+
+    @JsonProperty("menu_type")
+    private MenuType menuType;
+
+    @JsonProperty("user_id")
+    private Long userId;
+
+    // 크기별 이미지 URL (파생본이 아직 없으면 원본 URL)
+    @JsonProperty(value = "menu_image_variants", access = JsonProperty.Access.READ_ONLY)
+    public ImageVariantsDTO getMenuImageVariants() {
+        return ImageVariantsDTO.of(menuImage, menuImageVariantsKey);
+    }
+}
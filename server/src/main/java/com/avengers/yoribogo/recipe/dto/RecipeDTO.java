@@ -1,5 +1,6 @@
 package com.avengers.yoribogo.recipe.dto;
 
+import com.avengers.yoribogo.common.image.ImageVariantsDTO;
 import com.avengers.yoribogo.recipe.domain.MenuType;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -21,4 +22,14 @@ public class RecipeDTO extends BaseRecipeDTO {
     @JsonProperty("user_id")
     private Long userId;
 
+    // 파생본이 만들어진 원본 키 (원본 키와 다르면 크기별 URL 대신 원본 URL 사용)
+    @JsonProperty("menu_image_variants_key")
+    private String menuImageVariantsKey;
+
+    // 크기별 이미지 URL (파생본이 아직 없으면 원본 URL)
+    @JsonProperty(value = "menu_image_variants", access = JsonProperty.Access.READ_ONLY)
+    public ImageVariantsDTO getMenuImageVariants() {
+        return ImageVariantsDTO.of(getMenuImage(), menuImageVariantsKey);
+    }
+
 }
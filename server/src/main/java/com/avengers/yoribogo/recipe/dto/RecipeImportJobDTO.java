@@ -0,0 +1,53 @@
+package com.avengers.yoribogo.recipe.dto;
+
+import com.avengers.yoribogo.recipe.domain.RecipeImportFormat;
+import com.avengers.yoribogo.recipe.domain.RecipeImportStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class RecipeImportJobDTO {
+
+    @JsonProperty("import_job_id")
+    private String importJobId;
+
+    @JsonProperty("source_path")
+    private String sourcePath;
+
+    @JsonProperty("source_format")
+    private RecipeImportFormat sourceFormat;
+
+    @JsonProperty("import_status")
+    private RecipeImportStatus importStatus;
+
+    @JsonProperty("processed_records")
+    private Long processedRecords;
+
+    @JsonProperty("imported_recipes")
+    private Long importedRecipes;
+
+    @JsonProperty("skipped_records")
+    private Long skippedRecords;
+
+    // 처리 속도 (원본 레코드 수 / 초)
+    @JsonProperty("records_per_second")
+    private Double recordsPerSecond;
+
+    @JsonProperty("error_message")
+    private String errorMessage;
+
+    @JsonProperty("started_at")
+    private LocalDateTime startedAt;
+
+    @JsonProperty("updated_at")
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,11 @@
+package com.avengers.yoribogo.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 요리 레시피 매뉴얼 등록·수정 이벤트 (커밋 이후 상세 조회 캐시 무효화)
+@Data
+@AllArgsConstructor
+public class RecipeManualChangedEvent {
+    private Long recipeId;
+}
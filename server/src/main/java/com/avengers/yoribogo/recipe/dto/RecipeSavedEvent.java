@@ -0,0 +1,11 @@
+package com.avengers.yoribogo.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 요리 레시피 등록·수정 이벤트 (커밋 이후 검색 색인 등에 반영)
+@Data
+@AllArgsConstructor
+public class RecipeSavedEvent {
+    private RecipeDTO recipe;
+}
@@ -0,0 +1,29 @@
+package com.avengers.yoribogo.recipe.image;
+
+import java.util.Map;
+
+// 이미지 생성 작업 한 건 (스트림 메시지 필드)
+// attempt: 이미 실패한 횟수 (처음 등록 시 0)
+public record ImageJob(Long recipeId, String description, int attempt) {
+
+    static final String RECIPE_ID = "recipe_id";
+    static final String DESCRIPTION = "description";
+    static final String ATTEMPT = "attempt";
+
+    Map<String, String> toFields() {
+        return Map.of(RECIPE_ID, String.valueOf(recipeId),
+                DESCRIPTION, description == null ? "" : description,
+                ATTEMPT, String.valueOf(attempt));
+    }
+
+    static ImageJob from(Map<String, String> fields) {
+        String attempt = fields.get(ATTEMPT);
+        return new ImageJob(Long.valueOf(fields.get(RECIPE_ID)),
+                fields.get(DESCRIPTION),
+                attempt == null ? 0 : Integer.parseInt(attempt));
+    }
+
+    ImageJob nextAttempt() {
+        return new ImageJob(recipeId, description, attempt + 1);
+    }
+}
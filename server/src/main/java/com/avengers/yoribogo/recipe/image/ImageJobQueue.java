@@ -0,0 +1,290 @@
+package com.avengers.yoribogo.recipe.image;
+
+import com.avengers.yoribogo.recipe.domain.ImageJobStatus;
+import com.avengers.yoribogo.recipe.dto.ImageJobStatusDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 요리 이미지 생성 작업 큐 (Redis Streams)
+// 작업은 스트림에 남아 있다가 소비자 그룹(image-workers)의 워커가 나눠 처리하므로, 서버가 재시작돼도 사라지지 않는다.
+// 실패한 작업은 지수 백오프로 재시도 대기열(ZSET)에 넣었다가 다시 스트림으로 옮기고,
+// 최대 횟수를 넘기면 dead-letter 스트림으로 보낸다. 요리별 진행 상태는 해시에 기록한다.
+@Slf4j
+@Component
+public class ImageJobQueue {
+
+    static final String STREAM = "recipe:image:jobs";
+    static final String GROUP = "image-workers";
+    static final String DEAD_LETTER_STREAM = "recipe:image:jobs:dead";
+    static final String RETRY_KEY = "recipe:image:jobs:retry";
+    private static final String STATUS_PREFIX = "recipe:image:job:";
+
+    private static final Duration STATUS_TTL = Duration.ofDays(7);
+    private static final long DEAD_LETTER_MAX_LENGTH = 10_000;
+    private static final int MOVE_BATCH_SIZE = 100;
+
+    // 재시도 시각이 된 작업을 대기열에서 빼 스트림에 다시 넣기 (여러 서버가 동시에 옮겨도 한 번만 들어가도록 원자적으로)
+    private static final DefaultRedisScript<Long> MOVE_DUE_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for _, member in ipairs(due) do
+                redis.call('ZREM', KEYS[1], member)
+                local job = cjson.decode(member)
+                redis.call('XADD', KEYS[2], '*', 'recipe_id', job.recipe_id, 'description', job.description, 'attempt', job.attempt)
+            end
+            return #due
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${recipe.image-job.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${recipe.image-job.backoff-base-millis:5000}")
+    private long backoffBaseMillis;
+
+    @Value("${recipe.image-job.backoff-max-millis:600000}")
+    private long backoffMaxMillis;
+
+    // 이 시간 동안 확인(ACK)되지 않은 작업은 처리하던 서버가 죽은 것으로 보고 다시 넣는다
+    @Value("${recipe.image-job.visibility-timeout-seconds:600}")
+    private long visibilityTimeoutSeconds;
+
+    // OpenAI 요청 제한으로 밀린 작업을 다시 시도하기까지의 시간 (시도 횟수에는 포함하지 않음)
+    @Value("${recipe.image-job.deferred-delay-millis:10000}")
+    private long deferredDelayMillis;
+
+    private Counter completed;
+    private Counter retried;
+    private Counter dead;
+    private Counter deferred;
+
+    @Autowired
+    public ImageJobQueue(StringRedisTemplate stringRedisTemplate,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        completed = resultCounter("completed");
+        retried = resultCounter("retried");
+        dead = resultCounter("dead");
+        deferred = resultCounter("deferred");
+    }
+
+    // 작업 등록 (요리 등록 흐름에서 호출, Redis에 한 번 쓰고 바로 반환)
+    // 스트림에 넣지 못하면 작업이 사라지지 않도록 예외를 그대로 던진다. (호출한 쪽에서 직접 생성으로 대체)
+    public void enqueue(Long recipeId, String description) {
+        ImageJob job = new ImageJob(recipeId, description, 0);
+        stream().add(StreamRecords.newRecord().in(STREAM).ofMap(job.toFields()));
+        try {
+            updateStatus(job, ImageJobStatus.QUEUED, null, null);
+        } catch (Exception e) {
+            // 작업은 등록됐으므로 상태 기록만 건너뜀 (워커가 처리하면서 다시 기록)
+            log.warn("레시피 ID: {}의 이미지 생성 상태 기록 실패", recipeId, e);
+        }
+    }
+
+    // 요리별 이미지 생성 상태 (기록이 없으면 null)
+    public ImageJobStatusDTO findStatus(Long recipeId) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(STATUS_PREFIX + recipeId);
+        if (fields.isEmpty()) return null;
+
+        Object attempts = fields.get("attempts");
+        Object updatedAt = fields.get("updated_at");
+        return ImageJobStatusDTO
+                .builder()
+                .recipeId(recipeId)
+                .imageStatus(ImageJobStatus.valueOf((String) fields.get("status")))
+                .attempts(attempts == null ? 0 : Integer.parseInt((String) attempts))
+                .menuImage((String) fields.get("menu_image"))
+                .errorMessage((String) fields.get("error_message"))
+                .updatedAt(updatedAt == null ? null : LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(Long.parseLong((String) updatedAt)), ZoneId.systemDefault()))
+                .build();
+    }
+
+    // 소비자 그룹 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+    void createGroup() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(STREAM.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (RedisSystemException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) throw e;
+        }
+    }
+
+    void markRunning(ImageJob job) {
+        updateStatus(job, ImageJobStatus.RUNNING, null, null);
+    }
+
+    void complete(RecordId recordId, ImageJob job, String imageUrl) {
+        updateStatus(job, ImageJobStatus.COMPLETED, imageUrl, null);
+        remove(recordId);
+        completed.increment();
+    }
+
+    // 실패 처리: 재시도 가능하고 횟수가 남았으면 백오프 후 재시도, 아니면 dead-letter로 이동
+    void fail(RecordId recordId, ImageJob job, Exception cause, boolean retryable) {
+        ImageJob failed = job.nextAttempt();
+        String errorMessage = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+
+        if (retryable && failed.attempt() < maxAttempts) {
+            long dueAt = System.currentTimeMillis() + retryDelayMillis(failed.attempt(), backoffBaseMillis, backoffMaxMillis);
+            stringRedisTemplate.opsForZSet().add(RETRY_KEY, toRetryMember(failed), dueAt);
+            updateStatus(failed, ImageJobStatus.RETRYING, null, errorMessage);
+            retried.increment();
+        } else {
+            Map<String, String> fields = new HashMap<>(failed.toFields());
+            fields.put("error_message", errorMessage);
+            stream().add(StreamRecords.newRecord().in(DEAD_LETTER_STREAM).ofMap(fields));
+            stream().trim(DEAD_LETTER_STREAM, DEAD_LETTER_MAX_LENGTH, true);
+            updateStatus(failed, ImageJobStatus.FAILED, null, errorMessage);
+            dead.increment();
+            log.error("레시피 ID: {}의 이미지 생성 최종 실패 ({}회 시도)", job.recipeId(), failed.attempt(), cause);
+        }
+        remove(recordId);
+    }
+
+    // 요청 제한으로 처리하지 못한 작업을 나중으로 미루기 (실패로 세지 않음, 동시에 몰리지 않도록 지터 추가)
+    void defer(RecordId recordId, ImageJob job) {
+        long delayMillis = deferredDelayMillis + ThreadLocalRandom.current().nextLong(deferredDelayMillis / 2 + 1);
+        stringRedisTemplate.opsForZSet().add(RETRY_KEY, toRetryMember(job), System.currentTimeMillis() + delayMillis);
+        updateStatus(job, ImageJobStatus.QUEUED, null, null);
+        remove(recordId);
+        deferred.increment();
+    }
+
+    // 재시도 시각이 된 작업을 스트림으로 이동
+    @Scheduled(fixedDelayString = "${recipe.image-job.retry-poll-millis:1000}")
+    public void moveDueRetries() {
+        try {
+            stringRedisTemplate.execute(MOVE_DUE_SCRIPT, List.of(RETRY_KEY, STREAM),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(MOVE_BATCH_SIZE));
+        } catch (Exception e) {
+            log.warn("이미지 생성 재시도 작업 이동 실패", e);
+        }
+    }
+
+    // 처리 중 서버가 종료돼 오래 확인되지 않은 작업을 스트림에 다시 넣고, 처리할 작업이 없는 유휴 소비자 정리
+    @Scheduled(fixedDelayString = "${recipe.image-job.reclaim-poll-millis:60000}")
+    public void requeueStale() {
+        reclaimStale();
+        removeIdleConsumers();
+    }
+
+    private void reclaimStale() {
+        try {
+            Duration visibilityTimeout = Duration.ofSeconds(visibilityTimeoutSeconds);
+            PendingMessages pending = stream().pending(STREAM, GROUP, Range.unbounded(), MOVE_BATCH_SIZE);
+            List<RecordId> stale = new ArrayList<>();
+            for (PendingMessage message : pending) {
+                if (message.getElapsedTimeSinceLastDelivery().compareTo(visibilityTimeout) > 0) {
+                    stale.add(message.getId());
+                }
+            }
+            if (stale.isEmpty()) return;
+
+            // claim은 최소 대기 시간을 다시 확인하므로 다른 서버가 먼저 옮긴 작업은 돌아오지 않는다
+            List<MapRecord<String, Object, Object>> claimed = stream().claim(STREAM, GROUP, "reclaimer",
+                    visibilityTimeout, stale.toArray(RecordId[]::new));
+            for (MapRecord<String, Object, Object> record : claimed) {
+                Map<String, String> fields = new HashMap<>();
+                record.getValue().forEach((key, value) -> fields.put((String) key, (String) value));
+                stream().add(StreamRecords.newRecord().in(STREAM).ofMap(fields));
+                remove(record.getId());
+            }
+            log.warn("응답 없는 이미지 생성 작업 {}건 재등록", claimed.size());
+        } catch (Exception e) {
+            log.warn("응답 없는 이미지 생성 작업 재등록 실패", e);
+        }
+    }
+
+    // 사라진 서버의 소비자가 그룹에 계속 쌓이지 않도록 삭제
+    // 처리 중인 작업이 남은 소비자는 reclaimStale이 작업을 옮긴 다음 주기에 삭제한다.
+    void removeIdleConsumers() {
+        try {
+            long idleTimeoutMillis = Duration.ofSeconds(visibilityTimeoutSeconds).toMillis();
+            for (StreamInfo.XInfoConsumer consumer : stream().consumers(STREAM, GROUP)) {
+                if (consumer.pendingCount() == 0 && consumer.idleTimeMs() > idleTimeoutMillis) {
+                    stream().deleteConsumer(STREAM, Consumer.from(GROUP, consumer.consumerName()));
+                    log.info("유휴 이미지 생성 소비자 삭제: {}", consumer.consumerName());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("유휴 이미지 생성 소비자 삭제 실패", e);
+        }
+    }
+
+    // n번째 실패 후 대기 시간: base * 2^(n-1), 최대 max
+    static long retryDelayMillis(int attempt, long baseMillis, long maxMillis) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 30);
+        return Math.min(baseMillis << shift, maxMillis);
+    }
+
+    // 처리 완료된 메시지는 확인 후 스트림에서 삭제 (스트림에는 대기·처리 중인 작업만 남는다)
+    private void remove(RecordId recordId) {
+        stream().acknowledge(STREAM, GROUP, recordId);
+        stream().delete(STREAM, recordId);
+    }
+
+    private void updateStatus(ImageJob job, ImageJobStatus status, String imageUrl, String errorMessage) {
+        String key = STATUS_PREFIX + job.recipeId();
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", status.name());
+        fields.put("attempts", String.valueOf(job.attempt()));
+        fields.put("updated_at", String.valueOf(System.currentTimeMillis()));
+        if (imageUrl != null) fields.put("menu_image", imageUrl);
+        if (errorMessage != null) fields.put("error_message", errorMessage);
+
+        stringRedisTemplate.opsForHash().putAll(key, fields);
+        if (status == ImageJobStatus.COMPLETED) stringRedisTemplate.opsForHash().delete(key, "error_message");
+        stringRedisTemplate.expire(key, STATUS_TTL);
+    }
+
+    private String toRetryMember(ImageJob job) {
+        try {
+            return objectMapper.writeValueAsString(job.toFields());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private StreamOperations<String, Object, Object> stream() {
+        return stringRedisTemplate.opsForStream();
+    }
+
+    private Counter resultCounter(String result) {
+        return Counter.builder("recipe.image.jobs")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,143 @@
+package com.avengers.yoribogo.recipe.image;
+
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.recipe.service.ImageService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+
+// 이미지 생성 작업 워커
+// 서버마다 concurrency개의 소비자가 한 번에 한 건씩 가져가므로, OpenAI 이미지 API 동시 호출 수는
+// (서버 수 × concurrency)를 넘지 않는다. 밀린 작업은 스트림에서 기다릴 뿐 버려지지 않는다.
+@Slf4j
+@Component
+public class ImageJobWorker {
+
+    private final ImageJobQueue imageJobQueue;
+    private final ImageService imageService;
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    // 서버 하나에서 동시에 처리할 이미지 생성 작업 수
+    @Value("${recipe.image-job.concurrency:2}")
+    private int concurrency;
+
+    // 소비자 이름 (미입력 시 호스트 이름, 재시작해도 같은 이름으로 이어서 소비)
+    @Value("${recipe.image-job.consumer-name:}")
+    private String configuredConsumerName;
+
+    private String consumerName;
+
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    @Autowired
+    public ImageJobWorker(ImageJobQueue imageJobQueue,
+                          ImageService imageService,
+                          RedisConnectionFactory redisConnectionFactory) {
+        this.imageJobQueue = imageJobQueue;
+        this.imageService = imageService;
+        this.redisConnectionFactory = redisConnectionFactory;
+    }
+
+    // 애플리케이션 기동 후 소비 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        imageJobQueue.createGroup();
+        consumerName = "image-worker-" + (StringUtils.hasText(configuredConsumerName) ? configuredConsumerName : hostName());
+
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofSeconds(2))
+                        .batchSize(1)
+                        .executor(new SimpleAsyncTaskExecutor("ImageJobWorker-"))
+                        .build();
+        container = StreamMessageListenerContainer.create(redisConnectionFactory, options);
+
+        for (int i = 0; i < concurrency; i++) {
+            // Redis 연결 오류가 나도 구독을 끊지 않고 다음 폴링에서 다시 시도
+            StreamReadRequest<String> request = StreamReadRequest
+                    .builder(StreamOffset.create(ImageJobQueue.STREAM, ReadOffset.lastConsumed()))
+                    .consumer(Consumer.from(ImageJobQueue.GROUP, consumerName + "-" + i))
+                    .autoAcknowledge(false)
+                    .cancelOnError(e -> false)
+                    .errorHandler(e -> log.warn("이미지 생성 작업 조회 실패", e))
+                    .build();
+            container.register(request, this::handle);
+        }
+        container.start();
+        log.info("이미지 생성 워커 시작: {} ({}개)", consumerName, concurrency);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (container != null) container.stop();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+
+    void handle(MapRecord<String, String, String> record) {
+        ImageJob job = ImageJob.from(record.getValue());
+        try {
+            imageJobQueue.markRunning(job);
+            String imageUrl = imageService.generateImage(job.description(), job.recipeId());
+            imageJobQueue.complete(record.getId(), job, imageUrl);
+        } catch (CommonException e) {
+            if (e.getErrorCode() == ErrorCode.OPENAI_RATE_LIMITED) {
+                // 추천 등 우선순위가 높은 요청에 밀린 경우는 실패로 세지 않고 나중에 다시 처리
+                deferOrFail(record, job, e);
+            } else {
+                fail(record, job, e);
+            }
+        } catch (Exception e) {
+            fail(record, job, e);
+        }
+    }
+
+    private void deferOrFail(MapRecord<String, String, String> record, ImageJob job, Exception e) {
+        try {
+            imageJobQueue.defer(record.getId(), job);
+        } catch (Exception deferFailure) {
+            fail(record, job, e);
+        }
+    }
+
+    private void fail(MapRecord<String, String, String> record, ImageJob job, Exception e) {
+        log.warn("레시피 ID: {}의 이미지 생성 실패 ({}회째)", job.recipeId(), job.attempt() + 1, e);
+        try {
+            imageJobQueue.fail(record.getId(), job, e, isRetryable(e));
+        } catch (Exception failure) {
+            // 확인(ACK)하지 못한 작업은 visibility timeout 이후 다시 처리된다
+            log.error("레시피 ID: {}의 이미지 생성 실패 기록 오류", job.recipeId(), failure);
+        }
+    }
+
+    // 요리가 삭제된 경우는 다시 시도해도 소용없으므로 바로 실패 처리
+    private static boolean isRetryable(Exception e) {
+        return !(e instanceof CommonException commonException
+                && commonException.getErrorCode() == ErrorCode.NOT_FOUND_RECIPE);
+    }
+}
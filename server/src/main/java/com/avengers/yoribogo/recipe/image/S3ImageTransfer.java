@@ -0,0 +1,235 @@
+package com.avengers.yoribogo.recipe.image;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.*;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 외부 이미지 URL -> S3 스트리밍 전송
+// 다운로드는 WebClient(Netty)로 받아 파트 크기만큼만 모았다가 S3 멀티파트 업로드로 올리므로,
+// 이미지 전체를 메모리에 올리지 않고 한 번에 최대 한 파트만 들고 있는다.
+// 한 파트보다 작은 이미지(대부분의 AI 이미지)는 멀티파트 없이 한 번에 올린다.
+@Slf4j
+@Component
+public class S3ImageTransfer {
+
+    // S3 멀티파트 업로드의 마지막이 아닌 파트 최소 크기
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    private static final int INITIAL_BUFFER_SIZE = 256 * 1024;
+    private static final String DEFAULT_CONTENT_TYPE = MediaType.IMAGE_PNG_VALUE;
+
+    private final AmazonS3Client s3Client;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${recipe.image-transfer.part-size-bytes:5242880}")
+    private int partSize;
+
+    @Value("${recipe.image-transfer.connect-timeout-millis:5000}")
+    private int connectTimeoutMillis;
+
+    // 응답 헤더를 받을 때까지 기다리는 시간
+    @Value("${recipe.image-transfer.response-timeout-seconds:30}")
+    private long responseTimeoutSeconds;
+
+    // 다운로드부터 업로드 완료까지 전체 제한 시간
+    @Value("${recipe.image-transfer.timeout-seconds:120}")
+    private long timeoutSeconds;
+
+    private WebClient webClient;
+    private Timer succeeded;
+    private Timer failed;
+    private DistributionSummary transferredBytes;
+    private DistributionSummary throughput;
+
+    @Autowired
+    public S3ImageTransfer(AmazonS3Client s3Client, MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        partSize = Math.max(partSize, MIN_PART_SIZE);
+
+        HttpClient client = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds));
+        webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(client))
+                .build();
+
+        succeeded = transferTimer("success");
+        failed = transferTimer("failure");
+        transferredBytes = DistributionSummary.builder("recipe.image.transfer.size")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        throughput = DistributionSummary.builder("recipe.image.transfer.throughput")
+                .description("다운로드 시작부터 업로드 완료까지의 전송 속도")
+                .baseUnit("bytes/s")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+    }
+
+    // sourceUrl의 이미지를 S3의 key로 전송하고 S3 URL 반환
+    public Mono<String> transfer(String sourceUrl, String key) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return webClient.get()
+                    .uri(URI.create(sourceUrl))
+                    .retrieve()
+                    .toEntityFlux(DataBuffer.class)
+                    .flatMap(entity -> {
+                        MediaType contentType = entity.getHeaders().getContentType();
+                        Upload upload = new Upload(key, contentType == null ? DEFAULT_CONTENT_TYPE : contentType.toString());
+                        return entity.getBody()
+                                .concatMap(upload::write, 1)
+                                .then(Mono.defer(upload::finish))
+                                .onErrorResume(e -> upload.abort().then(Mono.error(e)))
+                                .doOnCancel(upload::abortLater)
+                                .doOnSuccess(url -> record(upload.bytes, startedAt));
+                    })
+                    .timeout(Duration.ofSeconds(timeoutSeconds))
+                    .doOnError(e -> failed.record(Duration.ofNanos(System.nanoTime() - startedAt)));
+        });
+    }
+
+    private void record(long bytes, long startedAt) {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        succeeded.record(Duration.ofNanos(elapsedNanos));
+        transferredBytes.record(bytes);
+        if (elapsedNanos > 0) throughput.record(bytes * 1_000_000_000d / elapsedNanos);
+    }
+
+    private Timer transferTimer(String result) {
+        return Timer.builder("recipe.image.transfer")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 전송 한 건의 상태 (concatMap으로 순서대로만 호출되므로 동시 접근 없음)
+    private final class Upload {
+
+        private final String key;
+        private final String contentType;
+        private final List<PartETag> partETags = new ArrayList<>();
+
+        private byte[] part = new byte[INITIAL_BUFFER_SIZE];
+        private int filled;
+        private long bytes;
+        private String uploadId;
+
+        private Upload(String key, String contentType) {
+            this.key = key;
+            this.contentType = contentType;
+        }
+
+        // 받은 조각을 파트 버퍼에 옮기고, 파트가 차면 업로드가 끝날 때까지 다음 조각을 요청하지 않는다
+        private Mono<Void> write(DataBuffer buffer) {
+            byte[] chunk = new byte[buffer.readableByteCount()];
+            buffer.read(chunk);
+            DataBufferUtils.release(buffer);
+            bytes += chunk.length;
+            return append(chunk, 0);
+        }
+
+        private Mono<Void> append(byte[] chunk, int offset) {
+            int length = Math.min(chunk.length - offset, partSize - filled);
+            ensureCapacity(filled + length);
+            System.arraycopy(chunk, offset, part, filled, length);
+            filled += length;
+            if (filled < partSize) return Mono.empty();
+
+            int next = offset + length;
+            return Mono.<Void>fromRunnable(() -> uploadPart(false))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then(Mono.defer(() -> next < chunk.length ? append(chunk, next) : Mono.empty()));
+        }
+
+        private Mono<String> finish() {
+            return Mono.fromCallable(() -> {
+                if (uploadId == null) {
+                    // 한 파트 이하: 단일 업로드
+                    ObjectMetadata metadata = metadata();
+                    metadata.setContentLength(filled);
+                    s3Client.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(part, 0, filled), metadata));
+                } else {
+                    if (filled > 0) uploadPart(true);
+                    s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+                }
+                return s3Client.getUrl(bucket, key).toString();
+            }).subscribeOn(Schedulers.boundedElastic());
+        }
+
+        // 실패 시 올리던 멀티파트 업로드 취소 (남은 파트에 저장 비용이 붙지 않도록)
+        private Mono<Void> abort() {
+            if (uploadId == null) return Mono.empty();
+
+            return Mono.<Void>fromRunnable(() -> {
+                try {
+                    s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+                } catch (Exception e) {
+                    log.warn("S3 멀티파트 업로드 취소 실패: {}", key, e);
+                }
+            }).subscribeOn(Schedulers.boundedElastic());
+        }
+
+        private void abortLater() {
+            abort().subscribe();
+        }
+
+        private void uploadPart(boolean lastPart) {
+            if (uploadId == null) {
+                uploadId = s3Client.initiateMultipartUpload(
+                        new InitiateMultipartUploadRequest(bucket, key, metadata())).getUploadId();
+            }
+
+            UploadPartResult result = s3Client.uploadPart(new UploadPartRequest()
+                    .withBucketName(bucket)
+                    .withKey(key)
+                    .withUploadId(uploadId)
+                    .withPartNumber(partETags.size() + 1)
+                    .withInputStream(new ByteArrayInputStream(part, 0, filled))
+                    .withPartSize(filled)
+                    .withLastPart(lastPart));
+            partETags.add(result.getPartETag());
+            filled = 0;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= part.length) return;
+            part = Arrays.copyOf(part, Math.min(partSize, Math.max(capacity, part.length * 2)));
+        }
+
+        private ObjectMetadata metadata() {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(contentType);
+            metadata.setContentDisposition("inline");
+            return metadata;
+        }
+    }
+}
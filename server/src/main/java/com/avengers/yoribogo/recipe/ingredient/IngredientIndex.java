@@ -0,0 +1,247 @@
+package com.avengers.yoribogo.recipe.ingredient;
+
+import com.avengers.yoribogo.common.LongTopK;
+import org.roaringbitmap.BatchIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 재료 역색인 (메모리 상주)
+// 재료별로 해당 재료를 쓰는 문서 번호 비트맵(Roaring)을, 문서별로 정렬된 재료 번호 배열을 유지한다.
+// 전체 교체는 새 사전·색인을 락 밖에서 만든 뒤 락 안에서 참조만 바꿔, 재구축 중에도 조회가 막히지 않는다.
+public class IngredientIndex {
+
+    private static final float COMPACT_RATIO = 0.25f;
+    private static final int COMPACT_MIN_TOMBSTONES = 1024;
+    private static final int MAX_MISSING = 1023;
+    private static final int BATCH_SIZE = 256;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 재료 사전과 색인 (항상 함께 교체)
+    private State state = new State();
+
+    // 전체 색인 교체 (초기 적재 및 재구축)
+    public void replaceAll(Collection<Document> documents) {
+        // 새 사전·색인은 락 밖에서 구성
+        State next = new State();
+        for (Document document : documents) {
+            Entry entry = next.toEntry(document);
+            if (entry == null || next.docByKey.containsKey(entry.key())) continue;
+            next.addEntry(entry);
+        }
+        next.optimize();
+
+        lock.writeLock().lock();
+        try {
+            state = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 문서 추가 또는 수정 (재료가 없으면 색인에서 제외)
+    public void upsert(Document document) {
+        lock.writeLock().lock();
+        try {
+            state.removeEntry(key(document.type(), document.id()));
+
+            Entry entry = state.toEntry(document);
+            if (entry != null) state.addEntry(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 문서 삭제
+    public void remove(IngredientSourceType type, long id) {
+        lock.writeLock().lock();
+        try {
+            state.removeEntry(key(type, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 보유 재료로 만들 수 있는 문서를 재료 충족률 순으로 조회
+    public List<Match> match(Collection<String> pantry, boolean includeStaples, boolean includeBoards, int limit) {
+        Set<String> pantryTokens = new LinkedHashSet<>();
+        for (String item : pantry) pantryTokens.addAll(IngredientParser.parse(item));
+
+        lock.readLock().lock();
+        try {
+            State current = state;
+
+            // 기본 양념은 포스팅을 훑지 않고 문서별 개수로 계산
+            Set<Integer> pantryIds = new HashSet<>();
+            for (String token : pantryTokens) {
+                if (includeStaples && IngredientParser.isStaple(token)) continue;
+                Integer id = current.ingredientIds.get(token);
+                if (id != null) pantryIds.add(id);
+            }
+            if (pantryIds.isEmpty()) return List.of();
+
+            // 1. 보유 재료 비트맵을 묶음 단위로 훑으며 문서별 일치 재료 수 누적
+            int[] counts = new int[current.entries.size()];
+            int[] buffer = new int[BATCH_SIZE];
+            for (Integer id : pantryIds) {
+                RoaringBitmap posting = current.posting(id);
+                if (posting == null) continue;
+
+                BatchIterator it = posting.getBatchIterator();
+                while (it.hasNext()) {
+                    int n = it.nextBatch(buffer);
+                    for (int i = 0; i < n; i++) counts[buffer[i]]++;
+                }
+            }
+
+            // 2. 충족률 > 부족 재료 수 > 최근 등록 순으로 상위 limit개 선택
+            LongTopK top = new LongTopK(limit);
+            for (int doc = 0; doc < counts.length; doc++) {
+                if (counts[doc] == 0) continue;
+
+                Entry entry = current.entries.get(doc);
+                if (entry == null || (!includeBoards && entry.type == IngredientSourceType.BOARD)) continue;
+
+                int total = entry.ingredients.length;
+                int matched = counts[doc] + (includeStaples ? entry.stapleCount : 0);
+                long coverage = (long) matched * 10000 / total;
+                long missing = Math.min(total - matched, MAX_MISSING);
+                top.offer((coverage << 42) | ((MAX_MISSING - missing) << 32) | doc);
+            }
+
+            // 3. 일치·부족 재료 목록 구성
+            List<Match> matches = new ArrayList<>();
+            for (long key : top.sortedDescending()) {
+                Entry entry = current.entries.get((int) key);
+                List<String> matchedNames = new ArrayList<>();
+                List<String> missingNames = new ArrayList<>();
+                for (int id : entry.ingredients) {
+                    String name = current.ingredientNames.get(id);
+                    boolean owned = pantryIds.contains(id) || (includeStaples && IngredientParser.isStaple(name));
+                    (owned ? matchedNames : missingNames).add(name);
+                }
+                matches.add(new Match(entry.type, entry.id, entry.name, entry.image,
+                        (double) matchedNames.size() / entry.ingredients.length, matchedNames, missingNames));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인된 문서 수
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.docByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static long key(IngredientSourceType type, long id) {
+        return ((long) type.ordinal() << 56) | id;
+    }
+
+    // 색인 대상 문서
+    public record Document(IngredientSourceType type, long id, String name, String image, String ingredientText) {
+    }
+
+    // 조회 결과 (충족률과 일치·부족 재료)
+    public record Match(IngredientSourceType type, long id, String name, String image,
+                        double coverage, List<String> matchedIngredients, List<String> missingIngredients) {
+    }
+
+    private record Entry(IngredientSourceType type, long id, String name, String image,
+                         int[] ingredients, int stapleCount) {
+
+        private long key() {
+            return IngredientIndex.key(type, id);
+        }
+    }
+
+    // 재료 사전과 색인 한 벌 (게시된 뒤에는 쓰기 락 안에서만 수정)
+    private static final class State {
+
+        // 재료 사전 (재료 번호는 이 사전 안에서 한 번 부여되면 재사용)
+        private final Map<String, Integer> ingredientIds = new HashMap<>();
+        private final List<String> ingredientNames = new ArrayList<>();
+
+        private List<RoaringBitmap> postings = new ArrayList<>();
+        private List<Entry> entries = new ArrayList<>();
+        private Map<Long, Integer> docByKey = new HashMap<>();
+        private int tombstones = 0;
+
+        // 재료 번호의 포스팅 (아직 문서가 없는 재료면 null)
+        private RoaringBitmap posting(int id) {
+            return id < postings.size() ? postings.get(id) : null;
+        }
+
+        // 재료 문자열 파싱 및 재료 번호 부여
+        private Entry toEntry(Document document) {
+            List<String> tokens = IngredientParser.parse(document.ingredientText());
+            if (tokens.isEmpty()) return null;
+
+            int[] ids = new int[tokens.size()];
+            int stapleCount = 0;
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                ids[i] = ingredientIds.computeIfAbsent(token, t -> {
+                    ingredientNames.add(t);
+                    return ingredientNames.size() - 1;
+                });
+                if (IngredientParser.isStaple(token)) stapleCount++;
+            }
+            Arrays.sort(ids);
+
+            return new Entry(document.type(), document.id(), document.name(), document.image(), ids, stapleCount);
+        }
+
+        private void addEntry(Entry entry) {
+            int doc = entries.size();
+            entries.add(entry);
+            docByKey.put(entry.key(), doc);
+
+            for (int id : entry.ingredients) {
+                while (postings.size() <= id) postings.add(new RoaringBitmap());
+                postings.get(id).add(doc);
+            }
+        }
+
+        private void removeEntry(long key) {
+            Integer doc = docByKey.remove(key);
+            if (doc == null) return;
+
+            Entry previous = entries.get(doc);
+            for (int id : previous.ingredients) postings.get(id).remove(doc);
+            entries.set(doc, null);
+            tombstones++;
+
+            if (tombstones >= COMPACT_MIN_TOMBSTONES && tombstones > entries.size() * COMPACT_RATIO) {
+                compact();
+            }
+        }
+
+        // 삭제된 문서를 제외하고 문서 번호를 다시 매김 (사전의 모든 재료 번호에 포스팅을 둔다)
+        private void compact() {
+            List<Entry> live = new ArrayList<>(docByKey.size());
+            for (Entry entry : entries) {
+                if (entry != null) live.add(entry);
+            }
+
+            postings = new ArrayList<>(ingredientNames.size());
+            for (int i = 0; i < ingredientNames.size(); i++) postings.add(new RoaringBitmap());
+            entries = new ArrayList<>(live.size());
+            docByKey = new HashMap<>(live.size() * 2);
+            tombstones = 0;
+            for (Entry entry : live) addEntry(entry);
+            optimize();
+        }
+
+        private void optimize() {
+            for (RoaringBitmap posting : postings) posting.runOptimize();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.avengers.yoribogo.recipe.ingredient;
+
+import com.avengers.yoribogo.recipe.domain.Recipe;
+import com.avengers.yoribogo.recipe.dto.RecipeBulkImportedEvent;
+import com.avengers.yoribogo.recipe.dto.RecipeDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeRemovedEvent;
+import com.avengers.yoribogo.recipe.dto.RecipeSavedEvent;
+import com.avengers.yoribogo.recipe.repository.RecipeRepository;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoard;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoardStatus;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardRemovedEvent;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardSavedEvent;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 보유 재료 기반 레시피 추천 엔진
+// 요리 레시피와 나만의 레시피 게시글의 재료를 메모리 역색인으로 유지하고,
+// 변경은 커밋 이후 이벤트와 Redis Pub/Sub로 모든 서버에 반영한다.
+@Slf4j
+@Component
+public class IngredientMatchEngine implements MessageListener {
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+    private static final String CHANGE_CHANNEL = "recipe:ingredient:changed";
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeBoardRepository recipeBoardRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final IngredientIndex index = new IngredientIndex();
+
+    // 다른 서버에서 보낸 메시지만 처리하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 재구축 중 변경된 문서 ("타입:ID", 재구축 완료 후 다시 반영)
+    private final Set<String> changedWhileRebuilding = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+
+    @Autowired
+    public IngredientMatchEngine(RecipeRepository recipeRepository,
+                                 RecipeBoardRepository recipeBoardRepository,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.recipeRepository = recipeRepository;
+        this.recipeBoardRepository = recipeBoardRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    // 애플리케이션 기동 후 색인 적재
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 매일 새벽 전체 재구축 (Pub/Sub 메시지 유실 대비)
+    @Scheduled(cron = "0 40 4 * * *")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        changedWhileRebuilding.clear();
+
+        try {
+            List<IngredientIndex.Document> documents = new ArrayList<>();
+
+            long lastRecipeId = 0L;
+            while (true) {
+                List<Recipe> batch = recipeRepository.findByRecipeIdGreaterThanOrderByRecipeIdAsc(
+                        lastRecipeId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                if (batch.isEmpty()) break;
+
+                for (Recipe recipe : batch) documents.add(toDocument(recipe));
+                lastRecipeId = batch.get(batch.size() - 1).getRecipeId();
+            }
+
+            long lastRecipeBoardId = 0L;
+            while (true) {
+                List<RecipeBoard> batch = recipeBoardRepository.findByRecipeBoardIdGreaterThanOrderByRecipeBoardIdAsc(
+                        lastRecipeBoardId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                if (batch.isEmpty()) break;
+
+                for (RecipeBoard recipeBoard : batch) {
+                    if (recipeBoard.getRecipeBoardStatus() == RecipeBoardStatus.ACTIVE) {
+                        documents.add(toDocument(recipeBoard));
+                    }
+                }
+                lastRecipeBoardId = batch.get(batch.size() - 1).getRecipeBoardId();
+            }
+
+            index.replaceAll(documents);
+            rebuilding = false;
+
+            // 적재 도중 변경된 문서는 최신 상태로 다시 반영
+            for (String changed : changedWhileRebuilding) {
+                reload(changed);
+            }
+            changedWhileRebuilding.clear();
+
+            ready = true;
+            log.info("재료 색인 적재 완료: {}건, {}ms", index.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("재료 색인 적재 실패", e);
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 보유 재료로 만들 수 있는 레시피를 재료 충족률 순으로 조회
+    public List<IngredientIndex.Match> match(Collection<String> pantry, boolean includeStaples,
+                                             boolean includeBoards, int limit) {
+        return index.match(pantry, includeStaples, includeBoards, limit);
+    }
+
+    // 요리 레시피 등록·수정 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeSaved(RecipeSavedEvent event) {
+        RecipeDTO recipe = event.getRecipe();
+        markChanged(IngredientSourceType.RECIPE, recipe.getRecipeId());
+        index.upsert(new IngredientIndex.Document(IngredientSourceType.RECIPE, recipe.getRecipeId(),
+                recipe.getMenuName(), recipe.getMenuImage(), recipe.getMenuIngredient()));
+        broadcast(IngredientSourceType.RECIPE, recipe.getRecipeId());
+    }
+
+    // 요리 레시피 삭제 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeRemoved(RecipeRemovedEvent event) {
+        markChanged(IngredientSourceType.RECIPE, event.getRecipeId());
+        index.remove(IngredientSourceType.RECIPE, event.getRecipeId());
+        broadcast(IngredientSourceType.RECIPE, event.getRecipeId());
+    }
+
+    // 나만의 레시피 게시글 등록·수정 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeBoardSaved(RecipeBoardSavedEvent event) {
+        markChanged(IngredientSourceType.BOARD, event.getRecipeBoardId());
+        index.upsert(new IngredientIndex.Document(IngredientSourceType.BOARD, event.getRecipeBoardId(),
+                event.getRecipeBoardMenuName(), event.getRecipeBoardImage(), event.getRecipeBoardIngredient()));
+        broadcast(IngredientSourceType.BOARD, event.getRecipeBoardId());
+    }
+
+    // 나만의 레시피 게시글 삭제 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeBoardRemoved(RecipeBoardRemovedEvent event) {
+        markChanged(IngredientSourceType.BOARD, event.getRecipeBoardId());
+        index.remove(IngredientSourceType.BOARD, event.getRecipeBoardId());
+        broadcast(IngredientSourceType.BOARD, event.getRecipeBoardId());
+    }
+
+    // 레시피 일괄 등록 완료 후 전체 재구축 (건별 이벤트 없이 대량으로 추가되므로)
+    @Async
+    @EventListener
+    public void handleRecipeBulkImported(RecipeBulkImportedEvent event) {
+        rebuild();
+    }
+
+    // 다른 서버에서 변경된 문서를 DB에서 다시 읽어 반영 (메시지 형식: "인스턴스:타입:ID")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) return;
+
+        try {
+            String changed = body.substring(separator + 1);
+            if (rebuilding) changedWhileRebuilding.add(changed);
+            reload(changed);
+        } catch (Exception e) {
+            log.warn("재료 색인 변경 메시지 처리 실패: {}", body, e);
+        }
+    }
+
+    private void reload(String changed) {
+        int separator = changed.indexOf(':');
+        IngredientSourceType type = IngredientSourceType.valueOf(changed.substring(0, separator));
+        Long id = Long.valueOf(changed.substring(separator + 1));
+
+        if (type == IngredientSourceType.RECIPE) {
+            recipeRepository.findById(id)
+                    .map(this::toDocument)
+                    .ifPresentOrElse(index::upsert, () -> index.remove(type, id));
+        } else {
+            recipeBoardRepository.findById(id)
+                    .filter(recipeBoard -> recipeBoard.getRecipeBoardStatus() == RecipeBoardStatus.ACTIVE)
+                    .map(this::toDocument)
+                    .ifPresentOrElse(index::upsert, () -> index.remove(type, id));
+        }
+    }
+
+    private IngredientIndex.Document toDocument(Recipe recipe) {
+        return new IngredientIndex.Document(IngredientSourceType.RECIPE, recipe.getRecipeId(),
+                recipe.getMenuName(), recipe.getMenuImage(), recipe.getMenuIngredient());
+    }
+
+    private IngredientIndex.Document toDocument(RecipeBoard recipeBoard) {
+        return new IngredientIndex.Document(IngredientSourceType.BOARD, recipeBoard.getRecipeBoardId(),
+                recipeBoard.getRecipeBoardMenuName(), recipeBoard.getRecipeBoardImage(),
+                recipeBoard.getRecipeBoardIngredient());
+    }
+
+    private void markChanged(IngredientSourceType type, Long id) {
+        if (rebuilding) changedWhileRebuilding.add(type + ":" + id);
+    }
+
+    private void broadcast(IngredientSourceType type, Long id) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, instanceId + ":" + type + ":" + id);
+        } catch (Exception e) {
+            log.warn("재료 색인 변경 전파 실패: {}:{}", type, id, e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.avengers.yoribogo.recipe.ingredient;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+// 자유 형식 재료 문자열을 정규화된 재료 토큰으로 분해
+// 예: "설탕 2스푼, 다진 마늘 1큰술, 달걀 30g(1/2개)" -> [설탕, 마늘, 계란]
+public final class IngredientParser {
+
+    // 괄호 안 부가 설명 (예: "(1/2개)", "[소스]")
+    private static final Pattern BRACKETS = Pattern.compile("\\(.*?\\)|\\[.*?]|<.*?>|【.*?】");
+
+    private static final Pattern HAS_AMOUNT_OR_SEPARATOR = Pattern.compile("[0-9,，]");
+
+    // 재료 구분자
+    private static final Pattern SEPARATORS = Pattern.compile("[,，、·•/\\n\\r]+");
+
+    // 숫자 없이 쓰인 분량 표현 (예: "양파 반개", "소금 약간")
+    private static final Pattern AMOUNT_WORDS = Pattern.compile(
+            "\\s+(약간|적당량|적당히|조금|소량|넉넉히|취향껏|한줌|한꼬집|" +
+                    "(반|한|두|세|네)\\s*(개|큰술|작은술|스푼|숟가락|컵|줌|꼬집|쪽|알|대|장|모|마리|뿌리|봉지|팩|캔))$");
+
+    // 손질 방법 등 앞에 붙는 수식어
+    private static final List<String> MODIFIERS = List.of(
+            "다진", "다진것", "간", "깐", "삶은", "데친", "볶은", "구운", "말린", "건", "생", "냉동", "통",
+            "채썬", "썬", "슬라이스", "으깬", "불린", "손질한", "손질된", "익힌", "국산", "수입", "칵테일");
+
+    // 같은 재료의 다른 표기
+    private static final Map<String, String> SYNONYMS = Map.ofEntries(
+            Map.entry("달걀", "계란"),
+            Map.entry("달걀노른자", "계란"),
+            Map.entry("달걀흰자", "계란"),
+            Map.entry("계란노른자", "계란"),
+            Map.entry("계란흰자", "계란"),
+            Map.entry("쇠고기", "소고기"),
+            Map.entry("우육", "소고기"),
+            Map.entry("돈육", "돼지고기"),
+            Map.entry("계육", "닭고기"),
+            Map.entry("닭", "닭고기"),
+            Map.entry("파", "대파"),
+            Map.entry("실파", "쪽파"),
+            Map.entry("청양고추", "고추"),
+            Map.entry("풋고추", "고추"),
+            Map.entry("홍고추", "고추"),
+            Map.entry("물엿", "올리고당"),
+            Map.entry("올리브오일", "올리브유"),
+            Map.entry("카놀라유", "식용유"),
+            Map.entry("포도씨유", "식용유"),
+            Map.entry("콩기름", "식용유"),
+            Map.entry("진간장", "간장"),
+            Map.entry("양조간장", "간장"),
+            Map.entry("국간장", "간장"),
+            Map.entry("흑설탕", "설탕"),
+            Map.entry("백설탕", "설탕"),
+            Map.entry("굵은소금", "소금"),
+            Map.entry("꽃소금", "소금"),
+            Map.entry("천일염", "소금"),
+            Map.entry("후춧가루", "후추"),
+            Map.entry("통후추", "후추"),
+            Map.entry("밥", "쌀밥"),
+            Map.entry("공기밥", "쌀밥"),
+            Map.entry("즉석밥", "쌀밥"),
+            Map.entry("배추김치", "김치"),
+            Map.entry("포기김치", "김치")
+    );
+
+    // 기본 재료 사전 (긴 재료명 안에 포함된 경우 가장 긴 항목으로 정규화)
+    private static final Set<String> DICTIONARY = Set.of(
+            "계란", "메추리알", "소고기", "돼지고기", "닭고기", "오리고기", "양고기", "베이컨", "햄", "소시지", "스팸",
+            "새우", "오징어", "낙지", "문어", "주꾸미", "조개", "바지락", "홍합", "굴", "전복", "가리비", "게", "꽃게",
+            "연어", "참치", "고등어", "꽁치", "갈치", "삼치", "명태", "동태", "황태", "북어", "대구", "멸치", "어묵",
+            "명란", "날치알", "미역", "다시마", "김", "파래", "톳",
+            "두부", "순두부", "연두부", "유부", "콩나물", "숙주", "시금치", "상추", "깻잎", "배추", "양배추", "알배추",
+            "무", "당근", "감자", "고구마", "양파", "대파", "쪽파", "부추", "마늘", "생강", "고추", "파프리카", "피망",
+            "오이", "애호박", "호박", "단호박", "가지", "버섯", "표고버섯", "느타리버섯", "팽이버섯", "새송이버섯",
+            "양송이버섯", "브로콜리", "콜리플라워", "아스파라거스", "토마토", "방울토마토", "옥수수", "완두콩", "콩",
+            "우엉", "연근", "도라지", "고사리", "청경채", "셀러리", "비트", "케일", "양상추", "미나리", "쑥갓", "냉이",
+            "사과", "배", "바나나", "딸기", "레몬", "라임", "키위", "파인애플", "블루베리", "아보카도", "귤", "오렌지",
+            "쌀", "쌀밥", "찹쌀", "현미", "떡", "떡국떡", "떡볶이떡", "국수", "소면", "당면", "라면", "우동면", "파스타",
+            "스파게티", "밀가루", "부침가루", "튀김가루", "빵가루", "전분", "감자전분", "빵", "식빵", "또띠아",
+            "우유", "생크림", "버터", "무염버터", "치즈", "모짜렐라치즈", "요거트", "연유",
+            "간장", "된장", "고추장", "쌈장", "고춧가루", "소금", "설탕", "후추", "식초", "맛술", "미림", "청주",
+            "참기름", "들기름", "식용유", "올리브유", "올리고당", "꿀", "조청", "매실청", "굴소스", "케첩", "마요네즈",
+            "머스타드", "액젓", "멸치액젓", "까나리액젓", "새우젓", "다시다", "치킨스톡", "참깨", "깨", "들깨", "들깨가루",
+            "견과류", "호두", "땅콩", "아몬드", "잣", "김치", "깍두기", "물"
+    );
+
+    // 대부분의 가정에 있다고 가정하는 기본 양념
+    private static final Set<String> STAPLES = Set.of("물", "소금", "후추", "설탕", "식용유");
+
+    private static final int MAX_TOKEN_LENGTH = 20;
+
+    private IngredientParser() {
+    }
+
+    // 재료 문자열을 중복 없는 정규화 토큰 목록으로 변환 (입력 순서 유지)
+    public static List<String> parse(String text) {
+        if (text == null || text.isBlank()) return List.of();
+
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        String[] lines = composed.split("\\R");
+
+        // 분량이나 구분자가 있는 줄이 하나라도 있으면 그렇지 않은 줄은 요리 이름·"양념장" 같은 소제목으로 본다
+        boolean structured = false;
+        for (String line : lines) {
+            if (HAS_AMOUNT_OR_SEPARATOR.matcher(line).find()) structured = true;
+        }
+        boolean skipHeaders = lines.length > 1 && structured;
+
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String line : lines) {
+            if (skipHeaders && !HAS_AMOUNT_OR_SEPARATOR.matcher(line).find()) continue;
+
+            String stripped = BRACKETS.matcher(line).replaceAll(" ");
+            for (String piece : SEPARATORS.split(stripped)) {
+                String token = normalizeToken(piece);
+                if (token != null) tokens.add(token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    // 기본 양념 여부
+    public static boolean isStaple(String token) {
+        return STAPLES.contains(token);
+    }
+
+    public static Set<String> staples() {
+        return STAPLES;
+    }
+
+    // 재료 한 항목 정규화 (예: "다진 마늘 1큰술" -> "마늘")
+    static String normalizeToken(String piece) {
+        String name = piece;
+
+        // "양념장: 간장 1큰술" 형태는 ':' 뒤만 사용
+        int colon = Math.max(name.lastIndexOf(':'), name.lastIndexOf('：'));
+        if (colon >= 0) name = name.substring(colon + 1);
+
+        // 첫 숫자부터는 분량으로 보고 제거
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isDigit(c) || c == '½' || c == '¼' || c == '¾') {
+                name = name.substring(0, i);
+                break;
+            }
+        }
+
+        name = AMOUNT_WORDS.matcher(name.trim()).replaceAll("");
+
+        // 한글·영문만 남기고 공백 제거
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetter(c)) sb.append(Character.toLowerCase(c));
+        }
+        name = sb.toString();
+
+        if (name.isEmpty() || name.length() > MAX_TOKEN_LENGTH) return null;
+        return canonicalize(name);
+    }
+
+    // 동의어 -> 사전 -> 수식어 제거 -> 포함된 가장 긴 사전 항목 순으로 정규화
+    static String canonicalize(String name) {
+        String synonym = SYNONYMS.get(name);
+        if (synonym != null) return synonym;
+        if (DICTIONARY.contains(name)) return name;
+
+        for (String modifier : MODIFIERS) {
+            if (name.length() > modifier.length() && name.startsWith(modifier)) {
+                String rest = name.substring(modifier.length());
+                String restSynonym = SYNONYMS.get(rest);
+                if (restSynonym != null) return restSynonym;
+                if (DICTIONARY.contains(rest)) return rest;
+            }
+        }
+
+        String longest = null;
+        for (int start = 0; start < name.length(); start++) {
+            for (int end = name.length(); end > start + 1; end--) {
+                if (longest != null && end - start <= longest.length()) break;
+                String candidate = name.substring(start, end);
+                if (DICTIONARY.contains(candidate)) {
+                    longest = candidate;
+                    break;
+                }
+            }
+        }
+        if (longest != null) return SYNONYMS.getOrDefault(longest, longest);
+
+        return name;
+    }
+}
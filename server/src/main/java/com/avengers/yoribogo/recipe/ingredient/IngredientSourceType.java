@@ -0,0 +1,6 @@
+package com.avengers.yoribogo.recipe.ingredient;
+
+// 재료 색인 문서 구분 (요리 레시피 / 나만의 레시피 게시글)
+public enum IngredientSourceType {
+    RECIPE, BOARD
+}
@@ -0,0 +1,250 @@
+package com.avengers.yoribogo.recipe.manual;
+
+import com.avengers.yoribogo.common.id.PooledIds;
+import com.avengers.yoribogo.common.id.SequenceIdAllocator;
+import com.avengers.yoribogo.recipe.dto.RecipeManualChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 요리별 AI 매뉴얼 생성 스트림 관리
+// OpenAI 스트림은 클라이언트와 분리해 한 번만 구독하므로, 클라이언트가 끊겨도 생성과 저장은 계속된다.
+// 받은 조각은 요리별 replay 버퍼(최대 replayLimit개)에 쌓아 다시 연결한 클라이언트에게 처음부터 보내고 이어서 실시간으로 보낸다.
+// 완성된 단계는 바로 모아 JDBC 배치로 저장한다. (batchSize개가 모이거나 flushMillis가 지나면 저장)
+// 같은 요리를 여러 명이 동시에 보면 OpenAI 스트림 하나를 함께 받고, 모두 떠난 뒤 idleCancelSeconds 동안
+// 아무도 다시 연결하지 않으면 OpenAI 스트림을 취소한다.
+// 취소·OpenAI 오류·저장 실패로 끝까지 생성하지 못한 매뉴얼은 저장한 단계를 지워, 다음 요청에서 새로 생성한다.
+@Slf4j
+@Component
+public class AIManualStreamRegistry {
+
+    private static final String DELETE_RECIPE_MANUAL_SQL = "DELETE FROM recipe_manual WHERE recipe_id = ?";
+    private static final String INSERT_RECIPE_MANUAL_SQL =
+            "INSERT INTO recipe_manual (recipe_manual_id, recipe_manual_step, manual_menu_image, " +
+            "manual_content, recipe_id) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<Long, Session> sessions = new ConcurrentHashMap<>();
+
+    @Value("${recipe.manual-stream.replay-limit:4096}")
+    private int replayLimit;
+
+    @Value("${recipe.manual-stream.batch-size:3}")
+    private int batchSize;
+
+    @Value("${recipe.manual-stream.flush-millis:500}")
+    private long flushMillis;
+
+    // 생성이 끝난 뒤에도 다시 연결하는 클라이언트를 위해 버퍼를 남겨두는 시간
+    @Value("${recipe.manual-stream.retention-seconds:120}")
+    private long retentionSeconds;
+
+    // 구독자가 모두 떠난 뒤 OpenAI 스트림을 취소하기까지 기다리는 시간 (새로고침 등 재연결 대비)
+    @Value("${recipe.manual-stream.idle-cancel-seconds:10}")
+    private long idleCancelSeconds;
+
+    private Counter started;
+    private Counter joined;
+    private Counter cancelled;
+    private Counter savedSteps;
+
+    @Autowired
+    public AIManualStreamRegistry(JdbcTemplate jdbcTemplate,
+                                  SequenceIdAllocator sequenceIdAllocator,
+                                  ApplicationEventPublisher applicationEventPublisher,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequenceIdAllocator = sequenceIdAllocator;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        started = streamCounter("started");
+        joined = streamCounter("joined");
+        cancelled = streamCounter("cancelled");
+        savedSteps = Counter.builder("recipe.manual.stream.steps")
+                .description("AI 매뉴얼 스트림에서 저장한 단계 수")
+                .register(meterRegistry);
+    }
+
+    // 진행 중이거나 방금 끝난 스트림이 있는지
+    public boolean isActive(Long recipeId) {
+        return sessions.containsKey(recipeId);
+    }
+
+    // 요리의 스트림에 합류 (없으면 upstream을 구독해 새로 시작)
+    public Flux<String> join(Long recipeId, Supplier<Flux<String>> upstream) {
+        Session session = sessions.computeIfAbsent(recipeId, Session::new);
+        if (session.started.compareAndSet(false, true)) {
+            started.increment();
+            session.start(upstream.get());
+        } else {
+            joined.increment();
+        }
+        return session.subscribe();
+    }
+
+    private Counter streamCounter(String result) {
+        return Counter.builder("recipe.manual.stream")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private final class Session {
+
+        private final Long recipeId;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final Sinks.Many<String> tokens = Sinks.many().replay().limit(replayLimit);
+        private final Sinks.Many<String> steps = Sinks.many().unicast().onBackpressureBuffer();
+        private final ManualStepParser parser = new ManualStepParser();
+        private final AtomicInteger subscribers = new AtomicInteger();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private volatile Disposable upstreamSubscription;
+        private volatile boolean aborted;
+
+        // 저장 체인(concatMap)에서만 접근
+        private int nextStep = 1;
+        private volatile Throwable failure;
+
+        private Session(Long recipeId) {
+            this.recipeId = recipeId;
+        }
+
+        private void start(Flux<String> upstream) {
+            // 완성된 단계 배치 저장, 저장이 모두 끝난 뒤에 클라이언트 스트림을 종료한다
+            steps.asFlux()
+                    .bufferTimeout(batchSize, Duration.ofMillis(flushMillis))
+                    .concatMap(batch -> Mono.fromRunnable(() -> insert(batch))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .onErrorResume(e -> {
+                                log.error("레시피 ID: {}의 AI 매뉴얼 저장 실패", recipeId, e);
+                                if (failure == null) failure = e;
+                                return Mono.empty();
+                            }))
+                    .then(Mono.fromRunnable(this::discardIfIncomplete).subscribeOn(Schedulers.boundedElastic()))
+                    .doFinally(signal -> finish())
+                    .subscribe();
+
+            upstreamSubscription = upstream.subscribe(this::onToken, this::onError, this::onComplete);
+        }
+
+        // 구독자 수를 세어 모두 떠나면 취소 예약
+        private Flux<String> subscribe() {
+            return tokens.asFlux()
+                    .doOnSubscribe(subscription -> subscribers.incrementAndGet())
+                    .doFinally(signal -> {
+                        if (subscribers.decrementAndGet() == 0) scheduleIdleCancel();
+                    });
+        }
+
+        private void scheduleIdleCancel() {
+            if (done.get()) return;
+            Mono.delay(Duration.ofSeconds(idleCancelSeconds))
+                    .subscribe(tick -> {
+                        if (subscribers.get() == 0 && done.compareAndSet(false, true)) cancel();
+                    });
+        }
+
+        // 보는 사람이 없으면 OpenAI 스트림 취소, 쓰다 만 단계는 버린다
+        private void cancel() {
+            aborted = true;
+            sessions.remove(recipeId, this);
+            Disposable subscription = upstreamSubscription;
+            if (subscription != null) subscription.dispose();
+            cancelled.increment();
+            log.info("레시피 ID: {}의 AI 매뉴얼 스트림 취소 (구독자 없음)", recipeId);
+            steps.tryEmitComplete();
+        }
+
+        private void onToken(String token) {
+            if (aborted) return;
+            tokens.tryEmitNext(token);
+            parser.accept(token).forEach(steps::tryEmitNext);
+        }
+
+        // 실패 시 남은 단계는 저장하지 않고, 이미 저장한 단계는 저장 체인 끝에서 지운다
+        private void onError(Throwable error) {
+            log.error("레시피 ID: {}의 AI 매뉴얼 생성 중 오류: {}", recipeId, error.getMessage());
+            failure = error;
+            done.set(true);
+            steps.tryEmitComplete();
+        }
+
+        private void onComplete() {
+            done.set(true);
+            parser.finish().forEach(steps::tryEmitNext);
+            steps.tryEmitComplete();
+        }
+
+        private void insert(List<String> batch) {
+            int firstStep = nextStep;
+            long[] manualIds = sequenceIdAllocator.allocate(PooledIds.RECIPE_MANUAL_SEQ, batch.size());
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                rows.add(new Object[]{manualIds[i], nextStep++, null, batch.get(i), recipeId});
+            }
+            jdbcTemplate.batchUpdate(INSERT_RECIPE_MANUAL_SQL, rows);
+            savedSteps.increment(batch.size());
+            log.info("레시피 ID: {}의 AI 매뉴얼 {}~{}단계 저장", recipeId, firstStep, nextStep - 1);
+
+            // 상세 조회 캐시 무효화
+            applicationEventPublisher.publishEvent(new RecipeManualChangedEvent(recipeId));
+        }
+
+        // 취소·실패한 매뉴얼은 일부 단계만 남지 않도록 저장한 단계를 지운다 (다음 요청에서 새로 생성)
+        private void discardIfIncomplete() {
+            if ((!aborted && failure == null) || nextStep == 1) return;
+            try {
+                jdbcTemplate.update(DELETE_RECIPE_MANUAL_SQL, recipeId);
+                applicationEventPublisher.publishEvent(new RecipeManualChangedEvent(recipeId));
+            } catch (RuntimeException e) {
+                log.error("레시피 ID: {}의 완성되지 못한 AI 매뉴얼 삭제 실패", recipeId, e);
+            }
+        }
+
+        private void finish() {
+            if (aborted) {
+                tokens.tryEmitError(new CancellationException("AI 매뉴얼 스트림이 취소되었습니다."));
+                return;
+            }
+            if (failure != null) {
+                // 실패한 스트림은 남겨두지 않고, 다음 요청에서 새로 생성
+                sessions.remove(recipeId, this);
+                tokens.tryEmitError(failure);
+                return;
+            }
+            tokens.tryEmitComplete();
+
+            Mono.delay(Duration.ofSeconds(retentionSeconds))
+                    .subscribe(tick -> sessions.remove(recipeId, this));
+        }
+    }
+}
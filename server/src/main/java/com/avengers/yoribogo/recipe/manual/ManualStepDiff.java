@@ -0,0 +1,76 @@
+package com.avengers.yoribogo.recipe.manual;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+// 매뉴얼 수정 시 저장된 단계(S)와 요청 단계(R)를 단계 번호로 짝지어 바뀐 것만 골라낸다.
+// 같은 번호끼리 내용(sameContent, 필드를 Objects.equals로 비교)이 같으면 그대로 두고, 다르면 수정,
+// 짝이 없는 요청은 추가, 짝이 없는 저장 단계는 삭제 대상이다.
+// 해시 맵으로 한 번씩만 훑으므로 O(n)이며, 바뀌지 않은 단계는 ID와 행이 그대로 유지된다.
+// 같은 번호가 여러 개면 처음 것만 짝짓고 나머지 저장 단계는 삭제, 나머지 요청 단계는 추가로 분류한다.
+public final class ManualStepDiff<S, R> {
+
+    private final List<R> inserts = new ArrayList<>();
+    private final List<Match<S, R>> updates = new ArrayList<>();
+    private final List<Match<S, R>> unchanged = new ArrayList<>();
+    private final List<S> deletes = new ArrayList<>();
+
+    private ManualStepDiff() {
+    }
+
+    public static <S, R> ManualStepDiff<S, R> compute(List<S> stored,
+                                                      ToIntFunction<S> storedStep,
+                                                      List<R> requested,
+                                                      ToIntFunction<R> requestedStep,
+                                                      BiPredicate<S, R> sameContent) {
+        ManualStepDiff<S, R> diff = new ManualStepDiff<>();
+
+        Map<Integer, S> storedByStep = new HashMap<>(stored.size() * 2);
+        for (S manual : stored) {
+            if (storedByStep.putIfAbsent(storedStep.applyAsInt(manual), manual) != null) {
+                diff.deletes.add(manual);
+            }
+        }
+
+        for (R manual : requested) {
+            S match = storedByStep.remove(requestedStep.applyAsInt(manual));
+            if (match == null) {
+                diff.inserts.add(manual);
+            } else if (sameContent.test(match, manual)) {
+                diff.unchanged.add(new Match<>(match, manual));
+            } else {
+                diff.updates.add(new Match<>(match, manual));
+            }
+        }
+
+        diff.deletes.addAll(storedByStep.values());
+        return diff;
+    }
+
+    public List<R> getInserts() {
+        return inserts;
+    }
+
+    public List<Match<S, R>> getUpdates() {
+        return updates;
+    }
+
+    public List<Match<S, R>> getUnchanged() {
+        return unchanged;
+    }
+
+    public List<S> getDeletes() {
+        return deletes;
+    }
+
+    public boolean hasChanges() {
+        return !inserts.isEmpty() || !updates.isEmpty() || !deletes.isEmpty();
+    }
+
+    public record Match<S, R>(S stored, R requested) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.avengers.yoribogo.recipe.manual;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// 스트리밍으로 받은 AI 응답 조각을 "N. ..." 단계 단위로 잘라내는 파서
+// 조각 경계는 단어·줄과 무관하므로 줄 단위로 모으고, 다음 단계가 시작되거나 응답이 끝나면 이전 단계를 완성으로 본다.
+// 첫 단계 이전의 안내 문구는 버리고, 번호 없는 줄은 직전 단계에 이어 붙인다. (스레드 안전하지 않음)
+public class ManualStepParser {
+
+    private static final Pattern STEP_START = Pattern.compile("^\\d+\\s*[.)]\\s*.*");
+
+    private final StringBuilder line = new StringBuilder();
+    private StringBuilder step;
+
+    // 조각을 추가하고 이번에 완성된 단계 내용 반환
+    public List<String> accept(String token) {
+        List<String> completed = new ArrayList<>();
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '\n') {
+                endLine(completed);
+            } else if (c != '\r') {
+                line.append(c);
+            }
+        }
+        return completed;
+    }
+
+    // 응답이 끝났을 때 남은 단계 반환
+    public List<String> finish() {
+        List<String> completed = new ArrayList<>();
+        endLine(completed);
+        if (step != null) {
+            completed.add(step.toString());
+            step = null;
+        }
+        return completed;
+    }
+
+    private void endLine(List<String> completed) {
+        String text = line.toString().strip();
+        line.setLength(0);
+        if (text.isEmpty()) return;
+
+        if (STEP_START.matcher(text).matches()) {
+            if (step != null) completed.add(step.toString());
+            step = new StringBuilder(text);
+        } else if (step != null) {
+            step.append(' ').append(text);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.avengers.yoribogo.recipe.mapper;
+
+import com.avengers.yoribogo.config.MapStructConfig;
+import com.avengers.yoribogo.recipe.domain.AIRecipe;
+import com.avengers.yoribogo.recipe.domain.PublicDataRecipe;
+import com.avengers.yoribogo.recipe.domain.Recipe;
+import com.avengers.yoribogo.recipe.domain.RecipeManual;
+import com.avengers.yoribogo.recipe.dto.AIRecipeDTO;
+import com.avengers.yoribogo.recipe.dto.PublicDataRecipeDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeManualDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeWithManualsDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+// 요리 레시피 엔티티 <-> DTO 변환 (컴파일 시점 생성)
+@Mapper(config = MapStructConfig.class)
+public interface RecipeMapper {
+
+    RecipeDTO toRecipeDTO(Recipe recipe);
+
+    @Mapping(target = "recipeManuals", ignore = true)
+    @Mapping(target = "menuImageVariantsKey", ignore = true)
+    Recipe toRecipe(RecipeDTO recipeDTO);
+
+    RecipeWithManualsDTO toRecipeWithManualsDTO(Recipe recipe);
+
+    RecipeManualDTO toRecipeManualDTO(RecipeManual recipeManual);
+
+    List<RecipeManualDTO> toRecipeManualDTOList(List<RecipeManual> recipeManualList);
+
+    @Mapping(target = "recipe", ignore = true)
+    RecipeManual toRecipeManual(RecipeManualDTO recipeManualDTO);
+
+    @Mapping(target = "menuName", source = "aiMenuName")
+    @Mapping(target = "menuIngredient", source = "aiMenuIngredient")
+    @Mapping(target = "menuImage", source = "aiMenuImage")
+    AIRecipeDTO toAIRecipeDTO(AIRecipe aiRecipe);
+
+    @Mapping(target = "aiMenuName", source = "menuName")
+    @Mapping(target = "aiMenuIngredient", source = "menuIngredient")
+    @Mapping(target = "aiMenuImage", source = "menuImage")
+    AIRecipe toAIRecipe(AIRecipeDTO aiRecipeDTO);
+
+    @Mapping(target = "menuName", source = "publicDataMenuName")
+    @Mapping(target = "menuIngredient", source = "publicDataMenuIngredient")
+    @Mapping(target = "menuImage", source = "publicDataMenuImage")
+    PublicDataRecipeDTO toPublicDataRecipeDTO(PublicDataRecipe publicDataRecipe);
+
+    @Mapping(target = "publicDataMenuName", source = "menuName")
+    @Mapping(target = "publicDataMenuIngredient", source = "menuIngredient")
+    @Mapping(target = "publicDataMenuImage", source = "menuImage")
+    PublicDataRecipe toPublicDataRecipe(PublicDataRecipeDTO publicDataRecipeDTO);
+
+}
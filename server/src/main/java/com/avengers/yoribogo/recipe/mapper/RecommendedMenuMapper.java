@@ -0,0 +1,16 @@
+package com.avengers.yoribogo.recipe.mapper;
+
+import com.avengers.yoribogo.config.MapStructConfig;
+import com.avengers.yoribogo.recipe.domain.RecommendedMenu;
+import com.avengers.yoribogo.recipe.dto.RecommendedMenuDTO;
+import org.mapstruct.Mapper;
+
+// 추천 요리 엔티티 <-> DTO 변환 (컴파일 시점 생성)
+@Mapper(config = MapStructConfig.class)
+public interface RecommendedMenuMapper {
+
+    RecommendedMenuDTO toRecommendedMenuDTO(RecommendedMenu recommendedMenu);
+
+    RecommendedMenu toRecommendedMenu(RecommendedMenuDTO recommendedMenuDTO);
+
+}
@@ -0,0 +1,195 @@
+package com.avengers.yoribogo.recipe.recommend;
+
+import com.avengers.yoribogo.recipe.dto.BaseRecipeDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+// 같은 AI 요리의 동시 생성 합치기 (single-flight)
+// 같은 서버 안에서는 요리 이름별로 진행 중인 생성(Future)을 공유하고,
+// 여러 서버 사이에서는 Redis 락을 잡은 한 곳만 생성한 뒤 나머지는 등록된 요리를 다시 조회해 사용한다.
+// 요리 행·재료 질문·이미지 생성이 요리 이름마다 한 번만 일어나도록 한다.
+@Slf4j
+@Component
+public class AIRecipeSingleFlight {
+
+    private static final String LOCK_PREFIX = "recipe:recommend:lock:";
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    // 락을 잡은 요청일 때만 삭제 (다른 요청이 새로 잡은 락을 지우지 않도록)
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, CompletableFuture<BaseRecipeDTO>> inFlight = new ConcurrentHashMap<>();
+
+    // 생성(재료 질문 + 등록)이 끝나기 전에 서버가 죽어도 락이 풀리는 시간
+    @Value("${recipe.recommend-single-flight.lock-ttl-seconds:60}")
+    private long lockTtlSeconds;
+
+    // 다른 요청의 생성 결과를 기다리는 최대 시간
+    @Value("${recipe.recommend-single-flight.wait-millis:30000}")
+    private long waitMillis;
+
+    @Value("${recipe.recommend-single-flight.poll-millis:200}")
+    private long pollMillis;
+
+    private Counter leader;
+    private Counter local;
+    private Counter remote;
+
+    @Autowired
+    public AIRecipeSingleFlight(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        leader = resultCounter("leader");
+        local = resultCounter("local");
+        remote = resultCounter("remote");
+    }
+
+    // 요리 이름으로 한 번만 생성
+    // lookup: 이미 등록된 요리 조회 (없으면 null), generate: 새 요리 생성·등록
+    public BaseRecipeDTO execute(String menuName,
+                                 Supplier<BaseRecipeDTO> lookup,
+                                 Supplier<BaseRecipeDTO> generate) throws Exception {
+        String key = normalize(menuName);
+
+        // 같은 서버에서 이미 생성 중이면 그 결과를 기다린다
+        CompletableFuture<BaseRecipeDTO> flight = new CompletableFuture<>();
+        CompletableFuture<BaseRecipeDTO> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            local.increment();
+            return await(running, key, lookup, generate);
+        }
+
+        try {
+            BaseRecipeDTO result = generateOnce(key, lookup, generate);
+            flight.complete(result);
+            return result;
+        } catch (Exception e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // 여러 서버 중 Redis 락을 잡은 한 곳만 생성
+    private BaseRecipeDTO generateOnce(String key,
+                                       Supplier<BaseRecipeDTO> lookup,
+                                       Supplier<BaseRecipeDTO> generate) throws InterruptedException {
+        String lockKey = LOCK_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        boolean waited = false;
+
+        while (true) {
+            if (tryLock(lockKey, token)) {
+                try {
+                    // 락을 기다리는 동안 다른 서버가 등록했을 수 있으므로 다시 조회
+                    BaseRecipeDTO existing = waited ? lookup.get() : null;
+                    if (existing != null) {
+                        remote.increment();
+                        return existing;
+                    }
+
+                    leader.increment();
+                    return generate.get();
+                } finally {
+                    unlock(lockKey, token);
+                }
+            }
+
+            // 다른 서버가 생성 중이면 등록될 때까지 조회
+            if (waited) {
+                BaseRecipeDTO existing = lookup.get();
+                if (existing != null) {
+                    remote.increment();
+                    return existing;
+                }
+            }
+
+            // 기다려도 끝나지 않으면 중복을 감수하고 직접 생성
+            if (System.nanoTime() > deadline) {
+                log.warn("AI 요리 생성 락 대기 시간 초과, 직접 생성: {}", key);
+                leader.increment();
+                return generate.get();
+            }
+
+            waited = true;
+            Thread.sleep(pollMillis);
+        }
+    }
+
+    // 같은 서버의 생성 결과를 기다리고, 시간 안에 끝나지 않으면 Redis 락을 기다릴 때처럼
+    // 등록된 요리를 조회한 뒤 없으면 직접 생성한다
+    private BaseRecipeDTO await(CompletableFuture<BaseRecipeDTO> running,
+                                String key,
+                                Supplier<BaseRecipeDTO> lookup,
+                                Supplier<BaseRecipeDTO> generate) throws Exception {
+        try {
+            return running.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException e) {
+            BaseRecipeDTO existing = lookup.get();
+            if (existing != null) return existing;
+
+            log.warn("같은 서버의 AI 요리 생성 대기 시간 초과, 직접 생성: {}", key);
+            return generateOnce(key, lookup, generate);
+        }
+    }
+
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, Duration.ofSeconds(lockTtlSeconds)));
+        } catch (Exception e) {
+            // Redis 장애 시 서버 안에서의 합치기만 적용
+            log.warn("AI 요리 생성 락 획득 실패", e);
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.warn("AI 요리 생성 락 해제 실패", e);
+        }
+    }
+
+    // 앞뒤 공백 제거, 연속 공백 하나로, 대소문자 무시
+    static String normalize(String menuName) {
+        String composed = Normalizer.normalize(menuName, Normalizer.Form.NFC).strip();
+        return WHITESPACES.matcher(composed).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private Counter resultCounter(String result) {
+        return Counter.builder("recipe.recommend.single-flight")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,71 @@
+package com.avengers.yoribogo.recipe.recommend;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+// AI 요리 추천(/api/recipes/recommend) 단계별·전체 소요 시간과 재료 질문 추측 실행 결과
+// 단계별 p50·p95·p99를 함께 기록해 어느 단계가 꼬리 지연을 만드는지 추적한다.
+@Component
+public class RecommendMetrics {
+
+    public enum Stage {
+        MENU, LOOKUP_RECIPE, LOOKUP_PUBLIC_DATA, LOOKUP_AI_RECIPE, INGREDIENTS, REGISTER
+    }
+
+    // 추천 결과를 어디서 가져왔는지 (COALESCED: 동시에 생성된 같은 요리를 공유)
+    public enum Source {
+        RECIPE, PUBLIC_DATA, AI_RECIPE, GENERATED, COALESCED, FAILED
+    }
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<Source, Timer> totalTimers = new EnumMap<>(Source.class);
+    private final Counter speculationUsed;
+    private final Counter speculationCancelled;
+
+    @Autowired
+    public RecommendMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("recipe.recommend.stage")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        for (Source source : Source.values()) {
+            totalTimers.put(source, Timer.builder("recipe.recommend.duration")
+                    .tag("source", source.name().toLowerCase(Locale.ROOT))
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        speculationUsed = speculationCounter(meterRegistry, "used");
+        speculationCancelled = speculationCounter(meterRegistry, "cancelled");
+    }
+
+    public void recordStage(Stage stage, long startedNanos) {
+        stageTimers.get(stage).record(Duration.ofNanos(System.nanoTime() - startedNanos));
+    }
+
+    public void recordTotal(Source source, long startedNanos) {
+        totalTimers.get(source).record(Duration.ofNanos(System.nanoTime() - startedNanos));
+    }
+
+    // 추측 실행한 재료 질문을 실제로 사용했는지 (DB에서 먼저 찾으면 취소)
+    public void recordSpeculation(boolean used) {
+        (used ? speculationUsed : speculationCancelled).increment();
+    }
+
+    private static Counter speculationCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("recipe.recommend.speculation")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,14 @@
+package com.avengers.yoribogo.recipe.repository;
+
+import com.avengers.yoribogo.recipe.domain.RecipeImportJob;
+import com.avengers.yoribogo.recipe.domain.RecipeImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RecipeImportJobRepository extends JpaRepository<RecipeImportJob, String> {
+
+    // 상태별 작업 조회 (서버 재시작 시 중단된 작업 재개용)
+    List<RecipeImportJob> findByImportStatusOrderByStartedAtAsc(RecipeImportStatus importStatus);
+
+}
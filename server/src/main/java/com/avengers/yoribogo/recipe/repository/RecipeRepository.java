@@ -1,6 +1,7 @@
 package com.avengers.yoribogo.recipe.repository;
 
 import com.avengers.yoribogo.recipe.domain.Recipe;
+import com.avengers.yoribogo.recipe.dto.RecipeCardDTO;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,4 +22,16 @@ public interface RecipeRepository extends JpaRepository<Recipe,Long> {
     // 요리 이름이 포함된 레시피 목록을 리스트로 반환
     List<Recipe> findByMenuNameContaining(String menuName);
 
+    // 커서(레시피 ID)보다 오래된 레시피 목록 조회 (count 쿼리 없음)
+    List<Recipe> findByRecipeIdLessThanOrderByRecipeIdDesc(Long recipeId, Pageable pageable);
+
+    // 목록 카드 조회 (재료·매뉴얼 없이 카드 컬럼만, SQL 한 번)
+    @Query("SELECT new com.avengers.yoribogo.recipe.dto.RecipeCardDTO(" +
+            "r.recipeId, r.menuName, r.menuImage, r.menuImageVariantsKey, r.menuType, r.userId) " +
+            "FROM Recipe r WHERE r.recipeId < :recipeId ORDER BY r.recipeId DESC")
+    List<RecipeCardDTO> findCardsBeforeCursor(@Param("recipeId") Long recipeId, Pageable pageable);
+
+    // 레시피 ID 기준으로 다음 구간을 조회 (검색 색인 적재용, count 쿼리 없음)
+    List<Recipe> findByRecipeIdGreaterThanOrderByRecipeIdAsc(Long recipeId, Pageable pageable);
+
 }
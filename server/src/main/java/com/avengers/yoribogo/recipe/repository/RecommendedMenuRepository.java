@@ -10,6 +10,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
+
 public interface RecommendedMenuRepository extends JpaRepository<RecommendedMenu, Long> {
 
     // 추천 요리 회원별 조회
@@ -25,6 +27,22 @@ public interface RecommendedMenuRepository extends JpaRepository<RecommendedMenu
             @Param("status") RecommendedMenuStatus status,
             Pageable pageable);
 
+    // 커서(추천 요리 ID)보다 오래된 회원별 추천 요리 조회 (count 쿼리 없음)
+    @Query("SELECT new com.avengers.yoribogo.recipe.dto.GoodMenuDTO(rm, r) " +
+            "FROM RecommendedMenu rm " +
+            "JOIN Recipe r ON rm.recipeId = r.recipeId " +
+            "WHERE rm.userId = :userId " +
+            "AND rm.satisfaction = :satisfaction " +
+            "AND rm.recommendedMenuStatus = :status " +
+            "AND rm.recommendedMenuId < :cursorId " +
+            "ORDER BY rm.recommendedMenuId DESC")
+    List<GoodMenuDTO> findRecommendedMenuWithRecipeBeforeCursor(
+            @Param("userId") Long userId,
+            @Param("satisfaction") Satisfaction satisfaction,
+            @Param("status") RecommendedMenuStatus status,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
     // 기존 추천된 요리 조회
     RecommendedMenu findByRecipeIdAndUserId(Long recipeId, Long userId);
 
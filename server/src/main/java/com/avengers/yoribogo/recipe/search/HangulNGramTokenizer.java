@@ -0,0 +1,98 @@
+package com.avengers.yoribogo.recipe.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// 요리 이름을 검색용 n-gram으로 분해하는 한글 전용 토크나이저
+public final class HangulNGramTokenizer {
+
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+
+    // 초성 19자 (호환용 자모)
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulNGramTokenizer() {
+    }
+
+    // 공백·특수문자를 제거하고 소문자로 정규화 (예: "김치 찌개!" -> "김치찌개")
+    public static String normalize(String text) {
+        if (text == null) return "";
+
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isLetterOrDigit(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    // 정규화된 문자열의 초성 문자열 (한글 음절이 아닌 문자는 그대로 유지)
+    public static String choseong(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                sb.append(CHOSEONG[(c - HANGUL_BEGIN) / 588]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 검색어가 초성으로만 이루어져 있는지 여부 (예: "ㄱㅊㅉㄱ")
+    public static boolean isChoseongQuery(String normalized) {
+        if (normalized.length() < 2) return false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') return false;
+        }
+        return true;
+    }
+
+    // 색인용 그램: 1~3-gram + 초성 2-gram
+    public static Set<String> indexGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        appendGrams(grams, normalized, 1);
+        appendGrams(grams, normalized, 2);
+        appendGrams(grams, normalized, 3);
+
+        String initials = choseong(normalized);
+        if (!initials.equals(normalized)) {
+            appendGrams(grams, initials, 2);
+        }
+        return grams;
+    }
+
+    // 부분 문자열 일치 후보용 그램: 한 글자면 1-gram, 그 외에는 2-gram
+    public static Set<String> exactGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        appendGrams(grams, normalized, normalized.length() == 1 ? 1 : 2);
+        return grams;
+    }
+
+    // 유사도 계산용 그램: 한 글자면 1-gram, 그 외에는 2-gram + 3-gram
+    public static Set<String> queryGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalized.length() == 1) {
+            grams.add(normalized);
+            return grams;
+        }
+        appendGrams(grams, normalized, 2);
+        appendGrams(grams, normalized, 3);
+        return grams;
+    }
+
+    private static void appendGrams(Set<String> grams, String text, int n) {
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+    }
+}
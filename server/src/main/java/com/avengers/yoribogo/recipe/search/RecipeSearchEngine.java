@@ -0,0 +1,194 @@
+package com.avengers.yoribogo.recipe.search;
+
+import com.avengers.yoribogo.recipe.domain.Recipe;
+import com.avengers.yoribogo.recipe.dto.RecipeBulkImportedEvent;
+import com.avengers.yoribogo.recipe.dto.RecipeDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeRemovedEvent;
+import com.avengers.yoribogo.recipe.dto.RecipeSavedEvent;
+import com.avengers.yoribogo.recipe.mapper.RecipeMapper;
+import com.avengers.yoribogo.recipe.repository.RecipeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 요리 이름 검색 엔진
+// 메모리 색인으로 검색하고, 레시피 변경은 커밋 이후 이벤트와 Redis Pub/Sub로 모든 서버에 반영한다.
+@Slf4j
+@Component
+public class RecipeSearchEngine implements MessageListener {
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+    private static final String CHANGE_CHANNEL = "recipe:search:changed";
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeMapper recipeMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final RecipeSearchIndex index = new RecipeSearchIndex();
+
+    // 다른 서버에서 보낸 메시지만 처리하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 재구축 중 변경된 레시피 ID (재구축 완료 후 다시 반영)
+    private final Set<Long> changedWhileRebuilding = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+
+    @Autowired
+    public RecipeSearchEngine(RecipeRepository recipeRepository,
+                              RecipeMapper recipeMapper,
+                              StringRedisTemplate stringRedisTemplate,
+                              RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.recipeRepository = recipeRepository;
+        this.recipeMapper = recipeMapper;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    // 애플리케이션 기동 후 색인 적재 (적재 전까지는 DB 조회로 대체)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 매일 새벽 전체 재구축 (Pub/Sub 메시지 유실 대비)
+    @Scheduled(cron = "0 30 4 * * *")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        changedWhileRebuilding.clear();
+
+        try {
+            List<RecipeDTO> recipes = new ArrayList<>();
+            long lastRecipeId = 0L;
+            while (true) {
+                List<Recipe> batch = recipeRepository.findByRecipeIdGreaterThanOrderByRecipeIdAsc(
+                        lastRecipeId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                if (batch.isEmpty()) break;
+
+                for (Recipe recipe : batch) {
+                    recipes.add(recipeMapper.toRecipeDTO(recipe));
+                }
+                lastRecipeId = batch.get(batch.size() - 1).getRecipeId();
+            }
+
+            index.replaceAll(recipes);
+            rebuilding = false;
+
+            // 적재 도중 변경된 레시피는 최신 상태로 다시 반영
+            for (Long recipeId : changedWhileRebuilding) {
+                reload(recipeId);
+            }
+            changedWhileRebuilding.clear();
+
+            ready = true;
+            log.info("레시피 검색 색인 적재 완료: {}건, {}ms", index.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("레시피 검색 색인 적재 실패", e);
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    // 색인으로 검색할 수 있는 상태인지 여부
+    public boolean canSearch(String menuName) {
+        return ready && !HangulNGramTokenizer.normalize(menuName).isEmpty();
+    }
+
+    // 요리 이름 검색 (랭킹 순, 페이지네이션)
+    public Page<RecipeDTO> search(String menuName, Pageable pageable) {
+        RecipeSearchIndex.SearchResult result =
+                index.search(menuName, (int) pageable.getOffset(), pageable.getPageSize());
+
+        return new PageImpl<>(result.content(), pageable, result.total());
+    }
+
+    // 레시피 등록·수정 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeSaved(RecipeSavedEvent event) {
+        RecipeDTO recipe = event.getRecipe();
+        markChanged(recipe.getRecipeId());
+        index.upsert(recipe);
+        broadcast(recipe.getRecipeId());
+    }
+
+    // 레시피 삭제 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeRemoved(RecipeRemovedEvent event) {
+        markChanged(event.getRecipeId());
+        index.remove(event.getRecipeId());
+        broadcast(event.getRecipeId());
+    }
+
+    // 레시피 일괄 등록 완료 후 전체 재구축 (건별 이벤트 없이 대량으로 추가되므로)
+    @Async
+    @EventListener
+    public void handleRecipeBulkImported(RecipeBulkImportedEvent event) {
+        rebuild();
+    }
+
+    // 다른 서버에서 변경된 레시피를 DB에서 다시 읽어 반영
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) return;
+
+        try {
+            Long recipeId = Long.valueOf(body.substring(separator + 1));
+            markChanged(recipeId);
+            reload(recipeId);
+        } catch (Exception e) {
+            log.warn("레시피 검색 색인 변경 메시지 처리 실패: {}", body, e);
+        }
+    }
+
+    private void reload(Long recipeId) {
+        recipeRepository.findById(recipeId)
+                .map(recipeMapper::toRecipeDTO)
+                .ifPresentOrElse(index::upsert, () -> index.remove(recipeId));
+    }
+
+    private void markChanged(Long recipeId) {
+        if (rebuilding) changedWhileRebuilding.add(recipeId);
+    }
+
+    private void broadcast(Long recipeId) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, instanceId + ":" + recipeId);
+        } catch (Exception e) {
+            log.warn("레시피 검색 색인 변경 전파 실패: {}", recipeId, e);
+        }
+    }
+}
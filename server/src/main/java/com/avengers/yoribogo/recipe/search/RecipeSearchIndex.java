@@ -0,0 +1,403 @@
+package com.avengers.yoribogo.recipe.search;
+
+import com.avengers.yoribogo.common.LongTopK;
+import com.avengers.yoribogo.recipe.dto.RecipeDTO;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 요리 이름 n-gram 역색인 (메모리 상주)
+// 내부 문서 번호(doc)는 0부터 증가하며, 각 그램의 포스팅은 doc 오름차순으로 유지한다.
+public class RecipeSearchIndex {
+
+    // 오타를 허용할 최소 그램 일치율 (부분 문자열로 포함되지 않는 경우에만 적용)
+    private static final float MIN_COVERAGE = 0.5f;
+
+    // 한 글자 오타로 잃을 수 있는 최대 가중치 (2-gram 2개 + 3-gram 3개), 긴 검색어는 오타 한 글자까지만 허용
+    private static final float ONE_TYPO_WEIGHT = 2 * 1f + 3 * 1.5f;
+
+    // 부분 문자열 일치 건수가 이보다 적을 때만 유사 문서를 찾는다
+    private static final int FUZZY_MAX_EXACT_HITS = 50;
+
+    private static final int TIER_FUZZY = 0;
+    private static final int TIER_CONTAINS = 1;
+    private static final int TIER_PREFIX = 2;
+    private static final int TIER_EQUALS = 3;
+    private static final long RECIPE_ID_MASK = (1L << 40) - 1;
+
+    // 삭제된 문서 비율이 이 값을 넘으면 색인을 다시 압축
+    private static final float COMPACT_RATIO = 0.25f;
+    private static final int COMPACT_MIN_TOMBSTONES = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Posting> postings = new HashMap<>();
+    private List<Entry> entries = new ArrayList<>();
+    private Map<Long, Integer> docByRecipeId = new HashMap<>();
+    private int tombstones = 0;
+
+    // 전체 색인 교체 (초기 적재 및 재구축)
+    public void replaceAll(Collection<RecipeDTO> recipes) {
+        Map<String, Posting> newPostings = new HashMap<>();
+        List<Entry> newEntries = new ArrayList<>(recipes.size());
+        Map<Long, Integer> newDocByRecipeId = new HashMap<>(recipes.size() * 2);
+
+        for (RecipeDTO recipe : recipes) {
+            if (recipe.getRecipeId() == null || newDocByRecipeId.containsKey(recipe.getRecipeId())) continue;
+
+            int doc = newEntries.size();
+            Entry entry = new Entry(recipe);
+            newEntries.add(entry);
+            newDocByRecipeId.put(recipe.getRecipeId(), doc);
+
+            // doc이 증가하는 순서로 추가되므로 항상 뒤에 붙이면 정렬이 유지된다
+            for (String gram : entry.grams) {
+                newPostings.computeIfAbsent(gram, g -> new Posting()).append(doc);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            entries = newEntries;
+            docByRecipeId = newDocByRecipeId;
+            tombstones = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 레시피 추가 또는 수정
+    public void upsert(RecipeDTO recipe) {
+        if (recipe == null || recipe.getRecipeId() == null) return;
+
+        Entry entry = new Entry(recipe);
+
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByRecipeId.get(recipe.getRecipeId());
+            if (doc == null) {
+                doc = entries.size();
+                entries.add(entry);
+                docByRecipeId.put(recipe.getRecipeId(), doc);
+                for (String gram : entry.grams) {
+                    postings.computeIfAbsent(gram, g -> new Posting()).append(doc);
+                }
+                return;
+            }
+
+            // 같은 doc 번호를 재사용하고 달라진 그램만 반영
+            Entry previous = entries.get(doc);
+            for (String gram : previous.grams) {
+                if (!entry.grams.contains(gram)) removePosting(gram, doc);
+            }
+            for (String gram : entry.grams) {
+                if (!previous.grams.contains(gram)) {
+                    postings.computeIfAbsent(gram, g -> new Posting()).insert(doc);
+                }
+            }
+            entries.set(doc, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 레시피 삭제
+    public void remove(Long recipeId) {
+        if (recipeId == null) return;
+
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByRecipeId.remove(recipeId);
+            if (doc == null) return;
+
+            Entry previous = entries.get(doc);
+            for (String gram : previous.grams) removePosting(gram, doc);
+            entries.set(doc, null);
+            tombstones++;
+
+            if (tombstones >= COMPACT_MIN_TOMBSTONES && tombstones > entries.size() * COMPACT_RATIO) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어로 랭킹된 결과 조회
+    public SearchResult search(String query, int offset, int limit) {
+        String normalized = HangulNGramTokenizer.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) return new SearchResult(List.of(), 0);
+
+        boolean choseongQuery = HangulNGramTokenizer.isChoseongQuery(normalized);
+
+        lock.readLock().lock();
+        try {
+            LongTopK top = new LongTopK(offset + limit);
+
+            // 1. 검색어를 부분 문자열로 포함하는 문서 (가장 짧은 포스팅부터 교집합)
+            int total = collectExactHits(normalized, choseongQuery, top);
+
+            // 2. 일치 건수가 적으면 오타를 허용한 유사 문서 추가 (페이지와 무관한 기준이라 total이 일정하다)
+            if (!choseongQuery && normalized.length() >= 3 && total < FUZZY_MAX_EXACT_HITS) {
+                total += collectFuzzyHits(normalized, top);
+            }
+
+            // 3. 요청한 페이지 구간 잘라내기
+            long[] ranked = top.sortedDescending();
+            List<RecipeDTO> content = new ArrayList<>(Math.max(0, Math.min(limit, ranked.length - offset)));
+            for (int i = offset; i < ranked.length; i++) {
+                Integer doc = docByRecipeId.get(ranked[i] & RECIPE_ID_MASK);
+                if (doc != null) content.add(copyOf(entries.get(doc).recipe));
+            }
+            return new SearchResult(content, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int collectExactHits(String normalized, boolean choseongQuery, LongTopK top) {
+        List<String> grams = new ArrayList<>(HangulNGramTokenizer.exactGrams(normalized));
+        Posting[] lists = new Posting[grams.size()];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.get(grams.get(i));
+            if (lists[i] == null) return 0;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(posting -> posting.size));
+
+        // 그램이 하나뿐이고 검색어 자체라면 포함 여부 검증이 필요 없다
+        boolean verify = choseongQuery || grams.size() > 1 || !grams.get(0).equals(normalized);
+        int[] cursors = new int[lists.length];
+        Posting base = lists[0];
+        int total = 0;
+
+        for (int i = 0; i < base.size; i++) {
+            int doc = base.docs[i];
+            if (!containsAll(lists, cursors, doc)) continue;
+
+            Entry entry = entries.get(doc);
+            String target = choseongQuery ? entry.initials : entry.normalized;
+            int position = verify ? target.indexOf(normalized) : (target.startsWith(normalized) ? 0 : 1);
+            if (position < 0) continue;
+
+            int tier = position > 0 ? TIER_CONTAINS
+                    : target.length() == normalized.length() ? TIER_EQUALS : TIER_PREFIX;
+            total++;
+            top.offer(rankKey(tier, 1f, entry));
+        }
+        return total;
+    }
+
+    private int collectFuzzyHits(String normalized, LongTopK top) {
+        List<String> grams = new ArrayList<>(HangulNGramTokenizer.queryGrams(normalized));
+
+        // 드문 그램부터 정렬 (없는 그램은 크기 0)
+        grams.sort(Comparator.comparingInt(gram -> {
+            Posting posting = postings.get(gram);
+            return posting == null ? 0 : posting.size;
+        }));
+
+        Posting[] lists = new Posting[grams.size()];
+        float[] weights = new float[grams.size()];
+        float totalWeight = 0f;
+        for (int g = 0; g < lists.length; g++) {
+            lists[g] = postings.get(grams.get(g));
+            weights[g] = weight(grams.get(g));
+            totalWeight += weights[g];
+        }
+
+        float minScore = Math.max(totalWeight * MIN_COVERAGE, totalWeight - ONE_TYPO_WEIGHT);
+
+        // 드문 그램들의 가중치 합이 (전체 - 최소 점수)를 넘으면,
+        // 그중 하나도 갖지 않은 문서는 최소 점수에 도달할 수 없으므로 후보에서 제외된다
+        float candidateWeight = 0f;
+        int candidateGrams = 0;
+        int candidateSize = 0;
+        while (candidateGrams < lists.length && candidateWeight <= totalWeight - minScore) {
+            if (lists[candidateGrams] != null) candidateSize += lists[candidateGrams].size;
+            candidateWeight += weights[candidateGrams++];
+        }
+
+        // 1. 드문 그램의 포스팅을 합쳐 후보 문서 수집 (doc 오름차순)
+        int[] candidates = new int[candidateSize];
+        int filled = 0;
+        for (int g = 0; g < candidateGrams; g++) {
+            if (lists[g] == null) continue;
+            System.arraycopy(lists[g].docs, 0, candidates, filled, lists[g].size);
+            filled += lists[g].size;
+        }
+        Arrays.sort(candidates);
+
+        // 2. 후보 문서마다 그램 보유 여부 확인 (doc 순서로 훑으며 커서를 앞으로만 이동)
+        int[] cursors = new int[lists.length];
+        int total = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            int doc = candidates[i];
+            if (i > 0 && candidates[i - 1] == doc) continue;
+
+            float score = 0f;
+            float remaining = totalWeight;
+            for (int g = 0; g < lists.length && score + remaining >= minScore; g++) {
+                remaining -= weights[g];
+                Posting posting = lists[g];
+                if (posting == null) continue;
+
+                cursors[g] = posting.seek(cursors[g], doc);
+                if (cursors[g] < posting.size && posting.docs[cursors[g]] == doc) score += weights[g];
+            }
+            if (score < minScore) continue;
+
+            float coverage = score / totalWeight;
+
+            // 부분 문자열로 포함되는 문서는 1단계에서 이미 집계됨
+            Entry entry = entries.get(doc);
+            if (entry == null || entry.normalized.contains(normalized)) continue;
+
+            total++;
+            top.offer(rankKey(TIER_FUZZY, coverage, entry));
+        }
+        return total;
+    }
+
+    // 포스팅 목록 모두에 doc이 있는지 확인 (doc이 증가하는 순서로 호출되므로 커서를 앞으로만 이동)
+    private static boolean containsAll(Posting[] lists, int[] cursors, int doc) {
+        for (int j = 1; j < lists.length; j++) {
+            Posting posting = lists[j];
+            cursors[j] = posting.seek(cursors[j], doc);
+            if (cursors[j] >= posting.size || posting.docs[cursors[j]] != doc) return false;
+        }
+        return true;
+    }
+
+    // 정렬 키: 일치 유형 > 그램 일치율 > 짧은 이름 > 최신 레시피 (값이 클수록 상위)
+    private static long rankKey(int tier, float coverage, Entry entry) {
+        long coverageBucket = Math.min(255, (long) (coverage * 255));
+        long shortness = 255 - Math.min(255, entry.normalized.length());
+        return ((long) tier << 56) | (coverageBucket << 48) | (shortness << 40)
+                | (entry.recipe.getRecipeId() & RECIPE_ID_MASK);
+    }
+
+    // 색인된 레시피 수
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByRecipeId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 삭제된 문서를 제외하고 doc 번호를 다시 매김 (쓰기 락 안에서 호출)
+    private void compact() {
+        List<RecipeDTO> live = new ArrayList<>(docByRecipeId.size());
+        for (Entry entry : entries) {
+            if (entry != null) live.add(entry.recipe);
+        }
+
+        Map<String, Posting> newPostings = new HashMap<>();
+        List<Entry> newEntries = new ArrayList<>(live.size());
+        Map<Long, Integer> newDocByRecipeId = new HashMap<>(live.size() * 2);
+        for (RecipeDTO recipe : live) {
+            int doc = newEntries.size();
+            Entry entry = new Entry(recipe);
+            newEntries.add(entry);
+            newDocByRecipeId.put(recipe.getRecipeId(), doc);
+            for (String gram : entry.grams) {
+                newPostings.computeIfAbsent(gram, g -> new Posting()).append(doc);
+            }
+        }
+
+        postings = newPostings;
+        entries = newEntries;
+        docByRecipeId = newDocByRecipeId;
+        tombstones = 0;
+    }
+
+    private void removePosting(String gram, int doc) {
+        Posting posting = postings.get(gram);
+        if (posting == null) return;
+        posting.remove(doc);
+        if (posting.size == 0) postings.remove(gram);
+    }
+
+    // 긴 그램일수록 연속 일치에 가깝기 때문에 가중치를 더 준다
+    private static float weight(String gram) {
+        return gram.length() >= 3 ? 1.5f : 1f;
+    }
+
+    private static RecipeDTO copyOf(RecipeDTO recipe) {
+        return RecipeDTO.builder()
+                .recipeId(recipe.getRecipeId())
+                .menuName(recipe.getMenuName())
+                .menuIngredient(recipe.getMenuIngredient())
+                .menuImage(recipe.getMenuImage())
+                .menuType(recipe.getMenuType())
+                .userId(recipe.getUserId())
+                .build();
+    }
+
+    // 검색 결과 (현재 페이지 내용과 전체 일치 건수)
+    public record SearchResult(List<RecipeDTO> content, int total) {
+    }
+
+    private static final class Entry {
+        private final RecipeDTO recipe;
+        private final String normalized;
+        private final String initials;
+        private final Set<String> grams;
+
+        private Entry(RecipeDTO recipe) {
+            this.recipe = copyOf(recipe);
+            this.normalized = HangulNGramTokenizer.normalize(recipe.getMenuName());
+            this.initials = HangulNGramTokenizer.choseong(normalized);
+            this.grams = HangulNGramTokenizer.indexGrams(normalized);
+        }
+    }
+
+    // doc 번호 오름차순 정렬 배열
+    private static final class Posting {
+        private int[] docs = new int[4];
+        private int size = 0;
+
+        private void append(int doc) {
+            if (size > 0 && docs[size - 1] >= doc) {
+                insert(doc);
+                return;
+            }
+            ensureCapacity();
+            docs[size++] = doc;
+        }
+
+        private void insert(int doc) {
+            int idx = Arrays.binarySearch(docs, 0, size, doc);
+            if (idx >= 0) return;
+            idx = -idx - 1;
+            ensureCapacity();
+            System.arraycopy(docs, idx, docs, idx + 1, size - idx);
+            docs[idx] = doc;
+            size++;
+        }
+
+        private void remove(int doc) {
+            int idx = Arrays.binarySearch(docs, 0, size, doc);
+            if (idx < 0) return;
+            System.arraycopy(docs, idx + 1, docs, idx, size - idx - 1);
+            size--;
+        }
+
+        // from 이후에서 doc 이상인 첫 위치 (지수 탐색 후 이진 탐색)
+        private int seek(int from, int doc) {
+            if (from >= size || docs[from] >= doc) return from;
+
+            int bound = 1;
+            while (from + bound < size && docs[from + bound] < doc) bound <<= 1;
+
+            int idx = Arrays.binarySearch(docs, from + (bound >> 1), Math.min(from + bound + 1, size), doc);
+            return idx >= 0 ? idx : -idx - 1;
+        }
+
+        private void ensureCapacity() {
+            if (size == docs.length) docs = Arrays.copyOf(docs, size * 2);
+        }
+    }
+}
@@ -4,8 +4,8 @@ import com.avengers.yoribogo.common.exception.CommonException;
 import com.avengers.yoribogo.common.exception.ErrorCode;
 import com.avengers.yoribogo.recipe.domain.AIRecipe;
 import com.avengers.yoribogo.recipe.dto.AIRecipeDTO;
+import com.avengers.yoribogo.recipe.mapper.RecipeMapper;
 import com.avengers.yoribogo.recipe.repository.AIRecipeRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,13 +13,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class AIRecipeServiceImpl implements AIRecipeService {
 
-    private final ModelMapper modelMapper;
+    private final RecipeMapper recipeMapper;
     private final AIRecipeRepository aiRecipeRepository;
 
     @Autowired
-    public AIRecipeServiceImpl(ModelMapper modelMapper,
+    public AIRecipeServiceImpl(RecipeMapper recipeMapper,
                                AIRecipeRepository aiRecipeRepository) {
-        this.modelMapper = modelMapper;
+        this.recipeMapper = recipeMapper;
         this.aiRecipeRepository = aiRecipeRepository;
     }
 
@@ -27,11 +27,11 @@ public class AIRecipeServiceImpl implements AIRecipeService {
     @Override
     @Transactional
     public AIRecipeDTO registAIRecipe(AIRecipeDTO aiRecipeDTO) {
-        AIRecipe aiRecipe = modelMapper.map(aiRecipeDTO, AIRecipe.class);
+        AIRecipe aiRecipe = recipeMapper.toAIRecipe(aiRecipeDTO);
         aiRecipe.setAiMenuName(aiRecipeDTO.getMenuName());
         aiRecipe.setAiMenuIngredient(aiRecipeDTO.getMenuIngredient());
         aiRecipe.setAiMenuImage(aiRecipeDTO.getMenuImage());
-        return modelMapper.map(aiRecipeRepository.save(aiRecipe), AIRecipeDTO.class);
+        return recipeMapper.toAIRecipeDTO(aiRecipeRepository.save(aiRecipe));
     }
 
     // AI 요리 레시피 수정
@@ -49,7 +49,7 @@ public class AIRecipeServiceImpl implements AIRecipeService {
         aiRecipe.setAiMenuIngredient(aiRecipeDTO.getMenuIngredient());
         aiRecipe.setAiMenuImage(aiRecipeDTO.getMenuImage());
 
-        return modelMapper.map(aiRecipeRepository.save(aiRecipe), AIRecipeDTO.class);
+        return recipeMapper.toAIRecipeDTO(aiRecipeRepository.save(aiRecipe));
     }
 
     // AI 요리 레시피 요리 이름으로 조회(이름이 동일한 요리)
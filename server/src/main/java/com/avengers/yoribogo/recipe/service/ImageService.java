@@ -1,8 +1,16 @@
 package com.avengers.yoribogo.recipe.service;
 
+import com.avengers.yoribogo.recipe.dto.ImageJobStatusDTO;
+
 public interface ImageService {
 
-    // AI 이미지 생성
+    // AI 이미지 생성 작업 등록 (이미지 생성 큐에서 비동기로 처리)
     void generateImageAsync(String trimmedDescription, Long recipeId);
 
+    // AI 이미지 생성 후 요리에 반영 (이미지 생성 워커에서 호출, 업로드된 이미지 URL 반환)
+    String generateImage(String trimmedDescription, Long recipeId);
+
+    // 요리 이미지 생성 상태 조회
+    ImageJobStatusDTO findImageJobStatus(Long recipeId);
+
 }
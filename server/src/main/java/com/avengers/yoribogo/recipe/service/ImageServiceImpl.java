@@ -3,26 +3,30 @@ package com.avengers.yoribogo.recipe.service;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.avengers.yoribogo.common.exception.CommonException;
 import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.common.image.ImageVariant;
+import com.avengers.yoribogo.common.image.ImageVariantGenerator;
+import com.avengers.yoribogo.common.image.ImageVariantTarget;
 import com.avengers.yoribogo.notification.notification.service.NotificationService;
 import com.avengers.yoribogo.openai.service.OpenAIService;
 import com.avengers.yoribogo.recipe.domain.Recipe;
 import com.avengers.yoribogo.recipe.dto.AIRecipeDTO;
+import com.avengers.yoribogo.recipe.dto.ImageJobStatusDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeSavedEvent;
+import com.avengers.yoribogo.recipe.image.ImageJobQueue;
+import com.avengers.yoribogo.recipe.image.S3ImageTransfer;
 import com.avengers.yoribogo.recipe.repository.RecipeRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-
 @Slf4j
 @Service
 public class ImageServiceImpl implements ImageService {
@@ -32,6 +36,11 @@ public class ImageServiceImpl implements ImageService {
     private final OpenAIService openAIService;
     private final NotificationService notificationService;
     private final AmazonS3Client s3Client;
+    private final ImageJobQueue imageJobQueue;
+    private final S3ImageTransfer s3ImageTransfer;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AsyncTaskExecutor taskExecutor;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -41,88 +50,120 @@ public class ImageServiceImpl implements ImageService {
                             AIRecipeService aiRecipeService,
                             OpenAIService openAIService,
                             NotificationService notificationService,
-                            AmazonS3Client s3Client) {
+                            AmazonS3Client s3Client,
+                            ImageJobQueue imageJobQueue,
+                            S3ImageTransfer s3ImageTransfer,
+                            ImageVariantGenerator imageVariantGenerator,
+                            ApplicationEventPublisher applicationEventPublisher,
+                            @Qualifier("taskExecutor") AsyncTaskExecutor taskExecutor) {
         this.recipeRepository = recipeRepository;
         this.aiRecipeService = aiRecipeService;
         this.openAIService = openAIService;
         this.notificationService = notificationService;
         this.s3Client = s3Client;
+        this.imageJobQueue = imageJobQueue;
+        this.s3ImageTransfer = s3ImageTransfer;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.taskExecutor = taskExecutor;
     }
 
-    // AI 이미지 생성
-    @Async
+    // AI 이미지 생성 작업 등록
+    // 큐(Redis)에 넣지 못하면 재시도 없이 한 번 바로 생성 (공용 비동기 풀, 포화 시 요청 스레드에서 실행)
     @Override
     public void generateImageAsync(String trimmedDescription, Long recipeId) {
         try {
-            // AI 사진 생성
-            String gptImageUrl = registImages(trimmedDescription);
-
-            // S3에 이미지 업로드
-            String s3ImageUrl = uploadMenuImage(gptImageUrl, recipeId);
-
-            // 기존 엔티티 조회
-            Recipe existingRecipe = recipeRepository.findById(recipeId)
-                    .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE));
-
-            // 엔티티 정보 수정
-            existingRecipe.setMenuImage(s3ImageUrl);
-
-            recipeRepository.save(existingRecipe);
-
-            // DTO에 요리 레시피 정보 담기
-            AIRecipeDTO aiRecipeDTO = AIRecipeDTO
-                    .builder()
-                    .menuName(existingRecipe.getMenuName())
-                    .menuIngredient(existingRecipe.getMenuIngredient())
-                    .menuImage(s3ImageUrl)
-                    .recipeId(existingRecipe.getRecipeId())
-                    .build();
-
-            // AI 요리 레시피 수정
-            aiRecipeService.modifyAIRecipe(aiRecipeDTO);
-            notificationService.sendImageUpdateNotification(s3ImageUrl);
-        } catch (Exception e) {
-            log.error("레시피 ID: " + recipeId + "의 이미지 생성 중 오류 발생", e);
+            imageJobQueue.enqueue(recipeId, trimmedDescription);
+        } catch (RuntimeException e) {
+            log.error("레시피 ID: {}의 이미지 생성 작업 등록 실패, 바로 생성", recipeId, e);
+            try {
+                taskExecutor.execute(() -> generateImageDirectly(trimmedDescription, recipeId));
+            } catch (TaskRejectedException rejected) {
+                generateImageDirectly(trimmedDescription, recipeId);
+            }
+        }
+    }
+
+    private void generateImageDirectly(String trimmedDescription, Long recipeId) {
+        try {
+            generateImage(trimmedDescription, recipeId);
+        } catch (RuntimeException e) {
+            log.error("레시피 ID: {}의 이미지 생성 실패", recipeId, e);
         }
     }
 
+    // AI 이미지 생성 (실패하면 예외를 던져 큐에서 재시도)
+    @Override
+    public String generateImage(String trimmedDescription, Long recipeId) {
+        // AI 사진 생성
+        String gptImageUrl = registImages(trimmedDescription);
+
+        // S3에 이미지 업로드
+        String s3ImageUrl = uploadMenuImage(gptImageUrl, recipeId);
+
+        // 기존 엔티티 조회
+        Recipe existingRecipe = recipeRepository.findById(recipeId)
+                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE));
+
+        // 엔티티 정보 수정
+        existingRecipe.setMenuImage(s3ImageUrl);
+
+        existingRecipe = recipeRepository.save(existingRecipe);
+
+        // 크기별 파생본 생성 (URL 저장 이후 비동기, 실패해도 원본 URL 사용)
+        imageVariantGenerator.generateAsync(ImageVariant.keyOf(s3ImageUrl), ImageVariantTarget.RECIPE, recipeId);
+
+        // 검색 색인에 이미지 반영
+        applicationEventPublisher.publishEvent(new RecipeSavedEvent(RecipeDTO
+                .builder()
+                .recipeId(existingRecipe.getRecipeId())
+                .menuName(existingRecipe.getMenuName())
+                .menuIngredient(existingRecipe.getMenuIngredient())
+                .menuImage(existingRecipe.getMenuImage())
+                .menuType(existingRecipe.getMenuType())
+                .userId(existingRecipe.getUserId())
+                .build()));
+
+        // DTO에 요리 레시피 정보 담기
+        AIRecipeDTO aiRecipeDTO = AIRecipeDTO
+                .builder()
+                .menuName(existingRecipe.getMenuName())
+                .menuIngredient(existingRecipe.getMenuIngredient())
+                .menuImage(s3ImageUrl)
+                .recipeId(existingRecipe.getRecipeId())
+                .build();
+
+        // AI 요리 레시피 수정
+        aiRecipeService.modifyAIRecipe(aiRecipeDTO);
+        notificationService.sendImageUpdateNotification(s3ImageUrl);
+
+        return s3ImageUrl;
+    }
+
+    // 요리 이미지 생성 상태 조회
+    @Override
+    public ImageJobStatusDTO findImageJobStatus(Long recipeId) {
+        ImageJobStatusDTO imageJobStatusDTO = imageJobQueue.findStatus(recipeId);
+
+        // 조회되지 않은 경우
+        if (imageJobStatusDTO == null) throw new CommonException(ErrorCode.NOT_FOUND_IMAGE_JOB);
+
+        return imageJobStatusDTO;
+    }
+
     // 요리 사진 생성하기
     public String registImages(String menuName) {
         return openAIService.getImages(menuName).getData().get(0).getUrl();
     }
 
-    // 이미지의 url을 받아 S3에 등록하는 메소드
+    // 이미지의 url을 받아 S3에 등록하는 메소드 (다운로드 스트림을 그대로 S3에 올림)
     public String uploadMenuImage(String imageUrl, Long recipeId) {
         String fileName = "recipe_" + recipeId + ".png"; // 기본 파일명 및 확장자
 
-        // URL 객체 생성
         try {
-            URL url = new URL(imageUrl);
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("GET");
-            connection.setDoOutput(true);
-            connection.connect();
-
-            // 응답 코드 확인
-            if (connection.getResponseCode() != 200) {
-                throw new IOException("URL에서 이미지를 가져오지 못했습니다. 응답 코드: " + connection.getResponseCode());
-            }
-
-            // 연결에서 입력 스트림 가져오기
-            try (InputStream inputStream = connection.getInputStream()) {
-                // S3에 대한 ObjectMetadata 생성
-                ObjectMetadata metadata = new ObjectMetadata();
-                metadata.setContentLength(connection.getContentLengthLong());
-                metadata.setContentType(connection.getContentType());
-                metadata.setContentDisposition("inline");
-
-                // S3에 파일 업로드
-                s3Client.putObject(new PutObjectRequest(bucket, fileName, inputStream, metadata));
-            } // try-with-resources 문을 사용하여 입력 스트림 자동으로 닫기
-
-            // 업로드된 이미지의 S3 URL 반환
-            return s3Client.getUrl(bucket, fileName).toString();
-        } catch (AmazonClientException | IOException e) {
+            // 전송은 Netty 이벤트 루프와 S3 업로드 스레드에서 진행되고, 워커는 결과만 기다린다
+            return s3ImageTransfer.transfer(imageUrl, fileName).block();
+        } catch (RuntimeException e) {
             log.error("S3에 이미지 업로드 실패", e);
             throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
         }
@@ -142,6 +183,7 @@ public class ImageServiceImpl implements ImageService {
             // S3에서 파일 삭제 요청
             s3Client.deleteObject(new DeleteObjectRequest(bucket, fileName));
             log.info("S3에서 성공적으로 파일이 삭제되었습니다: {}", fileName);
+            imageVariantGenerator.deleteVariants(fileName);
         } catch (AmazonClientException e) {
             log.error("S3에서 파일을 삭제하지 못하였습니다.: {}", fileName, e);
         }
@@ -0,0 +1,13 @@
+package com.avengers.yoribogo.recipe.service;
+
+import com.avengers.yoribogo.recipe.dto.PantryMatchDTO;
+
+import java.util.List;
+
+public interface IngredientMatchService {
+
+    // 보유 재료로 만들 수 있는 레시피를 재료 충족률 순으로 조회
+    List<PantryMatchDTO> findRecipeByPantry(List<String> ingredients, Integer size,
+                                            Boolean includeBoards, Boolean includeStaples);
+
+}
@@ -0,0 +1,63 @@
+package com.avengers.yoribogo.recipe.service;
+
+import com.avengers.yoribogo.common.CursorCodec;
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.recipe.dto.PantryMatchDTO;
+import com.avengers.yoribogo.recipe.ingredient.IngredientIndex;
+import com.avengers.yoribogo.recipe.ingredient.IngredientMatchEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class IngredientMatchServiceImpl implements IngredientMatchService {
+
+    // 한 번에 보낼 수 있는 보유 재료 최대 개수
+    private static final int MAX_PANTRY_SIZE = 100;
+
+    private final IngredientMatchEngine ingredientMatchEngine;
+
+    @Autowired
+    public IngredientMatchServiceImpl(IngredientMatchEngine ingredientMatchEngine) {
+        this.ingredientMatchEngine = ingredientMatchEngine;
+    }
+
+    // 보유 재료로 만들 수 있는 레시피를 재료 충족률 순으로 조회
+    @Override
+    public List<PantryMatchDTO> findRecipeByPantry(List<String> ingredients, Integer size,
+                                                   Boolean includeBoards, Boolean includeStaples) {
+        if (ingredients == null || ingredients.isEmpty() || ingredients.size() > MAX_PANTRY_SIZE) {
+            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
+
+        // 색인 적재 전에는 TEXT 컬럼을 전부 읽어야 하므로 DB로 대체하지 않는다
+        if (!ingredientMatchEngine.isReady()) {
+            throw new CommonException(ErrorCode.INDEX_NOT_READY);
+        }
+
+        List<IngredientIndex.Match> matches = ingredientMatchEngine.match(
+                ingredients,
+                includeStaples == null || includeStaples,
+                includeBoards == null || includeBoards,
+                CursorCodec.resolveSize(size));
+
+        if (matches.isEmpty()) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECIPE);
+        }
+
+        return matches.stream()
+                .map(match -> PantryMatchDTO.builder()
+                        .sourceType(match.type())
+                        .id(match.id())
+                        .menuName(match.name())
+                        .menuImage(match.image())
+                        .coverage(match.coverage())
+                        .matchedIngredients(match.matchedIngredients())
+                        .missingIngredients(match.missingIngredients())
+                        .build())
+                .toList();
+    }
+
+}
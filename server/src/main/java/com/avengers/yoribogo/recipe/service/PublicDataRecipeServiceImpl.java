@@ -4,8 +4,8 @@ import com.avengers.yoribogo.common.exception.CommonException;
 import com.avengers.yoribogo.common.exception.ErrorCode;
 import com.avengers.yoribogo.recipe.domain.PublicDataRecipe;
 import com.avengers.yoribogo.recipe.dto.PublicDataRecipeDTO;
+import com.avengers.yoribogo.recipe.mapper.RecipeMapper;
 import com.avengers.yoribogo.recipe.repository.PublicDataRecipeRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,13 +13,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class PublicDataRecipeServiceImpl implements PublicDataRecipeService {
 
-    private final ModelMapper modelMapper;
+    private final RecipeMapper recipeMapper;
     private final PublicDataRecipeRepository publicDataRecipeRepository;
 
     @Autowired
-    public PublicDataRecipeServiceImpl(ModelMapper modelMapper,
+    public PublicDataRecipeServiceImpl(RecipeMapper recipeMapper,
                                        PublicDataRecipeRepository publicDataRecipeRepository) {
-        this.modelMapper = modelMapper;
+        this.recipeMapper = recipeMapper;
         this.publicDataRecipeRepository = publicDataRecipeRepository;
     }
 
@@ -28,11 +28,11 @@ public class PublicDataRecipeServiceImpl implements PublicDataRecipeService {
     @Transactional
     public PublicDataRecipeDTO registPublicDataRecipe(PublicDataRecipeDTO publicDataRecipeDTO) {
         PublicDataRecipe publicDataRecipe =
-                modelMapper.map(publicDataRecipeDTO, PublicDataRecipe.class);
+                recipeMapper.toPublicDataRecipe(publicDataRecipeDTO);
         publicDataRecipe.setPublicDataMenuName(publicDataRecipeDTO.getMenuName());
         publicDataRecipe.setPublicDataMenuIngredient(publicDataRecipeDTO.getMenuIngredient());
         publicDataRecipe.setPublicDataMenuImage(publicDataRecipeDTO.getMenuImage());
-        return modelMapper.map(publicDataRecipeRepository.save(publicDataRecipe), PublicDataRecipeDTO.class);
+        return recipeMapper.toPublicDataRecipeDTO(publicDataRecipeRepository.save(publicDataRecipe));
     }
 
     // 공공데이터 요리 레시피 수정
@@ -51,7 +51,7 @@ public class PublicDataRecipeServiceImpl implements PublicDataRecipeService {
         publicDataRecipe.setPublicDataMenuIngredient(publicDataRecipeDTO.getMenuIngredient());
         publicDataRecipe.setPublicDataMenuImage(publicDataRecipeDTO.getMenuImage());
 
-        return modelMapper.map(publicDataRecipeRepository.save(publicDataRecipe), PublicDataRecipeDTO.class);
+        return recipeMapper.toPublicDataRecipeDTO(publicDataRecipeRepository.save(publicDataRecipe));
     }
 
     // 공공데이터 요리 레시피 요리 이름으로 조회(이름이 동일한 요리)
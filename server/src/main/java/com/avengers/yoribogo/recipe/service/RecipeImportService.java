@@ -0,0 +1,14 @@
+package com.avengers.yoribogo.recipe.service;
+
+import com.avengers.yoribogo.recipe.dto.RecipeImportJobDTO;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface RecipeImportService {
+
+    // 업로드한 레시피 덤프 일괄 등록 시작 (같은 내용이면 마지막 체크포인트부터 재개)
+    RecipeImportJobDTO registRecipeImport(MultipartFile file, Long userId);
+
+    // 일괄 등록 작업 진행 상황 조회
+    RecipeImportJobDTO findRecipeImportJob(String importJobId);
+
+}
@@ -0,0 +1,180 @@
+package com.avengers.yoribogo.recipe.service;
+
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.recipe.bulk.RecipeBulkImporter;
+import com.avengers.yoribogo.recipe.domain.RecipeImportFormat;
+import com.avengers.yoribogo.recipe.domain.RecipeImportJob;
+import com.avengers.yoribogo.recipe.domain.RecipeImportStatus;
+import com.avengers.yoribogo.recipe.dto.RecipeImportJobDTO;
+import com.avengers.yoribogo.recipe.repository.RecipeImportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+
+@Slf4j
+@Service
+public class RecipeImportServiceImpl implements RecipeImportService {
+
+    private final RecipeImportJobRepository recipeImportJobRepository;
+    private final RecipeBulkImporter recipeBulkImporter;
+
+    // 업로드한 덤프를 보관할 디렉터리 (재개할 때 다시 읽어야 하므로 임시 업로드 파일과 별도로 보관)
+    @Value("${recipe.import.directory:${java.io.tmpdir}/yoribogo-import}")
+    private Path importDirectory;
+
+    // 등록자 지정이 없을 때 사용할 회원 ID (공공데이터 등록 관리자)
+    @Value("${recipe.import.user-id:1}")
+    private Long defaultUserId;
+
+    @Autowired
+    public RecipeImportServiceImpl(RecipeImportJobRepository recipeImportJobRepository,
+                                   RecipeBulkImporter recipeBulkImporter) {
+        this.recipeImportJobRepository = recipeImportJobRepository;
+        this.recipeBulkImporter = recipeBulkImporter;
+    }
+
+    // 서버 재시작으로 중단된 작업을 마지막 체크포인트부터 재개
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedImport() {
+        for (RecipeImportJob job : recipeImportJobRepository.findByImportStatusOrderByStartedAtAsc(RecipeImportStatus.RUNNING)) {
+            // 다른 서버에서 업로드된 덤프는 이 서버에 없으므로 건너뛴다
+            if (!Files.isRegularFile(Path.of(job.getSourcePath()))) continue;
+            if (!recipeBulkImporter.tryAcquire()) return;
+
+            log.info("중단된 레시피 일괄 등록 작업 재개 - 작업: {}", job.getImportJobId());
+            recipeBulkImporter.runAsync(job);
+            return;
+        }
+    }
+
+    // 업로드한 레시피 덤프 일괄 등록 시작 (같은 내용이면 마지막 체크포인트부터 재개)
+    @Override
+    public RecipeImportJobDTO registRecipeImport(MultipartFile file, Long userId) {
+        if (file == null || file.isEmpty()) throw new CommonException(ErrorCode.MISSING_REQUIRED_FIELD);
+
+        RecipeImportFormat format = RecipeImportFormat.fromFileName(file.getOriginalFilename());
+        if (format == null) throw new CommonException(ErrorCode.UNSUPPORTED_FILE_FORMAT);
+
+        acquire();
+        Path spool = null;
+        try {
+            // 보관 디렉터리에 옮겨 적으면서 내용 해시를 계산 (이름·크기가 같아도 내용이 다르면 다른 작업)
+            Files.createDirectories(importDirectory);
+            spool = Files.createTempFile(importDirectory, "upload-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            // 같은 내용을 다시 올리면 같은 작업으로 이어서 처리
+            String importJobId = HexFormat.of().formatHex(digest.digest());
+            Path source = importDirectory.resolve(importJobId + "." + format.name().toLowerCase(Locale.ROOT));
+            if (Files.isRegularFile(source)) {
+                Files.delete(spool);
+            } else {
+                Files.move(spool, source, StandardCopyOption.ATOMIC_MOVE);
+            }
+            spool = null;
+
+            return launch(importJobId, source, format, userId);
+        } catch (IOException e) {
+            recipeBulkImporter.release();
+            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+        } catch (NoSuchAlgorithmException e) {
+            recipeBulkImporter.release();
+            throw new IllegalStateException(e);
+        } catch (RuntimeException e) {
+            recipeBulkImporter.release();
+            throw e;
+        } finally {
+            deleteQuietly(spool);
+        }
+    }
+
+    // 일괄 등록 작업 진행 상황 조회
+    @Override
+    public RecipeImportJobDTO findRecipeImportJob(String importJobId) {
+        RecipeImportJob job = recipeImportJobRepository.findById(importJobId)
+                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE_IMPORT_JOB));
+        return convertEntityToDTO(job);
+    }
+
+    private void acquire() {
+        if (!recipeBulkImporter.tryAcquire()) throw new CommonException(ErrorCode.RECIPE_IMPORT_ALREADY_RUNNING);
+    }
+
+    // 실행 권한을 얻은 상태에서 작업 생성 또는 재개
+    private RecipeImportJobDTO launch(String importJobId, Path source, RecipeImportFormat format, Long userId) {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        RecipeImportJob job = recipeImportJobRepository.findById(importJobId).orElse(null);
+
+        // 이미 끝난 작업은 다시 실행하지 않는다
+        if (job != null && job.getImportStatus() == RecipeImportStatus.COMPLETED) {
+            recipeBulkImporter.release();
+            return convertEntityToDTO(job);
+        }
+
+        if (job == null) {
+            job = new RecipeImportJob(importJobId, source.toString(), format,
+                    userId != null ? userId : defaultUserId,
+                    0L, 0L, 0L, 0L, RecipeImportStatus.RUNNING, null, now, now);
+        } else {
+            job.setSourcePath(source.toString());
+            job.setImportStatus(RecipeImportStatus.RUNNING);
+            job.setErrorMessage(null);
+            job.setUpdatedAt(now);
+        }
+
+        job = recipeImportJobRepository.save(job);
+        recipeBulkImporter.runAsync(job);
+        return convertEntityToDTO(job);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("레시피 덤프 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private RecipeImportJobDTO convertEntityToDTO(RecipeImportJob job) {
+        double recordsPerSecond = job.getElapsedMillis() > 0
+                ? Math.round(job.getProcessedRecords() * 10_000.0 / job.getElapsedMillis()) / 10.0
+                : 0.0;
+
+        return RecipeImportJobDTO.builder()
+                .importJobId(job.getImportJobId())
+                .sourcePath(job.getSourcePath())
+                .sourceFormat(job.getSourceFormat())
+                .importStatus(job.getImportStatus())
+                .processedRecords(job.getProcessedRecords())
+                .importedRecipes(job.getImportedRecipes())
+                .skippedRecords(job.getSkippedRecords())
+                .recordsPerSecond(recordsPerSecond)
+                .errorMessage(job.getErrorMessage())
+                .startedAt(job.getStartedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
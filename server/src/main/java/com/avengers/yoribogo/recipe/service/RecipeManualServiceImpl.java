@@ -3,17 +3,22 @@ package com.avengers.yoribogo.recipe.service;
 import com.avengers.yoribogo.common.exception.CommonException;
 import com.avengers.yoribogo.common.exception.ErrorCode;
 import com.avengers.yoribogo.openai.service.OpenAIService;
+import com.avengers.yoribogo.recipe.cache.RecipeDetailCache;
 import com.avengers.yoribogo.recipe.domain.Recipe;
 import com.avengers.yoribogo.recipe.domain.RecipeManual;
+import com.avengers.yoribogo.recipe.dto.RecipeManualChangedEvent;
 import com.avengers.yoribogo.recipe.dto.RecipeManualDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeWithManualsDTO;
 import com.avengers.yoribogo.recipe.dto.RequestAIRecipeManualDTO;
 import com.avengers.yoribogo.recipe.dto.RequestRecipeManualDTO;
+import com.avengers.yoribogo.recipe.manual.AIManualStreamRegistry;
+import com.avengers.yoribogo.recipe.manual.ManualStepDiff;
+import com.avengers.yoribogo.recipe.mapper.RecipeMapper;
 import com.avengers.yoribogo.recipe.repository.RecipeManualRepository;
 import com.avengers.yoribogo.recipe.repository.RecipeRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -24,35 +29,45 @@ import java.util.*;
 @Service
 public class RecipeManualServiceImpl implements RecipeManualService {
 
-    private final ModelMapper modelMapper;
+    private final RecipeMapper recipeMapper;
     private final RecipeManualRepository recipeManualRepository;
     private final RecipeRepository recipeRepository;
     private final OpenAIService openAIService;
+    private final RecipeDetailCache recipeDetailCache;
+    private final AIManualStreamRegistry aiManualStreamRegistry;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    public RecipeManualServiceImpl(ModelMapper modelMapper,
+    public RecipeManualServiceImpl(RecipeMapper recipeMapper,
                                    RecipeRepository recipeRepository,
                                    RecipeManualRepository recipeManualRepository,
-                                   OpenAIService openAIService) {
-        this.modelMapper = modelMapper;
+                                   OpenAIService openAIService,
+                                   RecipeDetailCache recipeDetailCache,
+                                   AIManualStreamRegistry aiManualStreamRegistry,
+                                   ApplicationEventPublisher applicationEventPublisher) {
+        this.recipeMapper = recipeMapper;
         this.recipeRepository = recipeRepository;
         this.recipeManualRepository = recipeManualRepository;
         this.openAIService = openAIService;
+        this.recipeDetailCache = recipeDetailCache;
+        this.aiManualStreamRegistry = aiManualStreamRegistry;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     // 요리 레시피 아이디로 매뉴얼 조회
     @Override
     public List<RecipeManualDTO> findRecipeManualByRecipeId(Long recipeId) {
-        // 기존 엔티티 목록 조회
-        List<RecipeManual> recipeManualList = recipeManualRepository.findByRecipeId(recipeId);
+        // 요리 레시피 상세 캐시에서 매뉴얼 조회
+        RecipeWithManualsDTO recipeWithManualsDTO = recipeDetailCache.find(recipeId);
 
         // 조회된게 없을 경우 예외처리
-        if (recipeManualList.isEmpty()) {
+        if (recipeWithManualsDTO == null
+                || recipeWithManualsDTO.getRecipeManuals() == null
+                || recipeWithManualsDTO.getRecipeManuals().isEmpty()) {
             throw new CommonException(ErrorCode.NOT_FOUND_RECIPE_MANUAL);
         }
 
-        // RecipeManual -> RecipeManualDTO 변환 및 List 반환
-        return convertEntityToDTO(recipeManualList);
+        return recipeWithManualsDTO.getRecipeManuals();
     }
 
     // 요리 레시피 매뉴얼 등록
@@ -75,16 +90,20 @@ public class RecipeManualServiceImpl implements RecipeManualService {
                     .build();
 
             // 매뉴얼 등록
-            RecipeManual recipeManual = modelMapper.map(newRecipeManualDTO, RecipeManual.class);
+            RecipeManual recipeManual = recipeMapper.toRecipeManual(newRecipeManualDTO);
             recipeManual.setRecipe(recipe);
             recipeManualList.add(recipeManualRepository.save(recipeManual));
         }
 
+        // 커밋 이후 상세 조회 캐시 무효화
+        applicationEventPublisher.publishEvent(new RecipeManualChangedEvent(recipeId));
+
         // RecipeManual -> RecipeManualDTO 변환 및 List 반환
         return convertEntityToDTO(recipeManualList);
     }
 
     // 요리 레시피 매뉴얼 수정
+    // 전부 지우고 다시 넣지 않고, 단계 번호와 내용(설명·이미지)으로 비교해 바뀐 단계만 추가·수정·삭제한다.
     @Override
     @Transactional
     public List<RecipeManualDTO> modifyRecipeManual(Long recipeId, RequestRecipeManualDTO requestRecipeManualDTO) {
@@ -97,14 +116,64 @@ public class RecipeManualServiceImpl implements RecipeManualService {
             throw new CommonException(ErrorCode.NOT_FOUND_RECIPE_MANUAL);
         }
 
-        // 기존 엔티티 삭제
-        recipeManualRepository.deleteAll(recipeManualList);
+        // 요청 매뉴얼 -> 단계 번호 부여
+        List<Map<String, String>> manual = requestRecipeManualDTO.getManual();
+        List<RecipeManualDTO> requestedList = new ArrayList<>(manual.size());
+        for (int i = 0; i < manual.size(); i++) {
+            requestedList.add(RecipeManualDTO
+                    .builder()
+                    .recipeManualStep(i + 1)
+                    .manualMenuImage(manual.get(i).get("image"))
+                    .manualContent(manual.get(i).get("content"))
+                    .build());
+        }
+
+        ManualStepDiff<RecipeManual, RecipeManualDTO> diff = ManualStepDiff.compute(
+                recipeManualList,
+                RecipeManual::getRecipeManualStep,
+                requestedList,
+                RecipeManualDTO::getRecipeManualStep,
+                (recipeManual, dto) -> Objects.equals(recipeManual.getManualContent(), dto.getManualContent())
+                        && Objects.equals(recipeManual.getManualMenuImage(), dto.getManualMenuImage()));
+
+        List<RecipeManual> resultList = new ArrayList<>(requestedList.size());
+        diff.getUnchanged().forEach(match -> resultList.add(match.stored()));
+
+        // 수정: 변경 감지로 커밋 시 UPDATE 배치
+        for (ManualStepDiff.Match<RecipeManual, RecipeManualDTO> match : diff.getUpdates()) {
+            RecipeManual recipeManual = match.stored();
+            recipeManual.setManualContent(match.requested().getManualContent());
+            recipeManual.setManualMenuImage(match.requested().getManualMenuImage());
+            resultList.add(recipeManual);
+        }
 
-        // 바뀐 매뉴얼 등록
-        return registRecipeManual(recipeId, requestRecipeManualDTO);
+        // 추가: INSERT 배치
+        Recipe recipe = recipeManualList.get(0).getRecipe();
+        List<RecipeManual> insertList = new ArrayList<>(diff.getInserts().size());
+        for (RecipeManualDTO dto : diff.getInserts()) {
+            RecipeManual recipeManual = recipeMapper.toRecipeManual(dto);
+            recipeManual.setRecipe(recipe);
+            insertList.add(recipeManual);
+        }
+        resultList.addAll(recipeManualRepository.saveAll(insertList));
+
+        // 삭제: DELETE 한 번
+        if (!diff.getDeletes().isEmpty()) {
+            recipeManualRepository.deleteAllInBatch(diff.getDeletes());
+        }
+
+        // 커밋 이후 상세 조회 캐시 무효화
+        if (diff.hasChanges()) {
+            applicationEventPublisher.publishEvent(new RecipeManualChangedEvent(recipeId));
+        }
+
+        resultList.sort(Comparator.comparing(RecipeManual::getRecipeManualStep));
+        return convertEntityToDTO(resultList);
     }
 
     // AI 생성 매뉴얼 등록 및 비동기로 결과 반환
+    // 같은 요리의 생성이 진행 중이면 새로 호출하지 않고 이미 보낸 내용부터 이어 받고,
+    // 이미 저장된 매뉴얼이 있으면 OpenAI를 다시 호출하지 않고 저장된 단계를 보낸다.
     @Override
     public Flux<String> registAIRecipeManual(Long recipeId, RequestAIRecipeManualDTO requestAIRecipeManualDTO) {
         // 유효성 검사
@@ -112,77 +181,34 @@ public class RecipeManualServiceImpl implements RecipeManualService {
             return Flux.error(new CommonException(ErrorCode.INVALID_REQUEST_BODY));  // 유효하지 않을 경우 Flux.error로 반환
         }
 
+        if (!aiManualStreamRegistry.isActive(recipeId)) {
+            // 이미 생성된 매뉴얼 재전송
+            List<RecipeManual> recipeManualList = recipeManualRepository.findByRecipeId(recipeId);
+            if (!recipeManualList.isEmpty()) {
+                return Flux.fromIterable(recipeManualList)
+                        .sort(Comparator.comparing(RecipeManual::getRecipeManualStep))
+                        .map(recipeManual -> recipeManual.getManualContent() + "\n");
+            }
+
+            if (!recipeRepository.existsById(recipeId)) {
+                return Flux.error(new CommonException(ErrorCode.NOT_FOUND_RECIPE));
+            }
+        }
+
         // 프롬프트 생성
         String recipePrompt = requestAIRecipeManualDTO.getMenuName() + "에 필요한 재료가 " +
                 requestAIRecipeManualDTO.getMenuIngredient() + "일 때, " +
                 requestAIRecipeManualDTO.getMenuName() + "의 레시피를 최대 6단계로 요약해줘. " +
                 "각 단계에 번호만 붙여 '1. 쌀을 씻습니다.'와 같은 형식으로 간결하게 작성해줘.";
 
-        // OpenAI API 호출로부터 Flux<String>을 반환
-        return Flux.defer(() -> {
-            try {
-                String[] recommendationHolder = {""};
-
-                // OpenAI API 호출
-                return openAIService.getRecommendManuals(recipePrompt)
-                        .doOnNext(recommendation -> {
-                            // 추천 매뉴얼을 받아오는 중의 로깅
-                            log.info("Received recommendation: {}", recommendation);
-                            recommendationHolder[0] += recommendation; // recommendation 저장
-                        })
-                        .doOnComplete(() -> {
-                            // 완료되었을 때 registRecipeManual 호출
-                            if (recommendationHolder[0] != null) {
-                                registRecipeManual(recipeId, recommendationHolder[0]); // recommendation을 전달
-                            } else {
-                                log.warn("No recommendation received.");
-                            }
-                        })
-                        .doOnError(error -> {
-                            // 에러 발생 시 로깅
-                            log.error("Error occurred while getting recommendations: {}", error.getMessage());
-                        });
-            } catch (JsonProcessingException e) {
-                return Flux.error(new CommonException(ErrorCode.INTERNAL_SERVER_ERROR));  // 내부 서버 에러 처리
-            }
-        });
-    }
-
-    // AI 생성 매뉴얼 등록에 사용하는 메소드
-    private void registRecipeManual(Long recipeId, String aiAnswerRecipe) {
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE));
-
-        // AI가 생성한 요리 레시피 매뉴얼 등록
-        List<Map<String, String>> manual = new ArrayList<>();
-
-        List<String> contents = Arrays.stream(aiAnswerRecipe.split("\n")).toList();
-        for (String content : contents) {
-            Map<String, String> map = new HashMap<>();
-            map.put("content", content);
-            manual.add(map);
-        }
-
-        for(int i = 0; i < manual.size(); i++) {
-            // 매뉴얼 생성
-            RecipeManualDTO newRecipeManualDTO = RecipeManualDTO
-                    .builder()
-                    .recipeManualStep(i + 1)
-                    .manualMenuImage(manual.get(i).get("image"))
-                    .manualContent(manual.get(i).get("content"))
-                    .build();
-
-            // 매뉴얼 등록
-            RecipeManual recipeManual = modelMapper.map(newRecipeManualDTO, RecipeManual.class);
-            recipeManual.setRecipe(recipe);
-            recipeManualRepository.save(recipeManual);
-        }
+        // OpenAI 스트림은 요리별로 한 번만 구독하고, 완성된 단계는 생성 중에 바로 저장
+        return aiManualStreamRegistry.join(recipeId, () -> openAIService.getRecommendManuals(recipePrompt));
     }
 
     // RecipeManual -> RecipeManualDTO 변환 및 List 반환 메소드
     private List<RecipeManualDTO> convertEntityToDTO(List<RecipeManual> recipeManualList) {
         return recipeManualList.stream()
-                .map(recipeManual -> modelMapper.map(recipeManual, RecipeManualDTO.class))
+                .map(recipeMapper::toRecipeManualDTO)
                 .toList();
     }
 
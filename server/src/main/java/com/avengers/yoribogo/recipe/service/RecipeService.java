@@ -1,6 +1,8 @@
 package com.avengers.yoribogo.recipe.service;
 
+import com.avengers.yoribogo.common.CursorPageDTO;
 import com.avengers.yoribogo.recipe.dto.BaseRecipeDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeCardDTO;
 import com.avengers.yoribogo.recipe.dto.RecipeDTO;
 import com.avengers.yoribogo.recipe.dto.RecipeWithManualsDTO;
 import com.avengers.yoribogo.recipe.dto.RequestRecommendDTO;
@@ -11,6 +13,12 @@ public interface RecipeService {
     // 페이지 번호로 요리 레시피 목록 조회
     Page<RecipeDTO> findRecipeByPageNo(Integer pageNo);
 
+    // 커서로 요리 레시피 목록 조회 (무한 스크롤)
+    CursorPageDTO<RecipeDTO> findRecipeByCursor(String cursor, Integer size);
+
+    // 커서로 요리 레시피 목록 카드 조회 (카드 컬럼만 읽는 프로젝션)
+    CursorPageDTO<RecipeCardDTO> findRecipeCardsByCursor(String cursor, Integer size);
+
     // 요리 레시피 단건 조회
     RecipeDTO findRecipeByRecipeId(Long recipeId);
 
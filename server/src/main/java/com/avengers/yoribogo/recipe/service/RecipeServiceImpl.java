@@ -1,20 +1,37 @@
 package com.avengers.yoribogo.recipe.service;
 
+import com.avengers.yoribogo.common.CursorCodec;
+import com.avengers.yoribogo.common.CursorPageDTO;
 import com.avengers.yoribogo.common.exception.CommonException;
 import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.openai.dto.ResponseChatDTO;
+import com.avengers.yoribogo.openai.provider.OpenAICallSite;
 import com.avengers.yoribogo.openai.service.OpenAIService;
+import com.avengers.yoribogo.recipe.cache.RecipeDetailCache;
+import com.avengers.yoribogo.recipe.cache.RecommendationCache;
 import com.avengers.yoribogo.recipe.domain.MenuType;
 import com.avengers.yoribogo.recipe.domain.Recipe;
 import com.avengers.yoribogo.recipe.dto.*;
+import com.avengers.yoribogo.recipe.mapper.RecipeMapper;
+import com.avengers.yoribogo.recipe.recommend.AIRecipeSingleFlight;
+import com.avengers.yoribogo.recipe.recommend.RecommendMetrics;
 import com.avengers.yoribogo.recipe.repository.RecipeRepository;
+import com.avengers.yoribogo.recipe.search.RecipeSearchEngine;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @Slf4j
@@ -22,26 +39,50 @@ public class RecipeServiceImpl implements RecipeService {
 
     private final Integer ELEMENTS_PER_PAGE = 12;
 
-    private final ModelMapper modelMapper;
+    private final RecipeMapper recipeMapper;
     private final RecipeRepository recipeRepository;
     private final PublicDataRecipeService publicDataRecipeService;
     private final AIRecipeService aiRecipeService;
     private final OpenAIService openAIService;
     private final ImageService imageService;
+    private final RecipeSearchEngine recipeSearchEngine;
+    private final RecipeDetailCache recipeDetailCache;
+    private final RecommendationCache recommendationCache;
+    private final RecommendMetrics recommendMetrics;
+    private final AIRecipeSingleFlight aiRecipeSingleFlight;
+    private final AsyncTaskExecutor recommendExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    public RecipeServiceImpl(ModelMapper modelMapper,
+    public RecipeServiceImpl(RecipeMapper recipeMapper,
                              RecipeRepository recipeRepository,
                              PublicDataRecipeService publicDataRecipeService,
                              AIRecipeService aiRecipeService,
                              OpenAIService openAIService,
-                             ImageService imageService) {
-        this.modelMapper = modelMapper;
+                             ImageService imageService,
+                             RecipeSearchEngine recipeSearchEngine,
+                             RecipeDetailCache recipeDetailCache,
+                             RecommendationCache recommendationCache,
+                             RecommendMetrics recommendMetrics,
+                             AIRecipeSingleFlight aiRecipeSingleFlight,
+                             @Qualifier("recommendExecutor") AsyncTaskExecutor recommendExecutor,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher applicationEventPublisher) {
+        this.recipeMapper = recipeMapper;
         this.recipeRepository = recipeRepository;
         this.publicDataRecipeService = publicDataRecipeService;
         this.aiRecipeService = aiRecipeService;
         this.openAIService = openAIService;
         this.imageService = imageService;
+        this.recipeSearchEngine = recipeSearchEngine;
+        this.recipeDetailCache = recipeDetailCache;
+        this.recommendationCache = recommendationCache;
+        this.recommendMetrics = recommendMetrics;
+        this.aiRecipeSingleFlight = aiRecipeSingleFlight;
+        this.recommendExecutor = recommendExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     // 페이지 번호로 요리 레시피 조회
@@ -71,6 +112,47 @@ public class RecipeServiceImpl implements RecipeService {
         return convertEntityPageToDTOPage(recipePage);
     }
 
+    // 커서로 요리 레시피 목록 조회 (무한 스크롤)
+    @Override
+    public CursorPageDTO<RecipeDTO> findRecipeByCursor(String cursor, Integer size) {
+        int pageSize = CursorCodec.resolveSize(size);
+        Long cursorId = CursorCodec.decodeId(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (count 쿼리, OFFSET 없음)
+        List<Recipe> recipeList = recipeRepository.findByRecipeIdLessThanOrderByRecipeIdDesc(
+                cursorId == null ? Long.MAX_VALUE : cursorId,
+                PageRequest.of(0, pageSize + 1));
+
+        // 첫 페이지에 레시피가 존재하지 않는 경우
+        if (cursorId == null && recipeList.isEmpty()) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECIPE);
+        }
+
+        return CursorPageDTO.of(recipeList, pageSize,
+                recipeMapper::toRecipeDTO,
+                recipe -> CursorCodec.encodeId(recipe.getRecipeId()));
+    }
+
+    // 커서로 요리 레시피 목록 카드 조회 (프로젝션 SQL 한 번, 엔티티를 읽지 않음)
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeCardDTO> findRecipeCardsByCursor(String cursor, Integer size) {
+        int pageSize = CursorCodec.resolveSize(size);
+        Long cursorId = CursorCodec.decodeId(cursor);
+
+        List<RecipeCardDTO> cardList = recipeRepository.findCardsBeforeCursor(
+                cursorId == null ? Long.MAX_VALUE : cursorId,
+                PageRequest.of(0, pageSize + 1));
+
+        if (cursorId == null && cardList.isEmpty()) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECIPE);
+        }
+
+        return CursorPageDTO.of(cardList, pageSize,
+                card -> card,
+                card -> CursorCodec.encodeId(card.getRecipeId()));
+    }
+
     // 요리 레시피 단건 조회
     @Override
     public RecipeDTO findRecipeByRecipeId(Long recipeId) {
@@ -78,18 +160,18 @@ public class RecipeServiceImpl implements RecipeService {
         Recipe recipe = recipeRepository.findById(recipeId)
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE));
 
-        return modelMapper.map(recipe, RecipeDTO.class);
+        return recipeMapper.toRecipeDTO(recipe);
     }
 
     // 요리 레시피 매뉴얼과 같이 단건 조회
     @Override
     public RecipeWithManualsDTO findRecipeWithManualsByRecipeId(Long recipeId) {
-        // 레시피 조회
-        Recipe recipe = recipeRepository.findRecipeWithManuals(recipeId);
+        // 레시피 조회 (로컬·Redis 캐시 우선)
+        RecipeWithManualsDTO recipeWithManualsDTO = recipeDetailCache.find(recipeId);
 
-        if (recipe == null) throw new CommonException(ErrorCode.NOT_FOUND_RECIPE);
+        if (recipeWithManualsDTO == null) throw new CommonException(ErrorCode.NOT_FOUND_RECIPE);
 
-        return modelMapper.map(recipe, RecipeWithManualsDTO.class);
+        return recipeWithManualsDTO;
     }
 
     // 요리 레시피 요리 이름으로 조회
@@ -107,6 +189,18 @@ public class RecipeServiceImpl implements RecipeService {
                 Sort.by(Sort.Direction.DESC, "recipeId")
         );
 
+        // 검색 색인이 준비된 경우 DB를 거치지 않고 색인에서 랭킹 순으로 조회
+        if (recipeSearchEngine.canSearch(menuName)) {
+            Page<RecipeDTO> searchPage = recipeSearchEngine.search(menuName, pageable);
+
+            // 레시피가 존재하지 않는 경우
+            if (searchPage.getContent().isEmpty()) {
+                throw new CommonException(ErrorCode.NOT_FOUND_RECIPE);
+            }
+
+            return searchPage;
+        }
+
         // 레시피 조회
         Page<Recipe> recipePage = recipeRepository.findByMenuNameContaining(menuName, pageable);
 
@@ -124,7 +218,7 @@ public class RecipeServiceImpl implements RecipeService {
     @Transactional
     public RecipeDTO registRecipe(RecipeDTO registRecipeDTO) {
         // 요리 레시피 테이블에 저장
-        Recipe newRecipe = modelMapper.map(registRecipeDTO, Recipe.class);
+        Recipe newRecipe = recipeMapper.toRecipe(registRecipeDTO);
         newRecipe = recipeRepository.save(newRecipe);
 
         // 요리 구분 검사
@@ -157,7 +251,12 @@ public class RecipeServiceImpl implements RecipeService {
             throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
         }
 
-        return modelMapper.map(newRecipe, RecipeDTO.class);
+        RecipeDTO result = recipeMapper.toRecipeDTO(newRecipe);
+
+        // 커밋 이후 검색 색인 반영
+        applicationEventPublisher.publishEvent(new RecipeSavedEvent(result));
+
+        return result;
     }
 
     // 요리 레시피 수정
@@ -204,7 +303,12 @@ public class RecipeServiceImpl implements RecipeService {
             throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
         }
 
-        return modelMapper.map(recipeRepository.save(existingRecipe), RecipeDTO.class);
+        RecipeDTO result = recipeMapper.toRecipeDTO(recipeRepository.save(existingRecipe));
+
+        // 커밋 이후 검색 색인 반영 및 상세 조회 캐시 무효화
+        applicationEventPublisher.publishEvent(new RecipeSavedEvent(result));
+
+        return result;
     }
 
     // 요리 레시피 삭제
@@ -216,26 +320,45 @@ public class RecipeServiceImpl implements RecipeService {
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE));
 
         recipeRepository.delete(existingRecipe);
+
+        // 커밋 이후 검색 색인 반영 및 상세 조회 캐시 무효화
+        applicationEventPublisher.publishEvent(new RecipeRemovedEvent(recipeId));
     }
 
     // 요리 추천하기
+    // 요리 이름을 추천받은 뒤 세 가지 DB 조회와 재료 질문(추측 실행)을 동시에 시작하고,
+    // 기존 우선순위(요리 레시피 -> 공공데이터 -> AI 레시피 -> 새로 생성) 순서로 결과를 확인한다.
+    // DB에서 먼저 찾으면 재료 질문은 취소하고, OpenAI 응답을 기다리는 동안 DB 커넥션을 잡지 않도록
+    // 새 요리 등록만 트랜잭션으로 처리한다.
+    // 같은 요리를 동시에 새로 만들려는 요청들은 AIRecipeSingleFlight로 합쳐 행·이미지를 한 번만 만든다.
     @Override
-    @Transactional
     public BaseRecipeDTO registRecommendRecipe(RequestRecommendDTO requestRecommendDTO) {
+        long startedAt = System.nanoTime();
+        Future<String> ingredientsFuture = null;
+        AtomicBoolean ingredientsUsed = new AtomicBoolean();
         try {
-            // 1단계: AI에게 추천하는 요리 이름 물어보기
-            String prompt = "날씨: '" + requestRecommendDTO.getFirst() + "', 기분: '" + requestRecommendDTO.getSecond() +
-                    "', 인원: '" + requestRecommendDTO.getThird() + "', 채식 여부: '" + requestRecommendDTO.getFourth() +
-                    "', 추가 사항: '" + requestRecommendDTO.getFifth() + "'. " +
-                    "추가 사항이 요리와 관련된 경우(예: 알레르기 정보, 못 먹는 음식, 선호하는 음식, 싫어하는 음식, 상황과 관련된 정보), " +
-                    "그 요청을 가장 우선 고려하여 요리를 추천해줘. " +
-                    "비관련 사항(예: 유명 인물 이름, 해킹 방법 등, 성적인 단어)이 포함된 경우에는 요리를 추천하지 말고 '에러'라고 답해줘. " +
-                    "요리를 추천하는 경우에는 다양한 나라의 요리 중 하나를 " +
-                    "'요약된 한국어 요리 이름(Detailed English description including the dish name)' " +
-                    "형식으로 앞과 뒤에 말이나 특수문자, 기호를 붙이지 말고 한 문장으로 추천해줘. " +
-                    "영어 설명에는 영어 요리 이름을 포함하고, 설명은 20단어 이내로 간결하게 해줘.";
-
-            String aiAnswerMenu = openAIService.getRecommend(prompt).getChoices().get(0).getMessage().getContent();
+            // 1단계: AI에게 추천하는 요리 이름 물어보기 (같은 설문 응답 조합의 최근 추천이 있으면 재사용)
+            String aiAnswerMenu = recommendationCache.sample(requestRecommendDTO);
+            boolean cachedAnswer = aiAnswerMenu != null;
+            int aiAnswerTokens = 0;
+            if (!cachedAnswer) {
+                String prompt = "날씨: '" + requestRecommendDTO.getFirst() + "', 기분: '" + requestRecommendDTO.getSecond() +
+                        "', 인원: '" + requestRecommendDTO.getThird() + "', 채식 여부: '" + requestRecommendDTO.getFourth() +
+                        "', 추가 사항: '" + requestRecommendDTO.getFifth() + "'. " +
+                        "추가 사항이 요리와 관련된 경우(예: 알레르기 정보, 못 먹는 음식, 선호하는 음식, 싫어하는 음식, 상황과 관련된 정보), " +
+                        "그 요청을 가장 우선 고려하여 요리를 추천해줘. " +
+                        "비관련 사항(예: 유명 인물 이름, 해킹 방법 등, 성적인 단어)이 포함된 경우에는 요리를 추천하지 말고 '에러'라고 답해줘. " +
+                        "요리를 추천하는 경우에는 다양한 나라의 요리 중 하나를 " +
+                        "'요약된 한국어 요리 이름(Detailed English description including the dish name)' " +
+                        "형식으로 앞과 뒤에 말이나 특수문자, 기호를 붙이지 말고 한 문장으로 추천해줘. " +
+                        "영어 설명에는 영어 요리 이름을 포함하고, 설명은 20단어 이내로 간결하게 해줘.";
+
+                long menuStartedAt = System.nanoTime();
+                ResponseChatDTO response = openAIService.getRecommend(OpenAICallSite.RECOMMEND_MENU, prompt);
+                recommendMetrics.recordStage(RecommendMetrics.Stage.MENU, menuStartedAt);
+                aiAnswerMenu = response.getChoices().get(0).getMessage().getContent();
+                if (response.getUsage() != null) aiAnswerTokens = response.getUsage().getTotalTokens();
+            }
             log.info(aiAnswerMenu);
 
             // 한국어 이름과 영어 이름 분리
@@ -246,11 +369,29 @@ public class RecipeServiceImpl implements RecipeService {
             String trimmedAiAnswerMenu = trimSpecialCharacters(koreanName);
             String trimmedDescription = trimSpecialCharacters(description);
 
-            // 2단계: 요리 레시피 테이블 조회하기
+            // 형식에 맞는 새 추천만 캐시에 추가
+            if (!cachedAnswer && !trimmedAiAnswerMenu.isEmpty()) {
+                recommendationCache.add(requestRecommendDTO, aiAnswerMenu, aiAnswerTokens);
+            }
 
-            // 비건이 아니고, 추가 요청 사항이 없을 경우
-            if (requestRecommendDTO.getFourth().equals("아니요") && requestRecommendDTO.getFifth().isEmpty()) {
-                List<Recipe> recipeDTOList = recipeRepository.findByMenuNameContaining(trimmedAiAnswerMenu);
+            // 2~5단계 동시 시작: DB 조회 세 가지 + AI 재료 질문(DB에 없을 때를 대비한 추측 실행)
+            // 비건이 아니고, 추가 요청 사항이 없을 경우에만 요리 레시피 테이블 조회
+            boolean lookupRecipe = requestRecommendDTO.getFourth().equals("아니요")
+                    && requestRecommendDTO.getFifth().isEmpty();
+            Future<List<Recipe>> recipeFuture = lookupRecipe
+                    ? submitStage(RecommendMetrics.Stage.LOOKUP_RECIPE,
+                            () -> recipeRepository.findByMenuNameContaining(trimmedAiAnswerMenu))
+                    : null;
+            Future<PublicDataRecipeDTO> publicDataRecipeFuture = submitStage(RecommendMetrics.Stage.LOOKUP_PUBLIC_DATA,
+                    () -> publicDataRecipeService.findPublicDataRecipeByMenuName(trimmedAiAnswerMenu));
+            Future<AIRecipeDTO> aiRecipeFuture = submitStage(RecommendMetrics.Stage.LOOKUP_AI_RECIPE,
+                    () -> aiRecipeService.findAIRecipeByMenuName(trimmedAiAnswerMenu));
+            ingredientsFuture = submitStage(RecommendMetrics.Stage.INGREDIENTS,
+                    () -> askIngredients(trimmedAiAnswerMenu));
+
+            // 2단계: 요리 레시피 테이블 조회 결과
+            if (recipeFuture != null) {
+                List<Recipe> recipeDTOList = recipeFuture.get();
 
                 // 요리 이름을 저장하는 리스트
                 List<String> recipeNameList = new ArrayList<>();
@@ -267,56 +408,124 @@ public class RecipeServiceImpl implements RecipeService {
                 int idx = (int) (Math.random() * recipeNameList.size());
 
                 // 난수가 0보다 크면 기존에 존재하던 데이터이므로 return
-                if (idx > 0) return modelMapper.map(recipeDTOList.get(idx - 1), RecipeDTO.class);
+                if (idx > 0) {
+                    recommendMetrics.recordTotal(RecommendMetrics.Source.RECIPE, startedAt);
+                    return recipeMapper.toRecipeDTO(recipeDTOList.get(idx - 1));
+                }
             }
 
-            // 3단계: 공공데이터 요리 레시피 테이블 조회하기
-            PublicDataRecipeDTO publicDataRecipeDTO =
-                    publicDataRecipeService.findPublicDataRecipeByMenuName(trimmedAiAnswerMenu);
+            // 3단계: 공공데이터 요리 레시피 테이블 조회 결과
+            PublicDataRecipeDTO publicDataRecipeDTO = publicDataRecipeFuture.get();
 
             // 조회되었을 경우
-            if (publicDataRecipeDTO != null) return publicDataRecipeDTO;
+            if (publicDataRecipeDTO != null) {
+                recommendMetrics.recordTotal(RecommendMetrics.Source.PUBLIC_DATA, startedAt);
+                return publicDataRecipeDTO;
+            }
 
-            // 4단계: AI 요리 레시피 테이블 조회하기
-            AIRecipeDTO aiRecipeDTO = aiRecipeService.findAIRecipeByMenuName(trimmedAiAnswerMenu);
+            // 4단계: AI 요리 레시피 테이블 조회 결과
+            AIRecipeDTO aiRecipeDTO = aiRecipeFuture.get();
 
             // 조회되었을 경우
-            if (aiRecipeDTO != null) return aiRecipeDTO;
+            if (aiRecipeDTO != null) {
+                recommendMetrics.recordTotal(RecommendMetrics.Source.AI_RECIPE, startedAt);
+                return aiRecipeDTO;
+            }
+
+            // 5~6단계: 같은 요리를 동시에 생성하려는 요청은 한 번만 생성하고 결과를 공유
+            Future<String> speculativeIngredients = ingredientsFuture;
+            BaseRecipeDTO recommendedRecipe = aiRecipeSingleFlight.execute(trimmedAiAnswerMenu,
+                    () -> aiRecipeService.findAIRecipeByMenuName(trimmedAiAnswerMenu),
+                    () -> {
+                        ingredientsUsed.set(true);
+                        return generateAIRecipe(trimmedAiAnswerMenu, trimmedDescription, speculativeIngredients);
+                    });
+
+            recommendMetrics.recordTotal(ingredientsUsed.get()
+                    ? RecommendMetrics.Source.GENERATED
+                    : RecommendMetrics.Source.COALESCED, startedAt);
+            return recommendedRecipe;
+        } catch (Exception e) {
+            recommendMetrics.recordTotal(RecommendMetrics.Source.FAILED, startedAt);
+            throw toRecommendFailure(e);
+        } finally {
+            // DB에서 찾았거나 실패한 경우 진행 중인 재료 질문 취소
+            if (ingredientsFuture != null) {
+                if (!ingredientsUsed.get()) ingredientsFuture.cancel(true);
+                recommendMetrics.recordSpeculation(ingredientsUsed.get());
+            }
+        }
+    }
+
+    // AI가 추천한 요리 생성·등록 (요리 이름마다 한 요청만 실행)
+    private RecipeDTO generateAIRecipe(String menuName, String description, Future<String> ingredientsFuture) {
+        // 5단계: AI가 추천한 요리의 재료 (미리 시작한 질문의 응답)
+        String trimmedAiAnswerIngredients;
+        try {
+            trimmedAiAnswerIngredients = ingredientsFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
+        } catch (ExecutionException e) {
+            throw toRecommendFailure(e);
+        }
+        log.info(trimmedAiAnswerIngredients);
 
-            // 5단계: AI가 추천한 요리의 재료를 물어보기
-            String ingredientsPrompt =
-                    trimmedAiAnswerMenu + "에 필요한 재료를 ','로 구분해 양과 함께 알려줘. 예: '설탕 2스푼'. 특수문자나 불필요한 말은 제외.";
-            String aiAnswerIngredients = openAIService.getRecommend(ingredientsPrompt).getChoices().get(0).getMessage().getContent();
+        // 6단계: AI가 생성한 요리 등록
 
-            // ':'가 있는 경우, ':' 이후의 문자열만 남기기
-            aiAnswerIngredients = parseString(aiAnswerIngredients);
+        // AI가 생성한 요리 정보 입력
+        RecipeDTO generatedRecipeDTO = RecipeDTO
+                .builder()
+                .menuName(menuName)
+                .menuIngredient(trimmedAiAnswerIngredients)
+                .menuImage(null)
+                .menuType(MenuType.AI)
+                .userId(1L)
+                .build();
 
-            // 앞뒤 특수문자 제거
-            String trimmedAiAnswerIngredients = trimSpecialCharacters(aiAnswerIngredients);
-            log.info(trimmedAiAnswerIngredients);
+        // 엔티티 생성
+        long registerStartedAt = System.nanoTime();
+        RecipeDTO newRecipeDTO = transactionTemplate.execute(status -> registRecipe(generatedRecipeDTO));
+        recommendMetrics.recordStage(RecommendMetrics.Stage.REGISTER, registerStartedAt);
 
-            // 6단계: AI가 생성한 요리 등록
+        // 요리 이미지 생성 비동기 처리
+        imageService.generateImageAsync(description, newRecipeDTO.getRecipeId());
 
-            // AI가 생성한 요리 정보 입력
-            RecipeDTO newRecipeDTO = RecipeDTO
-                    .builder()
-                    .menuName(trimmedAiAnswerMenu)
-                    .menuIngredient(trimmedAiAnswerIngredients)
-                    .menuImage(null)
-                    .menuType(MenuType.AI)
-                    .userId(1L)
-                    .build();
+        return newRecipeDTO;
+    }
 
-            // 엔티티 생성
-            newRecipeDTO = registRecipe(newRecipeDTO);
+    // 추천 실패를 응답 오류로 변환
+    // 비동기 단계의 예외는 원래 예외로 풀고, OpenAI 한도 초과(429)·장애(503) 같은 CommonException은 그대로 전달한다.
+    // 그 밖의 예외는 원인을 남긴 뒤 INVALID_REQUEST_BODY로 응답한다.
+    private CommonException toRecommendFailure(Exception e) {
+        Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof CommonException commonException) return commonException;
+        if (cause instanceof InterruptedException) Thread.currentThread().interrupt();
+        log.error("요리 추천 실패", cause);
+        return new CommonException(ErrorCode.INVALID_REQUEST_BODY);
+    }
 
-            // 요리 이미지 생성 비동기 처리
-            imageService.generateImageAsync(trimmedDescription, newRecipeDTO.getRecipeId());
+    // AI에게 요리 재료 물어보기
+    private String askIngredients(String menuName) {
+        String ingredientsPrompt =
+                menuName + "에 필요한 재료를 ','로 구분해 양과 함께 알려줘. 예: '설탕 2스푼'. 특수문자나 불필요한 말은 제외.";
+        String aiAnswerIngredients = openAIService.getRecommend(OpenAICallSite.RECOMMEND_INGREDIENTS, ingredientsPrompt).getChoices().get(0).getMessage().getContent();
 
-            return newRecipeDTO;
-        } catch (Exception e) {
-            throw new CommonException(ErrorCode.INVALID_REQUEST_BODY);
-        }
+        // ':'가 있는 경우, ':' 이후의 문자열만 남기기
+        aiAnswerIngredients = parseString(aiAnswerIngredients);
+
+        // 앞뒤 특수문자 제거
+        return trimSpecialCharacters(aiAnswerIngredients);
+    }
+
+    // 단계별 소요 시간을 기록하며 추천 전용 스레드 풀에서 실행
+    private <T> Future<T> submitStage(RecommendMetrics.Stage stage, Callable<T> task) {
+        return recommendExecutor.submit(() -> {
+            long stageStartedAt = System.nanoTime();
+            T result = task.call();
+            recommendMetrics.recordStage(stage, stageStartedAt);
+            return result;
+        });
     }
 
     // ':'가 있는 경우, ':' 이후의 문자열만 남기는 메소드
@@ -341,7 +550,7 @@ public class RecipeServiceImpl implements RecipeService {
     // Recipe -> RecipeDTO 변환 및 Page 반환 메소드
     private Page<RecipeDTO> convertEntityPageToDTOPage(Page<Recipe> recipePage) {
         List<RecipeDTO> recipeDTOList = recipePage.getContent().stream()
-                .map(recipe -> modelMapper.map(recipe, RecipeDTO.class))
+                .map(recipeMapper::toRecipeDTO)
                 .toList();
 
         return new PageImpl<>(recipeDTOList, recipePage.getPageable(), recipePage.getTotalElements());
@@ -1,5 +1,6 @@
 package com.avengers.yoribogo.recipe.service;
 
+import com.avengers.yoribogo.common.CursorPageDTO;
 import com.avengers.yoribogo.recipe.dto.GoodMenuDTO;
 import com.avengers.yoribogo.recipe.dto.RecommendedMenuDTO;
 import org.springframework.data.domain.Page;
@@ -9,6 +10,9 @@ public interface RecommendedMenuService {
     // 추천 요리 회원별 조회
     Page<GoodMenuDTO> findRecommendedMenuByUserId(Long userId, Integer pageNo);
 
+    // 추천 요리 회원별 커서 조회 (무한 스크롤)
+    CursorPageDTO<GoodMenuDTO> findRecommendedMenuByUserIdAndCursor(Long userId, String cursor, Integer size);
+
     // 추천 요리 등록
     RecommendedMenuDTO registRecommendedMenu(RecommendedMenuDTO registRecommendedMenuDTO);
 
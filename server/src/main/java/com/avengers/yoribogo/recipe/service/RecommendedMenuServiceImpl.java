@@ -1,5 +1,7 @@
 package com.avengers.yoribogo.recipe.service;
 
+import com.avengers.yoribogo.common.CursorCodec;
+import com.avengers.yoribogo.common.CursorPageDTO;
 import com.avengers.yoribogo.common.exception.CommonException;
 import com.avengers.yoribogo.common.exception.ErrorCode;
 import com.avengers.yoribogo.recipe.domain.RecommendedMenu;
@@ -7,8 +9,8 @@ import com.avengers.yoribogo.recipe.domain.RecommendedMenuStatus;
 import com.avengers.yoribogo.recipe.domain.Satisfaction;
 import com.avengers.yoribogo.recipe.dto.GoodMenuDTO;
 import com.avengers.yoribogo.recipe.dto.RecommendedMenuDTO;
+import com.avengers.yoribogo.recipe.mapper.RecommendedMenuMapper;
 import com.avengers.yoribogo.recipe.repository.RecommendedMenuRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -18,19 +20,21 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
 
 @Service
 public class RecommendedMenuServiceImpl implements RecommendedMenuService {
 
     private final Integer ELEMENTS_PER_PAGE = 12;
 
-    private final ModelMapper modelMapper;
+    private final RecommendedMenuMapper recommendedMenuMapper;
     private final RecommendedMenuRepository recommendedMenuRepository;
 
     @Autowired
-    public RecommendedMenuServiceImpl(ModelMapper modelMapper,
+    public RecommendedMenuServiceImpl(RecommendedMenuMapper recommendedMenuMapper,
                                       RecommendedMenuRepository recommendedMenuRepository) {
-        this.modelMapper = modelMapper;
+        this.recommendedMenuMapper = recommendedMenuMapper;
         this.recommendedMenuRepository = recommendedMenuRepository;
     }
 
@@ -61,6 +65,28 @@ public class RecommendedMenuServiceImpl implements RecommendedMenuService {
         return recommendedMenuList;
     }
 
+    // 추천 요리 회원별 커서 조회 (무한 스크롤)
+    @Override
+    public CursorPageDTO<GoodMenuDTO> findRecommendedMenuByUserIdAndCursor(Long userId, String cursor, Integer size) {
+        int pageSize = CursorCodec.resolveSize(size);
+        Long cursorId = CursorCodec.decodeId(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (count 쿼리, OFFSET 없음)
+        List<GoodMenuDTO> recommendedMenuList = recommendedMenuRepository.findRecommendedMenuWithRecipeBeforeCursor(
+                userId, Satisfaction.GOOD, RecommendedMenuStatus.ACTIVE,
+                cursorId == null ? Long.MAX_VALUE : cursorId,
+                PageRequest.of(0, pageSize + 1));
+
+        // 첫 페이지에 조회된 결과가 없을 때 예외 처리
+        if (cursorId == null && recommendedMenuList.isEmpty()) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECOMMENDED_MENU);
+        }
+
+        return CursorPageDTO.of(recommendedMenuList, pageSize,
+                Function.identity(),
+                menu -> CursorCodec.encodeId(menu.getRecommendedMenuId()));
+    }
+
     // 추천 요리 등록
     @Override
     @Transactional
@@ -72,7 +98,7 @@ public class RecommendedMenuServiceImpl implements RecommendedMenuService {
         // 이미 있을 경우 정보 수정
         if (existingMenu != null) {
             existingMenu.setRecommendedMenuStatus(registRecommendedMenuDTO.getRecommendedMenuStatus());
-            return modelMapper.map(existingMenu, RecommendedMenuDTO.class);
+            return recommendedMenuMapper.toRecommendedMenuDTO(existingMenu);
         }
 
         RecommendedMenuDTO newRecommendedMenuDTO = RecommendedMenuDTO
@@ -85,9 +111,9 @@ public class RecommendedMenuServiceImpl implements RecommendedMenuService {
                 .build();
 
         RecommendedMenu recommendedMenu =
-            recommendedMenuRepository.save(modelMapper.map(newRecommendedMenuDTO, RecommendedMenu.class));
+            recommendedMenuRepository.save(recommendedMenuMapper.toRecommendedMenu(newRecommendedMenuDTO));
 
-        return modelMapper.map(recommendedMenu, RecommendedMenuDTO.class);
+        return recommendedMenuMapper.toRecommendedMenuDTO(recommendedMenu);
     }
 
     // 추천 요리 삭제
@@ -0,0 +1,173 @@
+package com.avengers.yoribogo.recipeboard.cache;
+
+import com.avengers.yoribogo.common.image.ImageVariantTarget;
+import com.avengers.yoribogo.common.image.ImageVariantsChangedEvent;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardActivityEvent;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDetailChangedEvent;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDetailDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardRemovedEvent;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardSavedEvent;
+import com.avengers.yoribogo.recipeboard.trending.TrendingSignal;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 나만의 레시피 게시글 상세(게시글·매뉴얼·댓글·대댓글) 캐시 (서버 간 공유 Redis)
+// 회원별 상태(viewer)는 저장하지 않는다. 댓글처럼 자주 바뀌는 내용이 있어 서버별 로컬 캐시는 두지 않고,
+// 변경 시 커밋 이후 Redis 키를 지운다. 다른 서버의 조회와 엇갈려 지운 직후 오래된 값이 들어가더라도 ttlSeconds 안에 사라진다.
+@Slf4j
+@Component
+public class RecipeBoardDetailCache {
+
+    private static final String KEY_PREFIX = "recipe-board:detail:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    // 무효화 횟수 (DB 조회 도중 이 서버에서 무효화가 일어나면 조회 결과를 캐시에 넣지 않는다)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Value("${recipe-board.detail-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Counter hit;
+    private Counter miss;
+
+    @Autowired
+    public RecipeBoardDetailCache(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        hit = requestCounter("hit");
+        miss = requestCounter("miss");
+    }
+
+    // 게시글 상세 조회 (캐시에 없으면 loader로 DB에서 읽어 저장)
+    public RecipeBoardDetailDTO find(Long recipeBoardId, Supplier<RecipeBoardDetailDTO> loader) {
+        String json = getFromRedis(recipeBoardId);
+        RecipeBoardDetailDTO cached = json == null ? null : deserialize(json);
+        if (cached != null) {
+            hit.increment();
+            return cached;
+        }
+        miss.increment();
+
+        long version = invalidations.get();
+        RecipeBoardDetailDTO recipeBoardDetailDTO = loader.get();
+
+        // 조회 도중 무효화되었다면 오래된 값일 수 있으므로 캐시에 넣지 않는다
+        if (invalidations.get() == version) {
+            json = serialize(recipeBoardDetailDTO);
+            if (json != null) putToRedis(recipeBoardId, json);
+        }
+        return recipeBoardDetailDTO;
+    }
+
+    // 게시글 등록·수정
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeBoardSaved(RecipeBoardSavedEvent event) {
+        invalidate(event.getRecipeBoardId());
+    }
+
+    // 게시글 삭제
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeBoardRemoved(RecipeBoardRemovedEvent event) {
+        invalidate(event.getRecipeBoardId());
+    }
+
+    // 매뉴얼·댓글·대댓글 변경
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeBoardDetailChanged(RecipeBoardDetailChangedEvent event) {
+        invalidate(event.getRecipeBoardId());
+    }
+
+    // 게시글·매뉴얼 이미지의 파생본 생성 완료 (크기별 URL이 원본 URL에서 파생본 URL로 바뀜)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleImageVariantsChanged(ImageVariantsChangedEvent event) {
+        if (event.getTarget() == ImageVariantTarget.RECIPE_BOARD || event.getTarget() == ImageVariantTarget.RECIPE_BOARD_MANUAL) {
+            invalidate(event.getOwnerId());
+        }
+    }
+
+    // 좋아요 수·댓글 목록이 바뀌는 활동 (조회·즐겨찾기는 캐시한 내용을 바꾸지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeBoardActivity(RecipeBoardActivityEvent event) {
+        if (event.getSignal() == TrendingSignal.LIKE || event.getSignal() == TrendingSignal.COMMENT) {
+            invalidate(event.getRecipeBoardId());
+        }
+    }
+
+    public void invalidate(Long recipeBoardId) {
+        invalidations.incrementAndGet();
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + recipeBoardId);
+        } catch (Exception e) {
+            log.warn("게시글 상세 캐시 무효화 실패: {}", recipeBoardId, e);
+        }
+    }
+
+    // Redis 장애 시 캐시 없이 DB 조회로 대체
+    private String getFromRedis(Long recipeBoardId) {
+        try {
+            return stringRedisTemplate.opsForValue().get(KEY_PREFIX + recipeBoardId);
+        } catch (Exception e) {
+            log.warn("게시글 상세 캐시 Redis 조회 실패: {}", recipeBoardId, e);
+            return null;
+        }
+    }
+
+    private void putToRedis(Long recipeBoardId, String json) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + recipeBoardId, json, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("게시글 상세 캐시 Redis 저장 실패: {}", recipeBoardId, e);
+        }
+    }
+
+    private String serialize(RecipeBoardDetailDTO recipeBoardDetailDTO) {
+        try {
+            return objectMapper.writeValueAsString(recipeBoardDetailDTO);
+        } catch (JsonProcessingException e) {
+            log.warn("게시글 상세 직렬화 실패: {}", recipeBoardDetailDTO.getBoard().getRecipeBoardId(), e);
+            return null;
+        }
+    }
+
+    // DTO 구조 변경 등으로 읽을 수 없는 값은 캐시 실패로 처리
+    private RecipeBoardDetailDTO deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, RecipeBoardDetailDTO.class);
+        } catch (JsonProcessingException e) {
+            log.warn("게시글 상세 캐시 역직렬화 실패", e);
+            return null;
+        }
+    }
+
+    private Counter requestCounter(String result) {
+        return Counter.builder("recipe.board.detail.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
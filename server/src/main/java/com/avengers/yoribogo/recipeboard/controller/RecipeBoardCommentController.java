@@ -1,11 +1,14 @@
 
 package com.avengers.yoribogo.recipeboard.controller;
 
+import com.avengers.yoribogo.common.CursorPageDTO;
 import com.avengers.yoribogo.common.ResponseDTO;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardComment;
 import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCommentDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCommentThreadDTO;
 import com.avengers.yoribogo.recipeboard.dto.RecipeBoardRecommentDTO;
 import com.avengers.yoribogo.recipeboard.service.RecipeBoardCommentServiceImpl;
+import com.avengers.yoribogo.recipeboard.service.RecipeBoardCommentThreadService;
 import com.avengers.yoribogo.recipeboard.service.RecipeBoardRecommentServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -18,12 +21,15 @@ import java.util.List;
 public class RecipeBoardCommentController {
     private final RecipeBoardCommentServiceImpl recipeBoardCommentService;
     private final RecipeBoardRecommentServiceImpl recipeBoardRecommentService;
+    private final RecipeBoardCommentThreadService recipeBoardCommentThreadService;
 
     @Autowired
     public RecipeBoardCommentController(RecipeBoardCommentServiceImpl recipeBoardCommentService,
-                                        RecipeBoardRecommentServiceImpl recipeBoardRecommentService) {
+                                        RecipeBoardRecommentServiceImpl recipeBoardRecommentService,
+                                        RecipeBoardCommentThreadService recipeBoardCommentThreadService) {
         this.recipeBoardCommentService = recipeBoardCommentService;
         this.recipeBoardRecommentService = recipeBoardRecommentService;
+        this.recipeBoardCommentThreadService = recipeBoardCommentThreadService;
     }
 
     // 댓글 등록
@@ -64,6 +70,19 @@ public class RecipeBoardCommentController {
         return ResponseDTO.ok(commentsByRecipeBoardId);  // 성공 응답
     }
 
+    // 댓글 게시글별 커서 기반 조회 (댓글마다 앞쪽 대댓글 포함, 무한 스크롤)
+    @GetMapping("/threads")
+    public ResponseDTO<CursorPageDTO<RecipeBoardCommentThreadDTO>> getCommentThreadsByRecipeBoardId(
+            @PathVariable Long recipeBoardId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(value = "recomment_size", required = false) Integer recommentSize) {
+
+        CursorPageDTO<RecipeBoardCommentThreadDTO> commentThreads =
+                recipeBoardCommentThreadService.findCommentThreads(recipeBoardId, cursor, size, recommentSize);
+        return ResponseDTO.ok(commentThreads);  // 성공 응답
+    }
+
     // 대댓글 게시글별 조회
     @GetMapping("/recomments")
     public ResponseDTO<List<RecipeBoardRecommentDTO>> getRecommentsByRecipeBoardId(
@@ -1,9 +1,13 @@
 package com.avengers.yoribogo.recipeboard.controller;
 
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCardDTO;
 import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDetailDTO;
 import com.avengers.yoribogo.recipeboard.dto.RecipeBoardManualDTO;
 import com.avengers.yoribogo.recipeboard.dto.ResponseBoardDTO;
+import com.avengers.yoribogo.recipeboard.service.RecipeBoardDetailService;
 import com.avengers.yoribogo.recipeboard.service.RecipeBoardService;
+import com.avengers.yoribogo.common.CursorPageDTO;
 import com.avengers.yoribogo.common.ResponseDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -18,10 +22,13 @@ import java.util.List;
 public class RecipeBoardController {
 
     private final RecipeBoardService recipeBoardService;
+    private final RecipeBoardDetailService recipeBoardDetailService;
 
     @Autowired
-    public RecipeBoardController(RecipeBoardService recipeBoardService) {
+    public RecipeBoardController(RecipeBoardService recipeBoardService,
+                                 RecipeBoardDetailService recipeBoardDetailService) {
         this.recipeBoardService = recipeBoardService;
+        this.recipeBoardDetailService = recipeBoardDetailService;
     }
 
     // 나만의 레시피 등록
@@ -30,7 +37,8 @@ public class RecipeBoardController {
             @RequestParam("menu_name") String recipeBoardMenuName,  // 메뉴 이름
             @RequestParam("ingredients") String recipeBoardIngredient,  // 재료
             @RequestParam("user_id") Long userId,  // 사용자 ID
-            @RequestParam(value = "boardImage", required = false) MultipartFile boardImage // 파일 데이터 (선택사항)
+            @RequestParam(value = "boardImage", required = false) MultipartFile boardImage, // 파일 데이터 (선택사항)
+            @RequestParam(value = "board_image_key", required = false) String boardImageKey // 직접 업로드한 이미지 키 (선택사항)
     ) {
         // DTO 객체 생성
         RecipeBoardDTO recipeBoardDTO = new RecipeBoardDTO();
@@ -38,6 +46,7 @@ public class RecipeBoardController {
         recipeBoardDTO.setRecipeBoardIngredient(recipeBoardIngredient);
         recipeBoardDTO.setUserId(userId);
         recipeBoardDTO.setBoardImage(boardImage);
+        recipeBoardDTO.setBoardImageKey(boardImageKey);
 
         // 서비스 호출하여 게시글 및 이미지 등록
         ResponseBoardDTO response = recipeBoardService.registRecipeBoard(recipeBoardDTO, boardImage);
@@ -50,7 +59,8 @@ public class RecipeBoardController {
             @PathVariable("recipeBoardId") Long recipeBoardId,  // 레시피 ID
             @RequestParam("manual_steps") List<Integer> manualSteps,  // 메뉴얼 단계들
             @RequestParam("manual_contents") List<String> manualContents,  // 메뉴얼 내용들
-            @RequestParam(value = "manual_images", required = false) List<MultipartFile> manualImages  // 메뉴얼 이미지들 (선택사항)
+            @RequestParam(value = "manual_images", required = false) List<MultipartFile> manualImages,  // 메뉴얼 이미지들 (선택사항)
+            @RequestParam(value = "manual_image_keys", required = false) List<String> manualImageKeys  // 직접 업로드한 이미지 키들 (선택사항)
     ) {
         List<RecipeBoardManualDTO> manualDTOs = new ArrayList<>();
 
@@ -63,6 +73,8 @@ public class RecipeBoardController {
             // 이미지가 있는 경우에만 처리
             if (manualImages != null && i < manualImages.size() && !manualImages.get(i).isEmpty()) {
                 manualDTO.setRecipeBoardManualImage(manualImages.get(i));
+            } else if (manualImageKeys != null && i < manualImageKeys.size() && !manualImageKeys.get(i).isBlank()) {
+                manualDTO.setRecipeBoardManualImageKey(manualImageKeys.get(i));
             }
 
             manualDTOs.add(manualDTO);
@@ -82,6 +94,30 @@ public class RecipeBoardController {
         return ResponseDTO.ok(recipeBoardDTOPage);
     }
 
+    // 커서로 나만의 레시피 전체 조회 (무한 스크롤)
+    @GetMapping("/boards/cursor")
+    public ResponseDTO<?> getRecipeBoardByCursor(@RequestParam(required = false) String cursor,
+                                                 @RequestParam(required = false) Integer size) {
+        CursorPageDTO<RecipeBoardDTO> recipeBoardDTOPage = recipeBoardService.findRecipeBoardByCursor(cursor, size);
+        return ResponseDTO.ok(recipeBoardDTOPage);
+    }
+
+    // 커서로 나만의 레시피 목록 카드 조회 (목록 화면용 경량 응답)
+    @GetMapping("/boards/cards")
+    public ResponseDTO<?> getRecipeBoardCardsByCursor(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer size) {
+        CursorPageDTO<RecipeBoardCardDTO> recipeBoardCardPage = recipeBoardService.findRecipeBoardCardsByCursor(cursor, size);
+        return ResponseDTO.ok(recipeBoardCardPage);
+    }
+
+    // 인기 나만의 레시피 목록 카드 조회 (좋아요·댓글·즐겨찾기·조회를 시간 감쇠해 합산한 점수 순)
+    @GetMapping("/trending")
+    public ResponseDTO<?> getTrendingRecipeBoardCards(@RequestParam(defaultValue = "1") Integer pageNo,
+                                                      @RequestParam(required = false) Integer size) {
+        Page<RecipeBoardCardDTO> recipeBoardCardPage = recipeBoardService.findTrendingRecipeBoardCards(pageNo, size);
+        return ResponseDTO.ok(recipeBoardCardPage);
+    }
+
     // 나만의 레시피 게시글 단건 조회
     @GetMapping("/detail/{recipeBoardId}")
     public ResponseDTO<?> getRecipeBoardById(@PathVariable("recipeBoardId") Long recipeBoardId) {
@@ -89,6 +125,14 @@ public class RecipeBoardController {
         return ResponseDTO.ok(recipeBoardDTO);
     }
 
+    // 나만의 레시피 게시글 상세 한 번에 조회 (게시글·매뉴얼·댓글·대댓글 + 회원별 즐겨찾기·좋아요 여부)
+    @GetMapping("/detail/{recipeBoardId}/full")
+    public ResponseDTO<?> getRecipeBoardDetail(@PathVariable("recipeBoardId") Long recipeBoardId,
+                                               @RequestParam(value = "user_id", required = false) Long userId) {
+        RecipeBoardDetailDTO recipeBoardDetailDTO = recipeBoardDetailService.findRecipeBoardDetail(recipeBoardId, userId);
+        return ResponseDTO.ok(recipeBoardDetailDTO);
+    }
+
     // 요리 이름으로 게시글 전체 조회
     @GetMapping("/search")
     public ResponseDTO<?> search(@RequestParam String recipeBoardMenuName,
@@ -105,6 +149,26 @@ public class RecipeBoardController {
         return ResponseDTO.ok(recipeBoardDTOPage);
     }
 
+    // 커서로 본인이 작성한 게시글 전체 조회 (무한 스크롤)
+    @GetMapping("/users/{userId}/boards/cursor")
+    public ResponseDTO<?> getUserBoardsByCursor(@PathVariable Long userId,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) Integer size) {
+        CursorPageDTO<RecipeBoardDTO> recipeBoardDTOPage =
+                recipeBoardService.findRecipeBoardByUserIdAndCursor(userId, cursor, size);
+        return ResponseDTO.ok(recipeBoardDTOPage);
+    }
+
+    // 커서로 본인이 작성한 게시글 목록 카드 조회
+    @GetMapping("/users/{userId}/boards/cards")
+    public ResponseDTO<?> getUserBoardCardsByCursor(@PathVariable Long userId,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer size) {
+        CursorPageDTO<RecipeBoardCardDTO> recipeBoardCardPage =
+                recipeBoardService.findRecipeBoardCardsByUserIdAndCursor(userId, cursor, size);
+        return ResponseDTO.ok(recipeBoardCardPage);
+    }
+
     // 게시글 수정
     @PutMapping("/update/{recipeBoardId}")
     public ResponseDTO<?> updateRecipeBoard(@PathVariable Long recipeBoardId,
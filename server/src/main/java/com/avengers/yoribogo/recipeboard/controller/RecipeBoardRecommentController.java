@@ -2,8 +2,10 @@
 
 package com.avengers.yoribogo.recipeboard.controller;
 
+import com.avengers.yoribogo.common.CursorPageDTO;
 import com.avengers.yoribogo.common.ResponseDTO;
 import com.avengers.yoribogo.recipeboard.dto.RecipeBoardRecommentDTO;
+import com.avengers.yoribogo.recipeboard.service.RecipeBoardCommentThreadService;
 import com.avengers.yoribogo.recipeboard.service.RecipeBoardRecommentServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -14,10 +16,13 @@ import org.springframework.web.bind.annotation.*;
 public class RecipeBoardRecommentController {
 
     private final RecipeBoardRecommentServiceImpl recipeBoardRecommentService;
+    private final RecipeBoardCommentThreadService recipeBoardCommentThreadService;
 
     @Autowired
-    public RecipeBoardRecommentController(RecipeBoardRecommentServiceImpl recipeBoardRecommentService) {
+    public RecipeBoardRecommentController(RecipeBoardRecommentServiceImpl recipeBoardRecommentService,
+                                          RecipeBoardCommentThreadService recipeBoardCommentThreadService) {
         this.recipeBoardRecommentService = recipeBoardRecommentService;
+        this.recipeBoardCommentThreadService = recipeBoardCommentThreadService;
     }
 
     // 대댓글 등록
@@ -32,6 +37,18 @@ public class RecipeBoardRecommentController {
         return ResponseDTO.ok(createdRecomment); // 성공 응답
     }
 
+    // 대댓글 더 보기 (댓글 목록의 recomments.next_cursor로 이어서 조회)
+    @GetMapping("/recomments")
+    public ResponseDTO<CursorPageDTO<RecipeBoardRecommentDTO>> getRecommentsByCursor(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        CursorPageDTO<RecipeBoardRecommentDTO> recomments =
+                recipeBoardCommentThreadService.findRecomments(commentId, cursor, size);
+        return ResponseDTO.ok(recomments); // 성공 응답
+    }
+
     // 대댓글 수정
     @PutMapping("/recomments/{recommentId}")
     public ResponseDTO<RecipeBoardRecommentDTO> updateRecomment(
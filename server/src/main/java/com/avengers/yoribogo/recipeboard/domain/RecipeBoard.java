@@ -30,6 +30,10 @@ public class RecipeBoard {
     @Column(name = "RECIPE_BOARD_IMAGE")
     private String recipeBoardImage;
 
+    // 파생본이 만들어진 원본 S3 키 (ImageVariantGenerator만 기록)
+    @Column(name = "RECIPE_BOARD_IMAGE_VARIANTS_KEY", insertable = false, updatable = false)
+    private String recipeBoardImageVariantsKey;
+
     @Column(name = "RECIPE_BOARD_LIKES")
     private int recipeBoardLikes;
 
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,4 +25,7 @@ public class RecipeBoardFavorite {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "RECIPE_BOARD_ID")
     private RecipeBoard recipeBoard;
+
+    @Column(name = "FAVORITE_CREATED_AT")
+    private LocalDateTime favoriteCreatedAt;
 }
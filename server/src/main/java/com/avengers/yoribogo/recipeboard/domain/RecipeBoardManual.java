@@ -1,5 +1,6 @@
 package com.avengers.yoribogo.recipeboard.domain;
 
+import com.avengers.yoribogo.common.id.PooledIds;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -13,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class RecipeBoardManual {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_board_manual_seq")
+    @SequenceGenerator(name = "recipe_board_manual_seq", sequenceName = PooledIds.RECIPE_BOARD_MANUAL_SEQ, allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "RECIPE_BOARD_MANUAL_ID")
     private long recipeBoardManualId;
 
@@ -23,6 +25,10 @@ public class RecipeBoardManual {
     @Column(name = "RECIPE_BOARD_MANUAL_IMAGE")
     private String recipeBoardManualImage;
 
+    // 파생본이 만들어진 원본 S3 키 (ImageVariantGenerator만 기록)
+    @Column(name = "RECIPE_BOARD_MANUAL_IMAGE_VARIANTS_KEY", insertable = false, updatable = false)
+    private String recipeBoardManualImageVariantsKey;
+
     @Column(name = "RECIPE_BOARD_MANUAL_CONTENT", nullable = false)
     private String recipeBoardManualContent;
 
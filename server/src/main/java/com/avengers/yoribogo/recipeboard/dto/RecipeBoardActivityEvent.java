@@ -0,0 +1,23 @@
+package com.avengers.yoribogo.recipeboard.dto;
+
+import com.avengers.yoribogo.recipeboard.trending.TrendingSignal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 나만의 레시피 게시글 활동 이벤트 (커밋 이후 인기 게시글 점수에 반영)
+// delta: 추가 1, 취소 -1
+// occurredAt: 취소할 때 원래 활동(좋아요·즐겨찾기)이 일어난 시각 (추가는 null, 지금 시각으로 반영)
+@Data
+@AllArgsConstructor
+public class RecipeBoardActivityEvent {
+    private Long recipeBoardId;
+    private TrendingSignal signal;
+    private int delta;
+    private LocalDateTime occurredAt;
+
+    public RecipeBoardActivityEvent(Long recipeBoardId, TrendingSignal signal, int delta) {
+        this(recipeBoardId, signal, delta, null);
+    }
+}
@@ -0,0 +1,51 @@
+package com.avengers.yoribogo.recipeboard.dto;
+
+import com.avengers.yoribogo.common.image.ImageVariantsDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 카드 (읽기 전용 프로젝션)
+// 엔티티를 읽지 않고 카드에 필요한 컬럼만 JPQL 생성자 표현식으로 바로 받는다. (RecipeBoardRepository.findCards*)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RecipeBoardCardDTO {
+
+    @JsonProperty("board_id")
+    private long recipeBoardId;
+
+    @JsonProperty("menu_name")
+    private String recipeBoardMenuName;
+
+    @JsonProperty("board_image")
+    private String recipeBoardImage;
+
+    // 파생본이 만들어진 원본 키 (원본 키와 다르면 크기별 URL 대신 원본 URL 사용)
+    @JsonProperty("board_image_variants_key")
+    private String recipeBoardImageVariantsKey;
+
+    @JsonProperty("likes")
+    private int recipeBoardLikes;
+
+    @JsonProperty("comments")
+    private int recipeBoardComments;
+
+    @JsonProperty("user_id")
+    private long userId;
+
+    @JsonProperty("nickname")
+    private String nickname;
+
+    @JsonProperty("created_at")
+    private LocalDateTime recipeBoardCreatedAt;
+
+    // 목록 카드용 크기별 이미지 URL (파생본이 아직 없으면 원본 URL)
+    @JsonProperty(value = "board_image_variants", access = JsonProperty.Access.READ_ONLY)
+    public ImageVariantsDTO getBoardImageVariants() {
+        return ImageVariantsDTO.of(recipeBoardImage, recipeBoardImageVariantsKey);
+    }
+}
@@ -0,0 +1,20 @@
+package com.avengers.yoribogo.recipeboard.dto;
+
+import com.avengers.yoribogo.common.CursorPageDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 댓글 하나와 앞쪽 대댓글 몇 개 (나머지는 recomments.next_cursor로 이어서 조회)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RecipeBoardCommentThreadDTO {
+
+    @JsonProperty("comment")
+    private RecipeBoardCommentDTO comment;
+
+    @JsonProperty("recomments")
+    private CursorPageDTO<RecipeBoardRecommentDTO> recomments;
+}
@@ -1,5 +1,6 @@
 package com.avengers.yoribogo.recipeboard.dto;
 
+import com.avengers.yoribogo.common.image.ImageVariantsDTO;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -26,4 +27,12 @@ public class RecipeBoardDTO {
     @JsonProperty("board_image")
     private MultipartFile boardImage;
 
+    // 직접 업로드한 이미지의 업로드 키 (board_image 대신 사용)
+    @JsonProperty("board_image_key")
+    private String boardImageKey;
+
+    // 목록 카드용 크기별 이미지 URL (응답 전용)
+    @JsonProperty(value = "board_image_variants", access = JsonProperty.Access.READ_ONLY)
+    private ImageVariantsDTO boardImageVariants;
+
 }
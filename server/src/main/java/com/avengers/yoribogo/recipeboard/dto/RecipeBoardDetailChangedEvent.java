@@ -0,0 +1,11 @@
+package com.avengers.yoribogo.recipeboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 나만의 레시피 게시글 상세 내용(매뉴얼·댓글·대댓글) 변경 이벤트 (커밋 이후 상세 캐시 무효화)
+@Data
+@AllArgsConstructor
+public class RecipeBoardDetailChangedEvent {
+    private Long recipeBoardId;
+}
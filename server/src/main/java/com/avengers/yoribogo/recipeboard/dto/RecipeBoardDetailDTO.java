@@ -0,0 +1,32 @@
+package com.avengers.yoribogo.recipeboard.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 나만의 레시피 게시글 상세 한 번에 조회 (게시글·매뉴얼·댓글·대댓글 + 회원별 즐겨찾기·좋아요 상태)
+// viewer를 뺀 나머지는 게시글별로 캐시한다.
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RecipeBoardDetailDTO {
+
+    @JsonProperty("board")
+    private ResponseBoardDTO board;
+
+    @JsonProperty("manuals")
+    private List<RecipeBoardManualDetailDTO> manuals;
+
+    @JsonProperty("comments")
+    private List<RecipeBoardCommentDTO> comments;
+
+    @JsonProperty("recomments")
+    private List<RecipeBoardRecommentDTO> recomments;
+
+    // 회원 ID 없이 조회하면 null
+    @JsonProperty("viewer")
+    private RecipeBoardViewerStateDTO viewer;
+}
@@ -17,6 +17,10 @@ public class RecipeBoardManualDTO {
     @JsonProperty("manual_image")
     private MultipartFile recipeBoardManualImage;
 
+    // 직접 업로드한 이미지의 업로드 키 (manual_image 대신 사용)
+    @JsonProperty("manual_image_key")
+    private String recipeBoardManualImageKey;
+
     @JsonProperty("manual_content")
     private String recipeBoardManualContent;
 }
@@ -0,0 +1,36 @@
+package com.avengers.yoribogo.recipeboard.dto;
+
+import com.avengers.yoribogo.common.image.ImageVariantsDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 게시글 상세 화면용 매뉴얼 단계 (이미지 URL 포함)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RecipeBoardManualDetailDTO {
+
+    @JsonProperty("manual_id")
+    private Long recipeBoardManualId;
+
+    @JsonProperty("manual_step")
+    private int recipeBoardManualStep;
+
+    @JsonProperty("manual_content")
+    private String recipeBoardManualContent;
+
+    @JsonProperty("manual_image")
+    private String recipeBoardManualImage;
+
+    // 파생본이 만들어진 원본 키 (원본 키와 다르면 크기별 URL 대신 원본 URL 사용)
+    @JsonProperty("manual_image_variants_key")
+    private String recipeBoardManualImageVariantsKey;
+
+    // 크기별 이미지 URL (파생본이 아직 없으면 원본 URL)
+    @JsonProperty(value = "manual_image_variants", access = JsonProperty.Access.READ_ONLY)
+    public ImageVariantsDTO getManualImageVariants() {
+        return ImageVariantsDTO.of(recipeBoardManualImage, recipeBoardManualImageVariantsKey);
+    }
+}
@@ -0,0 +1,11 @@
+package com.avengers.yoribogo.recipeboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 나만의 레시피 게시글 삭제 이벤트 (커밋 이후 재료 색인 등에 반영)
+@Data
+@AllArgsConstructor
+public class RecipeBoardRemovedEvent {
+    private Long recipeBoardId;
+}
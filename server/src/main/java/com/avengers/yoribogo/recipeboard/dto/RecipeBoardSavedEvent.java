@@ -0,0 +1,14 @@
+package com.avengers.yoribogo.recipeboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 나만의 레시피 게시글 등록·수정 이벤트 (커밋 이후 재료 색인 등에 반영)
+@Data
+@AllArgsConstructor
+public class RecipeBoardSavedEvent {
+    private Long recipeBoardId;
+    private String recipeBoardMenuName;
+    private String recipeBoardIngredient;
+    private String recipeBoardImage;
+}
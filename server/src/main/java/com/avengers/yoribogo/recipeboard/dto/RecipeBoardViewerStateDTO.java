@@ -0,0 +1,22 @@
+package com.avengers.yoribogo.recipeboard.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 게시글 상세를 보는 회원별 상태 (캐시하지 않고 요청마다 덧씌움)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RecipeBoardViewerStateDTO {
+
+    @JsonProperty("user_id")
+    private Long userId;
+
+    @JsonProperty("is_favorite")
+    private boolean favorite;
+
+    @JsonProperty("is_liked")
+    private boolean liked;
+}
@@ -1,5 +1,6 @@
 package com.avengers.yoribogo.recipeboard.dto;
 
+import com.avengers.yoribogo.common.image.ImageVariantsDTO;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardStatus;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -26,6 +27,10 @@ public class ResponseBoardDTO {
     @JsonProperty("board_image")
     private String recipeBoardImage;
 
+    // 파생본이 만들어진 원본 키 (원본 키와 다르면 크기별 URL 대신 원본 URL 사용)
+    @JsonProperty("board_image_variants_key")
+    private String recipeBoardImageVariantsKey;
+
     @JsonProperty("created_at")
     private LocalDateTime recipeBoardCreatedAt;
 
@@ -43,4 +48,10 @@ public class ResponseBoardDTO {
 
     @JsonProperty("manuals")
     private List<RecipeBoardManualDTO> manuals;
+
+    // 크기별 이미지 URL (파생본이 아직 없으면 원본 URL)
+    @JsonProperty(value = "board_image_variants", access = JsonProperty.Access.READ_ONLY)
+    public ImageVariantsDTO getBoardImageVariants() {
+        return ImageVariantsDTO.of(recipeBoardImage, recipeBoardImageVariantsKey);
+    }
 }
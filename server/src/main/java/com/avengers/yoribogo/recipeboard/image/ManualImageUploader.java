@@ -0,0 +1,241 @@
+package com.avengers.yoribogo.recipeboard.image;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.*;
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.common.image.ImageUploadPurpose;
+import com.avengers.yoribogo.common.image.ImageVariantGenerator;
+import com.avengers.yoribogo.common.image.ImageVariantTarget;
+import com.avengers.yoribogo.common.image.PresignedImageUploader;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardManualDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// 게시글 매뉴얼 단계 이미지 일괄 업로드
+// 단계 이미지를 요청당 최대 concurrency개씩 병렬로 S3에 올리며, DB 트랜잭션 밖에서 호출해 업로드 동안 커넥션을 잡지 않는다.
+// multipartThreshold보다 큰 파일은 멀티파트 업로드로 나눠 올린다.
+// 하나라도 실패하면 남은 업로드를 시작하지 않고, 이미 올린 객체를 지운 뒤 FILE_UPLOAD_ERROR를 던진다.
+// 객체 키에 임의 값을 붙여, 실패 정리나 교체 시 이미 저장된 다른 이미지를 덮어쓰거나 지우지 않는다.
+// 클라이언트가 직접 올린 이미지(manual_image_key)는 업로드 대신 HEAD로 확인만 하며, 실패해도 지우지 않는다. (같은 키로 다시 확정할 수 있도록)
+@Slf4j
+@Component
+public class ManualImageUploader {
+
+    // S3 멀티파트 업로드의 마지막이 아닌 파트 최소 크기
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final AmazonS3Client s3Client;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final PresignedImageUploader presignedImageUploader;
+    private final AsyncTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 요청 하나에서 동시에 올리는 이미지 수
+    @Value("${recipe-board.manual-upload.concurrency:4}")
+    private int concurrency;
+
+    @Value("${recipe-board.manual-upload.multipart-threshold-bytes:8388608}")
+    private long multipartThreshold;
+
+    @Value("${recipe-board.manual-upload.part-size-bytes:5242880}")
+    private int partSize;
+
+    @Autowired
+    public ManualImageUploader(AmazonS3Client s3Client,
+                               ImageVariantGenerator imageVariantGenerator,
+                               PresignedImageUploader presignedImageUploader,
+                               @Qualifier("manualUploadExecutor") AsyncTaskExecutor executor,
+                               MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.presignedImageUploader = presignedImageUploader;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 단계별 이미지 업로드 (결과는 manualDTOs와 같은 순서, 이미지가 없는 단계는 null)
+    public List<UploadedImage> uploadAll(Long recipeBoardId, List<RecipeBoardManualDTO> manualDTOs) {
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<UploadedImage>> futures = new ArrayList<>(manualDTOs.size());
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        AtomicBoolean failed = new AtomicBoolean();
+
+        for (RecipeBoardManualDTO manualDTO : manualDTOs) {
+            Supplier<UploadedImage> task = task(recipeBoardId, manualDTO);
+            if (task == null) {
+                futures.add(CompletableFuture.completedFuture(null));
+                continue;
+            }
+
+            permits.acquireUninterruptibly();
+            if (failed.get()) {
+                permits.release();
+                break;
+            }
+            futures.add(CompletableFuture
+                    .supplyAsync(task, executor)
+                    .whenComplete((uploaded, e) -> {
+                        if (e != null) failed.set(true);
+                        permits.release();
+                    }));
+        }
+
+        // 모두 끝날 때까지 기다린 뒤 성공한 것만 모음
+        List<UploadedImage> results = new ArrayList<>(futures.size());
+        Throwable failure = null;
+        for (CompletableFuture<UploadedImage> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                results.add(null);
+                if (failure == null) failure = e.getCause();
+            }
+        }
+
+        if (failure != null || failed.get()) {
+            timer("failure").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.error("게시글 ID: {}의 매뉴얼 이미지 업로드 실패, 올린 이미지 {}개 삭제",
+                    recipeBoardId, results.stream().filter(Objects::nonNull).count(), failure);
+            discard(results);
+            // 직접 업로드 확인 실패(키 불일치, 객체 없음 등)는 원인을 그대로 전달
+            if (failure instanceof CommonException commonException) throw commonException;
+            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+        timer("success").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return results;
+    }
+
+    // 매뉴얼 저장이 커밋된 뒤 크기별 파생본 생성 (비동기)
+    public void publish(Long recipeBoardId, List<UploadedImage> uploadedImages) {
+        for (UploadedImage uploadedImage : uploadedImages) {
+            if (uploadedImage != null) {
+                imageVariantGenerator.generateAsync(uploadedImage.key(), ImageVariantTarget.RECIPE_BOARD_MANUAL, recipeBoardId);
+            }
+        }
+    }
+
+    // 매뉴얼 저장에 실패하면 서버가 올린 이미지를 지움 (고아 객체 정리)
+    public void discard(List<UploadedImage> uploadedImages) {
+        String[] keys = uploadedImages.stream()
+                .filter(Objects::nonNull)
+                .filter(uploadedImage -> !uploadedImage.clientUploaded())
+                .map(UploadedImage::key)
+                .toArray(String[]::new);
+        if (keys.length == 0) return;
+
+        try {
+            s3Client.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys).withQuiet(true));
+        } catch (Exception e) {
+            log.warn("업로드한 매뉴얼 이미지 정리 실패: {}", Arrays.toString(keys), e);
+        }
+    }
+
+    // 단계 이미지 처리 작업 (파일이 오면 업로드, 키가 오면 직접 업로드 확인, 둘 다 없으면 null)
+    private Supplier<UploadedImage> task(Long recipeBoardId, RecipeBoardManualDTO manualDTO) {
+        MultipartFile image = manualDTO.getRecipeBoardManualImage();
+        if (image != null && !image.isEmpty()) {
+            String key = key(recipeBoardId, manualDTO.getRecipeBoardManualStep(), image.getOriginalFilename());
+            return () -> upload(key, image);
+        }
+
+        String imageKey = manualDTO.getRecipeBoardManualImageKey();
+        if (imageKey != null && !imageKey.isBlank()) {
+            return () -> new UploadedImage(imageKey,
+                    presignedImageUploader.confirm(ImageUploadPurpose.MANUAL, recipeBoardId, imageKey), true);
+        }
+        return null;
+    }
+
+    private UploadedImage upload(String key, MultipartFile image) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(image.getContentType() != null ? image.getContentType() : "application/octet-stream");
+        metadata.setContentDisposition("inline");
+
+        try (InputStream inputStream = image.getInputStream()) {
+            if (image.getSize() > multipartThreshold) {
+                uploadMultipart(key, inputStream, metadata);
+            } else {
+                metadata.setContentLength(image.getSize());
+                s3Client.putObject(new PutObjectRequest(bucket, key, inputStream, metadata));
+            }
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+        return new UploadedImage(key, s3Client.getUrl(bucket, key).toString(), false);
+    }
+
+    // 파트 크기만큼 읽어 차례로 올림 (실패 시 올리던 멀티파트 업로드 취소)
+    private void uploadMultipart(String key, InputStream inputStream, ObjectMetadata metadata) throws IOException {
+        String uploadId = s3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            byte[] part = new byte[Math.max(partSize, MIN_PART_SIZE)];
+            int filled;
+            while ((filled = inputStream.readNBytes(part, 0, part.length)) > 0) {
+                UploadPartResult result = s3Client.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partETags.size() + 1)
+                        .withInputStream(new ByteArrayInputStream(part, 0, filled))
+                        .withPartSize(filled)
+                        .withLastPart(filled < part.length));
+                partETags.add(result.getPartETag());
+            }
+            s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            try {
+                s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            } catch (Exception abortFailure) {
+                log.warn("S3 멀티파트 업로드 취소 실패: {}", key, abortFailure);
+            }
+            throw e;
+        }
+    }
+
+    // manual_{게시글 ID}_{단계}_{임의 값}.{확장자}
+    private static String key(Long recipeBoardId, int manualStep, String originalFilename) {
+        int dot = originalFilename == null ? -1 : originalFilename.lastIndexOf('.');
+        String fileExtension = dot < 0 ? "" : originalFilename.substring(dot).toLowerCase(Locale.ROOT);
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return "manual_" + recipeBoardId + "_" + manualStep + "_" + suffix + fileExtension;
+    }
+
+    private Timer timer(String result) {
+        return Timer.builder("recipe.board.manual.upload")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // clientUploaded: 클라이언트가 직접 올린 이미지 (실패 시 지우지 않음)
+    public record UploadedImage(String key, String url, boolean clientUploaded) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.avengers.yoribogo.recipeboard.mapper;
+
+import com.avengers.yoribogo.config.MapStructConfig;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoardComment;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoardRecomment;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCommentDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardRecommentDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+// 나만의 레시피 댓글·대댓글 엔티티 <-> DTO 변환 (컴파일 시점 생성)
+@Mapper(config = MapStructConfig.class)
+public interface RecipeBoardCommentMapper {
+
+    RecipeBoardCommentDTO toRecipeBoardCommentDTO(RecipeBoardComment recipeBoardComment);
+
+    List<RecipeBoardCommentDTO> toRecipeBoardCommentDTOList(List<RecipeBoardComment> recipeBoardCommentList);
+
+    RecipeBoardComment toRecipeBoardComment(RecipeBoardCommentDTO recipeBoardCommentDTO);
+
+    @Mapping(target = "recipeBoardCommentId", source = "recipeBoardComment.recipeBoardCommentId")
+    RecipeBoardRecommentDTO toRecipeBoardRecommentDTO(RecipeBoardRecomment recipeBoardRecomment);
+
+}
@@ -0,0 +1,44 @@
+package com.avengers.yoribogo.recipeboard.mapper;
+
+import com.avengers.yoribogo.common.image.ImageVariantsDTO;
+import com.avengers.yoribogo.config.MapStructConfig;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoard;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoardManual;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardManualDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardManualDetailDTO;
+import com.avengers.yoribogo.recipeboard.dto.ResponseBoardDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+// 나만의 레시피 게시글 엔티티 <-> DTO 변환 (컴파일 시점 생성)
+// 업로드용 DTO의 이미지(MultipartFile)는 서비스에서 S3 업로드 후 URL로 따로 설정한다.
+@Mapper(config = MapStructConfig.class, imports = ImageVariantsDTO.class)
+public interface RecipeBoardMapper {
+
+    @Mapping(target = "boardImage", ignore = true)
+    @Mapping(target = "boardImageVariants", expression = "java(ImageVariantsDTO.of(recipeBoard.getRecipeBoardImage(), recipeBoard.getRecipeBoardImageVariantsKey()))")
+    RecipeBoardDTO toRecipeBoardDTO(RecipeBoard recipeBoard);
+
+    ResponseBoardDTO toResponseBoardDTO(RecipeBoard recipeBoard);
+
+    // 매뉴얼 컬렉션을 읽지 않는 게시글 변환 (매뉴얼을 따로 조회하는 상세 화면용)
+    @Mapping(target = "manuals", ignore = true)
+    ResponseBoardDTO toResponseBoardSummaryDTO(RecipeBoard recipeBoard);
+
+    RecipeBoardManualDetailDTO toRecipeBoardManualDetailDTO(RecipeBoardManual recipeBoardManual);
+
+    @Mapping(target = "recipeBoardManualImage", ignore = true)
+    RecipeBoardManualDTO toRecipeBoardManualDTO(RecipeBoardManual recipeBoardManual);
+
+    @Mapping(target = "recipeBoardImage", ignore = true)
+    @Mapping(target = "manuals", ignore = true)
+    @Mapping(target = "favorites", ignore = true)
+    RecipeBoard toRecipeBoard(RecipeBoardDTO recipeBoardDTO);
+
+    @Mapping(target = "recipeBoardManualId", ignore = true)
+    @Mapping(target = "recipeBoardManualImage", ignore = true)
+    @Mapping(target = "recipeBoard", ignore = true)
+    RecipeBoardManual toRecipeBoardManual(RecipeBoardManualDTO recipeBoardManualDTO);
+
+}
@@ -8,4 +8,7 @@ import java.util.Optional;
 public interface RecipeBoardLikeRepository extends JpaRepository<RecipeBoardLikeEntity, Long> {
     // 특정 유저가 특정 게시글에 이미 좋아요를 눌렀는지 확인
     Optional<RecipeBoardLikeEntity> findByUserUserIdAndRecipeBoardRecipeBoardId(Long userId, Long recipeBoardId);
+
+    // 좋아요 여부만 확인 (엔티티를 읽지 않음)
+    boolean existsByUserUserIdAndRecipeBoardRecipeBoardId(Long userId, Long recipeBoardId);
 }
@@ -5,11 +5,13 @@ import com.avengers.yoribogo.common.exception.ErrorCode;
 import com.avengers.yoribogo.notification.weeklypopularrecipe.dto.DeleteLikeInMongoEvent;
 import com.avengers.yoribogo.notification.weeklypopularrecipe.dto.InsertLikeToMongoEvent;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoard;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardActivityEvent;
 import com.avengers.yoribogo.recipeboard.recipeboardlike.dto.RecipeBoardLikeEntity;
 import com.avengers.yoribogo.recipeboard.recipeboardlike.Repository.RecipeBoardLikeRepository;
 import com.avengers.yoribogo.recipeboard.recipeboardlike.dto.LikeRequestDTO;
 
 import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRepository;
+import com.avengers.yoribogo.recipeboard.trending.TrendingSignal;
 import com.avengers.yoribogo.user.domain.Tier;
 import com.avengers.yoribogo.user.domain.UserEntity;
 import com.avengers.yoribogo.user.repository.UserRepository;
@@ -60,10 +62,12 @@ public class RecipeBoardLikeService {
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_USER));  // 작성자 정보 조회
 
         boolean isLiked = false;  // 기본 상태는 좋아요가 취소되지 않은 상태로 설정
+        LocalDateTime likedAt = null;  // 취소한 좋아요가 눌렸던 시각 (인기 게시글 점수에서 그만큼만 뺀다)
 
         if (existingLike != null) {
             // 3. 좋아요가 이미 눌러져 있는 경우 -> 좋아요 취소 로직
             recipeBoardLikeRepository.delete(existingLike);
+            likedAt = existingLike.getLikeCreatedAt();
             recipeBoard.setRecipeBoardLikes(recipeBoard.getRecipeBoardLikes() - 1);
             postAuthor.setUserLikes(postAuthor.getUserLikes() - 1);  // 작성자의 좋아요 수 -1
             log.info("좋아요 취소됨. postAuthor의 좋아요 수: {}", postAuthor.getUserLikes());
@@ -97,6 +101,9 @@ public class RecipeBoardLikeService {
             applicationEventPublisher.publishEvent(new DeleteLikeInMongoEvent(userId.toString(), postId.toString()));
         }
 
+        // 7. 인기 게시글 점수 반영 (커밋 이후)
+        applicationEventPublisher.publishEvent(new RecipeBoardActivityEvent(postId, TrendingSignal.LIKE, isLiked ? 1 : -1, likedAt));
+
         return isLiked;  // 좋아요 상태를 반환
     }
 
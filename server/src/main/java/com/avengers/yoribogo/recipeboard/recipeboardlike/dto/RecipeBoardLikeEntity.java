@@ -1,5 +1,6 @@
 package com.avengers.yoribogo.recipeboard.recipeboardlike.dto;
 
+import com.avengers.yoribogo.common.id.PooledIds;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoard;
 import com.avengers.yoribogo.recipeboard.recipeboard.dto.RecipeBoardEntity;
 import com.avengers.yoribogo.user.domain.UserEntity;
@@ -13,7 +14,8 @@ import java.time.LocalDateTime;
 public class RecipeBoardLikeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_board_like_seq")
+    @SequenceGenerator(name = "recipe_board_like_seq", sequenceName = PooledIds.RECIPE_BOARD_LIKE_SEQ, allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "recipe_board_like_id")
     private Long recipeBoardLikeId;
 
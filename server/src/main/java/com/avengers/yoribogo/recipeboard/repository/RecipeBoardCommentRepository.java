@@ -2,6 +2,7 @@ package com.avengers.yoribogo.recipeboard.repository;
 
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardComment;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardRecomment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -12,6 +13,11 @@ public interface RecipeBoardCommentRepository extends JpaRepository<RecipeBoardC
     // 레시피 id로 조회
     List<RecipeBoardComment> findAllByRecipeBoardId(Long recipeId);
 
+    // 커서(댓글 ID)보다 나중에 달린 게시글 댓글 조회 (오래된 순, count 쿼리 없음)
+    List<RecipeBoardComment> findByRecipeBoardIdAndRecipeBoardCommentIdGreaterThanOrderByRecipeBoardCommentIdAsc(Long recipeBoardId,
+                                                                                                            Long recipeBoardCommentId,
+                                                                                                            Pageable pageable);
+
     // 회원 id로 조회
     List<RecipeBoardComment> findAllByUserId(Long userId);
 
@@ -14,4 +14,7 @@ public interface RecipeBoardManualRepository extends JpaRepository<RecipeBoardMa
     void deleteByRecipeBoardRecipeBoardId(Long recipeBoardId);
 
     List<RecipeBoardManual> findByRecipeBoardRecipeBoardId(Long recipeBoardId);
+
+    // 단계 순 조회 (게시글 상세용)
+    List<RecipeBoardManual> findByRecipeBoardRecipeBoardIdOrderByRecipeBoardManualStepAsc(Long recipeBoardId);
 }
@@ -2,8 +2,12 @@ package com.avengers.yoribogo.recipeboard.repository;
 
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardComment;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardRecomment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface RecipeBoardRecommentRepository extends JpaRepository<RecipeBoardRecomment, Long> {
@@ -11,6 +15,28 @@ public interface RecipeBoardRecommentRepository extends JpaRepository<RecipeBoar
 
     List<RecipeBoardRecomment> findByRecipeBoardComment_RecipeBoardCommentId(Long commentId);
 
+    // 게시글의 모든 대댓글을 댓글과 함께 한 번에 조회 (댓글별 조회 없이)
+    @Query("SELECT r FROM RecipeBoardRecomment r JOIN FETCH r.recipeBoardComment c " +
+            "WHERE c.recipeBoardId = :recipeBoardId ORDER BY r.recipeBoardRecommentId")
+    List<RecipeBoardRecomment> findAllByRecipeBoardId(@Param("recipeBoardId") Long recipeBoardId);
+
+    // 여러 댓글의 대댓글을 댓글마다 앞에서 limit개씩만 한 번에 조회 (댓글별 조회 없이, 오래된 순)
+    @Query(value = "SELECT t.recipe_board_recomment_id, t.recipe_board_recomment_content, " +
+            "t.recipe_board_recomment_status, t.recipe_board_recomment_created_at, " +
+            "t.recipe_board_comment_id, t.user_id " +
+            "FROM (SELECT r.*, ROW_NUMBER() OVER (PARTITION BY r.recipe_board_comment_id " +
+            "ORDER BY r.recipe_board_recomment_id) AS rn " +
+            "FROM recipe_board_recomment r WHERE r.recipe_board_comment_id IN (:commentIds)) t " +
+            "WHERE t.rn <= :limit " +
+            "ORDER BY t.recipe_board_comment_id, t.recipe_board_recomment_id",
+            nativeQuery = true)
+    List<RecipeBoardRecomment> findFirstByCommentIds(@Param("commentIds") Collection<Long> commentIds,
+                                                     @Param("limit") int limit);
+
+    // 커서(대댓글 ID)보다 나중에 달린 댓글별 대댓글 조회 (오래된 순, count 쿼리 없음)
+    List<RecipeBoardRecomment> findByRecipeBoardComment_RecipeBoardCommentIdAndRecipeBoardRecommentIdGreaterThanOrderByRecipeBoardRecommentIdAsc(
+            Long commentId, Long recipeBoardRecommentId, Pageable pageable);
+
 
 
     // 회원 id로 조회
@@ -1,15 +1,75 @@
 package com.avengers.yoribogo.recipeboard.repository;
 
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoard;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCardDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface RecipeBoardRepository extends JpaRepository<RecipeBoard, Long> {
 
     Page<RecipeBoard> findByRecipeBoardMenuNameContaining(String recipeBoardMenuName, Pageable pageable);
 
     Page<RecipeBoard> findByUserId(Long userId, Pageable pageable);
+
+    // 커서(작성 시각, 게시글 ID)보다 오래된 게시글 목록 조회 (count 쿼리 없음)
+    @Query("SELECT rb FROM RecipeBoard rb " +
+            "WHERE rb.recipeBoardCreatedAt < :createdAt " +
+            "OR (rb.recipeBoardCreatedAt = :createdAt AND rb.recipeBoardId < :recipeBoardId) " +
+            "ORDER BY rb.recipeBoardCreatedAt DESC, rb.recipeBoardId DESC")
+    List<RecipeBoard> findRecipeBoardBeforeCursor(@Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("recipeBoardId") Long recipeBoardId,
+                                                  Pageable pageable);
+
+    // 작성자의 다른 게시글이 같은 이미지를 쓰는지 확인 (직접 업로드한 이미지를 두 게시글에 연결하지 않도록, 작성자 인덱스로 조회)
+    boolean existsByUserIdAndRecipeBoardImage(Long userId, String recipeBoardImage);
+
+    boolean existsByUserIdAndRecipeBoardImageAndRecipeBoardIdNot(Long userId, String recipeBoardImage, Long recipeBoardId);
+
+    // 커서(게시글 ID)보다 오래된 회원별 게시글 목록 조회 (count 쿼리 없음)
+    List<RecipeBoard> findByUserIdAndRecipeBoardIdLessThanOrderByRecipeBoardIdDesc(Long userId,
+                                                                                  Long recipeBoardId,
+                                                                                  Pageable pageable);
+
+    // 목록 카드 조회 (작성자 닉네임까지 SQL 한 번, 엔티티·연관 컬렉션을 읽지 않음)
+    @Query("SELECT new com.avengers.yoribogo.recipeboard.dto.RecipeBoardCardDTO(" +
+            "rb.recipeBoardId, rb.recipeBoardMenuName, rb.recipeBoardImage, rb.recipeBoardImageVariantsKey, rb.recipeBoardLikes, " +
+            "rb.recipeBoardComments, rb.userId, u.nickname, rb.recipeBoardCreatedAt) " +
+            "FROM RecipeBoard rb LEFT JOIN UserEntity u ON u.userId = rb.userId " +
+            "WHERE rb.recipeBoardCreatedAt < :createdAt " +
+            "OR (rb.recipeBoardCreatedAt = :createdAt AND rb.recipeBoardId < :recipeBoardId) " +
+            "ORDER BY rb.recipeBoardCreatedAt DESC, rb.recipeBoardId DESC")
+    List<RecipeBoardCardDTO> findCardsBeforeCursor(@Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("recipeBoardId") Long recipeBoardId,
+                                                   Pageable pageable);
+
+    // 회원별 목록 카드 조회
+    @Query("SELECT new com.avengers.yoribogo.recipeboard.dto.RecipeBoardCardDTO(" +
+            "rb.recipeBoardId, rb.recipeBoardMenuName, rb.recipeBoardImage, rb.recipeBoardImageVariantsKey, rb.recipeBoardLikes, " +
+            "rb.recipeBoardComments, rb.userId, u.nickname, rb.recipeBoardCreatedAt) " +
+            "FROM RecipeBoard rb LEFT JOIN UserEntity u ON u.userId = rb.userId " +
+            "WHERE rb.userId = :userId AND rb.recipeBoardId < :recipeBoardId " +
+            "ORDER BY rb.recipeBoardId DESC")
+    List<RecipeBoardCardDTO> findCardsByUserIdBeforeCursor(@Param("userId") Long userId,
+                                                           @Param("recipeBoardId") Long recipeBoardId,
+                                                           Pageable pageable);
+
+    // 게시글 ID로 목록 카드 조회 (인기 게시글 등 순서를 따로 정하는 목록용, 기본 키 조회)
+    @Query("SELECT new com.avengers.yoribogo.recipeboard.dto.RecipeBoardCardDTO(" +
+            "rb.recipeBoardId, rb.recipeBoardMenuName, rb.recipeBoardImage, rb.recipeBoardImageVariantsKey, rb.recipeBoardLikes, " +
+            "rb.recipeBoardComments, rb.userId, u.nickname, rb.recipeBoardCreatedAt) " +
+            "FROM RecipeBoard rb LEFT JOIN UserEntity u ON u.userId = rb.userId " +
+            "WHERE rb.recipeBoardId IN :recipeBoardIds")
+    List<RecipeBoardCardDTO> findCardsByIds(@Param("recipeBoardIds") Collection<Long> recipeBoardIds);
+
+    // 게시글 ID 순 일괄 조회 (재료 색인 적재용)
+    List<RecipeBoard> findByRecipeBoardIdGreaterThanOrderByRecipeBoardIdAsc(Long recipeBoardId, Pageable pageable);
 }
@@ -4,11 +4,15 @@ import com.avengers.yoribogo.common.exception.CommonException;
 import com.avengers.yoribogo.common.exception.ErrorCode;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardComment;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardCommentStatus;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardActivityEvent;
 import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCommentDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDetailChangedEvent;
+import com.avengers.yoribogo.recipeboard.mapper.RecipeBoardCommentMapper;
 import com.avengers.yoribogo.recipeboard.repository.RecipeBoardCommentRepository;
 import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRepository;
+import com.avengers.yoribogo.recipeboard.trending.TrendingSignal;
 import jakarta.persistence.EntityNotFoundException;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,21 +24,24 @@ import java.util.stream.Collectors;
 public class RecipeBoardCommentServiceImpl implements RecipeBoardCommentService {
     private final RecipeBoardCommentRepository commentRepository;
     private final RecipeBoardRepository recipeBoardRepository;
-    private final ModelMapper modelMapper;
+    private final RecipeBoardCommentMapper recipeBoardCommentMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public RecipeBoardCommentServiceImpl(RecipeBoardCommentRepository commentRepository,
                                          RecipeBoardRepository recipeBoardRepository,
-                                         ModelMapper modelMapper) {
+                                         RecipeBoardCommentMapper recipeBoardCommentMapper,
+                                         ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.recipeBoardRepository = recipeBoardRepository;
-        this.modelMapper = modelMapper;
+        this.recipeBoardCommentMapper = recipeBoardCommentMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     /* 댓글 등록 */
     @Override
     @Transactional
     public RecipeBoardCommentDTO createComment(RecipeBoardCommentDTO commentDTO) {
-        RecipeBoardComment comment = modelMapper.map(commentDTO, RecipeBoardComment.class);
+        RecipeBoardComment comment = recipeBoardCommentMapper.toRecipeBoardComment(commentDTO);
 
         // 기본 status -> ACTIVE 설정
         comment.setRecipeBoardCommentStatus(RecipeBoardCommentStatus.ACTIVE);
@@ -46,12 +53,17 @@ public class RecipeBoardCommentServiceImpl implements RecipeBoardCommentService
             throw new IllegalArgumentException(ErrorCode.MISSING_REQUIRED_FIELD.getMessage());
         }
 
+        RecipeBoardComment createdComment;
         try {
-            RecipeBoardComment createdComment = commentRepository.save(comment);
-            return modelMapper.map(createdComment, RecipeBoardCommentDTO.class);
+            createdComment = commentRepository.save(comment);
         } catch (Exception e) {
             throw new CommonException(ErrorCode.DATA_INTEGRITY_VIOLATION);
         }
+
+        // 인기 게시글 점수 반영 (커밋 이후)
+        eventPublisher.publishEvent(new RecipeBoardActivityEvent(
+                createdComment.getRecipeBoardId(), TrendingSignal.COMMENT, 1));
+        return recipeBoardCommentMapper.toRecipeBoardCommentDTO(createdComment);
     }
 
 
@@ -75,8 +87,10 @@ public class RecipeBoardCommentServiceImpl implements RecipeBoardCommentService
         // 댓글 수정 및 저장
         try {
             RecipeBoardComment updatedComment = commentRepository.save(existingComment);
+            // 게시글 상세 캐시 무효화 (커밋 이후)
+            eventPublisher.publishEvent(new RecipeBoardDetailChangedEvent(updatedComment.getRecipeBoardId()));
             // 수정된 엔티티를 DTO로 변환하여 반환
-            return modelMapper.map(updatedComment, RecipeBoardCommentDTO.class);
+            return recipeBoardCommentMapper.toRecipeBoardCommentDTO(updatedComment);
         } catch (Exception e) {
             throw new RuntimeException(ErrorCode.INTERNAL_SERVER_ERROR.getMessage(), e);
         }
@@ -91,7 +105,11 @@ public class RecipeBoardCommentServiceImpl implements RecipeBoardCommentService
 
 
         try {
-            commentRepository.deleteById(id);
+            // 게시글 상세 캐시 무효화를 위해 게시글 ID를 알아야 하므로 조회 후 삭제
+            commentRepository.findById(id).ifPresent(comment -> {
+                commentRepository.delete(comment);
+                eventPublisher.publishEvent(new RecipeBoardDetailChangedEvent(comment.getRecipeBoardId()));
+            });
         } catch (EntityNotFoundException e) {
             throw new EntityNotFoundException(ErrorCode.NOT_FOUND_RECIPE_BOARD_COMMENT.getMessage());
         } catch (Exception e) {
@@ -113,7 +131,7 @@ public class RecipeBoardCommentServiceImpl implements RecipeBoardCommentService
 
         // 엔티티 리스트를 DTO 리스트로 변환
         List<RecipeBoardCommentDTO> commentDTO = comments.stream()
-                .map(comment -> modelMapper.map(comment, RecipeBoardCommentDTO.class))
+                .map(recipeBoardCommentMapper::toRecipeBoardCommentDTO)
                 .collect(Collectors.toList());
 
         return commentDTO;
@@ -132,7 +150,7 @@ public class RecipeBoardCommentServiceImpl implements RecipeBoardCommentService
         }
 
         List<RecipeBoardCommentDTO> commentDTO = comments.stream()
-                .map(comment -> modelMapper.map(comment, RecipeBoardCommentDTO.class))
+                .map(recipeBoardCommentMapper::toRecipeBoardCommentDTO)
                 .collect(Collectors.toList());
 
         return commentDTO;
@@ -0,0 +1,15 @@
+package com.avengers.yoribogo.recipeboard.service;
+
+import com.avengers.yoribogo.common.CursorPageDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCommentThreadDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardRecommentDTO;
+
+public interface RecipeBoardCommentThreadService {
+
+    // 게시글 댓글을 커서로 나눠 조회 (댓글마다 대댓글은 앞쪽 recommentSize개까지)
+    CursorPageDTO<RecipeBoardCommentThreadDTO> findCommentThreads(Long recipeBoardId, String cursor,
+                                                                   Integer size, Integer recommentSize);
+
+    // 댓글 하나의 대댓글 더 보기
+    CursorPageDTO<RecipeBoardRecommentDTO> findRecomments(Long commentId, String cursor, Integer size);
+}
@@ -0,0 +1,124 @@
+package com.avengers.yoribogo.recipeboard.service;
+
+import com.avengers.yoribogo.common.CursorCodec;
+import com.avengers.yoribogo.common.CursorPageDTO;
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoardComment;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoardRecomment;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCommentThreadDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardRecommentDTO;
+import com.avengers.yoribogo.recipeboard.mapper.RecipeBoardCommentMapper;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardCommentRepository;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRecommentRepository;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 나만의 레시피 댓글 목록 (댓글 + 대댓글 트리)
+// 댓글 한 페이지를 커서로 읽고, 그 댓글들의 대댓글은 IN 쿼리 한 번으로 댓글마다 앞쪽 몇 개만 읽어 메모리에서 묶는다.
+// 댓글이 아무리 많아도 요청당 쿼리 수와 응답 크기는 페이지 크기에만 비례한다.
+@Service
+public class RecipeBoardCommentThreadServiceImpl implements RecipeBoardCommentThreadService {
+
+    private final RecipeBoardRepository recipeBoardRepository;
+    private final RecipeBoardCommentRepository commentRepository;
+    private final RecipeBoardRecommentRepository recommentRepository;
+    private final RecipeBoardCommentMapper recipeBoardCommentMapper;
+
+    // 댓글마다 함께 내려줄 대댓글 수 (미입력 시)
+    @Value("${recipe-board.comment-thread.recomment-preview-size:3}")
+    private int recommentPreviewSize;
+
+    @Autowired
+    public RecipeBoardCommentThreadServiceImpl(RecipeBoardRepository recipeBoardRepository,
+                                               RecipeBoardCommentRepository commentRepository,
+                                               RecipeBoardRecommentRepository recommentRepository,
+                                               RecipeBoardCommentMapper recipeBoardCommentMapper) {
+        this.recipeBoardRepository = recipeBoardRepository;
+        this.commentRepository = commentRepository;
+        this.recommentRepository = recommentRepository;
+        this.recipeBoardCommentMapper = recipeBoardCommentMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeBoardCommentThreadDTO> findCommentThreads(Long recipeBoardId, String cursor,
+                                                                          Integer size, Integer recommentSize) {
+        int pageSize = CursorCodec.resolveSize(size);
+        int previewSize = recommentSize == null ? recommentPreviewSize : CursorCodec.resolveSize(recommentSize);
+        Long cursorId = CursorCodec.decodeId(cursor);
+
+        // 첫 페이지에서만 게시글 존재 여부 확인
+        if (cursorId == null && !recipeBoardRepository.existsById(recipeBoardId)) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (count 쿼리, OFFSET 없음)
+        List<RecipeBoardComment> comments = commentRepository
+                .findByRecipeBoardIdAndRecipeBoardCommentIdGreaterThanOrderByRecipeBoardCommentIdAsc(
+                        recipeBoardId,
+                        cursorId == null ? 0L : cursorId,
+                        PageRequest.of(0, pageSize + 1));
+
+        Map<Long, List<RecipeBoardRecomment>> recommentsByCommentId =
+                findRecommentPreviews(comments.subList(0, Math.min(comments.size(), pageSize)), previewSize);
+
+        return CursorPageDTO.of(comments, pageSize,
+                comment -> new RecipeBoardCommentThreadDTO(
+                        recipeBoardCommentMapper.toRecipeBoardCommentDTO(comment),
+                        toRecommentPage(recommentsByCommentId.getOrDefault(comment.getRecipeBoardCommentId(), List.of()),
+                                previewSize)),
+                comment -> CursorCodec.encodeId(comment.getRecipeBoardCommentId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeBoardRecommentDTO> findRecomments(Long commentId, String cursor, Integer size) {
+        int pageSize = CursorCodec.resolveSize(size);
+        Long cursorId = CursorCodec.decodeId(cursor);
+
+        if (cursorId == null && !commentRepository.existsById(commentId)) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD_COMMENT);
+        }
+
+        List<RecipeBoardRecomment> recomments = recommentRepository
+                .findByRecipeBoardComment_RecipeBoardCommentIdAndRecipeBoardRecommentIdGreaterThanOrderByRecipeBoardRecommentIdAsc(
+                        commentId,
+                        cursorId == null ? 0L : cursorId,
+                        PageRequest.of(0, pageSize + 1));
+
+        return toRecommentPage(recomments, pageSize);
+    }
+
+    // 댓글별 앞쪽 대댓글 (댓글마다 previewSize + 1개까지 읽어 더 있는지 판단)
+    private Map<Long, List<RecipeBoardRecomment>> findRecommentPreviews(List<RecipeBoardComment> comments,
+                                                                        int previewSize) {
+        Map<Long, List<RecipeBoardRecomment>> recommentsByCommentId = new HashMap<>();
+        if (comments.isEmpty()) return recommentsByCommentId;
+
+        List<Long> commentIds = comments.stream()
+                .map(RecipeBoardComment::getRecipeBoardCommentId)
+                .toList();
+        for (RecipeBoardRecomment recomment : recommentRepository.findFirstByCommentIds(commentIds, previewSize + 1)) {
+            recommentsByCommentId
+                    .computeIfAbsent(recomment.getRecipeBoardComment().getRecipeBoardCommentId(), id -> new ArrayList<>())
+                    .add(recomment);
+        }
+        return recommentsByCommentId;
+    }
+
+    private CursorPageDTO<RecipeBoardRecommentDTO> toRecommentPage(List<RecipeBoardRecomment> recomments, int size) {
+        return CursorPageDTO.of(recomments, size,
+                recipeBoardCommentMapper::toRecipeBoardRecommentDTO,
+                recomment -> CursorCodec.encodeId(recomment.getRecipeBoardRecommentId()));
+    }
+}
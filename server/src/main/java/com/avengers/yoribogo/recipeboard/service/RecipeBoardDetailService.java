@@ -0,0 +1,8 @@
+package com.avengers.yoribogo.recipeboard.service;
+
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDetailDTO;
+
+public interface RecipeBoardDetailService {
+
+    RecipeBoardDetailDTO findRecipeBoardDetail(Long recipeBoardId, Long userId);
+}
@@ -0,0 +1,143 @@
+package com.avengers.yoribogo.recipeboard.service;
+
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.recipeboard.cache.RecipeBoardDetailCache;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoard;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardActivityEvent;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCommentDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDetailDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardManualDetailDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardRecommentDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardViewerStateDTO;
+import com.avengers.yoribogo.recipeboard.mapper.RecipeBoardCommentMapper;
+import com.avengers.yoribogo.recipeboard.mapper.RecipeBoardMapper;
+import com.avengers.yoribogo.recipeboard.recipeboardlike.Repository.RecipeBoardLikeRepository;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardCommentRepository;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardFavoriteRepository;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardManualRepository;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRecommentRepository;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRepository;
+import com.avengers.yoribogo.recipeboard.trending.TrendingSignal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// 나만의 레시피 게시글 상세 한 번에 조회
+// 게시글·매뉴얼·댓글·대댓글은 서로 독립이라 게시글당 쿼리 4개를 동시에 실행하고 (대댓글은 댓글과 조인해 한 번에),
+// 결과는 게시글별로 캐시한다. 회원별 즐겨찾기·좋아요 여부는 캐시 조회와 동시에 읽어 덧씌운다.
+// 각 조회는 리포지토리 단위의 짧은 읽기 트랜잭션으로 실행되므로, 여기서는 트랜잭션을 열지 않는다.
+@Slf4j
+@Service
+public class RecipeBoardDetailServiceImpl implements RecipeBoardDetailService {
+
+    private final RecipeBoardRepository recipeBoardRepository;
+    private final RecipeBoardManualRepository recipeBoardManualRepository;
+    private final RecipeBoardCommentRepository recipeBoardCommentRepository;
+    private final RecipeBoardRecommentRepository recipeBoardRecommentRepository;
+    private final RecipeBoardFavoriteRepository recipeBoardFavoriteRepository;
+    private final RecipeBoardLikeRepository recipeBoardLikeRepository;
+    private final RecipeBoardMapper recipeBoardMapper;
+    private final RecipeBoardCommentMapper recipeBoardCommentMapper;
+    private final RecipeBoardDetailCache recipeBoardDetailCache;
+    private final AsyncTaskExecutor executor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public RecipeBoardDetailServiceImpl(RecipeBoardRepository recipeBoardRepository,
+                                        RecipeBoardManualRepository recipeBoardManualRepository,
+                                        RecipeBoardCommentRepository recipeBoardCommentRepository,
+                                        RecipeBoardRecommentRepository recipeBoardRecommentRepository,
+                                        RecipeBoardFavoriteRepository recipeBoardFavoriteRepository,
+                                        RecipeBoardLikeRepository recipeBoardLikeRepository,
+                                        RecipeBoardMapper recipeBoardMapper,
+                                        RecipeBoardCommentMapper recipeBoardCommentMapper,
+                                        RecipeBoardDetailCache recipeBoardDetailCache,
+                                        @Qualifier("boardDetailExecutor") AsyncTaskExecutor executor,
+                                        ApplicationEventPublisher eventPublisher) {
+        this.recipeBoardRepository = recipeBoardRepository;
+        this.recipeBoardManualRepository = recipeBoardManualRepository;
+        this.recipeBoardCommentRepository = recipeBoardCommentRepository;
+        this.recipeBoardRecommentRepository = recipeBoardRecommentRepository;
+        this.recipeBoardFavoriteRepository = recipeBoardFavoriteRepository;
+        this.recipeBoardLikeRepository = recipeBoardLikeRepository;
+        this.recipeBoardMapper = recipeBoardMapper;
+        this.recipeBoardCommentMapper = recipeBoardCommentMapper;
+        this.recipeBoardDetailCache = recipeBoardDetailCache;
+        this.executor = executor;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public RecipeBoardDetailDTO findRecipeBoardDetail(Long recipeBoardId, Long userId) {
+        // 회원별 상태는 캐시와 무관하므로 먼저 시작
+        CompletableFuture<RecipeBoardViewerStateDTO> viewer = userId == null
+                ? CompletableFuture.completedFuture(null)
+                : findViewerState(recipeBoardId, userId);
+
+        RecipeBoardDetailDTO cached = recipeBoardDetailCache.find(recipeBoardId, () -> load(recipeBoardId));
+
+        // 캐시된 객체를 그대로 고치지 않도록 회원별 상태를 덧씌운 새 객체로 반환
+        RecipeBoardDetailDTO recipeBoardDetailDTO = new RecipeBoardDetailDTO(cached.getBoard(), cached.getManuals(),
+                cached.getComments(), cached.getRecomments(), join(viewer));
+
+        // 조회수는 인기 게시글 점수에만 반영
+        eventPublisher.publishEvent(new RecipeBoardActivityEvent(recipeBoardId, TrendingSignal.VIEW, 1));
+        return recipeBoardDetailDTO;
+    }
+
+    // 게시글·매뉴얼·댓글·대댓글 동시 조회 (게시글이 없으면 NOT_FOUND_RECIPE_BOARD)
+    private RecipeBoardDetailDTO load(Long recipeBoardId) {
+        CompletableFuture<Optional<RecipeBoard>> board = CompletableFuture.supplyAsync(
+                () -> recipeBoardRepository.findById(recipeBoardId), executor);
+        CompletableFuture<List<RecipeBoardManualDetailDTO>> manuals = CompletableFuture.supplyAsync(
+                () -> recipeBoardManualRepository.findByRecipeBoardRecipeBoardIdOrderByRecipeBoardManualStepAsc(recipeBoardId)
+                        .stream()
+                        .map(recipeBoardMapper::toRecipeBoardManualDetailDTO)
+                        .toList(), executor);
+        CompletableFuture<List<RecipeBoardCommentDTO>> comments = CompletableFuture.supplyAsync(
+                () -> recipeBoardCommentMapper.toRecipeBoardCommentDTOList(
+                        recipeBoardCommentRepository.findAllByRecipeBoardId(recipeBoardId)), executor);
+        CompletableFuture<List<RecipeBoardRecommentDTO>> recomments = CompletableFuture.supplyAsync(
+                () -> recipeBoardRecommentRepository.findAllByRecipeBoardId(recipeBoardId)
+                        .stream()
+                        .map(recipeBoardCommentMapper::toRecipeBoardRecommentDTO)
+                        .toList(), executor);
+
+        // 매뉴얼 컬렉션은 따로 읽었으므로 게시글 변환 시 지연 로딩하지 않는다
+        RecipeBoard recipeBoard = join(board)
+                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD));
+        return new RecipeBoardDetailDTO(recipeBoardMapper.toResponseBoardSummaryDTO(recipeBoard),
+                join(manuals), join(comments), join(recomments), null);
+    }
+
+    // 즐겨찾기·좋아요 여부 동시 조회
+    private CompletableFuture<RecipeBoardViewerStateDTO> findViewerState(Long recipeBoardId, Long userId) {
+        CompletableFuture<Boolean> favorite = CompletableFuture.supplyAsync(
+                () -> recipeBoardFavoriteRepository.existsByUserIdAndRecipeBoard_RecipeBoardId(userId, recipeBoardId),
+                executor);
+        CompletableFuture<Boolean> liked = CompletableFuture.supplyAsync(
+                () -> recipeBoardLikeRepository.existsByUserUserIdAndRecipeBoardRecipeBoardId(userId, recipeBoardId),
+                executor);
+        return favorite.thenCombine(liked,
+                (isFavorite, isLiked) -> new RecipeBoardViewerStateDTO(userId, isFavorite, isLiked));
+    }
+
+    // 비동기 조회에서 난 예외를 그대로 전달
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
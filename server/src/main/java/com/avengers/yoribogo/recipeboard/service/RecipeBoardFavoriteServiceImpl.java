@@ -7,9 +7,10 @@ import com.avengers.yoribogo.recipeboard.domain.RecipeBoardFavorite;
 import com.avengers.yoribogo.recipeboard.dto.*;
 import com.avengers.yoribogo.recipeboard.repository.RecipeBoardFavoriteRepository;
 import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRepository;
+import com.avengers.yoribogo.recipeboard.trending.TrendingSignal;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +18,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @Transactional
@@ -24,17 +27,17 @@ public class RecipeBoardFavoriteServiceImpl implements RecipeBoardFavoriteServic
 
     private final Integer ELEMENTS_PER_PAGE = 12;
 
-    private final ModelMapper modelMapper;
     private final RecipeBoardFavoriteRepository recipeBoardFavoriteRepository;
     private final RecipeBoardRepository recipeBoardRepository;  // RecipeBoardRepository 추가
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public RecipeBoardFavoriteServiceImpl(ModelMapper modelMapper,
-                                          RecipeBoardFavoriteRepository recipeBoardFavoriteRepository,
-                                          RecipeBoardRepository recipeBoardRepository) {  // RecipeBoardRepository 의존성 주입
-        this.modelMapper = modelMapper;
+    public RecipeBoardFavoriteServiceImpl(RecipeBoardFavoriteRepository recipeBoardFavoriteRepository,
+                                          RecipeBoardRepository recipeBoardRepository,  // RecipeBoardRepository 의존성 주입
+                                          ApplicationEventPublisher eventPublisher) {
         this.recipeBoardFavoriteRepository = recipeBoardFavoriteRepository;
         this.recipeBoardRepository = recipeBoardRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -49,8 +52,12 @@ public class RecipeBoardFavoriteServiceImpl implements RecipeBoardFavoriteServic
             RecipeBoardFavorite favorite = new RecipeBoardFavorite();
             favorite.setUserId(userId);
             favorite.setRecipeBoard(recipeBoard);
+            favorite.setFavoriteCreatedAt(LocalDateTime.now());
             RecipeBoardFavorite savedFavorite = recipeBoardFavoriteRepository.save(favorite);
 
+            // 인기 게시글 점수 반영 (커밋 이후)
+            eventPublisher.publishEvent(new RecipeBoardActivityEvent(boardId, TrendingSignal.FAVORITE, 1));
+
             // ResponseFavoriteDTO로 수동 매핑
             ResponseFavoriteDTO responseFavoriteDTO = new ResponseFavoriteDTO();
             responseFavoriteDTO.setRecipeBoardFavoriteId(savedFavorite.getRecipeBoardFavoriteId());
@@ -93,6 +100,8 @@ public class RecipeBoardFavoriteServiceImpl implements RecipeBoardFavoriteServic
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD));
 
         recipeBoardFavoriteRepository.delete(favorite);
+        eventPublisher.publishEvent(new RecipeBoardActivityEvent(
+                recipeBoardId, TrendingSignal.FAVORITE, -1, favorite.getFavoriteCreatedAt()));
     }
 
     @Override
@@ -5,15 +5,16 @@ import com.avengers.yoribogo.common.exception.ErrorCode;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardComment;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardRecomment;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardRecommentStatus;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDetailChangedEvent;
 import com.avengers.yoribogo.recipeboard.dto.RecipeBoardRecommentDTO;
 import com.avengers.yoribogo.recipeboard.repository.RecipeBoardCommentRepository;
 import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRecommentRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,14 +24,16 @@ public class RecipeBoardRecommentServiceImpl implements RecipeBoardRecommentServ
     private final RecipeBoardCommentRepository recipeBoardCommentRepository;
     private final RecipeBoardRecommentRepository recommentRepository;
     private final RecipeBoardRecommentRepository recipeBoardRecommentRepository;
-
+    private final ApplicationEventPublisher eventPublisher;
 
     public RecipeBoardRecommentServiceImpl(RecipeBoardRecommentRepository recommentRepository,
                                            RecipeBoardCommentRepository recipeBoardCommentRepository,
-                                           RecipeBoardRecommentRepository recipeBoardRecommentRepository) {
+                                           RecipeBoardRecommentRepository recipeBoardRecommentRepository,
+                                           ApplicationEventPublisher eventPublisher) {
         this.recipeBoardCommentRepository = recipeBoardCommentRepository;
         this.recommentRepository = recommentRepository;
         this.recipeBoardRecommentRepository = recipeBoardRecommentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     // 대댓글 등록
@@ -52,6 +55,9 @@ public class RecipeBoardRecommentServiceImpl implements RecipeBoardRecommentServ
         // 대댓글 저장
         RecipeBoardRecomment createdRecomment = recommentRepository.save(recomment);
 
+        // 게시글 상세 캐시 무효화 (커밋 이후)
+        eventPublisher.publishEvent(new RecipeBoardDetailChangedEvent(comment.getRecipeBoardId()));
+
         // DTO로 변환하여 반환
         RecipeBoardRecommentDTO createdRecommentDTO = new RecipeBoardRecommentDTO();
         createdRecommentDTO.setRecipeBoardRecommentId(createdRecomment.getRecipeBoardRecommentId());
@@ -81,6 +87,10 @@ public class RecipeBoardRecommentServiceImpl implements RecipeBoardRecommentServ
 
         RecipeBoardRecomment updatedRecomment = recommentRepository.save(recomment);
 
+        // 게시글 상세 캐시 무효화 (커밋 이후)
+        eventPublisher.publishEvent(new RecipeBoardDetailChangedEvent(
+                updatedRecomment.getRecipeBoardComment().getRecipeBoardId()));
+
         RecipeBoardRecommentDTO updatedRecommentDTO = new RecipeBoardRecommentDTO();
         updatedRecommentDTO.setRecipeBoardRecommentId(updatedRecomment.getRecipeBoardRecommentId());
         updatedRecommentDTO.setRecipeBoardRecommentContent(updatedRecomment.getRecipeBoardRecommentContent());
@@ -100,7 +110,12 @@ public class RecipeBoardRecommentServiceImpl implements RecipeBoardRecommentServ
     public void deleteRecomment(Long recommentId) {
 
         try {
-            recommentRepository.deleteById(recommentId);
+            // 게시글 상세 캐시 무효화를 위해 게시글 ID를 알아야 하므로 조회 후 삭제
+            recommentRepository.findById(recommentId).ifPresent(recomment -> {
+                recommentRepository.delete(recomment);
+                eventPublisher.publishEvent(new RecipeBoardDetailChangedEvent(
+                        recomment.getRecipeBoardComment().getRecipeBoardId()));
+            });
         } catch (EntityNotFoundException e) {
             throw new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD_RECOMMENT);
         } catch (Exception e) {
@@ -114,20 +129,11 @@ public class RecipeBoardRecommentServiceImpl implements RecipeBoardRecommentServ
 
     // 대댓글 게시글별 조회
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<RecipeBoardRecommentDTO> getRecommentsByRecipeId(Long recipeBoardId){
 
-        // 1. 게시글에 해당하는 모든 댓글을 가져옴
-        List<RecipeBoardComment> comments = recipeBoardCommentRepository.findAllByRecipeBoardId(recipeBoardId);
-
-        // 2. 각 댓글에 달린 대댓글들을 모두 모아옴
-        List<RecipeBoardRecomment> recomments = new ArrayList<>();
-
-        for (RecipeBoardComment comment : comments) {
-            // 해당 댓글에 달린 대댓글을 모두 가져옴
-            List<RecipeBoardRecomment> commentRecomments = recipeBoardRecommentRepository.findByRecipeBoardComment_RecipeBoardCommentId(comment.getRecipeBoardCommentId());
-            recomments.addAll(commentRecomments);
-        }
+        // 1~2. 게시글의 모든 대댓글을 댓글과 함께 한 번에 가져옴 (댓글별 조회 없이)
+        List<RecipeBoardRecomment> recomments = recipeBoardRecommentRepository.findAllByRecipeBoardId(recipeBoardId);
 
         // 3. 대댓글 엔티티 리스트를 DTO 리스트로 변환
         List<RecipeBoardRecommentDTO> recommentDTOs = recomments.stream()
@@ -1,5 +1,7 @@
 package com.avengers.yoribogo.recipeboard.service;
 
+import com.avengers.yoribogo.common.CursorPageDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCardDTO;
 import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDTO;
 import com.avengers.yoribogo.recipeboard.dto.RecipeBoardManualDTO;
 import com.avengers.yoribogo.recipeboard.dto.ResponseBoardDTO;
@@ -14,6 +16,12 @@ public interface RecipeBoardService {
 
     Page<RecipeBoardDTO> findRecipeBoardByPageNo(Integer pageNo);
 
+    CursorPageDTO<RecipeBoardDTO> findRecipeBoardByCursor(String cursor, Integer size);
+
+    CursorPageDTO<RecipeBoardCardDTO> findRecipeBoardCardsByCursor(String cursor, Integer size);
+
+    Page<RecipeBoardCardDTO> findTrendingRecipeBoardCards(Integer pageNo, Integer size);
+
     ResponseBoardDTO findRecipeBoardById(Long recipeBoardId);
 
     ResponseBoardDTO addManualsToRecipeBoard(Long recipeBoardId, List<RecipeBoardManualDTO> manualDTOs);
@@ -27,4 +35,8 @@ public interface RecipeBoardService {
     Page<RecipeBoardDTO> findRecipeBoardByMenuName(String recipeBoardName, Integer pageNo);
 
     Page<RecipeBoardDTO> findRecipeBoardByUserId(Long userId, Integer pageNo);
+
+    CursorPageDTO<RecipeBoardDTO> findRecipeBoardByUserIdAndCursor(Long userId, String cursor, Integer size);
+
+    CursorPageDTO<RecipeBoardCardDTO> findRecipeBoardCardsByUserIdAndCursor(Long userId, String cursor, Integer size);
 }
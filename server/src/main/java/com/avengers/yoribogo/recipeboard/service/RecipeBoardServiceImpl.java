@@ -5,31 +5,55 @@ import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.avengers.yoribogo.common.CursorCodec;
+import com.avengers.yoribogo.common.CursorPageDTO;
+import com.avengers.yoribogo.recipe.manual.ManualStepDiff;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoard;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardManual;
 import com.avengers.yoribogo.recipeboard.domain.RecipeBoardStatus;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardActivityEvent;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCardDTO;
 import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDetailChangedEvent;
 import com.avengers.yoribogo.recipeboard.dto.RecipeBoardManualDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardRemovedEvent;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardSavedEvent;
 import com.avengers.yoribogo.recipeboard.dto.ResponseBoardDTO;
+import com.avengers.yoribogo.recipeboard.image.ManualImageUploader;
+import com.avengers.yoribogo.recipeboard.image.ManualImageUploader.UploadedImage;
+import com.avengers.yoribogo.recipeboard.mapper.RecipeBoardMapper;
 import com.avengers.yoribogo.recipeboard.repository.RecipeBoardManualRepository;
 import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRepository;
+import com.avengers.yoribogo.recipeboard.trending.TrendingBoardRanking;
+import com.avengers.yoribogo.recipeboard.trending.TrendingSignal;
 import com.avengers.yoribogo.common.exception.CommonException;
 import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.common.image.ImageUploadPurpose;
+import com.avengers.yoribogo.common.image.ImageVariantGenerator;
+import com.avengers.yoribogo.common.image.ImageVariantTarget;
+import com.avengers.yoribogo.common.image.PresignedImageUploader;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -38,81 +62,111 @@ public class RecipeBoardServiceImpl implements RecipeBoardService {
 
     public final Integer ELEMENTS_PER_PAGE = 12;
 
-    private final ModelMapper modelMapper;
+    // 첫 페이지 커서 조회 시 사용하는 상한값 (DATETIME 최댓값)
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final RecipeBoardMapper recipeBoardMapper;
     private final RecipeBoardRepository recipeBoardRepository;
     private final RecipeBoardManualRepository recipeBoardManualRepository;
     private final AmazonS3Client s3Client;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final PresignedImageUploader presignedImageUploader;
+    private final ManualImageUploader manualImageUploader;
+    private final TransactionTemplate transactionTemplate;
+    private final TrendingBoardRanking trendingBoardRanking;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public RecipeBoardServiceImpl(ModelMapper modelMapper,
+    public RecipeBoardServiceImpl(RecipeBoardMapper recipeBoardMapper,
                                   RecipeBoardRepository recipeBoardRepository,
                                   RecipeBoardManualRepository recipeBoardManualRepository,
-                                  AmazonS3Client s3Client) {
-        this.modelMapper = modelMapper;
+                                  AmazonS3Client s3Client,
+                                  ImageVariantGenerator imageVariantGenerator,
+                                  PresignedImageUploader presignedImageUploader,
+                                  ManualImageUploader manualImageUploader,
+                                  TransactionTemplate transactionTemplate,
+                                  TrendingBoardRanking trendingBoardRanking,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.recipeBoardMapper = recipeBoardMapper;
         this.recipeBoardRepository = recipeBoardRepository;
         this.recipeBoardManualRepository = recipeBoardManualRepository;
         this.s3Client = s3Client;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.presignedImageUploader = presignedImageUploader;
+        this.manualImageUploader = manualImageUploader;
+        this.transactionTemplate = transactionTemplate;
+        this.trendingBoardRanking = trendingBoardRanking;
+        this.eventPublisher = eventPublisher;
     }
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    // 단계 이미지는 트랜잭션 밖에서 병렬로 모두 올린 뒤 매뉴얼을 저장한다. (업로드 동안 DB 커넥션을 잡지 않음)
+    // 저장에 실패하면 올린 이미지를 지운다.
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseBoardDTO addManualsToRecipeBoard(Long recipeBoardId, List<RecipeBoardManualDTO> manualDTOs) {
-        // 게시글 찾기
-        RecipeBoard recipeBoard = recipeBoardRepository.findById(recipeBoardId)
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD));
-
-        List<RecipeBoardManual> manualList = new ArrayList<>();
-
-        for (RecipeBoardManualDTO manualDTO : manualDTOs) {
-            RecipeBoardManual manual = modelMapper.map(manualDTO, RecipeBoardManual.class);
-            manual.setRecipeBoard(recipeBoard);  // 게시글과 메뉴얼 연결
-
-            // 이미지가 있으면 업로드
-            if (manualDTO.getRecipeBoardManualImage() != null && !manualDTO.getRecipeBoardManualImage().isEmpty()) {
-                String imageUrl = uploadManualImage(manualDTO.getRecipeBoardManualImage(), recipeBoardId, manualDTO.getRecipeBoardManualStep());
-                manual.setRecipeBoardManualImage(imageUrl);
-            }
-
-            manualList.add(manual);  // 메뉴얼 리스트에 추가
+        // 게시글 확인
+        if (!recipeBoardRepository.existsById(recipeBoardId)) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD);
         }
 
-        // 메뉴얼 저장
-        recipeBoardManualRepository.saveAll(manualList);
+        // 이미지 업로드 (실패 시 올린 이미지를 지우고 예외)
+        List<UploadedImage> uploadedImages = manualImageUploader.uploadAll(recipeBoardId, manualDTOs);
 
-        // 게시글 정보를 다시 반환
-        return modelMapper.map(recipeBoard, ResponseBoardDTO.class);
-    }
+        ResponseBoardDTO response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                RecipeBoard recipeBoard = recipeBoardRepository.findById(recipeBoardId)
+                        .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD));
+
+                List<RecipeBoardManual> manualList = new ArrayList<>();
+                for (int i = 0; i < manualDTOs.size(); i++) {
+                    RecipeBoardManual manual = recipeBoardMapper.toRecipeBoardManual(manualDTOs.get(i));
+                    manual.setRecipeBoard(recipeBoard);  // 게시글과 메뉴얼 연결
+                    if (uploadedImages.get(i) != null) {
+                        manual.setRecipeBoardManualImage(uploadedImages.get(i).url());
+                    }
+                    manualList.add(manual);  // 메뉴얼 리스트에 추가
+                }
 
-    // 매뉴얼 이미지 업로드 메서드
-    public String uploadManualImage(MultipartFile manualImage, Long recipeBoardId, int manualStep) {
-        String originalFilename = manualImage.getOriginalFilename();
-        String fileExtension = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase();
-        String fileName = "manual_" + recipeBoardId + "_" + manualStep + fileExtension;  // 파일명을 manual로 구분
+                // 직접 업로드한 이미지는 기존 단계와 같은 객체를 가리키지 않는지 확인
+                if (uploadedImages.stream().anyMatch(uploaded -> uploaded != null && uploaded.clientUploaded())) {
+                    List<RecipeBoardManual> allManuals = new ArrayList<>(
+                            recipeBoardManualRepository.findByRecipeBoardRecipeBoardId(recipeBoardId));
+                    allManuals.addAll(manualList);
+                    requireDistinctImages(allManuals);
+                }
 
-        try {
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(manualImage.getSize());
+                // 메뉴얼 저장
+                recipeBoardManualRepository.saveAll(manualList);
 
-            String contentType = manualImage.getContentType();
-            if (contentType != null) {
-                metadata.setContentType(contentType);
-            } else {
-                metadata.setContentType("application/octet-stream");
-            }
+                // 게시글 상세 캐시 무효화 (커밋 이후)
+                eventPublisher.publishEvent(new RecipeBoardDetailChangedEvent(recipeBoardId));
 
-            metadata.setContentDisposition("inline");
+                // 게시글 정보를 다시 반환
+                return recipeBoardMapper.toResponseBoardDTO(recipeBoard);
+            });
+        } catch (RuntimeException e) {
+            manualImageUploader.discard(uploadedImages);
+            throw e;
+        }
 
-            // S3에 파일 업로드
-            s3Client.putObject(new PutObjectRequest(bucket, fileName, manualImage.getInputStream(), metadata));
+        manualImageUploader.publish(recipeBoardId, uploadedImages);
+        return response;
+    }
 
-            // 업로드된 파일의 URL 반환
-            return s3Client.getUrl(bucket, fileName).toString();
-        } catch (AmazonClientException | IOException e) {
-            log.error("S3에 매뉴얼 이미지 업로드 실패", e);
-            throw new CommonException(ErrorCode.FILE_UPLOAD_ERROR);
+    // 한 이미지를 두 단계가 함께 가리키지 않도록 확인 (한쪽이 바뀌거나 삭제될 때 다른 쪽 이미지까지 지워지지 않게)
+    private static Set<String> requireDistinctImages(List<RecipeBoardManual> manuals) {
+        Set<String> images = new HashSet<>();
+        for (RecipeBoardManual manual : manuals) {
+            String image = manual.getRecipeBoardManualImage();
+            if (image != null && !images.add(image)) {
+                throw new CommonException(ErrorCode.INVALID_UPLOAD_KEY);
+            }
         }
+        return images;
     }
 
     // 매뉴얼 이미지 삭제 메서드
@@ -126,6 +180,7 @@ public class RecipeBoardServiceImpl implements RecipeBoardService {
             // S3에서 파일 삭제 요청
             s3Client.deleteObject(new DeleteObjectRequest(bucket, fileName));
             log.info("Successfully deleted manual image from S3: " + fileName);
+            imageVariantGenerator.deleteVariants(fileName);
         } catch (AmazonClientException e) {
             log.error("Failed to delete manual image from S3: " + fileName, e);
         }
@@ -155,6 +210,50 @@ public class RecipeBoardServiceImpl implements RecipeBoardService {
         return convertEntityPageToDTOPage(recipeBoardPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeBoardDTO> findRecipeBoardByCursor(String cursor, Integer size) {
+        int pageSize = CursorCodec.resolveSize(size);
+        CursorCodec.TimeAndId position = CursorCodec.decodeTimeAndId(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (count 쿼리, OFFSET 없음)
+        List<RecipeBoard> recipeBoardList = recipeBoardRepository.findRecipeBoardBeforeCursor(
+                position == null ? MAX_CREATED_AT : position.time(),
+                position == null ? Long.MAX_VALUE : position.id(),
+                PageRequest.of(0, pageSize + 1));
+
+        if (position == null && recipeBoardList.isEmpty()) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD);
+        }
+
+        return CursorPageDTO.of(recipeBoardList, pageSize,
+                recipeBoardMapper::toRecipeBoardDTO,
+                recipeBoard -> CursorCodec.encodeTimeAndId(
+                        recipeBoard.getRecipeBoardCreatedAt(), recipeBoard.getRecipeBoardId()));
+    }
+
+    // 목록 카드 전용 조회 (프로젝션 SQL 한 번, 엔티티를 읽지 않음)
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeBoardCardDTO> findRecipeBoardCardsByCursor(String cursor, Integer size) {
+        int pageSize = CursorCodec.resolveSize(size);
+        CursorCodec.TimeAndId position = CursorCodec.decodeTimeAndId(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<RecipeBoardCardDTO> cardList = recipeBoardRepository.findCardsBeforeCursor(
+                position == null ? MAX_CREATED_AT : position.time(),
+                position == null ? Long.MAX_VALUE : position.id(),
+                PageRequest.of(0, pageSize + 1));
+
+        if (position == null && cardList.isEmpty()) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD);
+        }
+
+        return CursorPageDTO.of(cardList, pageSize,
+                card -> card,
+                card -> CursorCodec.encodeTimeAndId(card.getRecipeBoardCreatedAt(), card.getRecipeBoardId()));
+    }
+
     @Override
     public ResponseBoardDTO updateRecipeBoard(Long recipeBoardId, RecipeBoardDTO updateRecipeBoardDTO, MultipartFile boardImage) {
 
@@ -178,80 +277,126 @@ public class RecipeBoardServiceImpl implements RecipeBoardService {
 
             String imageUrl = uploadBoardImage(boardImage, recipeBoard.getRecipeBoardId());
             recipeBoard.setRecipeBoardImage(imageUrl);
+        } else if (StringUtils.hasText(updateRecipeBoardDTO.getBoardImageKey())) {
+            // 직접 업로드한 이미지: 작성자 ID로 발급된 키인지와 업로드 여부 확인 후 연결
+            String boardImageKey = updateRecipeBoardDTO.getBoardImageKey();
+            String imageUrl = presignedImageUploader.confirm(ImageUploadPurpose.BOARD, recipeBoard.getUserId(), boardImageKey);
+            if (recipeBoardRepository.existsByUserIdAndRecipeBoardImageAndRecipeBoardIdNot(
+                    recipeBoard.getUserId(), imageUrl, recipeBoard.getRecipeBoardId())) {
+                throw new CommonException(ErrorCode.INVALID_UPLOAD_KEY);
+            }
+            if (recipeBoard.getRecipeBoardImage() != null && !recipeBoard.getRecipeBoardImage().equals(imageUrl)) {
+                deleteBoardImage(recipeBoard.getRecipeBoardImage());
+            }
+            recipeBoard.setRecipeBoardImage(imageUrl);
+            imageVariantGenerator.generateAsync(boardImageKey, ImageVariantTarget.RECIPE_BOARD, recipeBoard.getRecipeBoardId());
         }
 
         recipeBoard = recipeBoardRepository.save(recipeBoard);
-        return modelMapper.map(recipeBoard, ResponseBoardDTO.class);
+        publishSaved(recipeBoard);
+        return recipeBoardMapper.toResponseBoardDTO(recipeBoard);
     }
 
+    // 새 단계 이미지는 트랜잭션 밖에서 병렬로 모두 올린 뒤 매뉴얼을 수정한다.
+    // 교체되거나 삭제된 단계의 기존 이미지는 커밋된 뒤에 지우고, 저장에 실패하면 새로 올린 이미지를 지운다.
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseBoardDTO updateRecipeBoardManual(Long recipeBoardId, List<RecipeBoardManualDTO> updateRecipeBoardManualDTOs) {
-        RecipeBoard recipeBoard = recipeBoardRepository.findById(recipeBoardId)
-                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD));
-
-        // 기존 매뉴얼 리스트 불러오기
-        List<RecipeBoardManual> existingManuals = recipeBoardManualRepository.findByRecipeBoardRecipeBoardId(recipeBoardId);
-
-        // 기존 매뉴얼을 Map으로 변환 (step 기준으로 관리하기 위해)
-        Map<Integer, RecipeBoardManual> existingManualMap = existingManuals.stream()
-                .collect(Collectors.toMap(RecipeBoardManual::getRecipeBoardManualStep, manual -> manual));
-
-        // 새로 등록하거나 수정된 매뉴얼 리스트
-        List<RecipeBoardManual> manualList = new ArrayList<>();
-
-        for (RecipeBoardManualDTO manualDTO : updateRecipeBoardManualDTOs) {
-            RecipeBoardManual manual = existingManualMap.get(manualDTO.getRecipeBoardManualStep());
+        if (!recipeBoardRepository.existsById(recipeBoardId)) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD);
+        }
 
-            if (manual != null) {
-                // 기존 매뉴얼이 있는 경우: 수정
-                manual.setRecipeBoardManualContent(manualDTO.getRecipeBoardManualContent());
+        // 이미지 업로드 (실패 시 올린 이미지를 지우고 예외)
+        List<UploadedImage> uploadedImages = manualImageUploader.uploadAll(recipeBoardId, updateRecipeBoardManualDTOs);
+        Map<RecipeBoardManualDTO, String> imageUrls = new IdentityHashMap<>();
+        for (int i = 0; i < updateRecipeBoardManualDTOs.size(); i++) {
+            if (uploadedImages.get(i) != null) {
+                imageUrls.put(updateRecipeBoardManualDTOs.get(i), uploadedImages.get(i).url());
+            }
+        }
 
-                // 이미지 수정이 필요한 경우
-                if (manualDTO.getRecipeBoardManualImage() != null && !manualDTO.getRecipeBoardManualImage().isEmpty()) {
-                    // 기존 이미지가 있다면 삭제
-                    if (manual.getRecipeBoardManualImage() != null) {
-                        deleteManualImage(manual.getRecipeBoardManualImage());
+        // 커밋 이후 지울 기존 이미지
+        List<String> staleImages = new ArrayList<>();
+        ResponseBoardDTO response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                RecipeBoard recipeBoard = recipeBoardRepository.findById(recipeBoardId)
+                        .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD));
+
+                // 기존 매뉴얼 리스트 불러오기
+                List<RecipeBoardManual> existingManuals = recipeBoardManualRepository.findByRecipeBoardRecipeBoardId(recipeBoardId);
+
+                // 단계 번호와 내용으로 비교해 바뀐 단계만 추가·수정·삭제 (이미지는 새 파일이 올라온 경우에만 교체)
+                ManualStepDiff<RecipeBoardManual, RecipeBoardManualDTO> diff = ManualStepDiff.compute(
+                        existingManuals,
+                        RecipeBoardManual::getRecipeBoardManualStep,
+                        updateRecipeBoardManualDTOs,
+                        RecipeBoardManualDTO::getRecipeBoardManualStep,
+                        (manual, manualDTO) -> Objects.equals(
+                                manual.getRecipeBoardManualContent(), manualDTO.getRecipeBoardManualContent()));
+
+                // 기존 매뉴얼이 있는 경우: 수정 (변경 감지로 커밋 시 UPDATE 배치)
+                List<ManualStepDiff.Match<RecipeBoardManual, RecipeBoardManualDTO>> matches =
+                        new ArrayList<>(diff.getUpdates());
+                matches.addAll(diff.getUnchanged());
+                for (ManualStepDiff.Match<RecipeBoardManual, RecipeBoardManualDTO> match : matches) {
+                    RecipeBoardManual manual = match.stored();
+                    manual.setRecipeBoardManualContent(match.requested().getRecipeBoardManualContent());
+
+                    // 이미지 수정이 필요한 경우
+                    String imageUrl = imageUrls.get(match.requested());
+                    if (imageUrl != null && !imageUrl.equals(manual.getRecipeBoardManualImage())) {
+                        // 같은 이미지 키를 다시 보낸 경우는 그대로 두고, 다른 이미지로 바뀐 경우만 기존 이미지 삭제
+                        if (manual.getRecipeBoardManualImage() != null) {
+                            staleImages.add(manual.getRecipeBoardManualImage());
+                        }
+                        manual.setRecipeBoardManualImage(imageUrl);
                     }
-                    // 새 이미지 업로드
-                    String imageUrl = uploadManualImage(manualDTO.getRecipeBoardManualImage(), recipeBoardId, manualDTO.getRecipeBoardManualStep());
-                    manual.setRecipeBoardManualImage(imageUrl);
                 }
 
-            } else {
-                // 새로운 매뉴얼이 있는 경우: 추가
-                manual = modelMapper.map(manualDTO, RecipeBoardManual.class);
-                manual.setRecipeBoard(recipeBoard);
-
-                // 새로운 이미지가 있으면 업로드
-                if (manualDTO.getRecipeBoardManualImage() != null && !manualDTO.getRecipeBoardManualImage().isEmpty()) {
-                    String imageUrl = uploadManualImage(manualDTO.getRecipeBoardManualImage(), recipeBoardId, manualDTO.getRecipeBoardManualStep());
-                    manual.setRecipeBoardManualImage(imageUrl);
+                // 새로운 매뉴얼이 있는 경우: 추가 (INSERT 배치)
+                List<RecipeBoardManual> manualList = new ArrayList<>(diff.getInserts().size());
+                for (RecipeBoardManualDTO manualDTO : diff.getInserts()) {
+                    RecipeBoardManual manual = recipeBoardMapper.toRecipeBoardManual(manualDTO);
+                    manual.setRecipeBoard(recipeBoard);
+                    manual.setRecipeBoardManualImage(imageUrls.get(manualDTO));
+                    manualList.add(manual);
                 }
-            }
 
-            // 수정 또는 새로 추가된 매뉴얼 리스트에 추가
-            manualList.add(manual);
-        }
+                // 수정 후 남는 단계끼리 같은 이미지를 가리키지 않는지 확인하고, 남는 단계가 쓰는 이미지는 지우지 않음
+                // (삭제되는 단계의 이미지를 다른 단계로 옮긴 경우)
+                List<RecipeBoardManual> remainingManuals = new ArrayList<>(matches.size() + manualList.size());
+                matches.forEach(match -> remainingManuals.add(match.stored()));
+                remainingManuals.addAll(manualList);
+                Set<String> remainingImages = requireDistinctImages(remainingManuals);
+
+                recipeBoardManualRepository.saveAll(manualList);
+
+                // 삭제 처리: 업데이트 요청에 없는 기존 매뉴얼을 DELETE 한 번으로 삭제
+                if (!diff.getDeletes().isEmpty()) {
+                    for (RecipeBoardManual manualToDelete : diff.getDeletes()) {
+                        if (manualToDelete.getRecipeBoardManualImage() != null) {
+                            staleImages.add(manualToDelete.getRecipeBoardManualImage());
+                        }
+                    }
+                    recipeBoardManualRepository.deleteAllInBatch(diff.getDeletes());
+                }
+                staleImages.removeIf(remainingImages::contains);
 
-        // 삭제할 매뉴얼 리스트: 업데이트 요청에 없는 기존 매뉴얼은 삭제 대상
-        List<RecipeBoardManual> manualsToDelete = existingManuals.stream()
-                .filter(manual -> updateRecipeBoardManualDTOs.stream()
-                        .noneMatch(dto -> dto.getRecipeBoardManualStep() == manual.getRecipeBoardManualStep()))
-                .collect(Collectors.toList());
+                // 게시글 상세 캐시 무효화 (커밋 이후)
+                eventPublisher.publishEvent(new RecipeBoardDetailChangedEvent(recipeBoardId));
 
-        // 삭제 처리
-        for (RecipeBoardManual manualToDelete : manualsToDelete) {
-            if (manualToDelete.getRecipeBoardManualImage() != null) {
-                deleteManualImage(manualToDelete.getRecipeBoardManualImage());
-            }
-            recipeBoardManualRepository.delete(manualToDelete);
+                // 게시글 정보를 반환
+                return recipeBoardMapper.toResponseBoardDTO(recipeBoard);
+            });
+        } catch (RuntimeException e) {
+            manualImageUploader.discard(uploadedImages);
+            throw e;
         }
 
-        // 새로 등록되거나 수정된 매뉴얼을 저장
-        recipeBoardManualRepository.saveAll(manualList);
-
-        // 게시글 정보를 반환
-        return modelMapper.map(recipeBoard, ResponseBoardDTO.class);
+        manualImageUploader.publish(recipeBoardId, uploadedImages);
+        staleImages.forEach(this::deleteManualImage);
+        return response;
     }
 
 
@@ -261,7 +406,47 @@ public class RecipeBoardServiceImpl implements RecipeBoardService {
         RecipeBoard recipeBoard = recipeBoardRepository.findById(recipeBoardId)
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD));
 
-        return modelMapper.map(recipeBoard, ResponseBoardDTO.class);
+        // 조회수는 인기 게시글 점수에만 반영
+        eventPublisher.publishEvent(new RecipeBoardActivityEvent(recipeBoardId, TrendingSignal.VIEW, 1));
+
+        return recipeBoardMapper.toResponseBoardDTO(recipeBoard);
+    }
+
+    // 인기 게시글 카드 조회 (Redis 순위에서 페이지만큼 ID를 꺼내 기본 키로 한 번에 조회, 테이블을 훑지 않음)
+    @Override
+    @Transactional(readOnly = true)
+    public Page<RecipeBoardCardDTO> findTrendingRecipeBoardCards(Integer pageNo, Integer size) {
+        // 페이지 번호 유효성 검사
+        if (pageNo == null || pageNo < 1) {
+            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
+        Pageable pageable = PageRequest.of(pageNo - 1, CursorCodec.resolveSize(size));
+
+        List<Long> recipeBoardIds = trendingBoardRanking.findIds(pageable.getOffset(), pageable.getPageSize());
+        long total = trendingBoardRanking.size();
+        if (recipeBoardIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        Map<Long, RecipeBoardCardDTO> cardsById = new HashMap<>();
+        for (RecipeBoardCardDTO card : recipeBoardRepository.findCardsByIds(recipeBoardIds)) {
+            cardsById.put(card.getRecipeBoardId(), card);
+        }
+
+        // 순위 순서대로 정렬, 그 사이 삭제된 게시글은 순위에서 뺀다
+        List<RecipeBoardCardDTO> cardList = new ArrayList<>(recipeBoardIds.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long recipeBoardId : recipeBoardIds) {
+            RecipeBoardCardDTO card = cardsById.get(recipeBoardId);
+            if (card != null) {
+                cardList.add(card);
+            } else {
+                missingIds.add(recipeBoardId);
+            }
+        }
+        trendingBoardRanking.remove(missingIds);
+
+        return new PageImpl<>(cardList, pageable, total);
     }
 
     @Override
@@ -306,18 +491,69 @@ public class RecipeBoardServiceImpl implements RecipeBoardService {
         return convertEntityPageToDTOPage(recipeBoardPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeBoardDTO> findRecipeBoardByUserIdAndCursor(Long userId, String cursor, Integer size) {
+        int pageSize = CursorCodec.resolveSize(size);
+        Long cursorId = CursorCodec.decodeId(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (count 쿼리, OFFSET 없음)
+        List<RecipeBoard> recipeBoardList = recipeBoardRepository.findByUserIdAndRecipeBoardIdLessThanOrderByRecipeBoardIdDesc(
+                userId,
+                cursorId == null ? Long.MAX_VALUE : cursorId,
+                PageRequest.of(0, pageSize + 1));
+
+        if (cursorId == null && recipeBoardList.isEmpty()) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD);
+        }
+
+        return CursorPageDTO.of(recipeBoardList, pageSize,
+                recipeBoardMapper::toRecipeBoardDTO,
+                recipeBoard -> CursorCodec.encodeId(recipeBoard.getRecipeBoardId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RecipeBoardCardDTO> findRecipeBoardCardsByUserIdAndCursor(Long userId, String cursor, Integer size) {
+        int pageSize = CursorCodec.resolveSize(size);
+        Long cursorId = CursorCodec.decodeId(cursor);
+
+        List<RecipeBoardCardDTO> cardList = recipeBoardRepository.findCardsByUserIdBeforeCursor(
+                userId,
+                cursorId == null ? Long.MAX_VALUE : cursorId,
+                PageRequest.of(0, pageSize + 1));
+
+        if (cursorId == null && cardList.isEmpty()) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD);
+        }
+
+        return CursorPageDTO.of(cardList, pageSize,
+                card -> card,
+                card -> CursorCodec.encodeId(card.getRecipeBoardId()));
+    }
+
     @Override
     public void removeRecipeBoard(Long recipeBoardId) {
         RecipeBoard existingBoard = recipeBoardRepository.findById(recipeBoardId)
                 .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_RECIPE_BOARD));
 
         recipeBoardRepository.delete(existingBoard);
+        eventPublisher.publishEvent(new RecipeBoardRemovedEvent(recipeBoardId));
+    }
+
+    // 게시글 변경 사항을 재료 색인에 반영하도록 이벤트 발행 (커밋 이후 처리)
+    private void publishSaved(RecipeBoard recipeBoard) {
+        eventPublisher.publishEvent(new RecipeBoardSavedEvent(
+                recipeBoard.getRecipeBoardId(),
+                recipeBoard.getRecipeBoardMenuName(),
+                recipeBoard.getRecipeBoardIngredient(),
+                recipeBoard.getRecipeBoardImage()));
     }
 
 
     private Page<RecipeBoardDTO> convertEntityPageToDTOPage(Page<RecipeBoard> recipeBoardPage) {
         List<RecipeBoardDTO> recipeBoardDTOList = recipeBoardPage.getContent().stream()
-                .map(recipeBoard -> modelMapper.map(recipeBoard, RecipeBoardDTO.class))
+                .map(recipeBoardMapper::toRecipeBoardDTO)
                 .toList();
 
         return new PageImpl<>(recipeBoardDTOList, recipeBoardPage.getPageable(), recipeBoardPage.getTotalElements());
@@ -325,8 +561,19 @@ public class RecipeBoardServiceImpl implements RecipeBoardService {
 
     @Override
     public ResponseBoardDTO registRecipeBoard(RecipeBoardDTO registRecipeBoardDTO, MultipartFile boardImage) {
+        // 직접 업로드한 이미지는 게시글 저장 전에 확인 (없는 이미지로 게시글이 생기지 않도록)
+        String boardImageKey = registRecipeBoardDTO.getBoardImageKey();
+        String uploadedImageUrl = null;
+        if ((boardImage == null || boardImage.isEmpty()) && StringUtils.hasText(boardImageKey)) {
+            uploadedImageUrl = presignedImageUploader.confirm(
+                    ImageUploadPurpose.BOARD, registRecipeBoardDTO.getUserId(), boardImageKey);
+            if (recipeBoardRepository.existsByUserIdAndRecipeBoardImage(registRecipeBoardDTO.getUserId(), uploadedImageUrl)) {
+                throw new CommonException(ErrorCode.INVALID_UPLOAD_KEY);
+            }
+        }
+
         // 1. RecipeBoard 게시글 저장 준비
-        RecipeBoard newRecipeBoard = modelMapper.map(registRecipeBoardDTO, RecipeBoard.class);
+        RecipeBoard newRecipeBoard = recipeBoardMapper.toRecipeBoard(registRecipeBoardDTO);
         newRecipeBoard.setUserId(registRecipeBoardDTO.getUserId());  // User ID 설정
 
         // 서버에서 자동으로 설정할 필드
@@ -346,10 +593,15 @@ public class RecipeBoardServiceImpl implements RecipeBoardService {
 
             // 이미지가 업로드된 이후에 다시 저장
             newRecipeBoard = recipeBoardRepository.save(newRecipeBoard);
+        } else if (uploadedImageUrl != null) {
+            newRecipeBoard.setRecipeBoardImage(uploadedImageUrl);
+            imageVariantGenerator.generateAsync(boardImageKey, ImageVariantTarget.RECIPE_BOARD, newRecipeBoard.getRecipeBoardId());
         }
 
+        publishSaved(newRecipeBoard);
+
         // 4. 저장된 RecipeBoard 객체를 ResponseBoardDTO로 변환하여 반환
-        return modelMapper.map(newRecipeBoard, ResponseBoardDTO.class);
+        return recipeBoardMapper.toResponseBoardDTO(newRecipeBoard);
     }
 
     /** 설명.
@@ -382,6 +634,9 @@ public class RecipeBoardServiceImpl implements RecipeBoardService {
             // S3에 파일 업로드
             s3Client.putObject(new PutObjectRequest(bucket, fileName, boardImage.getInputStream(), metadata));
 
+            // 크기별 파생본 생성 (커밋 이후 비동기)
+            imageVariantGenerator.generateAsync(fileName, ImageVariantTarget.RECIPE_BOARD, recipeBoardId);
+
             // 업로드된 파일의 URL 반환
             return s3Client.getUrl(bucket, fileName).toString();
         } catch (AmazonClientException | IOException e) {
@@ -405,6 +660,7 @@ public class RecipeBoardServiceImpl implements RecipeBoardService {
             // S3에서 파일 삭제 요청
             s3Client.deleteObject(new DeleteObjectRequest(bucket, fileName));
             log.info("Successfully deleted image from S3: " + fileName);
+            imageVariantGenerator.deleteVariants(fileName);
         } catch (AmazonClientException e) {
             log.error("Failed to delete image from S3: " + fileName, e);
         }
@@ -0,0 +1,190 @@
+package com.avengers.yoribogo.recipeboard.trending;
+
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardActivityEvent;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardRemovedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// 인기 게시글 순위 (Redis sorted set, 모든 서버가 공유)
+// 좋아요·댓글·즐겨찾기·조회가 일어날 때마다 가중치 × 2^((지금 - 기준 시각) / 반감기)를 더한다.
+// 모든 점수에 같은 배수를 곱해도 순서는 그대로이므로, 이 값은 "반감기마다 절반으로 줄어드는 점수"와 순위가 같다.
+// 덕분에 기존 점수를 다시 계산하지 않고 ZINCRBY 한 번(O(log n))으로 반영하며, 조회도 ZREVRANGE 한 번이다.
+// 점수가 계속 커지지 않도록 기준 시각이 rebaseHalfLives 반감기만큼 지나면 전체 점수를 한 번에 줄이고 기준 시각을 옮긴다.
+// 취소(좋아요 취소 등)는 원래 활동 시각의 배수로 빼서 그 활동이 더했던 만큼만 되돌린다.
+// (기준 시각을 옮길 때 더했던 값도 같은 비율로 줄었으므로, 옮긴 뒤에도 원래 시각 - 새 기준 시각으로 계산하면 그대로 맞다)
+// 원래 시각을 모르는 취소는 반영하지 않고, 순위에 없는 게시글은 취소할 점수가 없으므로 건너뛴다. 계산 오차로 음수가 되면 0으로 맞춘다.
+// Redis 오류는 순위에만 영향을 주므로 기록만 하고 요청은 그대로 성공시킨다.
+@Slf4j
+@Component
+public class TrendingBoardRanking {
+
+    static final String RANKING_KEY = "recipe-board:trending";
+    static final String EPOCH_KEY = "recipe-board:trending:epoch";
+
+    // 기준 시각을 읽어(없으면 지금으로 정함) 점수를 더하고, 오래됐으면 전체 점수를 줄인 뒤 기준 시각을 옮긴다
+    // 서버 간 시계 차이를 피하려고 Redis 서버 시간을 사용한다. 활동 시각(ARGV[7])은 취소할 때만 넘긴다.
+    static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local weight = tonumber(ARGV[2])
+            local halfLife = tonumber(ARGV[3])
+            local maxSize = tonumber(ARGV[5])
+            local now = tonumber(redis.call('TIME')[1])
+            local occurredAt = tonumber(ARGV[7]) or now
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+                epoch = now
+                redis.call('SET', KEYS[2], tostring(now))
+            end
+            local elapsed = math.max(0, now - epoch)
+            if elapsed > halfLife * tonumber(ARGV[4]) then
+                local factor = 2 ^ (-elapsed / halfLife)
+                if redis.call('EXISTS', KEYS[1]) == 1 then
+                    redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', tostring(factor))
+                    redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[6])
+                end
+                redis.call('SET', KEYS[2], tostring(now))
+                epoch = now
+            end
+            if weight < 0 and not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                return redis.call('ZCARD', KEYS[1])
+            end
+            local score = tonumber(redis.call('ZINCRBY', KEYS[1], tostring(weight * 2 ^ ((occurredAt - epoch) / halfLife)), ARGV[1]))
+            if score < 0 then
+                redis.call('ZADD', KEYS[1], 0, ARGV[1])
+            end
+            local size = redis.call('ZCARD', KEYS[1])
+            if size > maxSize then
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, size - maxSize - 1)
+            end
+            return size
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 점수가 절반으로 줄어드는 시간
+    @Value("${recipe-board.trending.half-life-seconds:86400}")
+    private long halfLifeSeconds;
+
+    // 기준 시각을 옮기는 주기 (반감기 단위, 점수가 2^이 값 배 이상 커지지 않음)
+    @Value("${recipe-board.trending.rebase-half-lives:32}")
+    private int rebaseHalfLives;
+
+    // 순위에 남겨둘 최대 게시글 수 (넘으면 점수가 낮은 것부터 뺀다)
+    @Value("${recipe-board.trending.max-size:10000}")
+    private long maxSize;
+
+    // 기준 시각을 옮길 때 이 점수 이하로 식은 게시글은 뺀다
+    @Value("${recipe-board.trending.min-score:0.01}")
+    private double minScore;
+
+    @Value("${recipe-board.trending.weight.like:3}")
+    private double likeWeight;
+
+    @Value("${recipe-board.trending.weight.comment:4}")
+    private double commentWeight;
+
+    @Value("${recipe-board.trending.weight.favorite:5}")
+    private double favoriteWeight;
+
+    @Value("${recipe-board.trending.weight.view:0.2}")
+    private double viewWeight;
+
+    @Autowired
+    public TrendingBoardRanking(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 게시글 활동 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeBoardActivity(RecipeBoardActivityEvent event) {
+        record(event.getRecipeBoardId(), event.getSignal(), event.getDelta(), event.getOccurredAt());
+    }
+
+    // 삭제된 게시글은 순위에서 뺀다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecipeBoardRemoved(RecipeBoardRemovedEvent event) {
+        remove(List.of(event.getRecipeBoardId()));
+    }
+
+    // 취소(delta < 0)는 원래 활동 시각(occurredAt)이 있어야 반영한다
+    public void record(Long recipeBoardId, TrendingSignal signal, int delta, LocalDateTime occurredAt) {
+        if (recipeBoardId == null || delta == 0) return;
+        if (delta < 0 && occurredAt == null) {
+            counter(signal, "skipped").increment();
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(RANKING_KEY, EPOCH_KEY),
+                    recipeBoardId.toString(),
+                    Double.toString(weight(signal) * delta),
+                    Long.toString(halfLifeSeconds),
+                    Integer.toString(rebaseHalfLives),
+                    Long.toString(maxSize),
+                    Double.toString(minScore),
+                    delta < 0 ? Long.toString(occurredAt.atZone(ZoneId.systemDefault()).toEpochSecond()) : "");
+            counter(signal, delta > 0 ? "added" : "retracted").increment();
+        } catch (Exception e) {
+            log.warn("인기 게시글 점수 반영 실패: 게시글 ID {}, {}", recipeBoardId, signal, e);
+        }
+    }
+
+    // 점수 순 게시글 ID (offset부터 count개)
+    public List<Long> findIds(long offset, int count) {
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(RANKING_KEY, offset, offset + count - 1);
+        List<Long> ids = new ArrayList<>(members == null ? 0 : members.size());
+        if (members != null) {
+            for (String member : members) {
+                ids.add(Long.valueOf(member));
+            }
+        }
+        return ids;
+    }
+
+    public long size() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(RANKING_KEY);
+        return size == null ? 0 : size;
+    }
+
+    // 더 이상 없는 게시글 정리
+    public void remove(List<Long> recipeBoardIds) {
+        if (recipeBoardIds.isEmpty()) return;
+        try {
+            stringRedisTemplate.opsForZSet().remove(RANKING_KEY,
+                    recipeBoardIds.stream().map(String::valueOf).toArray());
+        } catch (Exception e) {
+            log.warn("인기 게시글 순위 정리 실패: {}", recipeBoardIds, e);
+        }
+    }
+
+    private double weight(TrendingSignal signal) {
+        return switch (signal) {
+            case LIKE -> likeWeight;
+            case COMMENT -> commentWeight;
+            case FAVORITE -> favoriteWeight;
+            case VIEW -> viewWeight;
+        };
+    }
+
+    private Counter counter(TrendingSignal signal, String result) {
+        return Counter.builder("recipe.board.trending.signal")
+                .tag("signal", signal.name().toLowerCase(Locale.ROOT))
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
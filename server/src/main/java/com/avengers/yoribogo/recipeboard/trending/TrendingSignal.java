@@ -0,0 +1,9 @@
+package com.avengers.yoribogo.recipeboard.trending;
+
+// 인기 게시글 점수에 반영하는 활동 종류
+public enum TrendingSignal {
+    LIKE,
+    COMMENT,
+    FAVORITE,
+    VIEW
+}
@@ -368,12 +368,14 @@ public class UserController {
     // 필기. 14. 사용자 프로필 변경(닉네임, 사진)
     @PatchMapping("/{userId}/profile")
     public ResponseDTO<UserDTO> updateProfile(@PathVariable("userId") Long userId, @RequestParam("nickname") String nickname,
-                                              @RequestParam(value = "profile_image", required = false) MultipartFile profileImage) {
+                                              @RequestParam(value = "profile_image", required = false) MultipartFile profileImage,
+                                              @RequestParam(value = "profile_image_key", required = false) String profileImageKey) {
 
         // DTO 객체 생성 및 값 설정
         RequestUpdateUserDTO userUpdateDTO = new RequestUpdateUserDTO();
         userUpdateDTO.setNickname(nickname);
         userUpdateDTO.setProfileImage(profileImage);
+        userUpdateDTO.setProfileImageKey(profileImageKey);
 
         // 서비스 호출 및 결과 처리
         UserDTO userDTO = userService.updateProfile(userId, userUpdateDTO);
@@ -10,4 +10,6 @@ public class RequestUpdateUserDTO {
     private String nickname;
     @JsonProperty("profile_image")
     private MultipartFile profileImage;  // 클라이언트가 보낸 파일
+    @JsonProperty("profile_image_key")
+    private String profileImageKey;  // 직접 업로드한 이미지의 업로드 키 (profile_image 대신 사용)
 }
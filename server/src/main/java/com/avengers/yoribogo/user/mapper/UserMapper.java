@@ -0,0 +1,17 @@
+package com.avengers.yoribogo.user.mapper;
+
+import com.avengers.yoribogo.config.MapStructConfig;
+import com.avengers.yoribogo.user.domain.UserEntity;
+import com.avengers.yoribogo.user.dto.UserDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+// 회원 DTO -> 엔티티 변환 (문의·답변 작성자 연결용, 비밀번호와 티어는 매핑하지 않음)
+@Mapper(config = MapStructConfig.class)
+public interface UserMapper {
+
+    @Mapping(target = "encryptedPwd", ignore = true)
+    @Mapping(target = "tier", ignore = true)
+    UserEntity toUserEntity(UserDTO userDTO);
+
+}
@@ -8,6 +8,9 @@ import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.avengers.yoribogo.common.exception.CommonException;
 import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.common.image.ImageUploadPurpose;
+import com.avengers.yoribogo.common.image.ImageVariantGenerator;
+import com.avengers.yoribogo.common.image.PresignedImageUploader;
 import com.avengers.yoribogo.user.domain.Tier;
 import com.avengers.yoribogo.user.domain.UserEntity;
 import com.avengers.yoribogo.user.domain.enums.AcceptStatus;
@@ -49,6 +52,8 @@ import java.util.Optional;
 public class UserService implements UserDetailsService {
     private final UserRepository userRepository;
     private final AmazonS3Client s3Client;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final PresignedImageUploader presignedImageUploader;
     private final StringRedisTemplate stringRedisTemplate;  // StringRedisTemplate 사용
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final ModelMapper modelMapper;
@@ -57,12 +62,16 @@ public class UserService implements UserDetailsService {
     public UserService(
              UserRepository userRepository
             , AmazonS3Client s3Client
+            , ImageVariantGenerator imageVariantGenerator
+            , PresignedImageUploader presignedImageUploader
             , StringRedisTemplate stringRedisTemplate  // Redis template 추가
             , ModelMapper modelMapper
             , BCryptPasswordEncoder bCryptPasswordEncoder
     ) {
         this.userRepository = userRepository;
         this.s3Client = s3Client;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.presignedImageUploader = presignedImageUploader;
         this.stringRedisTemplate = stringRedisTemplate;  // 주입
         this.modelMapper = modelMapper;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
@@ -365,6 +374,15 @@ public class UserService implements UserDetailsService {
             }
             // 새로운 이미지를 업로드하고 URL을 얻음
             imageUrl = uploadProfileImage(userUpdateDTO.getProfileImage(), userId);
+        } else if (userUpdateDTO.getProfileImageKey() != null && !userUpdateDTO.getProfileImageKey().isBlank()) {
+            // 직접 업로드한 이미지: 이 사용자에게 발급된 키인지와 업로드 여부를 확인한 뒤 연결
+            String profileImageKey = userUpdateDTO.getProfileImageKey();
+            imageUrl = presignedImageUploader.confirm(ImageUploadPurpose.PROFILE, userId, profileImageKey);
+            if (userEntity.getProfileImage() != null && !userEntity.getProfileImage().isEmpty()
+                    && !userEntity.getProfileImage().equals(imageUrl)) {
+                deleteProfileImage(userEntity.getProfileImage());
+            }
+            imageVariantGenerator.generateAsync(profileImageKey);
         }
 
         // 닉네임과 프로필 이미지 업데이트
@@ -410,6 +428,7 @@ public class UserService implements UserDetailsService {
             // S3에서 파일 삭제 요청
             s3Client.deleteObject(new DeleteObjectRequest(bucket, fileName));
             log.info("Successfully deleted image from S3: " + fileName);
+            imageVariantGenerator.deleteVariants(fileName);
         } catch (AmazonClientException e) {
             log.error("Failed to delete image from S3: " + fileName, e);
         }
@@ -437,6 +456,9 @@ public class UserService implements UserDetailsService {
             // S3에 파일 업로드
             s3Client.putObject(new PutObjectRequest(bucket, fileName, profileImage.getInputStream(), metadata));
 
+            // 크기별 파생본 생성 (비동기)
+            imageVariantGenerator.generateAsync(fileName);
+
             // 업로드된 파일의 S3 URL 반환
             return s3Client.getUrl(bucket, fileName).toString();
         } catch (AmazonClientException | IOException e) {
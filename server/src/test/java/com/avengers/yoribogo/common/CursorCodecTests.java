@@ -0,0 +1,103 @@
+package com.avengers.yoribogo.common;
+
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+class CursorCodecTests {
+
+    @DisplayName("인코딩한 커서는 같은 값으로 복원된다")
+    @Test
+    void testRoundTrip() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 10, 1, 12, 30, 15);
+
+        // When
+        CursorCodec.TimeAndId timeAndId = CursorCodec.decodeTimeAndId(CursorCodec.encodeTimeAndId(createdAt, 42L));
+        Long id = CursorCodec.decodeId(CursorCodec.encodeId(9_007_199_254_740_993L));
+
+        // Then
+        Assertions.assertEquals(new CursorCodec.TimeAndId(createdAt, 42L), timeAndId);
+        Assertions.assertEquals(9_007_199_254_740_993L, id);
+        Assertions.assertNull(CursorCodec.decodeId(null));
+        Assertions.assertNull(CursorCodec.decodeTimeAndId(" "));
+    }
+
+    @DisplayName("형식이 잘못된 커서는 INVALID_CURSOR")
+    @Test
+    void testMalformedCursor() {
+        // Given
+        String notBase64 = "%%%";
+        String notNumber = encode("abc");
+        String missingId = encode("2024-10-01T12:30");
+        String notTime = encode("yesterday|3");
+
+        // When & Then
+        for (String cursor : List.of(notBase64, notNumber)) {
+            CommonException exception = Assertions.assertThrows(CommonException.class,
+                    () -> CursorCodec.decodeId(cursor));
+            Assertions.assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+        }
+        for (String cursor : List.of(notBase64, missingId, notTime)) {
+            CommonException exception = Assertions.assertThrows(CommonException.class,
+                    () -> CursorCodec.decodeTimeAndId(cursor));
+            Assertions.assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+        }
+    }
+
+    @DisplayName("조회 개수는 미입력 시 기본값, 1~50 밖이면 INVALID_PARAMETER_FORMAT")
+    @Test
+    void testResolveSize() {
+        Assertions.assertEquals(12, CursorCodec.resolveSize(null));
+        Assertions.assertEquals(1, CursorCodec.resolveSize(1));
+        Assertions.assertEquals(50, CursorCodec.resolveSize(50));
+        for (int size : new int[]{0, -1, 51}) {
+            CommonException exception = Assertions.assertThrows(CommonException.class,
+                    () -> CursorCodec.resolveSize(size));
+            Assertions.assertEquals(ErrorCode.INVALID_PARAMETER_FORMAT, exception.getErrorCode());
+        }
+    }
+
+    @DisplayName("size + 1건이면 size건만 담고 마지막 항목으로 다음 커서를 만든다")
+    @Test
+    void testPageWithNext() {
+        // Given
+        List<Long> rows = List.of(30L, 20L, 10L);
+
+        // When
+        CursorPageDTO<String> page = CursorPageDTO.of(rows, 2, String::valueOf, CursorCodec::encodeId);
+
+        // Then
+        Assertions.assertEquals(List.of("30", "20"), page.getContent());
+        Assertions.assertEquals(2, page.getSize());
+        Assertions.assertTrue(page.isHasNext());
+        Assertions.assertEquals(20L, CursorCodec.decodeId(page.getNextCursor()));
+    }
+
+    @DisplayName("size건 이하면 마지막 페이지 (다음 커서 없음)")
+    @Test
+    void testLastPage() {
+        // When
+        CursorPageDTO<String> full = CursorPageDTO.of(List.of(30L, 20L), 2, String::valueOf, CursorCodec::encodeId);
+        CursorPageDTO<String> empty = CursorPageDTO.of(List.<Long>of(), 2, String::valueOf, CursorCodec::encodeId);
+
+        // Then
+        Assertions.assertEquals(2, full.getSize());
+        Assertions.assertFalse(full.isHasNext());
+        Assertions.assertNull(full.getNextCursor());
+        Assertions.assertTrue(empty.getContent().isEmpty());
+        Assertions.assertFalse(empty.isHasNext());
+        Assertions.assertNull(empty.getNextCursor());
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,35 @@
+package com.avengers.yoribogo.common.id;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SequenceIdAllocatorTests {
+
+    @DisplayName("시퀀스 값 하나로 ALLOCATION_SIZE개를 쓰고, 다 쓰면 다음 값을 읽는다")
+    @Test
+    void testAllocateUsesPooledBlocks() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(eq("SELECT NEXTVAL(recipe_manual_seq)"), eq(Long.class)))
+                .thenReturn(101L, 151L);
+        SequenceIdAllocator allocator = new SequenceIdAllocator(jdbcTemplate);
+
+        // When
+        long[] first = allocator.allocate(PooledIds.RECIPE_MANUAL_SEQ, 30);
+        long[] second = allocator.allocate(PooledIds.RECIPE_MANUAL_SEQ, 30);
+
+        // Then
+        Assertions.assertEquals(101L, first[0]);
+        Assertions.assertEquals(130L, first[29]);
+        Assertions.assertEquals(131L, second[0]);
+        Assertions.assertEquals(150L, second[19]);
+        Assertions.assertEquals(151L, second[20]);
+        Assertions.assertEquals(160L, second[29]);
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class));
+    }
+}
@@ -0,0 +1,173 @@
+package com.avengers.yoribogo.common.image;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Random;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ImageVariantGeneratorTests {
+
+    @DisplayName("파생본 키와 URL은 원본 키만으로 정해진다")
+    @Test
+    void testVariantKeyAndUrl() {
+        // Given
+        String originalUrl = "https://yoribogo.s3.ap-northeast-2.amazonaws.com/board_12.png";
+
+        // When
+        ImageVariantsDTO variants = ImageVariantsDTO.of(originalUrl, "board_12.png");
+
+        // Then
+        Assertions.assertEquals("variants/board_12/thumbnail.jpg", ImageVariant.THUMBNAIL.key("board_12.png"));
+        Assertions.assertEquals("https://yoribogo.s3.ap-northeast-2.amazonaws.com/variants/board_12/card.jpg", variants.getCard());
+        Assertions.assertEquals("https://yoribogo.s3.ap-northeast-2.amazonaws.com/variants/board_12/full.jpg", variants.getFull());
+        Assertions.assertNull(ImageVariantsDTO.of(null, null));
+        Assertions.assertNull(ImageVariantsDTO.of("not-an-s3-url", null));
+    }
+
+    @DisplayName("파생본이 없거나 다른 원본의 파생본이면 모든 크기에 원본 URL 사용")
+    @Test
+    void testFallbackToOriginalUrl() {
+        // Given
+        String originalUrl = "https://yoribogo.s3.ap-northeast-2.amazonaws.com/board_12.png";
+
+        // When
+        ImageVariantsDTO notGenerated = ImageVariantsDTO.of(originalUrl, null);
+        ImageVariantsDTO otherOriginal = ImageVariantsDTO.of(originalUrl, "board_12.jpg");
+
+        // Then
+        Assertions.assertEquals(new ImageVariantsDTO(originalUrl, originalUrl, originalUrl), notGenerated);
+        Assertions.assertEquals(new ImageVariantsDTO(originalUrl, originalUrl, originalUrl), otherOriginal);
+    }
+
+    @DisplayName("파생본을 다 올린 뒤 이미지 행에 원본 키를 기록")
+    @Test
+    void testMarkAfterGenerate() throws Exception {
+        // Given
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB), "png", png);
+        S3Object object = new S3Object();
+        object.setObjectContent(new ByteArrayInputStream(png.toByteArray()));
+        AmazonS3Client s3Client = mock(AmazonS3Client.class);
+        when(s3Client.getObject(anyString(), eq("board_12.png"))).thenReturn(object);
+        when(s3Client.getUrl(anyString(), eq("board_12.png")))
+                .thenReturn(new URL("https://yoribogo.s3.ap-northeast-2.amazonaws.com/board_12.png"));
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.update(anyString(), any(), any(), any())).thenReturn(1);
+        AsyncTaskExecutor executor = mock(AsyncTaskExecutor.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        ImageVariantGenerator generator = generator(s3Client, jdbcTemplate, executor);
+
+        // When
+        generator.handleImageVariantRequested(
+                new ImageVariantRequestedEvent("board_12.png", ImageVariantTarget.RECIPE_BOARD, 12L));
+
+        // Then
+        InOrder inOrder = inOrder(jdbcTemplate, s3Client);
+        String originalUrl = "https://yoribogo.s3.ap-northeast-2.amazonaws.com/board_12.png";
+        inOrder.verify(jdbcTemplate).update(ImageVariantTarget.RECIPE_BOARD.getMarkSql(), null, 12L, originalUrl);
+        inOrder.verify(s3Client, times(ImageVariant.values().length)).putObject(any(PutObjectRequest.class));
+        inOrder.verify(jdbcTemplate).update(ImageVariantTarget.RECIPE_BOARD.getMarkSql(), "board_12.png", 12L, originalUrl);
+    }
+
+    @DisplayName("생성 대기열이 가득 차면 예외 없이 건너뛰고 원본 URL을 쓰도록 기록만 지움")
+    @Test
+    void testSkipWhenRejected() throws Exception {
+        // Given
+        AmazonS3Client s3Client = mock(AmazonS3Client.class);
+        when(s3Client.getUrl(anyString(), anyString()))
+                .thenReturn(new URL("https://yoribogo.s3.ap-northeast-2.amazonaws.com/recipe_3.png"));
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        AsyncTaskExecutor executor = mock(AsyncTaskExecutor.class);
+        doThrow(new TaskRejectedException("full")).when(executor).execute(any(Runnable.class));
+        ImageVariantGenerator generator = generator(s3Client, jdbcTemplate, executor);
+
+        // When
+        Assertions.assertDoesNotThrow(() -> generator.handleImageVariantRequested(
+                new ImageVariantRequestedEvent("recipe_3.png", ImageVariantTarget.RECIPE, 3L)));
+
+        // Then
+        verify(jdbcTemplate).update(ImageVariantTarget.RECIPE.getMarkSql(), null, 3L,
+                "https://yoribogo.s3.ap-northeast-2.amazonaws.com/recipe_3.png");
+        verify(s3Client, never()).getObject(anyString(), anyString());
+    }
+
+    @DisplayName("가로 최대 크기로 비율을 유지해 줄이고, 작은 이미지는 키우지 않는다")
+    @Test
+    void testResize() {
+        // Given
+        BufferedImage large = new BufferedImage(2048, 1536, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage small = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+
+        // When
+        BufferedImage card = ImageVariantGenerator.resize(large, ImageVariant.CARD.getMaxWidth());
+        BufferedImage unchanged = ImageVariantGenerator.resize(small, ImageVariant.CARD.getMaxWidth());
+
+        // Then
+        Assertions.assertEquals(480, card.getWidth());
+        Assertions.assertEquals(360, card.getHeight());
+        Assertions.assertEquals(BufferedImage.TYPE_INT_RGB, card.getType());
+        Assertions.assertEquals(100, unchanged.getWidth());
+        Assertions.assertEquals(50, unchanged.getHeight());
+    }
+
+    @DisplayName("썸네일 JPEG는 원본 PNG보다 훨씬 작다")
+    @Test
+    void testThumbnailIsCompact() throws IOException {
+        // Given: 사진처럼 잡음이 섞인 이미지
+        BufferedImage image = new BufferedImage(1024, 1024, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < 1024; y++) {
+            for (int x = 0; x < 1024; x++) {
+                int noise = random.nextInt(48);
+                image.setRGB(x, y, new Color((x / 4 + noise) % 256, (y / 4 + noise) % 256, (x + y) / 8 % 256).getRGB());
+            }
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+
+        // When
+        BufferedImage decoded = ImageVariantGenerator.read(new ByteArrayInputStream(png.toByteArray()), 40_000_000L);
+        byte[] thumbnail = ImageVariantGenerator.encode(
+                ImageVariantGenerator.resize(decoded, ImageVariant.THUMBNAIL.getMaxWidth()),
+                ImageVariant.THUMBNAIL.getQuality());
+
+        // Then
+        Assertions.assertTrue(thumbnail.length * 10 < png.size(),
+                "thumbnail " + thumbnail.length + " bytes, original " + png.size() + " bytes");
+        Assertions.assertThrows(IOException.class,
+                () -> ImageVariantGenerator.read(new ByteArrayInputStream(png.toByteArray()), 1000L));
+    }
+
+    private static ImageVariantGenerator generator(AmazonS3Client s3Client, JdbcTemplate jdbcTemplate,
+                                                   AsyncTaskExecutor executor) {
+        ImageVariantGenerator generator = new ImageVariantGenerator(s3Client, jdbcTemplate, executor,
+                mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(generator, "bucket", "yoribogo");
+        ReflectionTestUtils.setField(generator, "maxPixels", 40_000_000L);
+        return generator;
+    }
+}
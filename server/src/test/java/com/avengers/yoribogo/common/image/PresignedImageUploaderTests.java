@@ -0,0 +1,158 @@
+package com.avengers.yoribogo.common.image;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URL;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PresignedImageUploaderTests {
+
+    private AmazonS3Client s3Client;
+    private PresignedImageUploader presignedImageUploader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3Client = mock(AmazonS3Client.class);
+        when(s3Client.getUrl(anyString(), anyString())).thenAnswer(invocation ->
+                new URL("https://bucket.s3.amazonaws.com/" + invocation.getArgument(1)));
+        when(s3Client.generatePresignedUrl(any(GeneratePresignedUrlRequest.class))).thenAnswer(invocation -> {
+            GeneratePresignedUrlRequest request = invocation.getArgument(0);
+            return new URL("https://bucket.s3.amazonaws.com/" + request.getKey() + "?X-Amz-Signature=sig");
+        });
+
+        presignedImageUploader = new PresignedImageUploader(s3Client, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(presignedImageUploader, "bucket", "bucket");
+        ReflectionTestUtils.setField(presignedImageUploader, "expireSeconds", 600L);
+        ReflectionTestUtils.setField(presignedImageUploader, "maxBytes", 1024L);
+        ReflectionTestUtils.setField(presignedImageUploader, "maxSlots", 3);
+    }
+
+    @DisplayName("용도·소유 ID로 시작하는 키와 PUT 서명 URL 발급")
+    @Test
+    void testIssueSlots() {
+        // When
+        List<ImageUploadSlotDTO> slots = presignedImageUploader.issue(ImageUploadPurpose.MANUAL, 7L, List.of(
+                new RequestImageFileDTO("image/png", 512L),
+                new RequestImageFileDTO("IMAGE/JPEG", null)));
+
+        // Then
+        Assertions.assertEquals(2, slots.size());
+        Assertions.assertTrue(slots.get(0).getUploadKey().startsWith("manual_7_"));
+        Assertions.assertTrue(slots.get(0).getUploadKey().endsWith(".png"));
+        Assertions.assertTrue(slots.get(1).getUploadKey().endsWith(".jpg"));
+        Assertions.assertEquals("image/jpeg", slots.get(1).getHeaders().get("Content-Type"));
+        verify(s3Client, times(2)).generatePresignedUrl(argThat((GeneratePresignedUrlRequest request) ->
+                request.getMethod() == HttpMethod.PUT && request.getContentType() != null));
+    }
+
+    @DisplayName("이미지가 아니거나 너무 큰 파일은 슬롯을 발급하지 않는다")
+    @Test
+    void testIssueRejectsInvalidFiles() {
+        // When
+        CommonException format = Assertions.assertThrows(CommonException.class, () -> presignedImageUploader
+                .issue(ImageUploadPurpose.BOARD, 1L, List.of(new RequestImageFileDTO("text/html", 10L))));
+        CommonException size = Assertions.assertThrows(CommonException.class, () -> presignedImageUploader
+                .issue(ImageUploadPurpose.BOARD, 1L, List.of(new RequestImageFileDTO("image/png", 2048L))));
+
+        // Then
+        Assertions.assertEquals(ErrorCode.UNSUPPORTED_FILE_FORMAT, format.getErrorCode());
+        Assertions.assertEquals(ErrorCode.FILE_SIZE_EXCEEDED, size.getErrorCode());
+        verify(s3Client, never()).generatePresignedUrl(any(GeneratePresignedUrlRequest.class));
+    }
+
+    @DisplayName("HEAD로 업로드를 확인한 뒤 URL 반환")
+    @Test
+    void testConfirm() {
+        // Given
+        when(s3Client.getObjectMetadata("bucket", "user_5_0123456789abcdef0123456789abcdef.png")).thenReturn(metadata("image/png", 512));
+
+        // When
+        String url = presignedImageUploader.confirm(ImageUploadPurpose.PROFILE, 5L, "user_5_0123456789abcdef0123456789abcdef.png");
+
+        // Then
+        Assertions.assertEquals("https://bucket.s3.amazonaws.com/user_5_0123456789abcdef0123456789abcdef.png", url);
+    }
+
+    @DisplayName("다른 소유 ID의 키는 S3를 조회하지 않고 거부")
+    @Test
+    void testConfirmRejectsForeignKey() {
+        // When
+        CommonException exception = Assertions.assertThrows(CommonException.class,
+                () -> presignedImageUploader.confirm(ImageUploadPurpose.PROFILE, 5L, "user_55_0123456789abcdef0123456789abcdef.png"));
+
+        // Then
+        Assertions.assertEquals(ErrorCode.INVALID_UPLOAD_KEY, exception.getErrorCode());
+        verify(s3Client, never()).getObjectMetadata(anyString(), anyString());
+    }
+
+    @DisplayName("발급한 형식이 아닌 키(서버가 올린 이미지 등)는 S3를 조회하지 않고 거부")
+    @Test
+    void testConfirmRejectsKeyNotIssued() {
+        for (String key : List.of(
+                "manual_7_2_0123abcd.png",                        // 서버가 올린 매뉴얼 이미지
+                "manual_7_" + "0123456789ABCDEF0123456789ABCDEF.png",
+                "manual_7_" + "0123456789abcdef0123456789abcdef.exe",
+                "manual_7_" + "0123456789abcdef0123456789abcdef.png.png")) {
+            // When
+            CommonException exception = Assertions.assertThrows(CommonException.class,
+                    () -> presignedImageUploader.confirm(ImageUploadPurpose.MANUAL, 7L, key));
+
+            // Then
+            Assertions.assertEquals(ErrorCode.INVALID_UPLOAD_KEY, exception.getErrorCode(), key);
+        }
+        verify(s3Client, never()).getObjectMetadata(anyString(), anyString());
+    }
+
+    @DisplayName("올라오지 않은 객체는 확정하지 않는다")
+    @Test
+    void testConfirmMissingObject() {
+        // Given
+        AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+        notFound.setStatusCode(404);
+        when(s3Client.getObjectMetadata("bucket", "board_3_0123456789abcdef0123456789abcdef.png")).thenThrow(notFound);
+
+        // When
+        CommonException exception = Assertions.assertThrows(CommonException.class,
+                () -> presignedImageUploader.confirm(ImageUploadPurpose.BOARD, 3L, "board_3_0123456789abcdef0123456789abcdef.png"));
+
+        // Then
+        Assertions.assertEquals(ErrorCode.NOT_FOUND_UPLOADED_IMAGE, exception.getErrorCode());
+    }
+
+    @DisplayName("허용 크기를 넘는 객체는 지우고 거부")
+    @Test
+    void testConfirmDeletesOversizedObject() {
+        // Given
+        when(s3Client.getObjectMetadata("bucket", "board_3_0123456789abcdef0123456789abcdef.png")).thenReturn(metadata("image/png", 4096));
+
+        // When
+        CommonException exception = Assertions.assertThrows(CommonException.class,
+                () -> presignedImageUploader.confirm(ImageUploadPurpose.BOARD, 3L, "board_3_0123456789abcdef0123456789abcdef.png"));
+
+        // Then
+        Assertions.assertEquals(ErrorCode.FILE_SIZE_EXCEEDED, exception.getErrorCode());
+        verify(s3Client).deleteObject("bucket", "board_3_0123456789abcdef0123456789abcdef.png");
+    }
+
+    private static ObjectMetadata metadata(String contentType, long contentLength) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(contentLength);
+        return metadata;
+    }
+}
@@ -0,0 +1,58 @@
+package com.avengers.yoribogo.openai.provider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class OpenAICircuitBreakerTests {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @DisplayName("최근 호출의 실패율이 임계치를 넘으면 열리고 대기 시간 동안 호출을 거절")
+    @Test
+    void testOpensOnFailureRate() {
+        // Given
+        OpenAICircuitBreaker circuitBreaker = new OpenAICircuitBreaker(10, 4, 50, 1000, 1, now::get);
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertTrue(circuitBreaker.tryAcquire());
+            circuitBreaker.onSuccess();
+        }
+        Assertions.assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+        Assertions.assertEquals(OpenAICircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assertions.assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+
+        // Then
+        Assertions.assertEquals(OpenAICircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assertions.assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @DisplayName("대기 시간이 지나면 시험 호출 한 건만 허용하고 결과에 따라 닫거나 다시 연다")
+    @Test
+    void testHalfOpenProbe() {
+        // Given
+        OpenAICircuitBreaker circuitBreaker = new OpenAICircuitBreaker(4, 2, 50, 1000, 1, now::get);
+        for (int i = 0; i < 2; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onFailure();
+        }
+        now.addAndGet(1_000_000_000L);
+
+        // When & Then
+        Assertions.assertTrue(circuitBreaker.tryAcquire());
+        Assertions.assertFalse(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+        Assertions.assertEquals(OpenAICircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        now.addAndGet(1_000_000_000L);
+        Assertions.assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onSuccess();
+        Assertions.assertEquals(OpenAICircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assertions.assertTrue(circuitBreaker.tryAcquire());
+    }
+}
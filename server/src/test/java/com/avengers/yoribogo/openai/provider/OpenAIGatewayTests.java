@@ -0,0 +1,154 @@
+package com.avengers.yoribogo.openai.provider;
+
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.openai.dto.RequestChatDTO;
+import com.avengers.yoribogo.openai.dto.RequestChatFluxDTO;
+import com.avengers.yoribogo.openai.dto.ResponseChatDTO;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class OpenAIGatewayTests {
+
+    private static final String CHAT_RESPONSE = """
+            {"choices":[{"index":0,"message":{"role":"assistant","content":"김치찌개"}}],
+             "usage":{"prompt_tokens":12,"completion_tokens":5,"total_tokens":17}}
+            """;
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int failures;
+    private SimpleMeterRegistry meterRegistry;
+    private OpenAIGateway openAIGateway;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/chat", exchange -> {
+            // 앞의 failures번은 429로 응답
+            if (requests.incrementAndGet() <= failures) {
+                respond(exchange, 429, "application/json", "{\"error\":{\"message\":\"rate limit\"}}");
+                return;
+            }
+            boolean stream = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)
+                    .contains("\"stream\":true");
+            if (stream) {
+                respond(exchange, 200, "text/event-stream", """
+                        data: {"id":"1","choices":[{"delta":{"content":"1. 쌀을 "}}]}
+
+                        data: {"id":"1","choices":[{"delta":{"content":"씻습니다."}}]}
+
+                        data: {"id":"1","choices":[],"usage":{"prompt_tokens":10,"completion_tokens":4,"total_tokens":14}}
+
+                        data: [DONE]
+
+                        """);
+            } else {
+                respond(exchange, 200, "application/json", CHAT_RESPONSE);
+            }
+        });
+        server.start();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        meterRegistry = new SimpleMeterRegistry();
+        openAIGateway = new OpenAIGateway(meterRegistry);
+        ReflectionTestUtils.setField(openAIGateway, "secretKey", "test");
+        ReflectionTestUtils.setField(openAIGateway, "chatUrl", baseUrl + "/chat");
+        ReflectionTestUtils.setField(openAIGateway, "imagesUrl", baseUrl + "/images");
+        ReflectionTestUtils.setField(openAIGateway, "maxConnections", 4);
+        ReflectionTestUtils.setField(openAIGateway, "pendingAcquireMaxCount", 10);
+        ReflectionTestUtils.setField(openAIGateway, "pendingAcquireTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(openAIGateway, "maxIdleSeconds", 30L);
+        ReflectionTestUtils.setField(openAIGateway, "connectTimeoutMillis", 1000);
+        ReflectionTestUtils.setField(openAIGateway, "chatTimeoutSeconds", 5L);
+        ReflectionTestUtils.setField(openAIGateway, "streamIdleTimeoutSeconds", 5L);
+        ReflectionTestUtils.setField(openAIGateway, "imagesTimeoutSeconds", 5L);
+        ReflectionTestUtils.setField(openAIGateway, "maxRetries", 2);
+        ReflectionTestUtils.setField(openAIGateway, "backoffMillis", 10L);
+        ReflectionTestUtils.setField(openAIGateway, "maxBackoffMillis", 50L);
+        ReflectionTestUtils.setField(openAIGateway, "circuitWindowSize", 4);
+        ReflectionTestUtils.setField(openAIGateway, "circuitMinimumCalls", 2);
+        ReflectionTestUtils.setField(openAIGateway, "circuitFailureRateThreshold", 50);
+        ReflectionTestUtils.setField(openAIGateway, "circuitOpenSeconds", 60L);
+        openAIGateway.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        openAIGateway.destroy();
+        server.stop(0);
+    }
+
+    @DisplayName("429 응답은 재시도하고 토큰 사용량을 호출 위치별로 기록")
+    @Test
+    void testRetriesRateLimitedChat() {
+        // Given
+        failures = 1;
+
+        // When
+        ResponseChatDTO response = openAIGateway.chat(OpenAICallSite.RECOMMEND_MENU, new RequestChatDTO("gpt", "추천")).block();
+
+        // Then
+        Assertions.assertEquals("김치찌개", response.getChoices().get(0).getMessage().getContent());
+        Assertions.assertEquals(2, requests.get());
+        Assertions.assertEquals(12, meterRegistry.get("openai.tokens")
+                .tag("call_site", "recommend_menu").tag("type", "prompt").counter().count());
+    }
+
+    @DisplayName("재시도를 모두 실패하면 서킷 브레이커가 열려 이후 호출은 OpenAI까지 가지 않음")
+    @Test
+    void testCircuitBreakerRejects() {
+        // Given
+        failures = Integer.MAX_VALUE;
+        RequestChatDTO request = new RequestChatDTO("gpt", "추천");
+
+        // When
+        CommonException first = Assertions.assertThrows(CommonException.class,
+                () -> openAIGateway.chat(OpenAICallSite.RECOMMEND_MENU, request).block());
+        int sent = requests.get();
+        CommonException second = Assertions.assertThrows(CommonException.class,
+                () -> openAIGateway.chat(OpenAICallSite.RECOMMEND_MENU, request).block());
+
+        // Then
+        Assertions.assertEquals(ErrorCode.OPENAI_UNAVAILABLE, first.getErrorCode());
+        Assertions.assertEquals(ErrorCode.OPENAI_UNAVAILABLE, second.getErrorCode());
+        Assertions.assertEquals(2, sent);
+        Assertions.assertEquals(sent, requests.get());
+    }
+
+    @DisplayName("스트리밍 응답에서 내용 조각만 반환하고 [DONE]과 사용량 조각은 내보내지 않음")
+    @Test
+    void testStreamChat() {
+        // When
+        List<String> contents = openAIGateway.streamChat(OpenAICallSite.RECIPE_MANUAL,
+                new RequestChatFluxDTO("gpt", "매뉴얼", true)).collectList().block();
+
+        // Then
+        Assertions.assertEquals(List.of("1. 쌀을 ", "씻습니다."), contents);
+        Assertions.assertEquals(4, meterRegistry.get("openai.tokens")
+                .tag("call_site", "recipe_manual").tag("type", "completion").counter().count());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
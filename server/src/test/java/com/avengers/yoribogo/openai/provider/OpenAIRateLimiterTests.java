@@ -0,0 +1,84 @@
+package com.avengers.yoribogo.openai.provider;
+
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OpenAIRateLimiterTests {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private OpenAIRateLimiter openAIRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        openAIRateLimiter = new OpenAIRateLimiter(stringRedisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(openAIRateLimiter, "capacity", 60);
+        ReflectionTestUtils.setField(openAIRateLimiter, "refillPerSecond", 1.0);
+        ReflectionTestUtils.setField(openAIRateLimiter, "streamingReservePercent", 20);
+        ReflectionTestUtils.setField(openAIRateLimiter, "backgroundReservePercent", 50);
+        ReflectionTestUtils.setField(openAIRateLimiter, "interactiveMaxWaitMillis", 1000L);
+        ReflectionTestUtils.setField(openAIRateLimiter, "streamingMaxWaitMillis", 1000L);
+    }
+
+    @DisplayName("우선순위가 낮을수록 버킷에 더 많은 토큰을 남겨두도록 요청")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReservePerPriority() {
+        // Given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).thenReturn(0L);
+
+        // When
+        openAIRateLimiter.acquire(OpenAIRateLimiter.Priority.INTERACTIVE);
+        openAIRateLimiter.acquire(OpenAIRateLimiter.Priority.STREAMING);
+        openAIRateLimiter.acquire(OpenAIRateLimiter.Priority.BACKGROUND);
+
+        // Then
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(), eq("60"), eq("0.001"), eq("0.0"), eq("1"));
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(), eq("60"), eq("0.001"), eq("12.0"), eq("1"));
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(), eq("60"), eq("0.001"), eq("30.0"), eq("1"));
+    }
+
+    @DisplayName("추천 요청은 토큰이 찰 때까지 기다리고, 이미지 생성은 기다리지 않고 거절")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testInteractiveWaitsAndBackgroundSheds() {
+        // Given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .thenReturn(50L, 0L, 500L);
+
+        // When
+        openAIRateLimiter.acquire(OpenAIRateLimiter.Priority.INTERACTIVE);
+        CommonException shed = Assertions.assertThrows(CommonException.class,
+                () -> openAIRateLimiter.acquire(OpenAIRateLimiter.Priority.BACKGROUND));
+
+        // Then
+        Assertions.assertEquals(ErrorCode.OPENAI_RATE_LIMITED, shed.getErrorCode());
+        Assertions.assertEquals(1, meterRegistry.get("openai.rate-limit.shed").tag("priority", "background").counter().count());
+        verify(stringRedisTemplate, times(3)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+    }
+
+    @DisplayName("Redis 오류 시에는 제한 없이 통과")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailOpen() {
+        // Given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        // When & Then
+        Assertions.assertDoesNotThrow(() -> openAIRateLimiter.acquire(OpenAIRateLimiter.Priority.BACKGROUND));
+    }
+}
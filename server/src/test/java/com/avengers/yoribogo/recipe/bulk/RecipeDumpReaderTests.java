@@ -0,0 +1,108 @@
+package com.avengers.yoribogo.recipe.bulk;
+
+import com.avengers.yoribogo.recipe.domain.RecipeImportFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+class RecipeDumpReaderTests {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("COOKRCP01 응답 형식의 JSON에서 레시피와 매뉴얼을 읽는다")
+    @Test
+    void testReadCookRcpJson() throws IOException {
+        // Given
+        Path dump = write("dump.json", """
+                {"COOKRCP01": {"total_count": "2", "row": [
+                  {"RCP_NM": "새우 두부 계란찜", "RCP_PARTS_DTLS": "새우두부계란찜\\n연두부 75g, 칵테일새우 20g",
+                   "ATT_FILE_NO_MAIN": "http://example.com/1.png", "RCP_PAT2": "반찬",
+                   "MANUAL01": "1. 손질된 새우를 끓는 물에 데친다.", "MANUAL_IMG01": "http://example.com/1_1.png",
+                   "MANUAL02": "2. 연두부, 달걀, 생크림을 섞는다.", "MANUAL_IMG02": "",
+                   "MANUAL03": ""},
+                  {"RCP_NM": "방울토마토 소박이", "RCP_PARTS_DTLS": "방울토마토 150g", "RCP_PAT2": "후식"}
+                ], "RESULT": {"CODE": "INFO-000"}}}
+                """);
+
+        // When
+        List<RecipeImportRecord> records = readAll(dump, RecipeImportFormat.JSON, 0);
+
+        // Then
+        Assertions.assertEquals(2, records.size());
+        RecipeImportRecord first = records.get(0);
+        Assertions.assertEquals("새우 두부 계란찜", first.menuName());
+        Assertions.assertEquals("새우두부계란찜\n연두부 75g, 칵테일새우 20g", first.menuIngredient());
+        Assertions.assertEquals("반찬", first.category());
+        Assertions.assertEquals(List.of(
+                new RecipeImportRecord.Manual(1, "1. 손질된 새우를 끓는 물에 데친다.", "http://example.com/1_1.png"),
+                new RecipeImportRecord.Manual(2, "2. 연두부, 달걀, 생크림을 섞는다.", null)
+        ), first.manuals());
+        Assertions.assertNull(records.get(1).menuImage());
+    }
+
+    @DisplayName("따옴표 안의 쉼표·줄바꿈·따옴표가 있는 CSV를 읽는다")
+    @Test
+    void testReadCsv() throws IOException {
+        // Given
+        Path dump = write("dump.csv", "\uFEFFRCP_NM,RCP_PARTS_DTLS,RCP_PAT2,MANUAL01,MANUAL_IMG01\r\n"
+                + "김치볶음밥,\"밥 210g, 김치 100g\n참기름 약간\",일품,\"1. \"\"잘 익은\"\" 김치를 썬다.\",\r\n"
+                + "\r\n"
+                + "계란말이,\"계란 3개, 대파 10g\",반찬,,\n");
+
+        // When
+        List<RecipeImportRecord> records = readAll(dump, RecipeImportFormat.CSV, 0);
+
+        // Then
+        Assertions.assertEquals(2, records.size());
+        Assertions.assertEquals("김치볶음밥", records.get(0).menuName());
+        Assertions.assertEquals("밥 210g, 김치 100g\n참기름 약간", records.get(0).menuIngredient());
+        Assertions.assertEquals(List.of(new RecipeImportRecord.Manual(1, "1. \"잘 익은\" 김치를 썬다.", null)),
+                records.get(0).manuals());
+        Assertions.assertEquals("계란말이", records.get(1).menuName());
+        Assertions.assertTrue(records.get(1).manuals().isEmpty());
+    }
+
+    @DisplayName("체크포인트 건수만큼 건너뛰고 이어서 읽는다")
+    @Test
+    void testSkipToCheckpoint() throws IOException {
+        // Given
+        Path json = write("dump.json", """
+                [{"RCP_NM": "가"}, {"RCP_NM": "나", "MANUAL01": {"nested": [1, 2]}}, {"RCP_NM": "다"}]
+                """);
+        Path csv = write("dump.csv", "RCP_NM\n가\n나\n다\n");
+
+        // When
+        List<RecipeImportRecord> jsonRecords = readAll(json, RecipeImportFormat.JSON, 2);
+        List<RecipeImportRecord> csvRecords = readAll(csv, RecipeImportFormat.CSV, 2);
+
+        // Then
+        Assertions.assertEquals(List.of("다"), jsonRecords.stream().map(RecipeImportRecord::menuName).toList());
+        Assertions.assertEquals(List.of("다"), csvRecords.stream().map(RecipeImportRecord::menuName).toList());
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        Path path = tempDir.resolve(fileName);
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+        return path;
+    }
+
+    private static List<RecipeImportRecord> readAll(Path path, RecipeImportFormat format, long skip) throws IOException {
+        try (RecipeDumpReader reader = RecipeDumpReader.open(path, format)) {
+            Assertions.assertEquals(skip, reader.skip(skip));
+
+            List<RecipeImportRecord> records = new ArrayList<>();
+            RecipeImportRecord record;
+            while ((record = reader.next()) != null) records.add(record);
+            return records;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.avengers.yoribogo.recipe.cache;
+
+import com.avengers.yoribogo.recipe.domain.MenuType;
+import com.avengers.yoribogo.recipe.domain.Recipe;
+import com.avengers.yoribogo.recipe.dto.RecipeWithManualsDTO;
+import com.avengers.yoribogo.recipe.mapper.RecipeMapperImpl;
+import com.avengers.yoribogo.recipe.repository.RecipeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RecipeDetailCacheTests {
+
+    private RecipeRepository recipeRepository;
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private RecipeDetailCache recipeDetailCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        recipeRepository = mock(RecipeRepository.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+
+        recipeDetailCache = new RecipeDetailCache(recipeRepository, new RecipeMapperImpl(), stringRedisTemplate,
+                mock(RedisMessageListenerContainer.class), meterRegistry);
+        ReflectionTestUtils.setField(recipeDetailCache, "localMaxSize", 100L);
+        ReflectionTestUtils.setField(recipeDetailCache, "localTtlSeconds", 60L);
+        ReflectionTestUtils.setField(recipeDetailCache, "redisTtlSeconds", 60L);
+        recipeDetailCache.init();
+
+        Recipe recipe = new Recipe();
+        recipe.setRecipeId(1L);
+        recipe.setMenuName("김치찌개");
+        recipe.setMenuType(MenuType.PUBLIC);
+        recipe.setRecipeManuals(new ArrayList<>());
+        when(recipeRepository.findRecipeWithManuals(1L)).thenReturn(recipe);
+    }
+
+    @DisplayName("두 번째 조회부터는 로컬 캐시에서 조회한다")
+    @Test
+    void testLocalHit() {
+        // When
+        recipeDetailCache.find(1L);
+        RecipeWithManualsDTO cached = recipeDetailCache.find(1L);
+
+        // Then
+        Assertions.assertEquals("김치찌개", cached.getMenuName());
+        verify(recipeRepository, times(1)).findRecipeWithManuals(1L);
+        verify(valueOperations).set(eq("recipe:detail:1"), anyString(), any());
+        Assertions.assertEquals(0.5, meterRegistry.get("recipe.detail.cache.hit.ratio").gauge().value());
+    }
+
+    @DisplayName("로컬 캐시에 없으면 Redis 캐시에서 조회한다")
+    @Test
+    void testRedisHit() {
+        // Given
+        when(valueOperations.get("recipe:detail:2"))
+                .thenReturn("{\"recipe_id\":2,\"menu_name\":\"된장찌개\",\"manuals\":[]}");
+
+        // When
+        RecipeWithManualsDTO cached = recipeDetailCache.find(2L);
+
+        // Then
+        Assertions.assertEquals("된장찌개", cached.getMenuName());
+        verify(recipeRepository, never()).findRecipeWithManuals(2L);
+    }
+
+    @DisplayName("무효화하면 두 단계 캐시에서 제거하고 다른 서버에 전파한다")
+    @Test
+    void testInvalidate() {
+        // Given
+        recipeDetailCache.find(1L);
+
+        // When
+        recipeDetailCache.invalidate(1L);
+        recipeDetailCache.find(1L);
+
+        // Then
+        verify(recipeRepository, times(2)).findRecipeWithManuals(1L);
+        verify(stringRedisTemplate).delete("recipe:detail:1");
+        verify(stringRedisTemplate).convertAndSend(eq("recipe:detail:invalidated"), endsWith(":1"));
+    }
+}
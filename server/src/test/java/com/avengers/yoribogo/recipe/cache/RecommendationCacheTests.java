@@ -0,0 +1,105 @@
+package com.avengers.yoribogo.recipe.cache;
+
+import com.avengers.yoribogo.recipe.dto.RequestRecommendDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RecommendationCacheTests {
+
+    private static final RequestRecommendDTO REQUEST = new RequestRecommendDTO("맑음", "행복", "2인", "아니요", "");
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ListOperations<String, String> listOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private RecommendationCache recommendationCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        listOperations = mock(ListOperations.class);
+        when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+        meterRegistry = new SimpleMeterRegistry();
+
+        recommendationCache = new RecommendationCache(stringRedisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(recommendationCache, "poolSize", 2);
+        ReflectionTestUtils.setField(recommendationCache, "ttlSeconds", 60L);
+        recommendationCache.init();
+    }
+
+    @DisplayName("띄어쓰기·대소문자만 다른 설문 응답은 같은 키를 사용한다")
+    @Test
+    void testKeyNormalization() {
+        // Given
+        RequestRecommendDTO other = new RequestRecommendDTO(" 맑음", "행복 ", "2인", "아니요", null);
+
+        // When & Then
+        Assertions.assertEquals(RecommendationCache.key(REQUEST), RecommendationCache.key(other));
+        Assertions.assertNotEquals(RecommendationCache.key(REQUEST),
+                RecommendationCache.key(new RequestRecommendDTO("비", "행복", "2인", "아니요", "")));
+    }
+
+    @DisplayName("풀이 다 차면 항상 풀에서 고르고 절약한 토큰 수를 기록한다")
+    @Test
+    void testSampleFromFullPool() {
+        // Given
+        when(listOperations.range(anyString(), eq(0L), eq(-1L)))
+                .thenReturn(List.of("120\t김치찌개(Kimchi stew)", "100\t된장찌개(Soybean paste stew)"));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            String answer = recommendationCache.sample(REQUEST);
+            Assertions.assertTrue(answer.endsWith("stew)"));
+        }
+
+        // Then
+        Assertions.assertEquals(10.0, meterRegistry.get("recipe.recommend.cache.requests").tag("result", "hit").counter().count());
+        Assertions.assertEquals(10.0, meterRegistry.get("recipe.recommend.cache.saved.calls").counter().count());
+        double savedTokens = meterRegistry.get("recipe.recommend.cache.saved.tokens").counter().count();
+        Assertions.assertTrue(savedTokens >= 1000.0 && savedTokens <= 1200.0);
+    }
+
+    @DisplayName("풀이 비어 있으면 새로 추천받도록 null을 반환한다")
+    @Test
+    void testMissOnEmptyPool() {
+        // Given
+        when(listOperations.range(anyString(), eq(0L), eq(-1L))).thenReturn(List.of());
+
+        // When
+        String answer = recommendationCache.sample(REQUEST);
+
+        // Then
+        Assertions.assertNull(answer);
+        Assertions.assertEquals(1.0, meterRegistry.get("recipe.recommend.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @DisplayName("풀을 처음 만들 때 만료 시간을 설정하고, 넘치면 오래된 답변을 잘라낸다")
+    @Test
+    void testAdd() {
+        // Given
+        String key = RecommendationCache.key(REQUEST);
+        when(listOperations.leftPush(eq(key), anyString())).thenReturn(1L, 2L, 3L);
+
+        // When
+        recommendationCache.add(REQUEST, "김치찌개(Kimchi stew)", 120);
+        recommendationCache.add(REQUEST, "된장찌개(Soybean paste stew)", 100);
+        recommendationCache.add(REQUEST, "부대찌개(Army stew)", 110);
+
+        // Then
+        verify(listOperations).leftPush(key, "120\t김치찌개(Kimchi stew)");
+        verify(stringRedisTemplate, times(1)).expire(key, Duration.ofSeconds(60));
+        verify(listOperations, times(1)).trim(key, 0, 1);
+    }
+}
@@ -0,0 +1,128 @@
+package com.avengers.yoribogo.recipe.image;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ImageJobQueueTests {
+
+    private static final RecordId RECORD_ID = RecordId.of("1-0");
+
+    private StreamOperations<String, Object, Object> streamOperations;
+    private ZSetOperations<String, String> zSetOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private ImageJobQueue imageJobQueue;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        streamOperations = mock(StreamOperations.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(stringRedisTemplate.opsForHash()).thenReturn(mock(HashOperations.class));
+        meterRegistry = new SimpleMeterRegistry();
+
+        imageJobQueue = new ImageJobQueue(stringRedisTemplate, new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(imageJobQueue, "maxAttempts", 3);
+        ReflectionTestUtils.setField(imageJobQueue, "backoffBaseMillis", 1000L);
+        ReflectionTestUtils.setField(imageJobQueue, "backoffMaxMillis", 60000L);
+        ReflectionTestUtils.setField(imageJobQueue, "visibilityTimeoutSeconds", 600L);
+        imageJobQueue.init();
+    }
+
+    @DisplayName("재시도 대기 시간은 실패할 때마다 두 배로 늘어나고 최대값을 넘지 않는다")
+    @Test
+    void testRetryDelay() {
+        Assertions.assertEquals(1000L, ImageJobQueue.retryDelayMillis(1, 1000L, 60000L));
+        Assertions.assertEquals(2000L, ImageJobQueue.retryDelayMillis(2, 1000L, 60000L));
+        Assertions.assertEquals(8000L, ImageJobQueue.retryDelayMillis(4, 1000L, 60000L));
+        Assertions.assertEquals(60000L, ImageJobQueue.retryDelayMillis(40, 1000L, 60000L));
+    }
+
+    @DisplayName("재시도 횟수가 남은 실패는 재시도 대기열에 넣고 원래 메시지는 확인 처리한다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailWithRetry() {
+        // Given
+        ImageJob job = new ImageJob(7L, "Kimchi stew", 0);
+
+        // When
+        imageJobQueue.fail(RECORD_ID, job, new IllegalStateException("rate limited"), true);
+
+        // Then
+        verify(zSetOperations).add(eq(ImageJobQueue.RETRY_KEY), contains("\"attempt\":\"1\""), anyDouble());
+        verify(streamOperations, never()).add(any(MapRecord.class));
+        verify(streamOperations).acknowledge(ImageJobQueue.STREAM, ImageJobQueue.GROUP, RECORD_ID);
+        verify(streamOperations).delete(ImageJobQueue.STREAM, RECORD_ID);
+        Assertions.assertEquals(1.0, meterRegistry.get("recipe.image.jobs").tag("result", "retried").counter().count());
+    }
+
+    @DisplayName("최대 횟수를 넘기거나 재시도할 수 없는 실패는 dead-letter 스트림으로 보낸다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailToDeadLetter() {
+        // Given
+        ImageJob exhausted = new ImageJob(7L, "Kimchi stew", 2);
+        ImageJob notRetryable = new ImageJob(8L, "Bibimbap", 0);
+
+        // When
+        imageJobQueue.fail(RECORD_ID, exhausted, new IllegalStateException("rate limited"), true);
+        imageJobQueue.fail(RecordId.of("2-0"), notRetryable, new IllegalStateException("deleted"), false);
+
+        // Then
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+        verify(streamOperations, times(2)).add(argThat((MapRecord<String, String, String> record) ->
+                ImageJobQueue.DEAD_LETTER_STREAM.equals(record.getStream())
+                        && record.getValue().containsKey("error_message")));
+        Assertions.assertEquals(2.0, meterRegistry.get("recipe.image.jobs").tag("result", "dead").counter().count());
+    }
+
+    @DisplayName("스트림에 넣지 못한 작업은 버리지 않고 예외를 그대로 던진다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEnqueuePropagatesRedisFailure() {
+        // Given
+        when(streamOperations.add(any(MapRecord.class))).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When & Then
+        Assertions.assertThrows(RedisConnectionFailureException.class, () -> imageJobQueue.enqueue(7L, "Kimchi stew"));
+    }
+
+    @DisplayName("처리 중인 작업이 없고 오래 응답 없는 소비자만 그룹에서 삭제")
+    @Test
+    void testRemoveIdleConsumers() {
+        // Given
+        when(streamOperations.consumers(ImageJobQueue.STREAM, ImageJobQueue.GROUP)).thenReturn(
+                StreamInfo.XInfoConsumers.fromList(ImageJobQueue.GROUP, List.of(
+                        List.of("name", "image-worker-old", "pending", 0L, "idle", 3_600_000L),
+                        List.of("name", "image-worker-busy", "pending", 2L, "idle", 3_600_000L),
+                        List.of("name", "image-worker-live", "pending", 0L, "idle", 1_000L))));
+
+        // When
+        imageJobQueue.removeIdleConsumers();
+
+        // Then
+        verify(streamOperations).deleteConsumer(ImageJobQueue.STREAM, Consumer.from(ImageJobQueue.GROUP, "image-worker-old"));
+        verify(streamOperations, times(1)).deleteConsumer(anyString(), any(Consumer.class));
+    }
+}
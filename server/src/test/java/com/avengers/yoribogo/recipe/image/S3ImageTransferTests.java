@@ -0,0 +1,154 @@
+package com.avengers.yoribogo.recipe.image;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.*;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class S3ImageTransferTests {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    private HttpServer server;
+    private byte[] image;
+    private AmazonS3Client s3Client;
+    private SimpleMeterRegistry meterRegistry;
+    private S3ImageTransfer s3ImageTransfer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/image.png", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "image/png");
+            exchange.sendResponseHeaders(200, image.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                // 작은 조각으로 나눠 보내기
+                for (int offset = 0; offset < image.length; offset += 8192) {
+                    body.write(image, offset, Math.min(8192, image.length - offset));
+                }
+            }
+        });
+        server.start();
+
+        s3Client = mock(AmazonS3Client.class);
+        when(s3Client.getUrl(anyString(), anyString())).thenAnswer(invocation ->
+                new URL("https://bucket.s3.amazonaws.com/" + invocation.getArgument(1)));
+        meterRegistry = new SimpleMeterRegistry();
+
+        s3ImageTransfer = new S3ImageTransfer(s3Client, meterRegistry);
+        ReflectionTestUtils.setField(s3ImageTransfer, "bucket", "bucket");
+        ReflectionTestUtils.setField(s3ImageTransfer, "partSize", PART_SIZE);
+        ReflectionTestUtils.setField(s3ImageTransfer, "connectTimeoutMillis", 1000);
+        ReflectionTestUtils.setField(s3ImageTransfer, "responseTimeoutSeconds", 5L);
+        ReflectionTestUtils.setField(s3ImageTransfer, "timeoutSeconds", 30L);
+        s3ImageTransfer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @DisplayName("한 파트보다 작은 이미지는 멀티파트 없이 한 번에 올린다")
+    @Test
+    void testSmallImageSinglePut() throws IOException {
+        // Given
+        image = imageBytes(1_500_000);
+        ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        when(s3Client.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            Assertions.assertEquals("image/png", request.getMetadata().getContentType());
+            Assertions.assertEquals(image.length, request.getMetadata().getContentLength());
+            request.getInputStream().transferTo(uploaded);
+            return new PutObjectResult();
+        });
+
+        // When
+        String url = s3ImageTransfer.transfer(imageUrl(), "recipe_1.png").block(Duration.ofSeconds(30));
+
+        // Then
+        Assertions.assertEquals("https://bucket.s3.amazonaws.com/recipe_1.png", url);
+        Assertions.assertArrayEquals(image, uploaded.toByteArray());
+        verify(s3Client, never()).initiateMultipartUpload(any());
+        Assertions.assertEquals(image.length,
+                meterRegistry.get("recipe.image.transfer.size").summary().totalAmount());
+    }
+
+    @DisplayName("큰 이미지는 파트 크기만큼씩 멀티파트로 올리고 마지막에 완료한다")
+    @Test
+    void testLargeImageMultipart() throws IOException {
+        // Given
+        image = imageBytes(PART_SIZE * 2 + 123_456);
+        ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        when(s3Client.initiateMultipartUpload(any())).thenReturn(uploadResult());
+        when(s3Client.uploadPart(any())).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            try (InputStream part = request.getInputStream()) {
+                part.transferTo(uploaded);
+            }
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+
+        // When
+        s3ImageTransfer.transfer(imageUrl(), "recipe_2.png").block(Duration.ofSeconds(30));
+
+        // Then
+        verify(s3Client, times(3)).uploadPart(any());
+        verify(s3Client).completeMultipartUpload(argThat(request -> request.getPartETags().size() == 3));
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class));
+        Assertions.assertArrayEquals(image, uploaded.toByteArray());
+    }
+
+    @DisplayName("업로드 중 실패하면 멀티파트 업로드를 취소하고 실패를 기록한다")
+    @Test
+    void testAbortOnFailure() {
+        // Given
+        image = imageBytes(PART_SIZE * 2);
+        when(s3Client.initiateMultipartUpload(any())).thenReturn(uploadResult());
+        when(s3Client.uploadPart(any())).thenThrow(new AmazonS3Exception("slow down"));
+
+        // When & Then
+        Assertions.assertThrows(AmazonS3Exception.class,
+                () -> s3ImageTransfer.transfer(imageUrl(), "recipe_3.png").block(Duration.ofSeconds(30)));
+        verify(s3Client, timeout(5000)).abortMultipartUpload(any());
+        Assertions.assertEquals(1L, meterRegistry.get("recipe.image.transfer").tag("result", "failure").timer().count());
+    }
+
+    private String imageUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/image.png";
+    }
+
+    private static InitiateMultipartUploadResult uploadResult() {
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setUploadId("upload-1");
+        return result;
+    }
+
+    private static byte[] imageBytes(int size) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, (byte) 7);
+        for (int i = 0; i < size; i += 997) bytes[i] = (byte) i;
+        return bytes;
+    }
+}
@@ -0,0 +1,127 @@
+package com.avengers.yoribogo.recipe.ingredient;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class IngredientIndexTests {
+
+    private IngredientIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new IngredientIndex();
+        index.replaceAll(List.of(
+                recipe(1L, "계란후라이", "달걀 1개, 식용유 1큰술, 소금 약간"),
+                recipe(2L, "김치볶음밥", "밥 1공기, 배추김치 100g, 다진 대파 10g, 식용유 1큰술"),
+                recipe(3L, "계란말이", "계란 3개, 대파 10g, 당근 20g, 소금 약간"),
+                new IngredientIndex.Document(IngredientSourceType.BOARD, 1L, "파김치전", null, "대파, 김치, 부침가루, 물")
+        ));
+    }
+
+    @DisplayName("분량과 수식어를 제거하고 재료를 정규화한다")
+    @Test
+    void testParse() {
+        // When
+        List<String> tokens = IngredientParser.parse("설탕 2스푼, 간장 1큰술, 다진 마늘 1/2큰술, 달걀 30g(1/2개), 양파 반개");
+
+        // Then
+        Assertions.assertEquals(List.of("설탕", "간장", "마늘", "계란", "양파"), tokens);
+    }
+
+    @DisplayName("소제목 줄은 재료로 보지 않는다")
+    @Test
+    void testParseSkipsHeaders() {
+        // When
+        List<String> tokens = IngredientParser.parse("김치볶음밥\n밥 210g, 배추김치 100g\n양념장\n고추장 1큰술");
+
+        // Then
+        Assertions.assertEquals(List.of("쌀밥", "김치", "고추장"), tokens);
+    }
+
+    @DisplayName("재료 충족률이 높은 레시피가 먼저 조회된다")
+    @Test
+    void testMatchRanking() {
+        // When
+        List<IngredientIndex.Match> matches = index.match(List.of("계란", "대파"), true, true, 12);
+
+        // Then
+        Assertions.assertEquals(1L, matches.get(0).id());
+        Assertions.assertEquals(1.0, matches.get(0).coverage());
+        Assertions.assertEquals(3L, matches.get(1).id());
+        Assertions.assertEquals(List.of("당근"), matches.get(1).missingIngredients());
+    }
+
+    @DisplayName("기본 양념 제외 시 기본 양념도 부족한 재료로 계산한다")
+    @Test
+    void testMatchWithoutStaples() {
+        // When
+        List<IngredientIndex.Match> matches = index.match(List.of("계란"), false, true, 12);
+
+        // Then
+        Assertions.assertEquals(2, matches.size());
+        Assertions.assertTrue(matches.get(0).missingIngredients().contains("소금"));
+    }
+
+    @DisplayName("기본 양념만으로는 레시피를 조회하지 않는다")
+    @Test
+    void testMatchRequiresMainIngredient() {
+        // When
+        List<IngredientIndex.Match> matches = index.match(List.of("소금", "식용유"), true, true, 12);
+
+        // Then
+        Assertions.assertTrue(matches.isEmpty());
+    }
+
+    @DisplayName("게시글 제외 옵션과 수정·삭제가 즉시 반영된다")
+    @Test
+    void testIncrementalUpdate() {
+        // When
+        index.upsert(recipe(3L, "당근볶음", "당근 1개, 식용유 1큰술"));
+        index.remove(IngredientSourceType.RECIPE, 2L);
+        List<IngredientIndex.Match> withBoards = index.match(List.of("김치", "대파"), true, true, 12);
+        List<IngredientIndex.Match> withoutBoards = index.match(List.of("김치", "대파"), true, false, 12);
+
+        // Then
+        Assertions.assertEquals(1, withBoards.size());
+        Assertions.assertEquals(IngredientSourceType.BOARD, withBoards.get(0).type());
+        Assertions.assertTrue(withoutBoards.isEmpty());
+        Assertions.assertEquals(3, index.size());
+    }
+
+    @DisplayName("전체 교체 후 새 데이터에 없는 재료로 조회해도 결과만 비어 있다")
+    @Test
+    void testMatchAfterReplaceAllDropsIngredient() {
+        // Given
+        index.replaceAll(List.of(recipe(4L, "당근볶음", "당근 1개, 식용유 1큰술")));
+
+        // When
+        List<IngredientIndex.Match> matches = index.match(List.of("김치", "부침가루"), true, true, 12);
+
+        // Then
+        Assertions.assertTrue(matches.isEmpty());
+        Assertions.assertEquals(1, index.size());
+    }
+
+    @DisplayName("재정렬 후 더 이상 쓰이지 않는 재료로 조회해도 결과만 비어 있다")
+    @Test
+    void testMatchAfterCompactDropsIngredient() {
+        // Given
+        for (long id = 100; id < 1300; id++) index.upsert(recipe(id, "연근조림", "연근 1개"));
+        for (long id = 100; id < 1300; id++) index.remove(IngredientSourceType.RECIPE, id);
+
+        // When
+        List<IngredientIndex.Match> matches = index.match(List.of("연근"), true, true, 12);
+
+        // Then
+        Assertions.assertTrue(matches.isEmpty());
+        Assertions.assertEquals(4, index.size());
+    }
+
+    private static IngredientIndex.Document recipe(Long recipeId, String menuName, String ingredient) {
+        return new IngredientIndex.Document(IngredientSourceType.RECIPE, recipeId, menuName, null, ingredient);
+    }
+}
@@ -0,0 +1,154 @@
+package com.avengers.yoribogo.recipe.manual;
+
+import com.avengers.yoribogo.common.id.SequenceIdAllocator;
+import com.avengers.yoribogo.recipe.dto.RecipeManualChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AIManualStreamRegistryTests {
+
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationEventPublisher applicationEventPublisher;
+    private AIManualStreamRegistry registry;
+    private List<List<String>> batches;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        batches = new CopyOnWriteArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenAnswer(invocation -> {
+                    List<Object[]> rows = invocation.getArgument(1);
+                    batches.add(rows.stream().map(row -> (String) row[3]).toList());
+                    return new int[rows.size()];
+                });
+        // 매뉴얼 삭제 시 저장한 단계도 지운다
+        when(jdbcTemplate.update(anyString(), anyLong()))
+                .thenAnswer(invocation -> {
+                    batches.clear();
+                    return 0;
+                });
+
+        SequenceIdAllocator sequenceIdAllocator = mock(SequenceIdAllocator.class);
+        AtomicLong nextId = new AtomicLong(1);
+        when(sequenceIdAllocator.allocate(anyString(), anyInt()))
+                .thenAnswer(invocation -> LongStream.range(0, (int) invocation.getArgument(1))
+                        .map(i -> nextId.getAndIncrement())
+                        .toArray());
+
+        registry = new AIManualStreamRegistry(jdbcTemplate, sequenceIdAllocator, applicationEventPublisher,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(registry, "replayLimit", 100);
+        ReflectionTestUtils.setField(registry, "batchSize", 2);
+        ReflectionTestUtils.setField(registry, "flushMillis", 50L);
+        ReflectionTestUtils.setField(registry, "retentionSeconds", 60L);
+        ReflectionTestUtils.setField(registry, "idleCancelSeconds", 60L);
+        registry.init();
+    }
+
+    @DisplayName("다시 연결한 클라이언트는 이미 보낸 조각부터 받고 OpenAI는 한 번만 호출")
+    @Test
+    void testJoinReplaysSentTokens() {
+        // Given
+        Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicInteger calls = new AtomicInteger();
+        List<String> first = new CopyOnWriteArrayList<>();
+        registry.join(1L, () -> {
+            calls.incrementAndGet();
+            return upstream.asFlux();
+        }).take(1).subscribe(first::add);  // 첫 조각만 받고 연결 종료
+
+        upstream.tryEmitNext("1. 쌀을 씻습니다.\n");
+        upstream.tryEmitNext("2. 밥을 짓습니다.\n");
+
+        // When
+        List<String> replayed = new CopyOnWriteArrayList<>();
+        registry.join(1L, () -> {
+            calls.incrementAndGet();
+            return upstream.asFlux();
+        }).subscribe(replayed::add);
+        upstream.tryEmitNext("3. 뜸을 들입니다.");
+        upstream.tryEmitComplete();
+
+        // Then
+        Assertions.assertEquals(List.of("1. 쌀을 씻습니다.\n"), first);
+        Assertions.assertEquals(1, calls.get());
+        verify(applicationEventPublisher, timeout(2000).atLeastOnce()).publishEvent(any(RecipeManualChangedEvent.class));
+        await(() -> replayed.size() == 3);
+        Assertions.assertEquals(List.of("1. 쌀을 씻습니다.\n", "2. 밥을 짓습니다.\n", "3. 뜸을 들입니다."), replayed);
+        Assertions.assertTrue(registry.isActive(1L));
+    }
+
+    @DisplayName("완성된 단계는 생성 중에 배치로 저장하고 실패 시 저장한 단계까지 모두 지움")
+    @Test
+    void testPersistsCompletedStepsInBatches() {
+        // Given
+        Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        List<String> received = new CopyOnWriteArrayList<>();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        registry.join(2L, upstream::asFlux).subscribe(received::add, errors::add);
+
+        // When
+        upstream.tryEmitNext("1. 쌀을 씻습니다.\n2. 물을 붓습니다.\n3. 끓입니다.\n");
+        await(() -> !batches.isEmpty());
+        Assertions.assertEquals(List.of("1. 쌀을 씻습니다.", "2. 물을 붓습니다."), batches.get(0));
+        upstream.tryEmitNext("4. 뜸을");
+        upstream.tryEmitError(new IllegalStateException("연결 끊김"));
+
+        // Then
+        await(() -> !errors.isEmpty());
+        verify(jdbcTemplate).update(anyString(), eq(2L));
+        Assertions.assertTrue(batches.isEmpty());
+        Assertions.assertFalse(registry.isActive(2L));
+    }
+
+    @DisplayName("구독자가 모두 떠나면 OpenAI 스트림을 취소하고 저장한 단계를 지움")
+    @Test
+    void testCancelsUpstreamWhenEveryoneLeaves() {
+        // Given
+        ReflectionTestUtils.setField(registry, "idleCancelSeconds", 0L);
+        Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicInteger cancellations = new AtomicInteger();
+        Disposable first = registry.join(3L, () -> upstream.asFlux().doOnCancel(cancellations::incrementAndGet)).subscribe();
+        Disposable second = registry.join(3L, upstream::asFlux).subscribe();
+        upstream.tryEmitNext("1. 쌀을 씻습니다.\n2. 물을 붓습니다.\n3. ");
+        await(() -> !batches.isEmpty());
+
+        // When
+        first.dispose();
+        Assertions.assertEquals(0, cancellations.get());
+        second.dispose();
+
+        // Then
+        await(() -> cancellations.get() == 1);
+        verify(jdbcTemplate, timeout(2000)).update(anyString(), eq(3L));
+        Assertions.assertFalse(registry.isActive(3L));
+    }
+
+    private static void await(java.util.function.BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) Assertions.fail("조건을 만족하지 못함");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.avengers.yoribogo.recipe.manual;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+
+class ManualStepDiffTests {
+
+    private record Step(int step, String content, String image) {
+        Step(int step, String content) {
+            this(step, content, null);
+        }
+    }
+
+    private static ManualStepDiff<Step, Step> diff(List<Step> stored, List<Step> requested) {
+        return ManualStepDiff.compute(stored, Step::step, requested, Step::step,
+                (storedStep, requestedStep) -> Objects.equals(storedStep.content(), requestedStep.content())
+                        && Objects.equals(storedStep.image(), requestedStep.image()));
+    }
+
+    @DisplayName("단계 번호로 짝지어 바뀐 단계만 수정, 새 단계는 추가, 빠진 단계는 삭제로 분류")
+    @Test
+    void testComputeClassifiesSteps() {
+        // Given
+        List<Step> stored = List.of(new Step(1, "쌀을 씻는다."), new Step(2, "물을 붓는다."), new Step(3, "뜸을 들인다."));
+        List<Step> requested = List.of(new Step(1, "쌀을 씻는다."), new Step(2, "물을 1컵 붓는다."), new Step(4, "섞는다."));
+
+        // When
+        ManualStepDiff<Step, Step> diff = diff(stored, requested);
+
+        // Then
+        Assertions.assertTrue(diff.hasChanges());
+        Assertions.assertEquals(List.of(stored.get(0)),
+                diff.getUnchanged().stream().map(ManualStepDiff.Match::stored).toList());
+        Assertions.assertEquals(List.of(new ManualStepDiff.Match<>(stored.get(1), requested.get(1))), diff.getUpdates());
+        Assertions.assertEquals(List.of(requested.get(2)), diff.getInserts());
+        Assertions.assertEquals(List.of(stored.get(2)), diff.getDeletes());
+    }
+
+    @DisplayName("같은 내용이면 변경 없음, 번호가 중복된 저장 단계는 삭제")
+    @Test
+    void testComputeWithoutChangesAndDuplicateSteps() {
+        // Given
+        List<Step> stored = List.of(new Step(1, "a"), new Step(1, "a"), new Step(2, "b"));
+        List<Step> requested = List.of(new Step(1, "a"), new Step(2, "b"));
+
+        // When
+        ManualStepDiff<Step, Step> unchanged = diff(stored.subList(1, 3), requested);
+        ManualStepDiff<Step, Step> duplicated = diff(stored, requested);
+
+        // Then
+        Assertions.assertFalse(unchanged.hasChanges());
+        Assertions.assertEquals(2, unchanged.getUnchanged().size());
+        Assertions.assertEquals(List.of(stored.get(1)), duplicated.getDeletes());
+        Assertions.assertTrue(duplicated.getInserts().isEmpty());
+    }
+
+    @DisplayName("모든 필드가 같아야 변경 없음 (null과 빈 문자열, 필드 경계를 구분)")
+    @Test
+    void testComputeComparesEveryField() {
+        // Given
+        List<Step> stored = List.of(new Step(1, "ab", null), new Step(2, "a", null), new Step(3, "a", "b"));
+        List<Step> requested = List.of(new Step(1, "a", "b"), new Step(2, "a", ""), new Step(3, "a", "b"));
+
+        // When
+        ManualStepDiff<Step, Step> diff = diff(stored, requested);
+
+        // Then
+        Assertions.assertEquals(List.of(stored.get(0), stored.get(1)),
+                diff.getUpdates().stream().map(ManualStepDiff.Match::stored).toList());
+        Assertions.assertEquals(List.of(stored.get(2)),
+                diff.getUnchanged().stream().map(ManualStepDiff.Match::stored).toList());
+    }
+}
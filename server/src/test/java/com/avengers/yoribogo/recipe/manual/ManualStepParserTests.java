@@ -0,0 +1,43 @@
+package com.avengers.yoribogo.recipe.manual;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ManualStepParserTests {
+
+    @DisplayName("조각으로 나뉜 응답에서 단계 단위로 완성 시점에 반환")
+    @Test
+    void testAcceptFragmentedTokens() {
+        // Given
+        ManualStepParser parser = new ManualStepParser();
+        List<String> completed = new ArrayList<>();
+
+        // When
+        completed.addAll(parser.accept("1. 쌀을 "));
+        completed.addAll(parser.accept("씻습니다.\n2"));
+        Assertions.assertTrue(completed.isEmpty());
+        completed.addAll(parser.accept(". 물을 붓습니다.\n3. 끓"));
+
+        // Then
+        Assertions.assertEquals(List.of("1. 쌀을 씻습니다."), completed);
+        Assertions.assertEquals(List.of("2. 물을 붓습니다.", "3. 끓"), parser.finish());
+    }
+
+    @DisplayName("첫 단계 이전 안내 문구는 버리고 번호 없는 줄은 직전 단계에 이어 붙임")
+    @Test
+    void testPreambleAndContinuation() {
+        // Given
+        ManualStepParser parser = new ManualStepParser();
+
+        // When
+        List<String> completed = new ArrayList<>(parser.accept("레시피입니다.\n\n1) 양파를 썹니다.\r\n잘게 썹니다.\n2. 볶습니다."));
+        completed.addAll(parser.finish());
+
+        // Then
+        Assertions.assertEquals(List.of("1) 양파를 썹니다. 잘게 썹니다.", "2. 볶습니다."), completed);
+    }
+}
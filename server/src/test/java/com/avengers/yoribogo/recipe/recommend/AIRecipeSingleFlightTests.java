@@ -0,0 +1,150 @@
+package com.avengers.yoribogo.recipe.recommend;
+
+import com.avengers.yoribogo.recipe.dto.BaseRecipeDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AIRecipeSingleFlightTests {
+
+    private ValueOperations<String, String> valueOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private AIRecipeSingleFlight singleFlight;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+
+        singleFlight = new AIRecipeSingleFlight(stringRedisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(singleFlight, "lockTtlSeconds", 60L);
+        ReflectionTestUtils.setField(singleFlight, "waitMillis", 5000L);
+        ReflectionTestUtils.setField(singleFlight, "pollMillis", 10L);
+        singleFlight.init();
+    }
+
+    @DisplayName("같은 서버에서 같은 요리를 동시에 요청하면 한 번만 생성하고 결과를 공유한다")
+    @Test
+    void testLocalCoalescing() throws Exception {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        AtomicInteger generations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+
+        // When
+        List<Future<BaseRecipeDTO>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            String menuName = i % 2 == 0 ? "김치찌개" : " 김치찌개 ";
+            results.add(executor.submit(() -> singleFlight.execute(menuName, () -> null, () -> {
+                generations.incrementAndGet();
+                await(release);
+                return BaseRecipeDTO.builder().recipeId(1L).menuName("김치찌개").build();
+            })));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // Then
+        for (Future<BaseRecipeDTO> result : results) {
+            Assertions.assertEquals(1L, result.get(5, TimeUnit.SECONDS).getRecipeId());
+        }
+        executor.shutdown();
+        Assertions.assertEquals(1, generations.get());
+        Assertions.assertEquals(1.0, meterRegistry.get("recipe.recommend.single-flight").tag("result", "leader").counter().count());
+        Assertions.assertEquals(7.0, meterRegistry.get("recipe.recommend.single-flight").tag("result", "local").counter().count());
+    }
+
+    @DisplayName("다른 서버가 락을 잡고 있으면 생성하지 않고 등록된 요리를 조회해 사용한다")
+    @Test
+    void testRemoteLockHeld() throws Exception {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        AtomicInteger lookups = new AtomicInteger();
+        AtomicInteger generations = new AtomicInteger();
+
+        // When
+        BaseRecipeDTO result = singleFlight.execute("된장찌개",
+                () -> lookups.incrementAndGet() < 3 ? null : BaseRecipeDTO.builder().recipeId(2L).build(),
+                () -> {
+                    generations.incrementAndGet();
+                    return BaseRecipeDTO.builder().recipeId(3L).build();
+                });
+
+        // Then
+        Assertions.assertEquals(2L, result.getRecipeId());
+        Assertions.assertEquals(0, generations.get());
+        Assertions.assertEquals(1.0, meterRegistry.get("recipe.recommend.single-flight").tag("result", "remote").counter().count());
+    }
+
+    @DisplayName("생성에 실패하면 기다리던 요청에도 같은 예외를 전달하고 다음 요청은 다시 생성한다")
+    @Test
+    void testFailurePropagation() throws Exception {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        // When & Then
+        Assertions.assertThrows(IllegalStateException.class, () -> singleFlight.execute("비빔밥", () -> null, () -> {
+            throw new IllegalStateException("OpenAI 오류");
+        }));
+        BaseRecipeDTO result = singleFlight.execute("비빔밥", () -> null,
+                () -> BaseRecipeDTO.builder().recipeId(4L).build());
+        Assertions.assertEquals(4L, result.getRecipeId());
+    }
+
+    @DisplayName("같은 서버의 생성을 기다리다 시간이 지나면 등록된 요리를 조회하고, 없으면 직접 생성한다")
+    @Test
+    void testLocalWaitTimeout() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(singleFlight, "waitMillis", 100L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger lookups = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<BaseRecipeDTO> leader = executor.submit(() -> singleFlight.execute("잡채", () -> null, () -> {
+            await(release);
+            return BaseRecipeDTO.builder().recipeId(5L).build();
+        }));
+        Thread.sleep(50);
+
+        // When
+        BaseRecipeDTO found = singleFlight.execute("잡채",
+                () -> lookups.incrementAndGet() == 1 ? BaseRecipeDTO.builder().recipeId(6L).build() : null,
+                () -> BaseRecipeDTO.builder().recipeId(7L).build());
+        BaseRecipeDTO generated = singleFlight.execute("잡채", () -> null,
+                () -> BaseRecipeDTO.builder().recipeId(7L).build());
+        release.countDown();
+
+        // Then
+        Assertions.assertEquals(6L, found.getRecipeId());
+        Assertions.assertEquals(7L, generated.getRecipeId());
+        Assertions.assertEquals(5L, leader.get(5, TimeUnit.SECONDS).getRecipeId());
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.avengers.yoribogo.recipe.search;
+
+import com.avengers.yoribogo.recipe.domain.MenuType;
+import com.avengers.yoribogo.recipe.dto.RecipeDTO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class RecipeSearchIndexTests {
+
+    private RecipeSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RecipeSearchIndex();
+        index.replaceAll(List.of(
+                recipe(1L, "김치찌개"),
+                recipe(2L, "돼지고기 김치찌개"),
+                recipe(3L, "김치볶음밥"),
+                recipe(4L, "된장찌개"),
+                recipe(5L, "김치")
+        ));
+    }
+
+    @DisplayName("부분 일치 검색 시 정확히 일치하는 이름이 가장 먼저 조회된다")
+    @Test
+    void testSearchRanking() {
+        // When
+        RecipeSearchIndex.SearchResult result = index.search("김치", 0, 12);
+
+        // Then
+        Assertions.assertEquals(4, result.total());
+        Assertions.assertEquals(5L, result.content().get(0).getRecipeId());
+        Assertions.assertEquals(1L, result.content().get(1).getRecipeId());
+    }
+
+    @DisplayName("공백과 특수문자를 무시하고 검색한다")
+    @Test
+    void testSearchIgnoresWhitespace() {
+        // When
+        RecipeSearchIndex.SearchResult result = index.search(" 김치 찌개! ", 0, 12);
+
+        // Then
+        Assertions.assertEquals(2, result.total());
+        Assertions.assertEquals(1L, result.content().get(0).getRecipeId());
+    }
+
+    @DisplayName("초성으로 검색한다")
+    @Test
+    void testSearchByChoseong() {
+        // When
+        RecipeSearchIndex.SearchResult result = index.search("ㄱㅊㅂㅇㅂ", 0, 12);
+
+        // Then
+        Assertions.assertEquals(1, result.total());
+        Assertions.assertEquals(3L, result.content().get(0).getRecipeId());
+    }
+
+    @DisplayName("한 글자 오타가 있어도 검색된다")
+    @Test
+    void testSearchWithTypo() {
+        // When
+        RecipeSearchIndex.SearchResult result = index.search("김치찌게", 0, 12);
+
+        // Then
+        Assertions.assertFalse(result.content().isEmpty());
+        Assertions.assertEquals(1L, result.content().get(0).getRecipeId());
+    }
+
+    @DisplayName("등록·수정·삭제가 색인에 바로 반영된다")
+    @Test
+    void testIncrementalUpdate() {
+        // When
+        index.upsert(recipe(6L, "참치김치찌개"));
+        index.upsert(recipe(4L, "차돌된장찌개"));
+        index.remove(1L);
+
+        // Then
+        Assertions.assertEquals(2, index.search("김치찌개", 0, 12).total());
+        Assertions.assertEquals(4L, index.search("차돌", 0, 12).content().get(0).getRecipeId());
+        Assertions.assertEquals(5, index.size());
+    }
+
+    @DisplayName("요청한 페이지 구간만 반환한다")
+    @Test
+    void testPagination() {
+        // When
+        RecipeSearchIndex.SearchResult firstPage = index.search("찌개", 0, 2);
+        RecipeSearchIndex.SearchResult secondPage = index.search("찌개", 2, 2);
+
+        // Then
+        Assertions.assertEquals(3, firstPage.total());
+        Assertions.assertEquals(2, firstPage.content().size());
+        Assertions.assertEquals(1, secondPage.content().size());
+    }
+
+    private RecipeDTO recipe(Long recipeId, String menuName) {
+        return RecipeDTO.builder()
+                .recipeId(recipeId)
+                .menuName(menuName)
+                .menuType(MenuType.PUBLIC)
+                .userId(1L)
+                .build();
+    }
+}
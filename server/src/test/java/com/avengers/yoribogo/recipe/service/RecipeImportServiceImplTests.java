@@ -0,0 +1,77 @@
+package com.avengers.yoribogo.recipe.service;
+
+import com.avengers.yoribogo.recipe.bulk.RecipeBulkImporter;
+import com.avengers.yoribogo.recipe.domain.RecipeImportJob;
+import com.avengers.yoribogo.recipe.dto.RecipeImportJobDTO;
+import com.avengers.yoribogo.recipe.repository.RecipeImportJobRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RecipeImportServiceImplTests {
+
+    @TempDir
+    Path importDirectory;
+
+    private RecipeImportJobRepository recipeImportJobRepository;
+    private RecipeImportServiceImpl recipeImportService;
+
+    @BeforeEach
+    void setUp() {
+        recipeImportJobRepository = mock(RecipeImportJobRepository.class);
+        when(recipeImportJobRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(recipeImportJobRepository.save(any(RecipeImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        RecipeBulkImporter recipeBulkImporter = mock(RecipeBulkImporter.class);
+        when(recipeBulkImporter.tryAcquire()).thenReturn(true);
+
+        recipeImportService = new RecipeImportServiceImpl(recipeImportJobRepository, recipeBulkImporter);
+        ReflectionTestUtils.setField(recipeImportService, "importDirectory", importDirectory);
+        ReflectionTestUtils.setField(recipeImportService, "defaultUserId", 1L);
+    }
+
+    @DisplayName("이름·크기가 같아도 내용이 다르면 다른 작업으로 등록")
+    @Test
+    void testSameNameAndSizeDifferentContent() {
+        // When
+        RecipeImportJobDTO first = recipeImportService.registRecipeImport(dump("recipes.json", "[{\"a\":1}]"), null);
+        RecipeImportJobDTO second = recipeImportService.registRecipeImport(dump("recipes.json", "[{\"b\":2}]"), null);
+
+        // Then
+        Assertions.assertNotEquals(first.getImportJobId(), second.getImportJobId());
+        Assertions.assertNotEquals(first.getSourcePath(), second.getSourcePath());
+    }
+
+    @DisplayName("이름이 달라도 내용이 같으면 같은 작업으로 이어서 처리하고 덤프는 한 벌만 보관")
+    @Test
+    void testSameContentDifferentName() throws IOException {
+        // When
+        RecipeImportJobDTO first = recipeImportService.registRecipeImport(dump("a.json", "[{\"a\":1}]"), null);
+        RecipeImportJobDTO second = recipeImportService.registRecipeImport(dump("b.json", "[{\"a\":1}]"), null);
+
+        // Then
+        Assertions.assertEquals(first.getImportJobId(), second.getImportJobId());
+        Assertions.assertEquals(64, first.getImportJobId().length());
+        try (Stream<Path> files = Files.list(importDirectory)) {
+            Assertions.assertEquals(1, files.count());
+        }
+    }
+
+    private static MockMultipartFile dump(String fileName, String content) {
+        return new MockMultipartFile("file", fileName, "application/json", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
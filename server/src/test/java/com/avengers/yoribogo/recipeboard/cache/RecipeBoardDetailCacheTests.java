@@ -0,0 +1,104 @@
+package com.avengers.yoribogo.recipeboard.cache;
+
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardActivityEvent;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardDetailDTO;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardManualDetailDTO;
+import com.avengers.yoribogo.recipeboard.dto.ResponseBoardDTO;
+import com.avengers.yoribogo.recipeboard.trending.TrendingSignal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RecipeBoardDetailCacheTests {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RecipeBoardDetailCache recipeBoardDetailCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        recipeBoardDetailCache = new RecipeBoardDetailCache(stringRedisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(recipeBoardDetailCache, "ttlSeconds", 300L);
+        recipeBoardDetailCache.init();
+    }
+
+    @DisplayName("캐시에 없으면 DB에서 읽어 저장하고, 저장된 값은 DB 조회 없이 반환")
+    @Test
+    void testMissThenHit() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+
+        // When
+        RecipeBoardDetailDTO loaded = recipeBoardDetailCache.find(3L, () -> {
+            loads.incrementAndGet();
+            return detail(3L);
+        });
+        verify(valueOperations).set(eq("recipe-board:detail:3"), json.capture(), eq(Duration.ofSeconds(300)));
+        when(valueOperations.get("recipe-board:detail:3")).thenReturn(json.getValue());
+        RecipeBoardDetailDTO cached = recipeBoardDetailCache.find(3L, () -> {
+            loads.incrementAndGet();
+            return detail(3L);
+        });
+
+        // Then
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(loaded, cached);
+    }
+
+    @DisplayName("조회 도중 무효화되면 읽은 값을 캐시에 넣지 않는다")
+    @Test
+    void testSkipPutWhenInvalidatedDuringLoad() {
+        // When
+        recipeBoardDetailCache.find(3L, () -> {
+            recipeBoardDetailCache.handleRecipeBoardActivity(new RecipeBoardActivityEvent(3L, TrendingSignal.COMMENT, 1));
+            return detail(3L);
+        });
+
+        // Then
+        verify(stringRedisTemplate).delete("recipe-board:detail:3");
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @DisplayName("조회·즐겨찾기는 캐시한 내용을 바꾸지 않으므로 무효화하지 않는다")
+    @Test
+    void testViewDoesNotInvalidate() {
+        // When
+        recipeBoardDetailCache.handleRecipeBoardActivity(new RecipeBoardActivityEvent(3L, TrendingSignal.VIEW, 1));
+        recipeBoardDetailCache.handleRecipeBoardActivity(new RecipeBoardActivityEvent(3L, TrendingSignal.FAVORITE, 1));
+
+        // Then
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+
+    private static RecipeBoardDetailDTO detail(Long recipeBoardId) {
+        ResponseBoardDTO board = new ResponseBoardDTO();
+        board.setRecipeBoardId(recipeBoardId);
+        board.setRecipeBoardMenuName("김치찌개");
+        board.setRecipeBoardCreatedAt(LocalDateTime.of(2024, 10, 1, 12, 0));
+        RecipeBoardManualDetailDTO manual = new RecipeBoardManualDetailDTO();
+        manual.setRecipeBoardManualId(1L);
+        manual.setRecipeBoardManualStep(1);
+        manual.setRecipeBoardManualContent("김치를 볶는다");
+        return new RecipeBoardDetailDTO(board, List.of(manual), List.of(), List.of(), null);
+    }
+}
@@ -0,0 +1,173 @@
+package com.avengers.yoribogo.recipeboard.image;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.*;
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.common.image.ImageUploadPurpose;
+import com.avengers.yoribogo.common.image.ImageVariantGenerator;
+import com.avengers.yoribogo.common.image.PresignedImageUploader;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardManualDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ManualImageUploaderTests {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    private AmazonS3Client s3Client;
+    private PresignedImageUploader presignedImageUploader;
+    private ThreadPoolTaskExecutor executor;
+    private ManualImageUploader manualImageUploader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3Client = mock(AmazonS3Client.class);
+        when(s3Client.getUrl(anyString(), anyString())).thenAnswer(invocation ->
+                new URL("https://bucket.s3.amazonaws.com/" + invocation.getArgument(1)));
+
+        presignedImageUploader = mock(PresignedImageUploader.class);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.initialize();
+
+        manualImageUploader = new ManualImageUploader(s3Client, mock(ImageVariantGenerator.class),
+                presignedImageUploader, executor, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(manualImageUploader, "bucket", "bucket");
+        ReflectionTestUtils.setField(manualImageUploader, "concurrency", 2);
+        ReflectionTestUtils.setField(manualImageUploader, "multipartThreshold", (long) PART_SIZE);
+        ReflectionTestUtils.setField(manualImageUploader, "partSize", PART_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @DisplayName("단계 이미지를 동시에 최대 concurrency개씩 올리고 단계 순서대로 결과 반환")
+    @Test
+    void testUploadAllWithConcurrencyCap() {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(s3Client.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return new PutObjectResult();
+        });
+        List<RecipeBoardManualDTO> manualDTOs = new ArrayList<>();
+        for (int step = 1; step <= 6; step++) {
+            manualDTOs.add(manual(step, step == 3 ? null : image(1024)));
+        }
+
+        // When
+        List<ManualImageUploader.UploadedImage> uploaded = manualImageUploader.uploadAll(7L, manualDTOs);
+
+        // Then
+        Assertions.assertEquals(6, uploaded.size());
+        Assertions.assertNull(uploaded.get(2));
+        Assertions.assertTrue(uploaded.get(0).key().startsWith("manual_7_1_"));
+        Assertions.assertTrue(uploaded.get(5).url().endsWith(".jpg"));
+        Assertions.assertEquals(2, maxRunning.get());
+        verify(s3Client, times(5)).putObject(any(PutObjectRequest.class));
+    }
+
+    @DisplayName("큰 이미지는 멀티파트로 올린다")
+    @Test
+    void testLargeImageMultipart() {
+        // Given
+        when(s3Client.initiateMultipartUpload(any())).thenReturn(uploadResult());
+        when(s3Client.uploadPart(any())).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+
+        // When
+        manualImageUploader.uploadAll(7L, List.of(manual(1, image(PART_SIZE * 2 + 100))));
+
+        // Then
+        verify(s3Client, times(3)).uploadPart(any());
+        verify(s3Client).completeMultipartUpload(any());
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @DisplayName("하나라도 실패하면 이미 올린 이미지를 지우고 업로드 오류")
+    @Test
+    void testFailureCleansUpUploadedImages() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        when(s3Client.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 2) throw new SdkClientException("S3 오류");
+            return new PutObjectResult();
+        });
+        List<RecipeBoardManualDTO> manualDTOs = List.of(manual(1, image(1024)), manual(2, image(1024)));
+        ReflectionTestUtils.setField(manualImageUploader, "concurrency", 1);
+
+        // When
+        CommonException exception = Assertions.assertThrows(CommonException.class,
+                () -> manualImageUploader.uploadAll(7L, manualDTOs));
+
+        // Then
+        Assertions.assertEquals(ErrorCode.FILE_UPLOAD_ERROR, exception.getErrorCode());
+        verify(s3Client).deleteObjects(argThat((DeleteObjectsRequest request) ->
+                request.getKeys().size() == 1 && request.getKeys().get(0).getKey().startsWith("manual_7_1_")));
+    }
+
+    @DisplayName("직접 업로드한 단계 이미지는 확인만 하고, 실패해도 지우지 않는다")
+    @Test
+    void testClientUploadedImagesAreConfirmedNotDiscarded() {
+        // Given
+        String imageKey = "manual_7_0123abcd.png";
+        when(presignedImageUploader.confirm(ImageUploadPurpose.MANUAL, 7L, imageKey))
+                .thenReturn("https://bucket.s3.amazonaws.com/" + imageKey);
+        when(s3Client.putObject(any(PutObjectRequest.class))).thenThrow(new SdkClientException("S3 오류"));
+        RecipeBoardManualDTO keyed = new RecipeBoardManualDTO(1, null, imageKey, "1. 단계");
+        ReflectionTestUtils.setField(manualImageUploader, "concurrency", 1);
+
+        // When
+        List<ManualImageUploader.UploadedImage> uploaded = manualImageUploader.uploadAll(7L, List.of(keyed));
+        Assertions.assertThrows(CommonException.class,
+                () -> manualImageUploader.uploadAll(7L, List.of(keyed, manual(2, image(1024)))));
+
+        // Then
+        Assertions.assertEquals(imageKey, uploaded.get(0).key());
+        Assertions.assertTrue(uploaded.get(0).clientUploaded());
+        verify(s3Client, never()).putObject(argThat((PutObjectRequest request) -> request.getKey().equals(imageKey)));
+        verify(s3Client, never()).deleteObjects(any());
+    }
+
+    private static RecipeBoardManualDTO manual(int step, MockMultipartFile image) {
+        return new RecipeBoardManualDTO(step, image, null, step + ". 단계");
+    }
+
+    private static MockMultipartFile image(int size) {
+        return new MockMultipartFile("manual_images", "photo.JPG", "image/jpeg", new byte[size]);
+    }
+
+    private static InitiateMultipartUploadResult uploadResult() {
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setUploadId("upload-1");
+        return result;
+    }
+}
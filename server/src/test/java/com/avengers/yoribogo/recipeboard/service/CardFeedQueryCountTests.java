@@ -0,0 +1,99 @@
+package com.avengers.yoribogo.recipeboard.service;
+
+import com.avengers.yoribogo.common.CursorPageDTO;
+import com.avengers.yoribogo.recipe.dto.RecipeCardDTO;
+import com.avengers.yoribogo.recipe.service.RecipeService;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCardDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+// 목록 카드 조회가 페이지당 SQL 한 번으로 끝나는지 확인 (Hibernate 통계의 실행 문장 수)
+@SpringBootTest
+@Transactional
+class CardFeedQueryCountTests {
+
+    @Autowired
+    private RecipeBoardService recipeBoardService;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @DisplayName("게시글 목록 카드는 첫 페이지와 다음 페이지 모두 SQL 한 번")
+    @Test
+    void testRecipeBoardCardsUseSingleStatement() {
+        // Given
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        CursorPageDTO<RecipeBoardCardDTO> firstPage = recipeBoardService.findRecipeBoardCardsByCursor(null, 12);
+
+        // Then
+        Assertions.assertFalse(firstPage.getContent().isEmpty(), "게시글 카드가 비어 있습니다.");
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+        if (firstPage.isHasNext()) {
+            statistics.clear();
+            recipeBoardService.findRecipeBoardCardsByCursor(firstPage.getNextCursor(), 12);
+            Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @DisplayName("회원별 게시글 목록 카드는 SQL 한 번")
+    @Test
+    void testUserRecipeBoardCardsUseSingleStatement() {
+        // Given
+        RecipeBoardCardDTO card = recipeBoardService.findRecipeBoardCardsByCursor(null, 1).getContent().get(0);
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        CursorPageDTO<RecipeBoardCardDTO> page =
+                recipeBoardService.findRecipeBoardCardsByUserIdAndCursor(card.getUserId(), null, 12);
+
+        // Then
+        Assertions.assertFalse(page.getContent().isEmpty(), "회원 게시글 카드가 비어 있습니다.");
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @DisplayName("레시피 목록 카드는 SQL 한 번")
+    @Test
+    void testRecipeCardsUseSingleStatement() {
+        // Given
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        CursorPageDTO<RecipeCardDTO> page = recipeService.findRecipeCardsByCursor(null, 12);
+
+        // Then
+        Assertions.assertFalse(page.getContent().isEmpty(), "레시피 카드가 비어 있습니다.");
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
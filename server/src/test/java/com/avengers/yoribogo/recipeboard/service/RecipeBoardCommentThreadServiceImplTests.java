@@ -0,0 +1,144 @@
+package com.avengers.yoribogo.recipeboard.service;
+
+import com.avengers.yoribogo.common.CursorCodec;
+import com.avengers.yoribogo.common.CursorPageDTO;
+import com.avengers.yoribogo.common.exception.CommonException;
+import com.avengers.yoribogo.common.exception.ErrorCode;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoardComment;
+import com.avengers.yoribogo.recipeboard.domain.RecipeBoardRecomment;
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardCommentThreadDTO;
+import com.avengers.yoribogo.recipeboard.mapper.RecipeBoardCommentMapperImpl;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardCommentRepository;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRecommentRepository;
+import com.avengers.yoribogo.recipeboard.repository.RecipeBoardRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RecipeBoardCommentThreadServiceImplTests {
+
+    private RecipeBoardRepository recipeBoardRepository;
+    private RecipeBoardCommentRepository commentRepository;
+    private RecipeBoardRecommentRepository recommentRepository;
+    private RecipeBoardCommentThreadServiceImpl recipeBoardCommentThreadService;
+
+    @BeforeEach
+    void setUp() {
+        recipeBoardRepository = mock(RecipeBoardRepository.class);
+        commentRepository = mock(RecipeBoardCommentRepository.class);
+        recommentRepository = mock(RecipeBoardRecommentRepository.class);
+        recipeBoardCommentThreadService = new RecipeBoardCommentThreadServiceImpl(recipeBoardRepository,
+                commentRepository, recommentRepository, new RecipeBoardCommentMapperImpl());
+        ReflectionTestUtils.setField(recipeBoardCommentThreadService, "recommentPreviewSize", 2);
+    }
+
+    @DisplayName("댓글 한 페이지의 대댓글을 IN 쿼리 한 번으로 읽어 댓글별로 묶는다")
+    @Test
+    void testFindCommentThreads() {
+        // Given
+        RecipeBoardComment first = comment(1L);
+        RecipeBoardComment second = comment(2L);
+        RecipeBoardComment third = comment(3L);
+        when(recipeBoardRepository.existsById(7L)).thenReturn(true);
+        when(commentRepository.findByRecipeBoardIdAndRecipeBoardCommentIdGreaterThanOrderByRecipeBoardCommentIdAsc(
+                7L, 0L, PageRequest.of(0, 3))).thenReturn(List.of(first, second, third));
+        when(recommentRepository.findFirstByCommentIds(List.of(1L, 2L), 3)).thenReturn(List.of(
+                recomment(10L, first), recomment(11L, first), recomment(12L, first),
+                recomment(20L, second)));
+
+        // When
+        CursorPageDTO<RecipeBoardCommentThreadDTO> page =
+                recipeBoardCommentThreadService.findCommentThreads(7L, null, 2, null);
+
+        // Then
+        Assertions.assertEquals(2, page.getSize());
+        Assertions.assertTrue(page.isHasNext());
+        Assertions.assertEquals(2L, CursorCodec.decodeId(page.getNextCursor()));
+
+        CursorPageDTO<?> firstRecomments = page.getContent().get(0).getRecomments();
+        Assertions.assertEquals(2, firstRecomments.getSize());
+        Assertions.assertTrue(firstRecomments.isHasNext());
+        Assertions.assertEquals(11L, CursorCodec.decodeId(firstRecomments.getNextCursor()));
+
+        CursorPageDTO<?> secondRecomments = page.getContent().get(1).getRecomments();
+        Assertions.assertEquals(1, secondRecomments.getSize());
+        Assertions.assertFalse(secondRecomments.isHasNext());
+        verify(recommentRepository, times(1)).findFirstByCommentIds(anyCollection(), anyInt());
+    }
+
+    @DisplayName("댓글이 없는 페이지는 대댓글을 조회하지 않는다")
+    @Test
+    void testFindCommentThreadsWithoutComments() {
+        // Given
+        when(recipeBoardRepository.existsById(7L)).thenReturn(true);
+        when(commentRepository.findByRecipeBoardIdAndRecipeBoardCommentIdGreaterThanOrderByRecipeBoardCommentIdAsc(
+                anyLong(), anyLong(), any())).thenReturn(List.of());
+
+        // When
+        CursorPageDTO<RecipeBoardCommentThreadDTO> page =
+                recipeBoardCommentThreadService.findCommentThreads(7L, null, null, null);
+
+        // Then
+        Assertions.assertTrue(page.getContent().isEmpty());
+        Assertions.assertFalse(page.isHasNext());
+        verify(recommentRepository, never()).findFirstByCommentIds(anyCollection(), anyInt());
+    }
+
+    @DisplayName("없는 게시글의 댓글 목록은 조회하지 않는다")
+    @Test
+    void testFindCommentThreadsNotFoundBoard() {
+        // Given
+        when(recipeBoardRepository.existsById(7L)).thenReturn(false);
+
+        // When
+        CommonException exception = Assertions.assertThrows(CommonException.class,
+                () -> recipeBoardCommentThreadService.findCommentThreads(7L, null, null, null));
+
+        // Then
+        Assertions.assertEquals(ErrorCode.NOT_FOUND_RECIPE_BOARD, exception.getErrorCode());
+    }
+
+    @DisplayName("대댓글 더 보기는 커서 다음부터 조회")
+    @Test
+    void testFindRecomments() {
+        // Given
+        RecipeBoardComment comment = comment(1L);
+        when(recommentRepository
+                .findByRecipeBoardComment_RecipeBoardCommentIdAndRecipeBoardRecommentIdGreaterThanOrderByRecipeBoardRecommentIdAsc(
+                        1L, 11L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(recomment(12L, comment), recomment(13L, comment)));
+
+        // When
+        CursorPageDTO<?> page = recipeBoardCommentThreadService.findRecomments(1L, CursorCodec.encodeId(11L), 2);
+
+        // Then
+        Assertions.assertEquals(2, page.getSize());
+        Assertions.assertFalse(page.isHasNext());
+        Assertions.assertNull(page.getNextCursor());
+        verify(commentRepository, never()).existsById(anyLong());
+    }
+
+    private static RecipeBoardComment comment(Long commentId) {
+        RecipeBoardComment comment = new RecipeBoardComment();
+        comment.setRecipeBoardCommentId(commentId);
+        comment.setRecipeBoardId(7L);
+        comment.setRecipeBoardCommentContent("댓글 " + commentId);
+        return comment;
+    }
+
+    private static RecipeBoardRecomment recomment(Long recommentId, RecipeBoardComment comment) {
+        RecipeBoardRecomment recomment = new RecipeBoardRecomment();
+        recomment.setRecipeBoardRecommentId(recommentId);
+        recomment.setRecipeBoardRecommentContent("대댓글 " + recommentId);
+        recomment.setRecipeBoardComment(comment);
+        return recomment;
+    }
+}
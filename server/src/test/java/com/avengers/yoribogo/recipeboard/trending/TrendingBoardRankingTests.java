@@ -0,0 +1,251 @@
+package com.avengers.yoribogo.recipeboard.trending;
+
+import com.avengers.yoribogo.recipeboard.dto.RecipeBoardActivityEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.lib.jse.JsePlatform;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TrendingBoardRankingTests {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private TrendingBoardRanking trendingBoardRanking;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        trendingBoardRanking = new TrendingBoardRanking(stringRedisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(trendingBoardRanking, "halfLifeSeconds", 86400L);
+        ReflectionTestUtils.setField(trendingBoardRanking, "rebaseHalfLives", 32);
+        ReflectionTestUtils.setField(trendingBoardRanking, "maxSize", 10000L);
+        ReflectionTestUtils.setField(trendingBoardRanking, "minScore", 0.01);
+        ReflectionTestUtils.setField(trendingBoardRanking, "likeWeight", 3.0);
+        ReflectionTestUtils.setField(trendingBoardRanking, "commentWeight", 4.0);
+        ReflectionTestUtils.setField(trendingBoardRanking, "favoriteWeight", 5.0);
+        ReflectionTestUtils.setField(trendingBoardRanking, "viewWeight", 0.2);
+    }
+
+    @DisplayName("활동 종류별 가중치를 더하고, 취소는 원래 활동 시각과 함께 같은 가중치를 뺀다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecordWeightsPerSignal() {
+        // Given
+        LocalDateTime favoritedAt = LocalDateTime.of(2024, 10, 1, 12, 0);
+
+        // When
+        trendingBoardRanking.handleRecipeBoardActivity(new RecipeBoardActivityEvent(7L, TrendingSignal.LIKE, 1));
+        trendingBoardRanking.handleRecipeBoardActivity(
+                new RecipeBoardActivityEvent(7L, TrendingSignal.FAVORITE, -1, favoritedAt));
+        trendingBoardRanking.handleRecipeBoardActivity(new RecipeBoardActivityEvent(7L, TrendingSignal.VIEW, 0));
+
+        // Then
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+                eq(List.of(TrendingBoardRanking.RANKING_KEY, TrendingBoardRanking.EPOCH_KEY)),
+                eq("7"), eq("3.0"), eq("86400"), eq("32"), eq("10000"), eq("0.01"), eq(""));
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(),
+                eq("7"), eq("-5.0"), any(), any(), any(), any(),
+                eq(Long.toString(favoritedAt.atZone(ZoneId.systemDefault()).toEpochSecond())));
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(),
+                any(), any(), any(), any(), any(), any(), any());
+        Assertions.assertEquals(1, meterRegistry.get("recipe.board.trending.signal")
+                .tag("signal", "favorite").tag("result", "retracted").counter().count());
+    }
+
+    @DisplayName("원래 활동 시각을 모르는 취소는 반영하지 않는다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecordSkipsRetractionWithoutOccurredAt() {
+        // When
+        trendingBoardRanking.handleRecipeBoardActivity(new RecipeBoardActivityEvent(7L, TrendingSignal.LIKE, -1));
+
+        // Then
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(),
+                any(), any(), any(), any(), any(), any(), any());
+        Assertions.assertEquals(1, meterRegistry.get("recipe.board.trending.signal")
+                .tag("signal", "like").tag("result", "skipped").counter().count());
+    }
+
+    @DisplayName("취소는 그 활동이 더했던 점수만 뺀다 (기준 시각을 옮긴 뒤에도 같음)")
+    @Test
+    void testScriptRetractsOnlyOriginalContribution() {
+        // Given: 반감기 1일, 2일마다 기준 시각 이동
+        ReflectionTestUtils.setField(trendingBoardRanking, "rebaseHalfLives", 2);
+        LuaRedis redis = new LuaRedis(stringRedisTemplate);
+        long start = 1_700_000_000L;
+        redis.setTime(start);
+        trendingBoardRanking.record(7L, TrendingSignal.LIKE, 1, null);
+        redis.setTime(start + 3_600);
+        trendingBoardRanking.record(9L, TrendingSignal.FAVORITE, 1, null);
+        redis.setTime(start + 7_200);
+        trendingBoardRanking.record(7L, TrendingSignal.LIKE, 1, null);
+
+        // When: 3일 뒤(기준 시각 이동) 첫 번째 좋아요 취소
+        long now = start + 3 * 86_400;
+        redis.setTime(now);
+        trendingBoardRanking.record(7L, TrendingSignal.LIKE, -1, toLocalDateTime(start));
+
+        // Then: 두 번째 좋아요 점수만 남는다 (기준 시각이 지금으로 옮겨짐, 스크립트는 숫자를 14자리 문자열로 넘김)
+        double likeScore = 3 * Math.pow(2, (start + 7_200 - now) / 86_400.0);
+        double favoriteScore = 5 * Math.pow(2, (start + 3_600 - now) / 86_400.0);
+        Assertions.assertEquals(likeScore, redis.score("7"), likeScore * 1e-6);
+        Assertions.assertEquals(favoriteScore, redis.score("9"), favoriteScore * 1e-6);
+    }
+
+    @DisplayName("순위에 없는 게시글의 취소는 건너뛰고, 음수가 되는 점수는 0으로 맞춘다")
+    @Test
+    void testScriptClampsRetraction() {
+        // Given
+        LuaRedis redis = new LuaRedis(stringRedisTemplate);
+        long start = 1_700_000_000L;
+        redis.setTime(start);
+        trendingBoardRanking.record(7L, TrendingSignal.LIKE, 1, null);
+
+        // When: 순위에 없는 게시글 취소, 더한 시각보다 늦은 시각으로 기록된 취소
+        redis.setTime(start + 60);
+        trendingBoardRanking.record(8L, TrendingSignal.LIKE, -1, toLocalDateTime(start));
+        trendingBoardRanking.record(7L, TrendingSignal.LIKE, -1, toLocalDateTime(start + 60));
+
+        // Then
+        Assertions.assertNull(redis.score("8"));
+        Assertions.assertEquals(0.0, redis.score("7"));
+    }
+
+    @DisplayName("Redis 오류는 쓰기 요청으로 전파하지 않는다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecordIgnoresRedisFailure() {
+        // Given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // When & Then
+        Assertions.assertDoesNotThrow(() -> trendingBoardRanking.record(7L, TrendingSignal.COMMENT, 1, null));
+    }
+
+    @DisplayName("점수 높은 순으로 페이지 범위만 조회")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindIds() {
+        // Given
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange(TrendingBoardRanking.RANKING_KEY, 12, 23))
+                .thenReturn(new LinkedHashSet<>(List.of("9", "3", "5")));
+
+        // When
+        List<Long> ids = trendingBoardRanking.findIds(12, 12);
+
+        // Then
+        Assertions.assertEquals(List.of(9L, 3L, 5L), ids);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+
+    // 점수 스크립트를 그대로 실행하는 메모리 Redis (스크립트가 쓰는 명령만 구현)
+    private static class LuaRedis {
+
+        private static final String FAKE_REDIS = """
+                NOW = 0
+                local strings = {}
+                local zsets = {}
+                local function zset(key)
+                    if not zsets[key] then zsets[key] = {} end
+                    return zsets[key]
+                end
+                local function card(z)
+                    local size = 0
+                    for _ in pairs(z) do size = size + 1 end
+                    return size
+                end
+                function score(key, member)
+                    return zset(key)[member]
+                end
+                redis = {}
+                function redis.call(command, key, ...)
+                    local args = {...}
+                    if command == 'TIME' then return { tostring(NOW), '0' } end
+                    if command == 'GET' then return strings[key] or false end
+                    if command == 'SET' then strings[key] = args[1] return 'OK' end
+                    local z = zset(key)
+                    if command == 'EXISTS' then return card(z) > 0 and 1 or 0 end
+                    if command == 'ZCARD' then return card(z) end
+                    if command == 'ZSCORE' then return z[args[1]] and tostring(z[args[1]]) or false end
+                    if command == 'ZINCRBY' then
+                        z[args[2]] = (z[args[2]] or 0) + tonumber(args[1])
+                        return tostring(z[args[2]])
+                    end
+                    if command == 'ZADD' then z[args[2]] = tonumber(args[1]) return 1 end
+                    if command == 'ZUNIONSTORE' then
+                        local weight = tonumber(args[4])
+                        for member, value in pairs(zset(args[2])) do z[member] = value * weight end
+                        return card(z)
+                    end
+                    if command == 'ZREMRANGEBYSCORE' then
+                        local max = tonumber(args[2])
+                        for member, value in pairs(z) do
+                            if value <= max then z[member] = nil end
+                        end
+                        return 0
+                    end
+                    if command == 'ZREMRANGEBYRANK' then
+                        local members = {}
+                        for member in pairs(z) do members[#members + 1] = member end
+                        table.sort(members, function(a, b) return z[a] < z[b] end)
+                        for rank = args[1], args[2] do z[members[rank + 1]] = nil end
+                        return 0
+                    end
+                    error('지원하지 않는 명령: ' .. command)
+                end
+                """;
+
+        private final Globals globals = JsePlatform.standardGlobals();
+        private final LuaValue script;
+
+        @SuppressWarnings("unchecked")
+        LuaRedis(StringRedisTemplate stringRedisTemplate) {
+            globals.load(FAKE_REDIS).call();
+            script = globals.load(TrendingBoardRanking.INCREMENT_SCRIPT.getScriptAsString());
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(),
+                    any(), any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+                List<String> keys = invocation.getArgument(1);
+                Object[] arguments = invocation.getArguments();
+                globals.set("KEYS", LuaValue.listOf(keys.stream().map(LuaValue::valueOf).toArray(LuaValue[]::new)));
+                globals.set("ARGV", LuaValue.listOf(Arrays.stream(arguments, 2, arguments.length)
+                        .map(argument -> LuaValue.valueOf((String) argument)).toArray(LuaValue[]::new)));
+                return script.call().tolong();
+            });
+        }
+
+        void setTime(long epochSecond) {
+            globals.set("NOW", epochSecond);
+        }
+
+        Double score(String member) {
+            LuaValue value = globals.get("score").call(LuaValue.valueOf(TrendingBoardRanking.RANKING_KEY), LuaValue.valueOf(member));
+            return value.isnil() ? null : value.todouble();
+        }
+    }
+}